@@ -161,6 +161,19 @@ public interface Artifact extends Comparable<Artifact>, Serializable {
 	@Nullable
 	URI repository();
 
+	/**
+	 * Returns the Maven coordinates of this artifact in the {@code groupId:artifactId:version} format.
+	 * <p>
+	 * The coordinates uniquely identify the artifact and can be used as a key when artifacts, or any
+	 * information related to them, should be looked up by their identity.
+	 *
+	 * @return the Maven coordinates, never {@literal null}.
+	 */
+	@NonNull
+	default String coordinates() {
+		return groupId() + ':' + artifactId() + ':' + version();
+	}
+
 	/**
 	 * Creates an {@link ArtifactMetadata} for this {@link Artifact} with the given collection
 	 * of {@link PropertyDescriptor property descriptors}.
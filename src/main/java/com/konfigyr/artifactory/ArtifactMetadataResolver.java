@@ -0,0 +1,77 @@
+package com.konfigyr.artifactory;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Strategy used to resolve the {@link ArtifactMetadata} of an {@link Artifact}.
+ * <p>
+ * A {@link Manifest} only contains the coordinates of the artifacts used by a {@code Service}. Components that
+ * need the {@link PropertyDescriptor property descriptors} of the whole manifest, like validators or indexes,
+ * use this resolver to look up the metadata of each artifact in the manifest.
+ *
+ * @author Vladimir Spasic
+ * @see Manifest
+ * @see ArtifactMetadata
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface ArtifactMetadataResolver {
+
+	/**
+	 * Creates a resolver that looks up the metadata from the given collection using the
+	 * {@link Artifact#coordinates() Maven coordinates} of the artifact.
+	 *
+	 * @param metadata the known artifact metadata, can't be {@literal null}.
+	 * @return artifact metadata resolver, never {@literal null}.
+	 */
+	@NonNull
+	static ArtifactMetadataResolver of(@NonNull Iterable<? extends ArtifactMetadata> metadata) {
+		final Map<String, ArtifactMetadata> index = new HashMap<>();
+
+		for (ArtifactMetadata candidate : metadata) {
+			index.put(candidate.coordinates(), candidate);
+		}
+
+		return artifact -> artifact instanceof ArtifactMetadata candidate ? candidate
+				: index.get(artifact.coordinates());
+	}
+
+	/**
+	 * Resolves the {@link ArtifactMetadata} for the given {@link Artifact}.
+	 *
+	 * @param artifact the artifact for which metadata should be resolved, can't be {@literal null}.
+	 * @return the matching artifact metadata, or {@literal null} when it is not known.
+	 */
+	@Nullable
+	ArtifactMetadata resolve(@NonNull Artifact artifact);
+
+	/**
+	 * Resolves the {@link ArtifactMetadata} of each {@link Artifact} contained in the given {@link Manifest}.
+	 * Artifacts for which no metadata could be resolved are skipped.
+	 *
+	 * @param manifest the manifest for which metadata should be resolved, can't be {@literal null}.
+	 * @return the resolved artifact metadata in manifest order, never {@literal null}.
+	 */
+	@NonNull
+	default List<ArtifactMetadata> resolve(@NonNull Manifest manifest) {
+		final List<ArtifactMetadata> result = new ArrayList<>(manifest.artifacts().size());
+
+		for (Artifact artifact : manifest) {
+			final ArtifactMetadata metadata = artifact instanceof ArtifactMetadata candidate ? candidate
+					: resolve(artifact);
+
+			if (metadata != null) {
+				result.add(metadata);
+			}
+		}
+
+		return result;
+	}
+
+}
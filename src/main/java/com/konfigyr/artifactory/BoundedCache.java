@@ -0,0 +1,169 @@
+package com.konfigyr.artifactory;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Function;
+
+/**
+ * Thread-safe cache that holds at most a fixed number of entries and evicts the least recently used ones when
+ * new entries are added to a full cache.
+ * <p>
+ * Recency is approximated using the second chance, or clock, algorithm: reading an entry only marks it as
+ * referenced, so lookups never lock. When the cache is full, entries are visited in their insertion order,
+ * referenced entries are unmarked and given another chance, while the first unreferenced entry is evicted.
+ * This keeps the frequently used entries in the cache, while entries that are no longer used, like compiled
+ * schemas or indexes of superseded artifact releases, are eventually released.
+ * <p>
+ * Values are computed outside any lock, so the computing function may itself use the cache. When two threads
+ * compute the value for the same key concurrently, the value that was stored first is returned to both.
+ *
+ * @param <K> type of the cache keys
+ * @param <V> type of the cached values
+ * @author Vladimir Spasic
+ * @since 1.0.0
+ */
+public final class BoundedCache<K, V> {
+
+	private final int capacity;
+	private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+	private final Queue<K> order = new ConcurrentLinkedQueue<>();
+
+	private BoundedCache(int capacity) {
+		this.capacity = capacity;
+	}
+
+	/**
+	 * Creates a new, empty, cache that holds at most the given number of entries.
+	 *
+	 * @param capacity maximum number of cached entries
+	 * @param <K>      type of the cache keys
+	 * @param <V>      type of the cached values
+	 * @return bounded cache, never {@literal null}.
+	 * @throws IllegalArgumentException when the capacity is not a positive number
+	 */
+	@NonNull
+	public static <K, V> BoundedCache<K, V> create(int capacity) {
+		if (capacity < 1) {
+			throw new IllegalArgumentException("Cache capacity must be a positive number");
+		}
+		return new BoundedCache<>(capacity);
+	}
+
+	/**
+	 * Returns the value cached for the given key and marks it as recently used.
+	 *
+	 * @param key cache key, can't be {@literal null}.
+	 * @return the cached value, or {@literal null} when the key is not cached.
+	 */
+	@Nullable
+	public V get(@NonNull K key) {
+		final Entry<V> entry = entries.get(key);
+
+		if (entry == null) {
+			return null;
+		}
+
+		// avoid writing the shared flag on every lookup, it only needs to be set once per eviction round
+		if (!entry.referenced) {
+			entry.referenced = true;
+		}
+
+		return entry.value;
+	}
+
+	/**
+	 * Returns the value cached for the given key, or computes and caches it when the key is not cached.
+	 * Values computed as {@literal null} are not cached.
+	 *
+	 * @param key      cache key, can't be {@literal null}.
+	 * @param function function computing the value for the key, can't be {@literal null}.
+	 * @return the cached or computed value
+	 */
+	@Nullable
+	public V computeIfAbsent(@NonNull K key, @NonNull Function<? super K, ? extends V> function) {
+		final V cached = get(key);
+
+		if (cached != null) {
+			return cached;
+		}
+
+		final V value = function.apply(key);
+
+		if (value == null) {
+			return null;
+		}
+
+		final V existing = putIfAbsent(key, value);
+		return existing == null ? value : existing;
+	}
+
+	/**
+	 * Caches the value for the given key, unless the key is already cached. Adding an entry to a full cache
+	 * evicts one of the least recently used entries.
+	 *
+	 * @param key   cache key, can't be {@literal null}.
+	 * @param value value to cache, can't be {@literal null}.
+	 * @return the value that was already cached for the key, or {@literal null} when the value was added.
+	 */
+	@Nullable
+	public V putIfAbsent(@NonNull K key, @NonNull V value) {
+		final Entry<V> existing = entries.putIfAbsent(key, new Entry<>(value));
+
+		if (existing != null) {
+			existing.referenced = true;
+			return existing.value;
+		}
+
+		order.add(key);
+		evict();
+
+		return null;
+	}
+
+	/**
+	 * Returns the number of cached entries.
+	 *
+	 * @return number of cached entries
+	 */
+	public int size() {
+		return entries.size();
+	}
+
+	private void evict() {
+		while (entries.size() > capacity) {
+			final K key = order.poll();
+
+			if (key == null) {
+				return;
+			}
+
+			final Entry<V> entry = entries.get(key);
+
+			if (entry == null) {
+				continue;
+			}
+
+			if (entry.referenced) {
+				entry.referenced = false;
+				order.add(key);
+			} else {
+				entries.remove(key, entry);
+			}
+		}
+	}
+
+	private static final class Entry<V> {
+		private final V value;
+		private volatile boolean referenced;
+
+		Entry(V value) {
+			this.value = value;
+		}
+	}
+
+}
@@ -4,11 +4,15 @@ import org.jspecify.annotations.NonNull;
 
 import java.io.Serial;
 import java.net.URI;
-import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * The default implementation of the {@link ArtifactMetadata} interface.
+ * <p>
+ * Property descriptors are copied into an immutable list that computes their content fingerprint once, when
+ * the metadata is created. The {@link #hashCode()} uses the fingerprint instead of hashing every descriptor,
+ * and the {@link #equals(Object)} compares the fingerprints and checksums before it compares the descriptors.
  *
  * @param groupId     Maven coordinate {@code groupId} of the artifact, can't be {@literal null}.
  * @param artifactId  Maven coordinate {@code artifactId} of the artifact, can't be {@literal null}.
@@ -37,6 +41,57 @@ public record DefaultArtifactMetadata(
 	@Serial
 	private static final long serialVersionUID = 5969189079506443729L;
 
+	public DefaultArtifactMetadata {
+		properties = FingerprintedList.of(properties);
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+
+		if (!(o instanceof DefaultArtifactMetadata that)) {
+			return false;
+		}
+
+		return fingerprint() == that.fingerprint()
+				&& Objects.equals(checksum, that.checksum)
+				&& Objects.equals(groupId, that.groupId)
+				&& Objects.equals(artifactId, that.artifactId)
+				&& Objects.equals(version, that.version)
+				&& Objects.equals(name, that.name)
+				&& Objects.equals(description, that.description)
+				&& Objects.equals(website, that.website)
+				&& Objects.equals(repository, that.repository)
+				&& properties.equals(that.properties);
+	}
+
+	@Override
+	public int hashCode() {
+		int result = fingerprint();
+		result = 31 * result + Objects.hashCode(groupId);
+		result = 31 * result + Objects.hashCode(artifactId);
+		result = 31 * result + Objects.hashCode(version);
+		result = 31 * result + Objects.hashCode(checksum);
+		return result;
+	}
+
+	private int fingerprint() {
+		return ((FingerprintedList<PropertyDescriptor>) properties).fingerprint();
+	}
+
+	/**
+	 * Replaces this {@link DefaultArtifactMetadata} with the {@link SerializationProxy} that writes it in a
+	 * compact form.
+	 *
+	 * @return serialization proxy
+	 */
+	@Serial
+	private Object writeReplace() {
+		return new SerializationProxy(SerializationProxy.METADATA, this);
+	}
+
 	/**
 	 * Builder class used to create new instances of the {@link DefaultArtifactMetadata}.
 	 */
@@ -70,7 +125,7 @@ public record DefaultArtifactMetadata(
 			properties.sort(PropertyDescriptor::compareTo);
 
 			return new DefaultArtifactMetadata(groupId, artifactId, version, name, description,
-					website, repository, checksum, Collections.unmodifiableList(properties));
+					website, repository, checksum, properties);
 		}
 
 	}
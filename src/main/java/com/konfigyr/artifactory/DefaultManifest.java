@@ -2,12 +2,17 @@ package com.konfigyr.artifactory;
 
 import org.jspecify.annotations.NonNull;
 
+import java.io.Serial;
 import java.time.Instant;
-import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * Default implementation of the {@link Manifest} interface.
+ * <p>
+ * Artifacts are copied into an immutable list that computes their content fingerprint once, when the manifest
+ * is created, which is used by the {@link #hashCode()} and checked by the {@link #equals(Object)} before the
+ * artifacts are compared.
  *
  * @param id        the unique identifier of the {@code Service} this manifest belongs to, can't be {@literal null}.
  * @param name      the name of the {@code Service} this manifest belongs to, can't be {@literal null}.
@@ -23,6 +28,52 @@ public record DefaultManifest(
 		@NonNull Instant createdAt
 ) implements Manifest {
 
+	@Serial
+	private static final long serialVersionUID = 3287466420218155627L;
+
+	public DefaultManifest {
+		artifacts = FingerprintedList.of(artifacts);
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+
+		if (!(o instanceof DefaultManifest that)) {
+			return false;
+		}
+
+		return fingerprint() == that.fingerprint()
+				&& Objects.equals(id, that.id)
+				&& Objects.equals(name, that.name)
+				&& Objects.equals(createdAt, that.createdAt)
+				&& artifacts.equals(that.artifacts);
+	}
+
+	@Override
+	public int hashCode() {
+		int result = fingerprint();
+		result = 31 * result + Objects.hashCode(id);
+		result = 31 * result + Objects.hashCode(createdAt);
+		return result;
+	}
+
+	private int fingerprint() {
+		return ((FingerprintedList<Artifact>) artifacts).fingerprint();
+	}
+
+	/**
+	 * Replaces this {@link DefaultManifest} with the {@link SerializationProxy} that writes it in a compact form.
+	 *
+	 * @return serialization proxy
+	 */
+	@Serial
+	private Object writeReplace() {
+		return new SerializationProxy(SerializationProxy.MANIFEST, this);
+	}
+
 	/**
 	 * Builder class used to create new instances of the {@link DefaultManifest}.
 	 */
@@ -52,7 +103,7 @@ public record DefaultManifest(
 
 			artifacts.sort(Artifact::compareTo);
 
-			return new DefaultManifest(id, name, Collections.unmodifiableList(artifacts), createdAt);
+			return new DefaultManifest(id, name, artifacts, createdAt);
 		}
 
 	}
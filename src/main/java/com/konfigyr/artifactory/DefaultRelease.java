@@ -44,6 +44,16 @@ public record DefaultRelease(
 	@Serial
 	private static final long serialVersionUID = 8548427370636592022L;
 
+	/**
+	 * Replaces this {@link DefaultRelease} with the {@link SerializationProxy} that writes it in a compact form.
+	 *
+	 * @return serialization proxy
+	 */
+	@Serial
+	private Object writeReplace() {
+		return new SerializationProxy(SerializationProxy.RELEASE, this);
+	}
+
 	/**
 	 * Builder class used to create new instances of the {@link DefaultRelease}.
 	 */
@@ -0,0 +1,98 @@
+package com.konfigyr.artifactory;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Immutable list that computes the content fingerprint of its elements once, when it is created. The fingerprint
+ * is the {@link List#hashCode() list hash code}, so that this list can be compared with, and used in place of,
+ * any other list.
+ * <p>
+ * Records such as the {@link DefaultArtifactMetadata} and the {@link DefaultManifest} use this list for their
+ * large components, so their {@code hashCode} does not hash every element on each call, and their {@code equals}
+ * can reject lists with different fingerprints before the elements are compared.
+ *
+ * @param <E> type of the list elements
+ * @author Vladimir Spasic
+ * @since 1.0.0
+ */
+final class FingerprintedList<E> extends AbstractList<E> implements RandomAccess, Serializable {
+
+	@Serial
+	private static final long serialVersionUID = 1L;
+
+	private final Object[] elements;
+	private final int fingerprint;
+
+	private FingerprintedList(Object[] elements) {
+		this.elements = elements;
+		this.fingerprint = Arrays.hashCode(elements);
+	}
+
+	/**
+	 * Returns the given list if it is already a {@link FingerprintedList}, otherwise creates a copy of it.
+	 *
+	 * @param elements list to copy, can't be {@literal null}.
+	 * @param <E>      type of the list elements
+	 * @return fingerprinted list
+	 * @throws IllegalArgumentException when the list is {@literal null}
+	 */
+	@SuppressWarnings("unchecked")
+	static <E> FingerprintedList<E> of(List<? extends E> elements) {
+		if (elements == null) {
+			throw new IllegalArgumentException("List of elements can not be null");
+		}
+		if (elements instanceof FingerprintedList<?> list) {
+			return (FingerprintedList<E>) list;
+		}
+		return new FingerprintedList<>(elements.toArray());
+	}
+
+	/**
+	 * Returns the content fingerprint of this list, which is computed once when the list is created.
+	 *
+	 * @return content fingerprint
+	 */
+	int fingerprint() {
+		return fingerprint;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public E get(int index) {
+		return (E) elements[index];
+	}
+
+	@Override
+	public int size() {
+		return elements.length;
+	}
+
+	@Override
+	public Object[] toArray() {
+		return elements.clone();
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+
+		if (o instanceof FingerprintedList<?> other) {
+			return fingerprint == other.fingerprint && Arrays.equals(elements, other.elements);
+		}
+
+		return super.equals(o);
+	}
+
+	@Override
+	public int hashCode() {
+		return fingerprint;
+	}
+
+}
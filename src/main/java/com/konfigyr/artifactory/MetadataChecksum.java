@@ -0,0 +1,176 @@
+package com.konfigyr.artifactory;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Computes the {@link ArtifactMetadata#checksum() checksum} of the {@link ArtifactMetadata}, which is the
+ * {@code Base64} encoded {@code SHA-256} digest of the artifact attributes and of its property descriptors.
+ * <p>
+ * Each attribute is digested as its length, in bytes, followed by its {@code UTF-8} encoded value, absent values
+ * are digested using a negative length. The {@link ArtifactMetadata#checksum() checksum} itself is not digested.
+ * Property descriptors are digested in the order of their {@link PropertyDescriptor#name() names}, the order in
+ * which the {@link ArtifactMetadata#properties() properties} are sorted by the {@link ArtifactMetadata#builder()
+ * builder}, which means that the same metadata always has the same checksum regardless of how it was produced.
+ * <p>
+ * Schemas are always digested as their text, even when they match one of the well-known schemas that stores and
+ * encoders replace with identifiers. The checksum is compared with the checksums computed by other parties, like
+ * the {@code Artifactory}, and therefore only depends on the metadata values and not on how they are encoded, or
+ * on the catalog of well-known schemas known to this library. Well-known schemas are short, so digesting their
+ * text costs about as much as digesting an identifier.
+ * <p>
+ * The checksum can be computed either for the whole metadata at once, or incrementally, when the descriptors
+ * are visited one by one in their sorted order, for example while writing them:
+ * <pre>{@code
+ * MetadataChecksum checksum = MetadataChecksum.create().artifact(artifact);
+ * descriptors.forEach(checksum::property);
+ * String result = checksum.checksum();
+ * }</pre>
+ * Instances are not thread-safe.
+ *
+ * @author Vladimir Spasic
+ * @see ArtifactMetadata#checksum()
+ * @since 1.0.0
+ */
+public final class MetadataChecksum {
+
+	private final MessageDigest digest;
+	private final byte[] length = new byte[4];
+
+	private MetadataChecksum(MessageDigest digest) {
+		this.digest = digest;
+	}
+
+	/**
+	 * Creates a new, empty, incremental checksum.
+	 *
+	 * @return metadata checksum, never {@literal null}.
+	 */
+	@NonNull
+	public static MetadataChecksum create() {
+		try {
+			return new MetadataChecksum(MessageDigest.getInstance("SHA-256"));
+		} catch (NoSuchAlgorithmException ex) {
+			throw new IllegalStateException("SHA-256 algorithm is not supported", ex);
+		}
+	}
+
+	/**
+	 * Computes the checksum of the given {@link ArtifactMetadata}.
+	 *
+	 * @param metadata artifact metadata, can't be {@literal null}.
+	 * @return {@code Base64} encoded checksum, never {@literal null}.
+	 */
+	@NonNull
+	public static String of(@NonNull ArtifactMetadata metadata) {
+		final MetadataChecksum checksum = create().artifact(metadata);
+		final List<PropertyDescriptor> properties = metadata.properties();
+
+		if (isSorted(properties)) {
+			properties.forEach(checksum::property);
+		} else {
+			final List<PropertyDescriptor> sorted = new ArrayList<>(properties);
+			sorted.sort(PropertyDescriptor::compareTo);
+			sorted.forEach(checksum::property);
+		}
+
+		return checksum.checksum();
+	}
+
+	/**
+	 * Digests the attributes of the {@link Artifact}, this must be the first digested value.
+	 *
+	 * @param artifact artifact to digest, can't be {@literal null}.
+	 * @return this checksum
+	 */
+	@NonNull
+	public MetadataChecksum artifact(@NonNull Artifact artifact) {
+		update(artifact.groupId());
+		update(artifact.artifactId());
+		update(artifact.version());
+		update(artifact.name());
+		update(artifact.description());
+		update(artifact.website());
+		update(artifact.repository());
+		return this;
+	}
+
+	/**
+	 * Digests the attributes of the {@link PropertyDescriptor}, descriptors must be digested in the order of
+	 * their names.
+	 *
+	 * @param descriptor property descriptor to digest, can't be {@literal null}.
+	 * @return this checksum
+	 */
+	@NonNull
+	public MetadataChecksum property(@NonNull PropertyDescriptor descriptor) {
+		update(descriptor.name());
+		update(descriptor.schema());
+		update(descriptor.typeName());
+		update(descriptor.description());
+		update(descriptor.defaultValue());
+
+		final Deprecation deprecation = descriptor.deprecation();
+
+		if (deprecation == null) {
+			digest.update((byte) 0);
+		} else {
+			digest.update((byte) 1);
+			update(deprecation.reason());
+			update(deprecation.replacement());
+		}
+
+		return this;
+	}
+
+	/**
+	 * Completes the digest and returns the checksum, this checksum is reset afterward.
+	 *
+	 * @return {@code Base64} encoded checksum, never {@literal null}.
+	 */
+	@NonNull
+	public String checksum() {
+		return Base64.getEncoder().encodeToString(digest.digest());
+	}
+
+	private void update(@Nullable URI value) {
+		update(value == null ? null : value.toString());
+	}
+
+	private void update(@Nullable String value) {
+		if (value == null) {
+			updateLength(-1);
+			return;
+		}
+
+		final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		updateLength(bytes.length);
+		digest.update(bytes);
+	}
+
+	private void updateLength(int value) {
+		length[0] = (byte) (value >>> 24);
+		length[1] = (byte) (value >>> 16);
+		length[2] = (byte) (value >>> 8);
+		length[3] = (byte) value;
+		digest.update(length);
+	}
+
+	private static boolean isSorted(List<PropertyDescriptor> properties) {
+		for (int i = 1; i < properties.size(); i++) {
+			if (properties.get(i - 1).compareTo(properties.get(i)) > 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+}
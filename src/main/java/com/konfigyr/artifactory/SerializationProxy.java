@@ -0,0 +1,410 @@
+package com.konfigyr.artifactory;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInput;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutput;
+import java.io.Serial;
+import java.io.StreamCorruptedException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Serialization proxy that is written in place of the {@link DefaultArtifactMetadata}, {@link DefaultRelease}
+ * and {@link DefaultManifest} records by their {@code writeReplace} methods.
+ * <p>
+ * Instead of the class descriptors of the records, their {@link URI} components and the list wrappers, the
+ * proxy writes only the values, in a compact form. Strings are written once and then referenced by their index
+ * within the string table of the proxy, as most of the descriptors share the same schemas, type names or
+ * descriptions. Each string is written as an unsigned variable length integer that is:
+ * <ul>
+ *   <li>{@code 0} for {@literal null} strings,</li>
+ *   <li>{@code 1} for strings that were not yet written, followed by their {@code UTF-8} byte length and bytes,</li>
+ *   <li>index of the string within the string table plus {@code 2}, for strings that were already written.</li>
+ * </ul>
+ * Artifacts and property descriptors are written using their interface accessors, regardless of their
+ * implementation type, and are read as the default implementations. Artifacts of a manifest are prefixed with
+ * a tag byte that states whether they are written as plain artifacts, artifact metadata or releases.
+ *
+ * @author Vladimir Spasic
+ * @since 1.0.0
+ */
+final class SerializationProxy implements Externalizable {
+
+	@Serial
+	private static final long serialVersionUID = 1L;
+
+	static final byte METADATA = 1;
+	static final byte RELEASE = 2;
+	static final byte MANIFEST = 3;
+
+	private static final byte ARTIFACT = 0;
+
+	private static final int NULL = 0;
+	private static final int NEW = 1;
+	private static final int REFERENCE = 2;
+
+	/**
+	 * Lists and strings are allocated in chunks, as their lengths are read from the stream.
+	 */
+	private static final int CHUNK_SIZE = 1024;
+
+	private byte type;
+	private transient Object object;
+
+	/**
+	 * Constructor used by the {@link Externalizable} deserialization.
+	 */
+	public SerializationProxy() {
+	}
+
+	SerializationProxy(byte type, Object object) {
+		this.type = type;
+		this.object = object;
+	}
+
+	@Override
+	public void writeExternal(ObjectOutput out) throws IOException {
+		final Writer writer = new Writer(out);
+		out.writeByte(type);
+
+		switch (type) {
+			case METADATA -> writer.write((ArtifactMetadata) object);
+			case RELEASE -> writer.write((Release) object);
+			case MANIFEST -> writer.write((Manifest) object);
+			default -> throw new InvalidObjectException("Unknown serialization proxy type: " + type);
+		}
+	}
+
+	@Override
+	public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
+		final Reader reader = new Reader(in);
+		type = in.readByte();
+
+		object = switch (type) {
+			case METADATA -> reader.metadata();
+			case RELEASE -> reader.release();
+			case MANIFEST -> reader.manifest();
+			default -> throw new StreamCorruptedException("Unknown serialization proxy type: " + type);
+		};
+	}
+
+	@Serial
+	private Object readResolve() {
+		return object;
+	}
+
+	private static final class Writer {
+
+		private final ObjectOutput out;
+		private final Map<String, Integer> strings = new HashMap<>();
+
+		Writer(ObjectOutput out) {
+			this.out = out;
+		}
+
+		void write(ArtifactMetadata metadata) throws IOException {
+			artifact(metadata);
+			string(metadata.checksum());
+			varint(metadata.properties().size());
+
+			for (PropertyDescriptor descriptor : metadata.properties()) {
+				descriptor(descriptor);
+			}
+		}
+
+		void write(Release release) throws IOException {
+			artifact(release);
+			varint(release.state().ordinal());
+			varint(release.errors().size());
+
+			for (String error : release.errors()) {
+				string(error);
+			}
+
+			string(release.checksum());
+			out.writeLong(release.releaseDate().getEpochSecond());
+			out.writeInt(release.releaseDate().getNano());
+		}
+
+		void write(Manifest manifest) throws IOException {
+			string(manifest.id());
+			string(manifest.name());
+			out.writeLong(manifest.createdAt().getEpochSecond());
+			out.writeInt(manifest.createdAt().getNano());
+			varint(manifest.artifacts().size());
+
+			for (Artifact artifact : manifest.artifacts()) {
+				if (artifact instanceof ArtifactMetadata metadata) {
+					out.writeByte(METADATA);
+					write(metadata);
+				} else if (artifact instanceof Release release) {
+					out.writeByte(RELEASE);
+					write(release);
+				} else {
+					out.writeByte(ARTIFACT);
+					artifact(artifact);
+				}
+			}
+		}
+
+		private void artifact(Artifact artifact) throws IOException {
+			string(artifact.groupId());
+			string(artifact.artifactId());
+			string(artifact.version());
+			string(artifact.name());
+			string(artifact.description());
+			string(artifact.website() == null ? null : artifact.website().toString());
+			string(artifact.repository() == null ? null : artifact.repository().toString());
+		}
+
+		private void descriptor(PropertyDescriptor descriptor) throws IOException {
+			string(descriptor.name());
+			string(descriptor.schema());
+			string(descriptor.typeName());
+			string(descriptor.description());
+			string(descriptor.defaultValue());
+
+			final Deprecation deprecation = descriptor.deprecation();
+
+			if (deprecation == null) {
+				out.writeByte(0);
+			} else {
+				out.writeByte(1);
+				string(deprecation.reason());
+				string(deprecation.replacement());
+			}
+		}
+
+		private void string(String value) throws IOException {
+			if (value == null) {
+				varint(NULL);
+				return;
+			}
+
+			final Integer index = strings.putIfAbsent(value, strings.size());
+
+			if (index != null) {
+				varint(index + REFERENCE);
+				return;
+			}
+
+			final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+			varint(NEW);
+			varint(bytes.length);
+			out.write(bytes);
+		}
+
+		private void varint(int value) throws IOException {
+			while ((value & ~0x7F) != 0) {
+				out.writeByte((value & 0x7F) | 0x80);
+				value >>>= 7;
+			}
+			out.writeByte(value);
+		}
+
+	}
+
+	private static final class Reader {
+
+		private final ObjectInput in;
+		private final List<String> strings = new ArrayList<>();
+
+		Reader(ObjectInput in) {
+			this.in = in;
+		}
+
+		DefaultArtifactMetadata metadata() throws IOException {
+			final String[] artifact = artifact();
+			final String checksum = string();
+			final int length = length(PropertyDescriptor[].class);
+			final List<PropertyDescriptor> properties = new ArrayList<>(Math.min(length, CHUNK_SIZE));
+
+			for (int i = 0; i < length; i++) {
+				properties.add(descriptor());
+			}
+
+			return new DefaultArtifactMetadata(artifact[0], artifact[1], artifact[2], artifact[3], artifact[4],
+					uri(artifact[5]), uri(artifact[6]), checksum, properties);
+		}
+
+		DefaultRelease release() throws IOException {
+			final String[] artifact = artifact();
+			final int state = varint();
+
+			if (state >= ReleaseState.values().length) {
+				throw new StreamCorruptedException("Unknown release state: " + state);
+			}
+
+			final int length = length(String[].class);
+			final List<String> errors = new ArrayList<>(Math.min(length, CHUNK_SIZE));
+
+			for (int i = 0; i < length; i++) {
+				errors.add(string());
+			}
+
+			final String checksum = string();
+			final Instant releaseDate = Instant.ofEpochSecond(in.readLong(), in.readInt());
+
+			return new DefaultRelease(artifact[0], artifact[1], artifact[2], artifact[3], artifact[4],
+					uri(artifact[5]), uri(artifact[6]), ReleaseState.values()[state], List.copyOf(errors), checksum,
+					releaseDate);
+		}
+
+		DefaultManifest manifest() throws IOException {
+			final String id = string();
+			final String name = string();
+			final Instant createdAt = Instant.ofEpochSecond(in.readLong(), in.readInt());
+			final int length = length(Artifact[].class);
+			final List<Artifact> artifacts = new ArrayList<>(Math.min(length, CHUNK_SIZE));
+
+			for (int i = 0; i < length; i++) {
+				final byte tag = in.readByte();
+
+				artifacts.add(switch (tag) {
+					case ARTIFACT -> {
+						final String[] artifact = artifact();
+						yield new DefaultArtifact(artifact[0], artifact[1], artifact[2], artifact[3], artifact[4],
+								uri(artifact[5]), uri(artifact[6]));
+					}
+					case METADATA -> metadata();
+					case RELEASE -> release();
+					default -> throw new StreamCorruptedException("Unknown manifest artifact type: " + tag);
+				});
+			}
+
+			return new DefaultManifest(id, name, artifacts, createdAt);
+		}
+
+		private String[] artifact() throws IOException {
+			final String[] artifact = new String[7];
+
+			for (int i = 0; i < artifact.length; i++) {
+				artifact[i] = string();
+			}
+
+			return artifact;
+		}
+
+		private PropertyDescriptor descriptor() throws IOException {
+			final String name = string();
+			final String schema = string();
+			final String typeName = string();
+			final String description = string();
+			final String defaultValue = string();
+			final Deprecation deprecation = in.readByte() == 0 ? null : new Deprecation(string(), string());
+
+			return new DefaultPropertyDescriptor(name, schema, typeName, description, defaultValue, deprecation);
+		}
+
+		private String string() throws IOException {
+			final int value = varint();
+
+			if (value == NULL) {
+				return null;
+			}
+
+			if (value >= REFERENCE) {
+				if (value - REFERENCE >= strings.size()) {
+					throw new StreamCorruptedException("Invalid string table reference: " + value);
+				}
+				return strings.get(value - REFERENCE);
+			}
+
+			final String result = new String(bytes(length(byte[].class)), StandardCharsets.UTF_8);
+			strings.add(result);
+			return result;
+		}
+
+		/**
+		 * Reads the length of an array or a list, which is checked by the {@link ObjectInputFilter} of the stream,
+		 * in the same way as the lengths of the arrays that are read using the {@link ObjectInput#readObject()}.
+		 */
+		private int length(Class<?> type) throws IOException {
+			final int length = varint();
+
+			if (length < 0) {
+				throw new StreamCorruptedException("Invalid length: " + length);
+			}
+
+			final ObjectInputFilter filter = in instanceof ObjectInputStream stream
+					? stream.getObjectInputFilter() : null;
+			final LengthInfo info = new LengthInfo(type, length);
+
+			if (filter != null && filter.checkInput(info) == ObjectInputFilter.Status.REJECTED) {
+				throw new InvalidClassException(type.getName(), "Length " + length + " rejected by the filter");
+			}
+
+			return length;
+		}
+
+		/**
+		 * Reads the given number of bytes into a buffer that grows as the bytes are read, so that a corrupted length
+		 * can not allocate more memory than there are bytes in the stream.
+		 */
+		private byte[] bytes(int length) throws IOException {
+			byte[] bytes = new byte[Math.min(length, CHUNK_SIZE)];
+			int read = 0;
+
+			while (read < length) {
+				if (read == bytes.length) {
+					bytes = Arrays.copyOf(bytes, (int) Math.min(length, bytes.length * 2L));
+				}
+
+				in.readFully(bytes, read, bytes.length - read);
+				read = bytes.length;
+			}
+
+			return bytes;
+		}
+
+		private int varint() throws IOException {
+			int result = 0;
+
+			for (int shift = 0; shift < 32; shift += 7) {
+				final byte b = in.readByte();
+				result |= (b & 0x7F) << shift;
+
+				if ((b & 0x80) == 0) {
+					return result;
+				}
+			}
+
+			throw new StreamCorruptedException("Malformed variable length integer");
+		}
+
+		private static URI uri(String value) {
+			return value == null ? null : URI.create(value);
+		}
+
+		private record LengthInfo(Class<?> serialClass, long arrayLength) implements ObjectInputFilter.FilterInfo {
+
+			@Override
+			public long depth() {
+				return 0;
+			}
+
+			@Override
+			public long references() {
+				return 0;
+			}
+
+			@Override
+			public long streamBytes() {
+				return 0;
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,312 @@
+package com.konfigyr.artifactory.client;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+/**
+ * Client side cache of the payloads fetched by the {@link FetchClient}, with the validators that are used to
+ * revalidate them with the {@code Artifactory}.
+ * <p>
+ * The memory tier keeps the already decoded payloads, so that cache hits skip both the network transfer and the
+ * decoding of the payload. It is bounded by the total size of the cached payloads, when it is exceeded, the least
+ * recently used payloads are evicted. The optional disk tier keeps the encoded payloads in a directory, so they
+ * survive between processes, payloads loaded from the disk tier are decoded once and moved to the memory tier.
+ * <pre>{@code
+ * FetchCache cache = FetchCache.create(FetchCache.DEFAULT_MAX_SIZE, directory);
+ * FetchClient client = FetchClient.builder().endpoint(endpoint).cache(cache).build();
+ * }</pre>
+ * Payloads are cached by their absolute URI, the cache is thread-safe and can be shared by multiple clients, even
+ * when they fetch from different {@code Artifactory} endpoints.
+ *
+ * @author Vladimir Spasic
+ * @see FetchClient
+ * @since 1.0.0
+ */
+public final class FetchCache {
+
+	/**
+	 * Default maximum size of the payloads kept in the memory tier, 16MB.
+	 */
+	public static final long DEFAULT_MAX_SIZE = 16L * 1024 * 1024;
+
+	private static final int MAGIC = 0x4b464301;
+	private static final String EXTENSION = ".entry";
+
+	private final long maxSize;
+	private final @Nullable Path directory;
+	private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+	private long size;
+
+	private FetchCache(long maxSize, @Nullable Path directory) {
+		this.maxSize = maxSize;
+		this.directory = directory;
+	}
+
+	/**
+	 * Creates a new in-memory cache with the {@link #DEFAULT_MAX_SIZE default maximum size}.
+	 *
+	 * @return fetch cache, never {@literal null}.
+	 */
+	@NonNull
+	public static FetchCache create() {
+		return create(DEFAULT_MAX_SIZE);
+	}
+
+	/**
+	 * Creates a new in-memory cache.
+	 *
+	 * @param maxSize maximum size of the payloads kept in memory, in bytes
+	 * @return fetch cache, never {@literal null}.
+	 * @throws IllegalArgumentException when maximum size is not a positive number
+	 */
+	@NonNull
+	public static FetchCache create(long maxSize) {
+		return create(maxSize, null);
+	}
+
+	/**
+	 * Creates a new cache that also keeps the payloads in the given directory.
+	 *
+	 * @param maxSize   maximum size of the payloads kept in memory, in bytes
+	 * @param directory directory of the disk tier, created if it does not exist, can be {@literal null}.
+	 * @return fetch cache, never {@literal null}.
+	 * @throws IllegalArgumentException when maximum size is not a positive number
+	 * @throws UncheckedIOException     when the directory could not be created
+	 */
+	@NonNull
+	public static FetchCache create(long maxSize, @Nullable Path directory) {
+		if (maxSize <= 0) {
+			throw new IllegalArgumentException("Maximum cache size must be a positive number");
+		}
+
+		if (directory != null) {
+			try {
+				Files.createDirectories(directory);
+			} catch (IOException ex) {
+				throw new UncheckedIOException("Failed to create fetch cache directory: " + directory, ex);
+			}
+		}
+
+		return new FetchCache(maxSize, directory);
+	}
+
+	/**
+	 * Returns the total size of the payloads kept in the memory tier, in bytes.
+	 *
+	 * @return memory tier size
+	 */
+	public synchronized long size() {
+		return size;
+	}
+
+	/**
+	 * Removes all payloads from both tiers of this cache.
+	 *
+	 * @throws UncheckedIOException when the disk tier could not be cleared
+	 */
+	public void clear() {
+		synchronized (this) {
+			entries.clear();
+			size = 0;
+		}
+
+		if (directory == null) {
+			return;
+		}
+
+		try (var files = Files.newDirectoryStream(directory, "*" + EXTENSION)) {
+			for (Path file : files) {
+				Files.deleteIfExists(file);
+			}
+		} catch (IOException ex) {
+			throw new UncheckedIOException("Failed to clear fetch cache directory: " + directory, ex);
+		}
+	}
+
+	/**
+	 * Returns the cached entry for the given key, entries that are only present in the disk tier are returned
+	 * with their encoded payload, which should be decoded and {@link #put(String, Entry) put} in the cache.
+	 */
+	@Nullable
+	Entry get(String key) {
+		synchronized (this) {
+			final Entry entry = entries.get(key);
+
+			if (entry != null) {
+				return entry;
+			}
+		}
+
+		return directory == null ? null : read(key);
+	}
+
+	/**
+	 * Puts the entry with the decoded payload in the memory tier.
+	 */
+	void put(String key, Entry entry) {
+		synchronized (this) {
+			final Entry previous = entries.put(key, entry);
+			size += entry.size() - (previous == null ? 0 : previous.size());
+
+			final Iterator<Entry> iterator = entries.values().iterator();
+
+			while (size > maxSize && iterator.hasNext()) {
+				size -= iterator.next().size();
+				iterator.remove();
+			}
+		}
+	}
+
+	/**
+	 * Puts the entry with the decoded payload in the memory tier, and its encoded payload in the disk tier.
+	 */
+	void put(String key, Entry entry, byte[] payload) {
+		put(key, entry);
+
+		if (directory != null) {
+			write(key, entry, payload);
+		}
+	}
+
+	/**
+	 * Removes the entry from both cache tiers.
+	 */
+	void remove(String key) {
+		synchronized (this) {
+			final Entry entry = entries.remove(key);
+
+			if (entry != null) {
+				size -= entry.size();
+			}
+		}
+
+		if (directory != null) {
+			try {
+				Files.deleteIfExists(file(key));
+			} catch (IOException ex) {
+				throw new UncheckedIOException("Failed to remove fetch cache entry: " + key, ex);
+			}
+		}
+	}
+
+	@Nullable
+	private Entry read(String key) {
+		final byte[] contents;
+
+		try {
+			contents = Files.readAllBytes(file(key));
+		} catch (NoSuchFileException ex) {
+			return null;
+		} catch (IOException ex) {
+			throw new UncheckedIOException("Failed to read fetch cache entry: " + key, ex);
+		}
+
+		try (DataInputStream input = new DataInputStream(new ByteArrayInputStream(contents))) {
+			if (input.readInt() != MAGIC || !key.equals(input.readUTF())) {
+				return null;
+			}
+
+			final String etag = input.readBoolean() ? input.readUTF() : null;
+			final String modified = input.readBoolean() ? input.readUTF() : null;
+			final int length = input.readInt();
+
+			// the stored length is checked before allocating, so corrupted entries can not exhaust the memory
+			if (length < 0 || length > input.available()) {
+				return null;
+			}
+
+			final byte[] payload = new byte[length];
+			input.readFully(payload);
+
+			return new Entry(etag, modified, null, payload, payload.length);
+		} catch (IOException | RuntimeException ex) {
+			// corrupted entries are treated as cache misses and are replaced by the next fetch
+			return null;
+		}
+	}
+
+	private void write(String key, Entry entry, byte[] payload) {
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream(payload.length + 128);
+
+		try (DataOutputStream output = new DataOutputStream(bytes)) {
+			output.writeInt(MAGIC);
+			output.writeUTF(key);
+			output.writeBoolean(entry.etag() != null);
+			if (entry.etag() != null) {
+				output.writeUTF(entry.etag());
+			}
+			output.writeBoolean(entry.modified() != null);
+			if (entry.modified() != null) {
+				output.writeUTF(entry.modified());
+			}
+			output.writeInt(payload.length);
+			output.write(payload);
+		} catch (IOException ex) {
+			throw new UncheckedIOException("Failed to encode fetch cache entry: " + key, ex);
+		}
+
+		try {
+			final Path temporary = Files.createTempFile(directory, "entry", ".tmp");
+
+			try {
+				Files.write(temporary, bytes.toByteArray());
+				Files.move(temporary, file(key), StandardCopyOption.REPLACE_EXISTING,
+						StandardCopyOption.ATOMIC_MOVE);
+			} finally {
+				Files.deleteIfExists(temporary);
+			}
+		} catch (IOException ex) {
+			throw new UncheckedIOException("Failed to write fetch cache entry: " + key, ex);
+		}
+	}
+
+	private Path file(String key) {
+		final MessageDigest digest;
+
+		try {
+			digest = MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException ex) {
+			throw new IllegalStateException("SHA-256 algorithm is not supported", ex);
+		}
+
+		return directory.resolve(HexFormat.of().formatHex(digest.digest(key.getBytes(StandardCharsets.UTF_8)))
+				+ EXTENSION);
+	}
+
+	/**
+	 * Cached payload with its validators.
+	 *
+	 * @param etag     entity tag of the payload, used in the {@code If-None-Match} header, may be {@literal null}.
+	 * @param modified last modification date of the payload, used in the {@code If-Modified-Since} header,
+	 *                 may be {@literal null}.
+	 * @param value    decoded payload, {@literal null} when the entry was read from the disk tier.
+	 * @param payload  encoded payload, {@literal null} when the entry is already decoded.
+	 * @param size     size of the encoded payload
+	 */
+	record Entry(
+			@Nullable String etag,
+			@Nullable String modified,
+			@Nullable Object value,
+			byte @Nullable [] payload,
+			int size
+	) {
+	}
+
+}
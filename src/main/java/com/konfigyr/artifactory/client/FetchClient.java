@@ -0,0 +1,259 @@
+package com.konfigyr.artifactory.client;
+
+import com.konfigyr.artifactory.Artifact;
+import com.konfigyr.artifactory.ArtifactMetadata;
+import com.konfigyr.artifactory.Manifest;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.function.Function;
+
+/**
+ * Client that fetches the {@link ArtifactMetadata} and {@link Manifest manifests} from the {@code Artifactory}
+ * and keeps them in the {@link FetchCache}.
+ * <p>
+ * Cached payloads are revalidated using conditional requests. The artifact metadata is revalidated using the
+ * {@code If-None-Match} header, with its {@link ArtifactMetadata#checksum() checksum} as the entity tag, unless
+ * the response defined a different {@code ETag}. Manifests are revalidated using their {@code ETag} when it is
+ * present, or using the {@code If-Modified-Since} header with their {@link Manifest#createdAt() creation date}.
+ * When the {@code Artifactory} responds with the {@code 304 Not Modified} status, the cached, already decoded,
+ * payload is returned.
+ * <pre>{@code
+ * FetchClient client = FetchClient.builder().endpoint("https://api.konfigyr.com").build();
+ * ArtifactMetadata metadata = client.metadata(artifact);
+ * }</pre>
+ * Clients are immutable and thread-safe.
+ *
+ * @author Vladimir Spasic
+ * @see FetchCache
+ * @since 1.0.0
+ */
+public final class FetchClient {
+
+	private final URI endpoint;
+	private final HttpClient client;
+	private final FetchCache cache;
+	private final Duration timeout;
+
+	private FetchClient(Builder builder) {
+		this.endpoint = builder.endpoint;
+		this.cache = builder.cache;
+		this.timeout = builder.timeout;
+		this.client = HttpClient.newBuilder()
+				.connectTimeout(builder.timeout)
+				.build();
+	}
+
+	/**
+	 * Creates a new builder used to configure and create the {@link FetchClient}.
+	 *
+	 * @return fetch client builder, never {@literal null}.
+	 */
+	@NonNull
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Fetches the artifact metadata of the given artifact.
+	 *
+	 * @param artifact artifact for which metadata is fetched, can't be {@literal null}.
+	 * @return artifact metadata, or {@literal null} when the artifact does not exist.
+	 * @throws UncheckedIOException when the metadata could not be fetched
+	 */
+	@Nullable
+	public ArtifactMetadata metadata(@NonNull Artifact artifact) {
+		final String path = "artifacts/" + encode(artifact.groupId()) + "/" + encode(artifact.artifactId())
+				+ "/" + encode(artifact.version());
+
+		return fetch(path, JsonPayloads::metadata, metadata -> metadata.checksum() == null ? null
+				: "\"" + metadata.checksum() + "\"", metadata -> null);
+	}
+
+	/**
+	 * Fetches the manifest with the given identifier.
+	 *
+	 * @param id manifest identifier, can't be {@literal null}.
+	 * @return manifest, or {@literal null} when the manifest does not exist.
+	 * @throws UncheckedIOException when the manifest could not be fetched
+	 */
+	@Nullable
+	public Manifest manifest(@NonNull String id) {
+		return fetch("manifests/" + encode(id), JsonPayloads::manifest, manifest -> null,
+				manifest -> DateTimeFormatter.RFC_1123_DATE_TIME.format(manifest.createdAt().atOffset(ZoneOffset.UTC)));
+	}
+
+	@Nullable
+	private <T> T fetch(String path, Function<byte[], T> decoder, Function<T, @Nullable String> etag,
+			Function<T, @Nullable String> modified) {
+		// entries are keyed by the absolute URI, so clients with different endpoints can share the cache
+		final URI uri = endpoint.resolve(path);
+		final String key = uri.toString();
+		final FetchCache.Entry cached = cache.get(key);
+		final HttpRequest.Builder request = HttpRequest.newBuilder(uri)
+				.timeout(timeout)
+				.header("Accept", "application/json")
+				.GET();
+
+		if (cached != null && cached.etag() != null) {
+			request.header("If-None-Match", cached.etag());
+		} else if (cached != null && cached.modified() != null) {
+			request.header("If-Modified-Since", cached.modified());
+		}
+
+		final HttpResponse<byte[]> response = send(path, request.build());
+
+		if (response.statusCode() == 304 && cached != null) {
+			return value(key, cached, decoder);
+		}
+
+		if (response.statusCode() == 404) {
+			if (cached != null) {
+				cache.remove(key);
+			}
+			return null;
+		}
+
+		if (response.statusCode() != 200) {
+			throw new UncheckedIOException(new IOException("Failed to fetch " + path
+					+ ", server responded with status " + response.statusCode()));
+		}
+
+		final byte[] payload = response.body();
+		final T value = decoder.apply(payload);
+
+		final String tag = response.headers().firstValue("ETag").orElseGet(() -> etag.apply(value));
+		final String date = response.headers().firstValue("Last-Modified").orElseGet(() -> modified.apply(value));
+
+		cache.put(key, new FetchCache.Entry(tag, date, value, null, payload.length), payload);
+
+		return value;
+	}
+
+	/**
+	 * Returns the decoded cached value, entries read from the disk tier are decoded and kept in memory.
+	 */
+	@SuppressWarnings("unchecked")
+	private <T> T value(String key, FetchCache.Entry entry, Function<byte[], T> decoder) {
+		if (entry.value() != null) {
+			return (T) entry.value();
+		}
+
+		final T value = decoder.apply(entry.payload());
+		cache.put(key, new FetchCache.Entry(entry.etag(), entry.modified(), value, null, entry.size()));
+		return value;
+	}
+
+	private HttpResponse<byte[]> send(String path, HttpRequest request) {
+		try {
+			return client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+		} catch (IOException ex) {
+			throw new UncheckedIOException("Failed to fetch " + path, ex);
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new UncheckedIOException(new InterruptedIOException("Interrupted while fetching " + path));
+		}
+	}
+
+	private static String encode(String value) {
+		return URLEncoder.encode(value, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Builder class used to create new instances of the {@link FetchClient}.
+	 */
+	public static final class Builder {
+
+		private URI endpoint;
+		private FetchCache cache;
+		private Duration timeout = Duration.ofSeconds(30);
+
+		private Builder() {
+		}
+
+		/**
+		 * Specify the base URL of the {@code Artifactory} API.
+		 *
+		 * @param endpoint API base URL
+		 * @return fetch client builder
+		 * @throws IllegalArgumentException If the given endpoint violates RFC 2396
+		 */
+		@NonNull
+		public Builder endpoint(String endpoint) {
+			return endpoint(endpoint == null ? null : URI.create(endpoint));
+		}
+
+		/**
+		 * Specify the base URL of the {@code Artifactory} API.
+		 *
+		 * @param endpoint API base URL
+		 * @return fetch client builder
+		 */
+		@NonNull
+		public Builder endpoint(URI endpoint) {
+			if (endpoint != null && !endpoint.getPath().endsWith("/")) {
+				endpoint = URI.create(endpoint + "/");
+			}
+			this.endpoint = endpoint;
+			return this;
+		}
+
+		/**
+		 * Specify the cache used by the client, defaults to a new in-memory {@link FetchCache}.
+		 *
+		 * @param cache fetch cache
+		 * @return fetch client builder
+		 */
+		@NonNull
+		public Builder cache(FetchCache cache) {
+			this.cache = cache;
+			return this;
+		}
+
+		/**
+		 * Specify the connect and request timeout, defaults to 30 seconds.
+		 *
+		 * @param timeout request timeout
+		 * @return fetch client builder
+		 */
+		@NonNull
+		public Builder timeout(Duration timeout) {
+			this.timeout = timeout;
+			return this;
+		}
+
+		/**
+		 * Creates the {@link FetchClient} as a result of this builder.
+		 *
+		 * @return fetch client, never {@literal null}.
+		 * @throws IllegalArgumentException when the builder is not correctly configured
+		 */
+		@NonNull
+		public FetchClient build() {
+			if (endpoint == null) {
+				throw new IllegalArgumentException("Artifactory endpoint can not be null");
+			}
+			if (timeout == null || timeout.isNegative() || timeout.isZero()) {
+				throw new IllegalArgumentException("Timeout must be a positive duration");
+			}
+			if (cache == null) {
+				cache = FetchCache.create();
+			}
+			return new FetchClient(this);
+		}
+
+	}
+
+}
@@ -0,0 +1,171 @@
+package com.konfigyr.artifactory.client;
+
+import com.konfigyr.artifactory.Artifact;
+import com.konfigyr.artifactory.ArtifactMetadata;
+import com.konfigyr.artifactory.Deprecation;
+import com.konfigyr.artifactory.Manifest;
+import com.konfigyr.artifactory.PropertyDescriptor;
+import com.konfigyr.artifactory.Release;
+import com.konfigyr.artifactory.ReleaseState;
+import com.konfigyr.artifactory.json.ArtifactMetadataWriter;
+import com.konfigyr.artifactory.json.JsonCanonicalizer;
+import com.konfigyr.artifactory.json.JsonReader;
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Decodes the JSON payloads of the {@code Artifactory} API responses. Artifact metadata is expected in the same
+ * format in which it is written by the {@link ArtifactMetadataWriter}, while the artifacts of the manifest and
+ * the release use the same member names as the artifact metadata.
+ * <p>
+ * Schemas of the decoded property descriptors are converted into their {@link JsonCanonicalizer canonical form},
+ * so that schemas written by different producers are compared, deduplicated and checksummed by the same text.
+ *
+ * @author Vladimir Spasic
+ * @since 1.0.0
+ */
+final class JsonPayloads {
+
+	private JsonPayloads() {
+	}
+
+	/**
+	 * Decodes the {@link Release} JSON payload.
+	 *
+	 * @param payload JSON payload
+	 * @return decoded release
+	 * @throws UncheckedIOException when the payload is not a valid release
+	 */
+	static Release release(String payload) {
+		try {
+			final Map<?, ?> json = object(JsonReader.parse(payload));
+			final String state = text(json, "state");
+			final String releaseDate = text(json, "releaseDate");
+			final List<String> errors = new ArrayList<>();
+
+			if (json.get("errors") instanceof List<?> values) {
+				values.forEach(value -> errors.add(String.valueOf(value)));
+			}
+
+			return Release.builder()
+					.artifact(artifact(json))
+					.state(state == null ? null : ReleaseState.valueOf(state))
+					.errors(errors)
+					.checksum(text(json, "checksum"))
+					.releaseDate(releaseDate == null ? null : Instant.parse(releaseDate))
+					.build();
+		} catch (RuntimeException ex) {
+			throw invalid("release", ex);
+		}
+	}
+
+	/**
+	 * Decodes the {@link ArtifactMetadata} JSON payload.
+	 *
+	 * @param payload JSON payload
+	 * @return decoded artifact metadata
+	 * @throws UncheckedIOException when the payload is not a valid artifact metadata
+	 */
+	static ArtifactMetadata metadata(byte[] payload) {
+		try {
+			final Map<?, ?> json = object(JsonReader.parse(new String(payload, StandardCharsets.UTF_8)));
+			final List<PropertyDescriptor> properties = new ArrayList<>();
+
+			if (json.get("properties") instanceof List<?> values) {
+				for (Object value : values) {
+					properties.add(property(object(value)));
+				}
+			}
+
+			return ArtifactMetadata.builder()
+					.artifact(artifact(json))
+					.properties(properties)
+					.checksum(text(json, "checksum"))
+					.build();
+		} catch (RuntimeException ex) {
+			throw invalid("artifact metadata", ex);
+		}
+	}
+
+	/**
+	 * Decodes the {@link Manifest} JSON payload.
+	 *
+	 * @param payload JSON payload
+	 * @return decoded manifest
+	 * @throws UncheckedIOException when the payload is not a valid manifest
+	 */
+	static Manifest manifest(byte[] payload) {
+		try {
+			final Map<?, ?> json = object(JsonReader.parse(new String(payload, StandardCharsets.UTF_8)));
+			final String createdAt = text(json, "createdAt");
+			final List<Artifact> artifacts = new ArrayList<>();
+
+			if (json.get("artifacts") instanceof List<?> values) {
+				for (Object value : values) {
+					artifacts.add(artifact(object(value)));
+				}
+			}
+
+			return Manifest.builder()
+					.id(text(json, "id"))
+					.name(text(json, "name"))
+					.artifacts(artifacts)
+					.createdAt(createdAt == null ? null : Instant.parse(createdAt))
+					.build();
+		} catch (RuntimeException ex) {
+			throw invalid("manifest", ex);
+		}
+	}
+
+	private static Artifact artifact(Map<?, ?> json) {
+		return Artifact.builder()
+				.groupId(text(json, "groupId"))
+				.artifactId(text(json, "artifactId"))
+				.version(text(json, "version"))
+				.name(text(json, "name"))
+				.description(text(json, "description"))
+				.website(text(json, "website"))
+				.repository(text(json, "repository"))
+				.build();
+	}
+
+	private static PropertyDescriptor property(Map<?, ?> json) {
+		final Deprecation deprecation = json.get("deprecation") instanceof Map<?, ?> value
+				? new Deprecation(text(value, "reason"), text(value, "replacement")) : null;
+		final String schema = text(json, "schema");
+
+		return PropertyDescriptor.builder()
+				.name(text(json, "name"))
+				.typeName(text(json, "typeName"))
+				.schema(schema == null ? null : JsonCanonicalizer.canonicalize(schema))
+				.description(text(json, "description"))
+				.defaultValue(text(json, "defaultValue"))
+				.deprecation(deprecation)
+				.build();
+	}
+
+	private static Map<?, ?> object(@Nullable Object value) {
+		if (value instanceof Map<?, ?> json) {
+			return json;
+		}
+		throw new IllegalArgumentException("Expected a JSON object");
+	}
+
+	@Nullable
+	private static String text(Map<?, ?> json, String name) {
+		final Object value = json.get(name);
+		return value == null ? null : String.valueOf(value);
+	}
+
+	private static UncheckedIOException invalid(String type, RuntimeException ex) {
+		return new UncheckedIOException(new IOException("Invalid " + type + " payload: " + ex.getMessage(), ex));
+	}
+
+}
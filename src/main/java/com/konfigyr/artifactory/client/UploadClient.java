@@ -0,0 +1,408 @@
+package com.konfigyr.artifactory.client;
+
+import com.konfigyr.artifactory.ArtifactMetadata;
+import com.konfigyr.artifactory.Release;
+import com.konfigyr.artifactory.json.ArtifactMetadataWriter;
+import org.jspecify.annotations.NonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Client that uploads the {@link ArtifactMetadata} to the {@code Artifactory} and returns the {@link Release}
+ * that was created for it. Build plugins of multi-module projects use it to upload the metadata of all modules
+ * concurrently, instead of one by one.
+ * <p>
+ * The metadata is written using the {@link ArtifactMetadataWriter}, optionally {@code GZIP} compressed, and is
+ * sent as a {@code POST} request to the {@code artifacts/{groupId}/{artifactId}/{version}} path of the endpoint.
+ * All uploads share the same {@link HttpClient}, and with it, its pool of connections. The number of requests
+ * that are in flight at the same time is limited by the {@link Builder#concurrency(int) concurrency} of the
+ * client, uploads that exceed it wait for one of the running uploads to complete.
+ * <p>
+ * Requests that fail with an {@link IOException}, or with a {@code 429} or {@code 5xx} response status, are
+ * retried using an exponential backoff with full jitter, so that retries of concurrent uploads are spread out.
+ * <p>
+ * When the {@link Builder#verifyChecksum(boolean) checksum verification} is enabled, the checksum of the created
+ * {@link Release} must match the {@link com.konfigyr.artifactory.MetadataChecksum checksum} of the uploaded
+ * metadata. This requires the {@code Artifactory} to compute the release checksum in the same way, which is why
+ * the verification is disabled by default.
+ * <pre>{@code
+ * try (UploadClient client = UploadClient.builder().endpoint("https://api.konfigyr.com").build()) {
+ *     List<Release> releases = client.upload(metadata);
+ * }
+ * }</pre>
+ *
+ * @author Vladimir Spasic
+ * @see ArtifactMetadataWriter
+ * @since 1.0.0
+ */
+public final class UploadClient implements AutoCloseable {
+
+	private static final AtomicInteger COUNTER = new AtomicInteger();
+
+	private final URI endpoint;
+	private final HttpClient client;
+	private final ExecutorService executor;
+	private final Semaphore permits;
+	private final boolean compressed;
+	private final boolean verifyChecksum;
+	private final Duration timeout;
+	private final Duration backoff;
+	private final int retries;
+
+	private UploadClient(Builder builder) {
+		this.endpoint = builder.endpoint;
+		this.executor = Executors.newFixedThreadPool(builder.concurrency, runnable -> {
+			final Thread thread = new Thread(runnable, "artifactory-upload-" + COUNTER.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+		this.client = HttpClient.newBuilder()
+				.connectTimeout(builder.timeout)
+				.build();
+		this.permits = new Semaphore(builder.concurrency);
+		this.compressed = builder.compressed;
+		this.verifyChecksum = builder.verifyChecksum;
+		this.timeout = builder.timeout;
+		this.backoff = builder.backoff;
+		this.retries = builder.retries;
+	}
+
+	/**
+	 * Creates a new builder used to configure and create the {@link UploadClient}.
+	 *
+	 * @return upload client builder, never {@literal null}.
+	 */
+	@NonNull
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Uploads the given artifact metadata concurrently and returns their releases, in the same order.
+	 *
+	 * @param metadata artifact metadata to upload, can't be {@literal null}.
+	 * @return created releases, never {@literal null}.
+	 * @throws UncheckedIOException  when any of the uploads fails
+	 * @throws IllegalStateException when the client is closed
+	 */
+	@NonNull
+	public List<Release> upload(@NonNull Iterable<? extends ArtifactMetadata> metadata) {
+		final List<CompletableFuture<Release>> futures = new ArrayList<>();
+
+		for (ArtifactMetadata candidate : metadata) {
+			futures.add(uploadAsync(candidate));
+		}
+
+		final List<Release> releases = new ArrayList<>(futures.size());
+
+		try {
+			for (CompletableFuture<Release> future : futures) {
+				releases.add(future.join());
+			}
+		} catch (CompletionException ex) {
+			futures.forEach(future -> future.cancel(false));
+
+			if (ex.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw ex;
+		}
+
+		return releases;
+	}
+
+	/**
+	 * Uploads the artifact metadata asynchronously.
+	 *
+	 * @param metadata artifact metadata to upload, can't be {@literal null}.
+	 * @return future completed with the created release, never {@literal null}.
+	 * @throws IllegalStateException when the client is closed
+	 */
+	@NonNull
+	public CompletableFuture<Release> uploadAsync(@NonNull ArtifactMetadata metadata) {
+		if (executor.isShutdown()) {
+			throw new IllegalStateException("Upload client is closed");
+		}
+		return CompletableFuture.supplyAsync(() -> upload(metadata), executor);
+	}
+
+	/**
+	 * Uploads the artifact metadata and waits for the created release.
+	 *
+	 * @param metadata artifact metadata to upload, can't be {@literal null}.
+	 * @return created release, never {@literal null}.
+	 * @throws UncheckedIOException when the upload fails, or when the checksum verification is enabled and the
+	 *                              release checksum does not match the uploaded metadata
+	 */
+	@NonNull
+	public Release upload(@NonNull ArtifactMetadata metadata) {
+		final ByteArrayOutputStream body = new ByteArrayOutputStream(8192);
+		final String checksum;
+
+		try {
+			checksum = (compressed ? ArtifactMetadataWriter.gzip() : ArtifactMetadataWriter.create())
+					.write(metadata, body);
+		} catch (IOException ex) {
+			throw new UncheckedIOException("Failed to write artifact metadata for: " + metadata.coordinates(), ex);
+		}
+
+		final HttpRequest.Builder request = HttpRequest.newBuilder(uri(metadata))
+				.timeout(timeout)
+				.header("Content-Type", "application/json")
+				.header("Accept", "application/json")
+				.POST(HttpRequest.BodyPublishers.ofByteArray(body.toByteArray()));
+
+		if (compressed) {
+			request.header("Content-Encoding", "gzip");
+		}
+
+		final HttpResponse<String> response = send(metadata, request.build());
+
+		if (response.statusCode() / 100 != 2) {
+			throw new UncheckedIOException(new IOException("Failed to upload artifact metadata for "
+					+ metadata.coordinates() + ", server responded with status " + response.statusCode()));
+		}
+
+		final Release release = JsonPayloads.release(response.body());
+
+		if (verifyChecksum && !checksum.equals(release.checksum())) {
+			throw new UncheckedIOException(new IOException("Release checksum of " + metadata.coordinates()
+					+ " does not match the uploaded artifact metadata checksum"));
+		}
+
+		return release;
+	}
+
+	/**
+	 * Closes the client, uploads that are already running are completed.
+	 */
+	@Override
+	public void close() {
+		executor.shutdown();
+	}
+
+	private HttpResponse<String> send(ArtifactMetadata metadata, HttpRequest request) {
+		try {
+			permits.acquire();
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new UncheckedIOException(new InterruptedIOException("Interrupted while uploading "
+					+ metadata.coordinates()));
+		}
+
+		try {
+			for (int attempt = 0; ; attempt++) {
+				HttpResponse<String> response = null;
+				IOException failure = null;
+
+				try {
+					response = client.send(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+				} catch (IOException ex) {
+					failure = ex;
+				}
+
+				if (attempt >= retries || (response != null && !isRetryable(response.statusCode()))) {
+					if (failure != null) {
+						throw new UncheckedIOException("Failed to upload artifact metadata for "
+								+ metadata.coordinates(), failure);
+					}
+					return response;
+				}
+
+				Thread.sleep(delay(attempt));
+			}
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new UncheckedIOException(new InterruptedIOException("Interrupted while uploading "
+					+ metadata.coordinates()));
+		} finally {
+			permits.release();
+		}
+	}
+
+	/**
+	 * Full jitter, the delay is a random value between zero and the exponentially growing backoff.
+	 */
+	private long delay(int attempt) {
+		final long limit = backoff.toMillis() << Math.min(attempt, 16);
+		return limit <= 0 ? 0 : ThreadLocalRandom.current().nextLong(limit + 1);
+	}
+
+	private URI uri(ArtifactMetadata metadata) {
+		return endpoint.resolve("artifacts/" + encode(metadata.groupId()) + "/" + encode(metadata.artifactId())
+				+ "/" + encode(metadata.version()));
+	}
+
+	private static boolean isRetryable(int status) {
+		return status == 429 || status / 100 == 5;
+	}
+
+	private static String encode(String value) {
+		return URLEncoder.encode(value, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Builder class used to create new instances of the {@link UploadClient}.
+	 */
+	public static final class Builder {
+
+		private URI endpoint;
+		private int concurrency = 8;
+		private int retries = 3;
+		private Duration backoff = Duration.ofMillis(200);
+		private Duration timeout = Duration.ofSeconds(30);
+		private boolean compressed = true;
+		private boolean verifyChecksum = false;
+
+		private Builder() {
+		}
+
+		/**
+		 * Specify the base URL of the {@code Artifactory} API.
+		 *
+		 * @param endpoint API base URL
+		 * @return upload client builder
+		 * @throws IllegalArgumentException If the given endpoint violates RFC 2396
+		 */
+		@NonNull
+		public Builder endpoint(String endpoint) {
+			return endpoint(endpoint == null ? null : URI.create(endpoint));
+		}
+
+		/**
+		 * Specify the base URL of the {@code Artifactory} API.
+		 *
+		 * @param endpoint API base URL
+		 * @return upload client builder
+		 */
+		@NonNull
+		public Builder endpoint(URI endpoint) {
+			if (endpoint != null && !endpoint.getPath().endsWith("/")) {
+				endpoint = URI.create(endpoint + "/");
+			}
+			this.endpoint = endpoint;
+			return this;
+		}
+
+		/**
+		 * Specify the maximum number of uploads that are in flight at the same time, defaults to {@code 8}.
+		 *
+		 * @param concurrency maximum number of concurrent uploads
+		 * @return upload client builder
+		 */
+		@NonNull
+		public Builder concurrency(int concurrency) {
+			this.concurrency = concurrency;
+			return this;
+		}
+
+		/**
+		 * Specify how many times a failed upload is retried, defaults to {@code 3}.
+		 *
+		 * @param retries maximum number of retries
+		 * @return upload client builder
+		 */
+		@NonNull
+		public Builder retries(int retries) {
+			this.retries = retries;
+			return this;
+		}
+
+		/**
+		 * Specify the base backoff delay of the retries, which doubles with each retry, defaults to 200ms.
+		 *
+		 * @param backoff base retry backoff
+		 * @return upload client builder
+		 */
+		@NonNull
+		public Builder backoff(Duration backoff) {
+			this.backoff = backoff;
+			return this;
+		}
+
+		/**
+		 * Specify the connect and request timeout, defaults to 30 seconds.
+		 *
+		 * @param timeout request timeout
+		 * @return upload client builder
+		 */
+		@NonNull
+		public Builder timeout(Duration timeout) {
+			this.timeout = timeout;
+			return this;
+		}
+
+		/**
+		 * Specify if the uploaded metadata should be {@code GZIP} compressed, defaults to {@code true}.
+		 *
+		 * @param compressed should the metadata be compressed
+		 * @return upload client builder
+		 */
+		@NonNull
+		public Builder compressed(boolean compressed) {
+			this.compressed = compressed;
+			return this;
+		}
+
+		/**
+		 * Specify if the checksum of the created release should be verified against the checksum of the uploaded
+		 * metadata, defaults to {@code false}. Enable it only when the {@code Artifactory} computes the release
+		 * checksum using the {@link com.konfigyr.artifactory.MetadataChecksum}.
+		 *
+		 * @param verifyChecksum should the release checksum be verified
+		 * @return upload client builder
+		 */
+		@NonNull
+		public Builder verifyChecksum(boolean verifyChecksum) {
+			this.verifyChecksum = verifyChecksum;
+			return this;
+		}
+
+		/**
+		 * Creates the {@link UploadClient} as a result of this builder.
+		 *
+		 * @return upload client, never {@literal null}.
+		 * @throws IllegalArgumentException when the builder is not correctly configured
+		 */
+		@NonNull
+		public UploadClient build() {
+			if (endpoint == null) {
+				throw new IllegalArgumentException("Artifactory endpoint can not be null");
+			}
+			if (concurrency < 1) {
+				throw new IllegalArgumentException("Concurrency must be a positive number");
+			}
+			if (retries < 0) {
+				throw new IllegalArgumentException("Number of retries can not be negative");
+			}
+			if (backoff == null || backoff.isNegative()) {
+				throw new IllegalArgumentException("Retry backoff can not be null or negative");
+			}
+			if (timeout == null || timeout.isNegative() || timeout.isZero()) {
+				throw new IllegalArgumentException("Timeout must be a positive duration");
+			}
+			return new UploadClient(this);
+		}
+
+	}
+
+}
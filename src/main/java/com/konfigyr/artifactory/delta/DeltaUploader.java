@@ -0,0 +1,66 @@
+package com.konfigyr.artifactory.delta;
+
+import com.konfigyr.artifactory.ArtifactMetadata;
+import com.konfigyr.artifactory.Release;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Uploads the {@link ArtifactMetadata} to the {@link MetadataBackend} as a {@link MetadataDelta} against the
+ * metadata of the previous release, when it is known, instead of uploading all the property descriptors.
+ * <p>
+ * The full metadata is uploaded when there is no previous metadata, when the backend does not know the base
+ * metadata of the delta, or when the delta would contain as many changes as there are descriptors in the new
+ * metadata.
+ * <pre>{@code
+ * DeltaUploader uploader = DeltaUploader.create(backend);
+ * Release release = uploader.upload(metadata, previous);
+ * }</pre>
+ *
+ * @author Vladimir Spasic
+ * @see MetadataDelta
+ * @since 1.0.0
+ */
+public final class DeltaUploader {
+
+	private final MetadataBackend backend;
+
+	private DeltaUploader(MetadataBackend backend) {
+		this.backend = backend;
+	}
+
+	/**
+	 * Creates a new uploader for the given backend.
+	 *
+	 * @param backend backend to upload to, can't be {@literal null}.
+	 * @return delta uploader, never {@literal null}.
+	 */
+	@NonNull
+	public static DeltaUploader create(@NonNull MetadataBackend backend) {
+		return new DeltaUploader(backend);
+	}
+
+	/**
+	 * Uploads the artifact metadata, as a delta against the previous metadata when possible.
+	 *
+	 * @param metadata artifact metadata to upload, can't be {@literal null}.
+	 * @param previous metadata of the previous release that the backend knows, may be {@literal null}.
+	 * @return created release, never {@literal null}.
+	 */
+	@NonNull
+	public Release upload(@NonNull ArtifactMetadata metadata, @Nullable ArtifactMetadata previous) {
+		if (previous == null) {
+			return backend.upload(metadata);
+		}
+
+		final MetadataDelta delta = MetadataDelta.between(previous, metadata);
+
+		if (delta.size() >= metadata.properties().size()) {
+			return backend.upload(metadata);
+		}
+
+		final Release release = backend.upload(delta);
+		return release == null ? backend.upload(metadata) : release;
+	}
+
+}
@@ -0,0 +1,37 @@
+package com.konfigyr.artifactory.delta;
+
+import com.konfigyr.artifactory.ArtifactMetadata;
+import com.konfigyr.artifactory.Release;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Backend of the {@code Artifactory} that accepts the uploaded {@link ArtifactMetadata} and creates the
+ * {@link Release} for it, either from the full metadata or from a {@link MetadataDelta}.
+ *
+ * @author Vladimir Spasic
+ * @see DeltaUploader
+ * @since 1.0.0
+ */
+public interface MetadataBackend {
+
+	/**
+	 * Uploads the full artifact metadata.
+	 *
+	 * @param metadata artifact metadata to upload, can't be {@literal null}.
+	 * @return created release, never {@literal null}.
+	 */
+	@NonNull
+	Release upload(@NonNull ArtifactMetadata metadata);
+
+	/**
+	 * Uploads the metadata delta, which the backend applies to the metadata with the
+	 * {@link MetadataDelta#base() base checksum}.
+	 *
+	 * @param delta metadata delta to upload, can't be {@literal null}.
+	 * @return created release, or {@literal null} when the backend does not know the base metadata.
+	 */
+	@Nullable
+	Release upload(@NonNull MetadataDelta delta);
+
+}
@@ -0,0 +1,202 @@
+package com.konfigyr.artifactory.delta;
+
+import com.konfigyr.artifactory.Artifact;
+import com.konfigyr.artifactory.ArtifactMetadata;
+import com.konfigyr.artifactory.MetadataChecksum;
+import com.konfigyr.artifactory.PropertyDescriptor;
+import com.konfigyr.artifactory.Release;
+import org.jspecify.annotations.NonNull;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Describes the changes of the {@link ArtifactMetadata} between a previously uploaded {@link Release} and a new
+ * version of the same artifact, which is usually much smaller than the new metadata as most of the property
+ * descriptors do not change between two snapshot versions.
+ * <p>
+ * The delta is created from the base and the new metadata, and can be applied to the base metadata to
+ * reconstruct the new metadata. The {@link #base() base checksum} identifies the metadata to which the delta is
+ * applied and the {@link #checksum() checksum} is used to verify the reconstructed metadata.
+ * <pre>{@code
+ * MetadataDelta delta = MetadataDelta.between(previous, metadata);
+ * ArtifactMetadata reconstructed = delta.apply(previous);
+ * }</pre>
+ *
+ * @param artifact the artifact of the new metadata, can't be {@literal null}.
+ * @param base     checksum of the base metadata, the {@link Release#checksum()} of the previous release,
+ *                 can't be {@literal null}.
+ * @param checksum checksum of the new metadata, can't be {@literal null}.
+ * @param added    descriptors that are not present in the base metadata, can't be {@literal null}.
+ * @param modified descriptors that replace the base descriptors with the same name, can't be {@literal null}.
+ * @param removed  names of the base descriptors that are no longer present, can't be {@literal null}.
+ * @author Vladimir Spasic
+ * @see DeltaUploader
+ * @see MetadataChecksum
+ * @since 1.0.0
+ */
+public record MetadataDelta(
+		@NonNull Artifact artifact,
+		@NonNull String base,
+		@NonNull String checksum,
+		@NonNull List<PropertyDescriptor> added,
+		@NonNull List<PropertyDescriptor> modified,
+		@NonNull List<String> removed
+) implements Serializable {
+
+	@Serial
+	private static final long serialVersionUID = 2651468437063415982L;
+
+	public MetadataDelta {
+		added = List.copyOf(added);
+		modified = List.copyOf(modified);
+		removed = List.copyOf(removed);
+	}
+
+	/**
+	 * Creates the delta that transforms the base metadata into the given new metadata. Checksums of the
+	 * metadata are computed when they are not present.
+	 *
+	 * @param base     metadata of the previous release, can't be {@literal null}.
+	 * @param metadata new metadata, can't be {@literal null}.
+	 * @return metadata delta, never {@literal null}.
+	 */
+	@NonNull
+	public static MetadataDelta between(@NonNull ArtifactMetadata base, @NonNull ArtifactMetadata metadata) {
+		final Map<String, PropertyDescriptor> previous = new HashMap<>();
+
+		for (PropertyDescriptor descriptor : base.properties()) {
+			previous.put(descriptor.name(), descriptor);
+		}
+
+		final List<PropertyDescriptor> added = new ArrayList<>();
+		final List<PropertyDescriptor> modified = new ArrayList<>();
+
+		for (PropertyDescriptor descriptor : metadata.properties()) {
+			final PropertyDescriptor candidate = previous.remove(descriptor.name());
+
+			if (candidate == null) {
+				added.add(descriptor);
+			} else if (!isSame(candidate, descriptor)) {
+				modified.add(descriptor);
+			}
+		}
+
+		final List<String> removed = new ArrayList<>(previous.keySet());
+		removed.sort(String::compareTo);
+
+		return new MetadataDelta(artifact(metadata), checksum(base), checksum(metadata), added, modified, removed);
+	}
+
+	/**
+	 * Checks if this delta contains no property descriptor changes.
+	 *
+	 * @return {@code true} when no descriptors were added, modified or removed
+	 */
+	public boolean isEmpty() {
+		return size() == 0;
+	}
+
+	/**
+	 * Returns the number of property descriptor changes within this delta.
+	 *
+	 * @return number of added, modified and removed descriptors
+	 */
+	public int size() {
+		return added.size() + modified.size() + removed.size();
+	}
+
+	/**
+	 * Applies this delta to the base metadata and returns the reconstructed metadata, whose checksum is verified
+	 * against the {@link #checksum() checksum} of this delta.
+	 *
+	 * @param metadata base metadata, can't be {@literal null}.
+	 * @return reconstructed metadata, never {@literal null}.
+	 * @throws IllegalArgumentException when this delta can not be applied to the given metadata, or when the
+	 *                                  checksum of the reconstructed metadata does not match
+	 */
+	@NonNull
+	public ArtifactMetadata apply(@NonNull ArtifactMetadata metadata) {
+		if (!base.equals(checksum(metadata))) {
+			throw new IllegalArgumentException("Delta for " + artifact.coordinates() + " can not be applied to "
+					+ metadata.coordinates() + " as its checksum does not match the delta base checksum");
+		}
+
+		final Map<String, PropertyDescriptor> descriptors = new LinkedHashMap<>();
+
+		for (PropertyDescriptor descriptor : metadata.properties()) {
+			descriptors.put(descriptor.name(), descriptor);
+		}
+
+		for (String name : removed) {
+			if (descriptors.remove(name) == null) {
+				throw new IllegalArgumentException("Removed property descriptor '" + name + "' is not present in "
+						+ metadata.coordinates());
+			}
+		}
+
+		for (PropertyDescriptor descriptor : modified) {
+			if (descriptors.replace(descriptor.name(), descriptor) == null) {
+				throw new IllegalArgumentException("Modified property descriptor '" + descriptor.name()
+						+ "' is not present in " + metadata.coordinates());
+			}
+		}
+
+		for (PropertyDescriptor descriptor : added) {
+			if (descriptors.putIfAbsent(descriptor.name(), descriptor) != null) {
+				throw new IllegalArgumentException("Added property descriptor '" + descriptor.name()
+						+ "' is already present in " + metadata.coordinates());
+			}
+		}
+
+		final ArtifactMetadata result = ArtifactMetadata.builder()
+				.artifact(artifact)
+				.properties(descriptors.values())
+				.checksum(checksum)
+				.build();
+
+		final String actual = MetadataChecksum.of(result);
+
+		if (!checksum.equals(actual)) {
+			throw new IllegalArgumentException("Checksum of the reconstructed " + artifact.coordinates()
+					+ " metadata does not match, expected " + checksum + " but was " + actual);
+		}
+
+		return result;
+	}
+
+	private static String checksum(ArtifactMetadata metadata) {
+		return metadata.checksum() == null ? MetadataChecksum.of(metadata) : metadata.checksum();
+	}
+
+	private static Artifact artifact(Artifact artifact) {
+		return Artifact.builder()
+				.groupId(artifact.groupId())
+				.artifactId(artifact.artifactId())
+				.version(artifact.version())
+				.name(artifact.name())
+				.description(artifact.description())
+				.website(artifact.website())
+				.repository(artifact.repository())
+				.build();
+	}
+
+	/**
+	 * Compares the descriptor attributes, as descriptors may be of different implementations.
+	 */
+	private static boolean isSame(PropertyDescriptor first, PropertyDescriptor second) {
+		return first.name().equals(second.name())
+				&& first.schema().equals(second.schema())
+				&& Objects.equals(first.typeName(), second.typeName())
+				&& Objects.equals(first.description(), second.description())
+				&& Objects.equals(first.defaultValue(), second.defaultValue())
+				&& Objects.equals(first.deprecation(), second.deprecation());
+	}
+
+}
@@ -0,0 +1,35 @@
+package com.konfigyr.artifactory.deprecation;
+
+import com.konfigyr.artifactory.Artifact;
+import com.konfigyr.artifactory.ArtifactMetadata;
+import com.konfigyr.artifactory.Manifest;
+import com.konfigyr.artifactory.index.PropertyMatch;
+import org.jspecify.annotations.NonNull;
+
+import java.util.List;
+
+/**
+ * Describes how a {@link Manifest} is affected by the properties deprecated in a new artifact release.
+ *
+ * @param manifest   the affected manifest, can't be {@literal null}.
+ * @param artifact   the artifact, as used by the manifest, that matches the released artifact coordinates,
+ *                   can't be {@literal null}.
+ * @param release    the released artifact metadata that deprecates the properties, can't be {@literal null}.
+ * @param properties configuration properties of the manifest that use the deprecated property descriptors,
+ *                   can't be {@literal null}.
+ * @author Vladimir Spasic
+ * @see DeprecationImpactAnalyzer
+ * @since 1.0.0
+ */
+public record DeprecationImpact(
+		@NonNull Manifest manifest,
+		@NonNull Artifact artifact,
+		@NonNull ArtifactMetadata release,
+		@NonNull List<PropertyMatch> properties
+) {
+
+	public DeprecationImpact {
+		properties = List.copyOf(properties);
+	}
+
+}
@@ -0,0 +1,259 @@
+package com.konfigyr.artifactory.deprecation;
+
+import com.konfigyr.artifactory.Artifact;
+import com.konfigyr.artifactory.ArtifactMetadata;
+import com.konfigyr.artifactory.Manifest;
+import com.konfigyr.artifactory.PropertyDescriptor;
+import com.konfigyr.artifactory.index.PropertyMatch;
+import com.konfigyr.artifactory.index.PropertyTrie;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.io.Serial;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Finds the {@link Manifest manifests} whose configuration uses properties that are deprecated by newly
+ * released {@link ArtifactMetadata}.
+ * <p>
+ * The analysis is a two-step join. First, the artifacts of each manifest are joined with the released artifacts
+ * by their {@code groupId:artifactId} coordinates, regardless of the version used by the manifest. Then, the
+ * configuration properties of each manifest that uses a released artifact are joined with the deprecated property
+ * descriptors of that release. Both joins are hash lookups, the released artifacts and their deprecated properties
+ * are indexed once when the analyzer is created, so each manifest is analyzed in time proportional to the number
+ * of its artifacts and configuration properties. Configuration keys of map or collection properties, like
+ * {@code logging.level.org.hibernate}, are matched using the {@link PropertyTrie} of the release.
+ * <p>
+ * Manifests are analyzed in parallel using a {@link ForkJoinPool}, which recursively splits the manifests into
+ * smaller batches. Impacts are passed to the consumer as soon as they are found, from the threads of the pool,
+ * without waiting for the remaining manifests to be analyzed.
+ *
+ * <pre>{@code
+ * DeprecationImpactAnalyzer analyzer = DeprecationImpactAnalyzer.of(List.of(release));
+ * analyzer.analyze(manifests, manifest -> configuration(manifest).keySet(), impact -> notify(impact));
+ * }</pre>
+ * <p>
+ * Analyzers are immutable and thread-safe.
+ *
+ * @author Vladimir Spasic
+ * @see DeprecationImpact
+ * @since 1.0.0
+ */
+public final class DeprecationImpactAnalyzer {
+
+	private static final int BATCH_SIZE = 32;
+
+	private final Map<String, Target> targets;
+
+	private DeprecationImpactAnalyzer(Map<String, Target> targets) {
+		this.targets = targets;
+	}
+
+	/**
+	 * Creates a new analyzer for the properties deprecated by the given released {@link ArtifactMetadata}. In
+	 * case multiple releases of the same artifact are given, the first one is used.
+	 *
+	 * @param releases released artifact metadata, can't be {@literal null}.
+	 * @return deprecation impact analyzer, never {@literal null}.
+	 */
+	@NonNull
+	public static DeprecationImpactAnalyzer of(@NonNull Iterable<? extends ArtifactMetadata> releases) {
+		final Map<String, Target> targets = new HashMap<>();
+
+		for (ArtifactMetadata release : releases) {
+			final Map<String, PropertyDescriptor> deprecated = new HashMap<>();
+
+			for (PropertyDescriptor descriptor : release) {
+				if (descriptor.deprecation() != null) {
+					deprecated.putIfAbsent(descriptor.name(), descriptor);
+				}
+			}
+
+			if (!deprecated.isEmpty()) {
+				targets.putIfAbsent(key(release), new Target(release, deprecated, PropertyTrie.of(release)));
+			}
+		}
+
+		return new DeprecationImpactAnalyzer(targets);
+	}
+
+	/**
+	 * Analyzes the given manifests in the {@link ForkJoinPool#commonPool() common pool} and collects the found
+	 * impacts. The order of the impacts is not defined.
+	 *
+	 * @param manifests     manifests to analyze, can't be {@literal null}.
+	 * @param configuration function returning the configuration property keys of a manifest, can't be
+	 *                      {@literal null}. It may return {@literal null} when the configuration is not known.
+	 * @return found deprecation impacts, never {@literal null}.
+	 */
+	@NonNull
+	public List<DeprecationImpact> analyze(
+			@NonNull List<? extends Manifest> manifests,
+			@NonNull Function<? super Manifest, ? extends Iterable<String>> configuration
+	) {
+		final ConcurrentLinkedQueue<DeprecationImpact> impacts = new ConcurrentLinkedQueue<>();
+		analyze(manifests, configuration, impacts::add);
+		return List.copyOf(impacts);
+	}
+
+	/**
+	 * Analyzes the given manifests in the {@link ForkJoinPool#commonPool() common pool} and passes each impact to
+	 * the consumer as soon as it is found. The consumer is invoked concurrently and must be thread-safe.
+	 *
+	 * @param manifests     manifests to analyze, can't be {@literal null}.
+	 * @param configuration function returning the configuration property keys of a manifest, can't be
+	 *                      {@literal null}. It may return {@literal null} when the configuration is not known.
+	 * @param consumer      consumer of found impacts, can't be {@literal null}.
+	 */
+	public void analyze(
+			@NonNull List<? extends Manifest> manifests,
+			@NonNull Function<? super Manifest, ? extends Iterable<String>> configuration,
+			@NonNull Consumer<? super DeprecationImpact> consumer
+	) {
+		analyze(ForkJoinPool.commonPool(), manifests, configuration, consumer);
+	}
+
+	/**
+	 * Analyzes the given manifests in the given {@link ForkJoinPool} and passes each impact to the consumer as
+	 * soon as it is found. The consumer is invoked concurrently and must be thread-safe. This method returns once
+	 * all manifests are analyzed.
+	 *
+	 * @param pool          fork/join pool used to analyze the manifests, can't be {@literal null}.
+	 * @param manifests     manifests to analyze, can't be {@literal null}.
+	 * @param configuration function returning the configuration property keys of a manifest, can't be
+	 *                      {@literal null}. It may return {@literal null} when the configuration is not known.
+	 * @param consumer      consumer of found impacts, can't be {@literal null}.
+	 */
+	public void analyze(
+			@NonNull ForkJoinPool pool,
+			@NonNull List<? extends Manifest> manifests,
+			@NonNull Function<? super Manifest, ? extends Iterable<String>> configuration,
+			@NonNull Consumer<? super DeprecationImpact> consumer
+	) {
+		if (targets.isEmpty() || manifests.isEmpty()) {
+			return;
+		}
+
+		pool.invoke(new AnalysisTask(manifests, 0, manifests.size(), configuration, consumer));
+	}
+
+	private void analyze(Manifest manifest, Function<? super Manifest, ? extends Iterable<String>> configuration,
+			Consumer<? super DeprecationImpact> consumer) {
+		List<Artifact> artifacts = null;
+		List<Target> matches = null;
+
+		for (Artifact artifact : manifest) {
+			final Target target = targets.get(key(artifact));
+
+			if (target != null) {
+				if (artifacts == null) {
+					artifacts = new ArrayList<>(2);
+					matches = new ArrayList<>(2);
+				}
+				artifacts.add(artifact);
+				matches.add(target);
+			}
+		}
+
+		if (artifacts == null) {
+			return;
+		}
+
+		final Iterable<String> properties = configuration.apply(manifest);
+
+		if (properties == null) {
+			return;
+		}
+
+		final List<List<PropertyMatch>> usages = new ArrayList<>(matches.size());
+
+		for (int i = 0; i < matches.size(); i++) {
+			usages.add(new ArrayList<>());
+		}
+
+		for (String property : properties) {
+			for (int i = 0; i < matches.size(); i++) {
+				final PropertyMatch match = matches.get(i).resolve(property);
+
+				if (match != null) {
+					usages.get(i).add(match);
+				}
+			}
+		}
+
+		for (int i = 0; i < matches.size(); i++) {
+			if (!usages.get(i).isEmpty()) {
+				consumer.accept(new DeprecationImpact(manifest, artifacts.get(i), matches.get(i).release(),
+						usages.get(i)));
+			}
+		}
+	}
+
+	private static String key(Artifact artifact) {
+		return artifact.groupId() + ':' + artifact.artifactId();
+	}
+
+	private record Target(ArtifactMetadata release, Map<String, PropertyDescriptor> deprecated, PropertyTrie trie) {
+
+		@Nullable
+		PropertyMatch resolve(String property) {
+			final PropertyDescriptor descriptor = deprecated.get(property);
+
+			if (descriptor != null) {
+				return new PropertyMatch(descriptor, property);
+			}
+
+			return trie.resolve(property)
+					.filter(match -> match.descriptor().deprecation() != null)
+					.orElse(null);
+		}
+	}
+
+	private final class AnalysisTask extends RecursiveAction {
+
+		@Serial
+		private static final long serialVersionUID = 1L;
+
+		private final List<? extends Manifest> manifests;
+		private final int from;
+		private final int to;
+		private final Function<? super Manifest, ? extends Iterable<String>> configuration;
+		private final Consumer<? super DeprecationImpact> consumer;
+
+		AnalysisTask(List<? extends Manifest> manifests, int from, int to,
+				Function<? super Manifest, ? extends Iterable<String>> configuration,
+				Consumer<? super DeprecationImpact> consumer) {
+			this.manifests = manifests;
+			this.from = from;
+			this.to = to;
+			this.configuration = configuration;
+			this.consumer = consumer;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from <= BATCH_SIZE) {
+				for (int i = from; i < to; i++) {
+					analyze(manifests.get(i), configuration, consumer);
+				}
+				return;
+			}
+
+			final int middle = (from + to) >>> 1;
+
+			invokeAll(
+					new AnalysisTask(manifests, from, middle, configuration, consumer),
+					new AnalysisTask(manifests, middle, to, configuration, consumer)
+			);
+		}
+	}
+
+}
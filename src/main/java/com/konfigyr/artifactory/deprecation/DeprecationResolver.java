@@ -0,0 +1,220 @@
+package com.konfigyr.artifactory.deprecation;
+
+import com.konfigyr.artifactory.ArtifactMetadata;
+import com.konfigyr.artifactory.ArtifactMetadataResolver;
+import com.konfigyr.artifactory.Deprecation;
+import com.konfigyr.artifactory.Manifest;
+import com.konfigyr.artifactory.PropertyDescriptor;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Resolves the {@link Deprecation#replacement() replacements} of deprecated configuration properties to the
+ * properties that are currently in use.
+ * <p>
+ * Properties are often renamed more than once across artifact versions, for example {@code a} is replaced by
+ * {@code b} which is later replaced by {@code c}, in which case both {@code a} and {@code b} should be migrated
+ * directly to {@code c}. When the resolver is created, the transitive closure of the replacements is computed for
+ * all deprecated properties, so resolving the final replacement of a property is a single hash lookup. Chains
+ * end with a property that is not deprecated, or with a deprecated property without a replacement, in which case
+ * the property has no final replacement.
+ * <p>
+ * Replacement chains that form a cycle, like {@code a} replaced by {@code b} and {@code b} replaced by {@code a},
+ * can not be resolved and are rejected when the resolver is created.
+ * <p>
+ * Resolvers are immutable and thread-safe.
+ *
+ * @author Vladimir Spasic
+ * @see Deprecation
+ * @since 1.0.0
+ */
+public final class DeprecationResolver {
+
+	private final Map<String, Deprecation> deprecations;
+	private final Map<String, String> replacements;
+
+	private DeprecationResolver(Map<String, Deprecation> deprecations, Map<String, String> replacements) {
+		this.deprecations = deprecations;
+		this.replacements = replacements;
+	}
+
+	/**
+	 * Creates a new resolver for the deprecated property descriptors of the given {@link ArtifactMetadata}.
+	 *
+	 * @param metadata artifact metadata, can't be {@literal null}.
+	 * @return deprecation resolver, never {@literal null}.
+	 * @throws IllegalArgumentException when deprecation replacements form a cycle
+	 */
+	@NonNull
+	public static DeprecationResolver of(@NonNull ArtifactMetadata metadata) {
+		return of(List.of(metadata));
+	}
+
+	/**
+	 * Creates a new resolver for the deprecated property descriptors of all artifacts contained in the given
+	 * {@link Manifest}. Artifacts for which the metadata could not be resolved are ignored.
+	 *
+	 * @param manifest manifest for which the resolver is created, can't be {@literal null}.
+	 * @param resolver resolver used to look up the artifact metadata, can't be {@literal null}.
+	 * @return deprecation resolver, never {@literal null}.
+	 * @throws IllegalArgumentException when deprecation replacements form a cycle
+	 */
+	@NonNull
+	public static DeprecationResolver of(@NonNull Manifest manifest, @NonNull ArtifactMetadataResolver resolver) {
+		return of(resolver.resolve(manifest));
+	}
+
+	/**
+	 * Creates a new resolver for the deprecated property descriptors of all given {@link ArtifactMetadata}. In
+	 * case multiple artifacts define the property with the same name, the first one is used.
+	 *
+	 * @param metadata artifact metadata, can't be {@literal null}.
+	 * @return deprecation resolver, never {@literal null}.
+	 * @throws IllegalArgumentException when deprecation replacements form a cycle
+	 */
+	@NonNull
+	public static DeprecationResolver of(@NonNull Iterable<? extends ArtifactMetadata> metadata) {
+		final Map<String, Deprecation> deprecations = new HashMap<>();
+		final Set<String> names = new HashSet<>();
+
+		for (ArtifactMetadata artifact : metadata) {
+			for (PropertyDescriptor descriptor : artifact) {
+				if (names.add(descriptor.name()) && descriptor.deprecation() != null) {
+					deprecations.put(descriptor.name(), descriptor.deprecation());
+				}
+			}
+		}
+
+		final Map<String, String> replacements = new HashMap<>();
+		final Set<String> resolved = new HashSet<>();
+
+		for (String name : deprecations.keySet()) {
+			close(name, deprecations, replacements, resolved);
+		}
+
+		return new DeprecationResolver(Collections.unmodifiableMap(deprecations),
+				Collections.unmodifiableMap(replacements));
+	}
+
+	/**
+	 * Checks if the property with the given name is deprecated.
+	 *
+	 * @param name property name, can't be {@literal null}.
+	 * @return {@code true} when property is deprecated
+	 */
+	public boolean isDeprecated(@NonNull String name) {
+		return deprecations.containsKey(name);
+	}
+
+	/**
+	 * Returns the {@link Deprecation} of the property with the given name.
+	 *
+	 * @param name property name, can't be {@literal null}.
+	 * @return property deprecation, or {@literal null} when property is not deprecated.
+	 */
+	@Nullable
+	public Deprecation deprecation(@NonNull String name) {
+		return deprecations.get(name);
+	}
+
+	/**
+	 * Resolves the final replacement of the property with the given name, the property at the end of the
+	 * replacement chain which is not deprecated.
+	 *
+	 * @param name property name, can't be {@literal null}.
+	 * @return final replacement, or {@literal null} when the property is not deprecated or has no replacement.
+	 */
+	@Nullable
+	public String resolve(@NonNull String name) {
+		return replacements.get(name);
+	}
+
+	/**
+	 * Returns the replacement chain for the property with the given name, starting with the property itself and
+	 * followed by each of its replacements, in order.
+	 *
+	 * @param name property name, can't be {@literal null}.
+	 * @return replacement chain, never {@literal null}.
+	 */
+	@NonNull
+	public List<String> chain(@NonNull String name) {
+		final List<String> chain = new ArrayList<>();
+		String current = name;
+
+		while (current != null) {
+			chain.add(current);
+			current = replacement(deprecations.get(current));
+		}
+
+		return Collections.unmodifiableList(chain);
+	}
+
+	/**
+	 * Returns the final replacements of all deprecated properties that have one, keyed by the deprecated
+	 * property name.
+	 *
+	 * @return resolved property replacements, never {@literal null}.
+	 */
+	@NonNull
+	public Map<String, String> replacements() {
+		return replacements;
+	}
+
+	private static void close(String name, Map<String, Deprecation> deprecations, Map<String, String> replacements,
+			Set<String> resolved) {
+		if (resolved.contains(name)) {
+			return;
+		}
+
+		// walk the chain until a resolved, or not deprecated, property is reached
+		final Set<String> path = new LinkedHashSet<>();
+		String current = name;
+		String target = null;
+
+		while (current != null) {
+			if (!path.add(current)) {
+				throw new IllegalArgumentException("Deprecation replacements form a cycle: "
+						+ String.join(" -> ", path) + " -> " + current);
+			}
+
+			if (resolved.contains(current)) {
+				target = replacements.get(current);
+				break;
+			}
+
+			final Deprecation deprecation = deprecations.get(current);
+
+			if (deprecation == null) {
+				target = current;
+				break;
+			}
+
+			current = replacement(deprecation);
+		}
+
+		// every deprecated property on the path shares the same final replacement
+		for (String property : path) {
+			if (deprecations.containsKey(property) && resolved.add(property) && target != null) {
+				replacements.put(property, target);
+			}
+		}
+	}
+
+	@Nullable
+	private static String replacement(@Nullable Deprecation deprecation) {
+		if (deprecation == null || deprecation.replacement() == null || deprecation.replacement().isBlank()) {
+			return null;
+		}
+		return deprecation.replacement();
+	}
+
+}
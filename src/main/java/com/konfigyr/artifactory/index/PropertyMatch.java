@@ -0,0 +1,53 @@
+package com.konfigyr.artifactory.index;
+
+import com.konfigyr.artifactory.PropertyDescriptor;
+import org.jspecify.annotations.NonNull;
+
+import java.util.List;
+
+/**
+ * Result of resolving a configuration property key against the {@link PropertyDescriptor property descriptors}.
+ * <p>
+ * The {@code name} is the canonical form of the resolved key. For descriptors with scalar values it is equal
+ * to the {@link PropertyDescriptor#name() descriptor name}. For map or list descriptors it also contains the
+ * map key or the list index, for example the {@code logging.level.org.hibernate} key resolves to the
+ * {@code logging.level} descriptor.
+ * <p>
+ * The {@code path} locates the value of the resolved key within the value of the matching descriptor. It is
+ * empty for exact matches, contains the map key for map descriptors, like {@code [org.hibernate]}, and the
+ * index followed by any nested property names for list descriptors, like {@code [0, name]} for the
+ * {@code my.hosts[0].name} key.
+ *
+ * @param descriptor the matching property descriptor, can't be {@literal null}.
+ * @param name       the canonical name of the resolved property key, can't be {@literal null}.
+ * @param path       the path of the resolved key within the descriptor value, can't be {@literal null}.
+ * @author Vladimir Spasic
+ * @since 1.0.0
+ */
+public record PropertyMatch(@NonNull PropertyDescriptor descriptor, @NonNull String name, @NonNull List<String> path) {
+
+	/**
+	 * Creates a new match for a property key that matched the descriptor, or its wildcard, exactly.
+	 *
+	 * @param descriptor the matching property descriptor, can't be {@literal null}.
+	 * @param name       the canonical name of the resolved property key, can't be {@literal null}.
+	 */
+	public PropertyMatch(@NonNull PropertyDescriptor descriptor, @NonNull String name) {
+		this(descriptor, name, List.of());
+	}
+
+	public PropertyMatch {
+		path = List.copyOf(path);
+	}
+
+	/**
+	 * Checks if the property key matched the descriptor name exactly, rather than being a map key or an
+	 * indexed element of the matching descriptor.
+	 *
+	 * @return {@code true} when the resolved name is the descriptor name.
+	 */
+	public boolean isExact() {
+		return descriptor.name().equals(name);
+	}
+
+}
@@ -0,0 +1,16 @@
+package com.konfigyr.artifactory.index;
+
+import com.konfigyr.artifactory.PropertyDescriptor;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Property descriptor suggested by the {@link PropertySuggestions} for a mistyped configuration property key.
+ *
+ * @param descriptor the suggested property descriptor, can't be {@literal null}.
+ * @param distance   edit distance between the property key and the descriptor name.
+ * @author Vladimir Spasic
+ * @see PropertySuggestions
+ * @since 1.0.0
+ */
+public record PropertySuggestion(@NonNull PropertyDescriptor descriptor, int distance) {
+}
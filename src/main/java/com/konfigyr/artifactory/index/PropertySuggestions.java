@@ -0,0 +1,351 @@
+package com.konfigyr.artifactory.index;
+
+import com.konfigyr.artifactory.ArtifactMetadata;
+import com.konfigyr.artifactory.ArtifactMetadataResolver;
+import com.konfigyr.artifactory.BoundedCache;
+import com.konfigyr.artifactory.Manifest;
+import com.konfigyr.artifactory.PropertyDescriptor;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Suggests {@link PropertyDescriptor property descriptors} with names similar to a mistyped configuration
+ * property key, for example {@code spring.datasource.url} for the {@code spring.datasoruce.url} key.
+ * <p>
+ * Similarity is measured using the Levenshtein edit distance. Instead of comparing the key with every descriptor
+ * name, names of each {@link ArtifactMetadata} are indexed by their trigrams, sequences of three consecutive
+ * characters. A single edit changes at most three trigrams, so a name within the edit distance {@code d} of the
+ * key must share at least {@code n - 3d} trigrams with it, where {@code n} is the number of key trigrams. Only
+ * names that pass this filter, and whose length is within the edit distance, are compared with the key. The
+ * comparison itself stops as soon as the distance exceeds the maximum distance.
+ * <p>
+ * BK-trees were considered, but as dotted property names are long and share most of their characters, the
+ * distances between them fall within a narrow range and the tree search ends up visiting most of the names.
+ * <p>
+ * Indexes are built lazily, when the first suggestion is requested from an artifact, since most of the
+ * configuration keys are known and never need suggestions. Suggestions for a {@link Manifest} combine the indexes
+ * of all its artifacts, once enough suggestions are found, the remaining indexes are searched only for names that
+ * are closer than the furthest suggestion found so far. Indexes of artifacts with a
+ * {@link ArtifactMetadata#checksum() checksum} are cached and shared between instances, the indexes of the least
+ * recently used checksums are evicted when the cache is full.
+ * <p>
+ * Instances are immutable and thread-safe.
+ *
+ * @author Vladimir Spasic
+ * @see PropertySuggestion
+ * @since 1.0.0
+ */
+public final class PropertySuggestions {
+
+	private static final int GRAM = 3;
+	private static final BoundedCache<String, Lookup> CACHE = BoundedCache.create(1024);
+
+	private static final Comparator<PropertySuggestion> ORDER = Comparator.comparingInt(PropertySuggestion::distance)
+			.thenComparing(suggestion -> suggestion.descriptor().name());
+
+	private final List<Lookup> lookups;
+
+	private PropertySuggestions(List<Lookup> lookups) {
+		this.lookups = lookups;
+	}
+
+	/**
+	 * Creates suggestions for the property descriptors of the given {@link ArtifactMetadata}.
+	 *
+	 * @param metadata artifact metadata, can't be {@literal null}.
+	 * @return property suggestions, never {@literal null}.
+	 */
+	@NonNull
+	public static PropertySuggestions of(@NonNull ArtifactMetadata metadata) {
+		return of(List.of(metadata));
+	}
+
+	/**
+	 * Creates suggestions for the property descriptors of all artifacts contained in the given {@link Manifest}.
+	 * Artifacts for which the metadata could not be resolved are ignored.
+	 *
+	 * @param manifest manifest for which suggestions are created, can't be {@literal null}.
+	 * @param resolver resolver used to look up the artifact metadata, can't be {@literal null}.
+	 * @return property suggestions, never {@literal null}.
+	 */
+	@NonNull
+	public static PropertySuggestions of(@NonNull Manifest manifest, @NonNull ArtifactMetadataResolver resolver) {
+		return of(resolver.resolve(manifest));
+	}
+
+	/**
+	 * Creates suggestions for the property descriptors of all given {@link ArtifactMetadata}. In case multiple
+	 * artifacts define the property with the same name, the first one is suggested.
+	 *
+	 * @param metadata artifact metadata, can't be {@literal null}.
+	 * @return property suggestions, never {@literal null}.
+	 */
+	@NonNull
+	public static PropertySuggestions of(@NonNull Iterable<? extends ArtifactMetadata> metadata) {
+		final List<Lookup> lookups = new ArrayList<>();
+
+		for (ArtifactMetadata artifact : metadata) {
+			lookups.add(lookup(artifact));
+		}
+
+		return new PropertySuggestions(List.copyOf(lookups));
+	}
+
+	/**
+	 * Returns the property descriptors with names within the maximum edit distance from the given key, ordered
+	 * by their distance and name.
+	 *
+	 * @param key         the mistyped configuration property key, can't be {@literal null}.
+	 * @param maxDistance maximum edit distance between the key and the suggested descriptor names.
+	 * @param limit       maximum number of suggestions to return.
+	 * @return suggested descriptors, never {@literal null}.
+	 * @throws IllegalArgumentException when the distance is negative or the limit is not a positive number
+	 */
+	@NonNull
+	public List<PropertySuggestion> suggest(@NonNull String key, int maxDistance, int limit) {
+		if (maxDistance < 0) {
+			throw new IllegalArgumentException("Maximum edit distance can not be negative");
+		}
+		if (limit < 1) {
+			throw new IllegalArgumentException("Suggestion limit must be a positive number");
+		}
+
+		final List<PropertySuggestion> suggestions = new ArrayList<>();
+		final Set<String> names = new HashSet<>();
+		int threshold = maxDistance;
+
+		for (Lookup lookup : lookups) {
+			for (PropertySuggestion suggestion : lookup.search(key, threshold)) {
+				if (names.add(suggestion.descriptor().name())) {
+					suggestions.add(suggestion);
+				}
+			}
+
+			if (suggestions.size() >= limit) {
+				suggestions.sort(ORDER);
+				suggestions.subList(limit, suggestions.size()).clear();
+				threshold = suggestions.get(limit - 1).distance();
+			}
+		}
+
+		suggestions.sort(ORDER);
+		return List.copyOf(suggestions);
+	}
+
+	/**
+	 * Returns the name of the closest property descriptor within the maximum edit distance from the given key.
+	 *
+	 * @param key         the mistyped configuration property key, can't be {@literal null}.
+	 * @param maxDistance maximum edit distance between the key and the suggested descriptor name.
+	 * @return the closest descriptor name or {@literal null} when there is no descriptor close enough.
+	 */
+	@Nullable
+	public String closest(@NonNull String key, int maxDistance) {
+		final List<PropertySuggestion> suggestions = suggest(key, maxDistance, 1);
+		return suggestions.isEmpty() ? null : suggestions.get(0).descriptor().name();
+	}
+
+	/**
+	 * Computes the Levenshtein edit distance between the two strings, the minimal number of single character
+	 * insertions, deletions or substitutions required to change one string into the other.
+	 *
+	 * @param first  first string
+	 * @param second second string
+	 * @return the edit distance
+	 */
+	static int distance(String first, String second) {
+		return distance(first, second, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Computes the Levenshtein edit distance between the two strings, stopping as soon as it is certain that the
+	 * distance is greater than the given maximum, in which case any distance greater than the maximum is returned.
+	 *
+	 * @param first   first string
+	 * @param second  second string
+	 * @param maximum maximum distance of interest
+	 * @return the edit distance
+	 */
+	static int distance(String first, String second, int maximum) {
+		if (first.length() < second.length()) {
+			return distance(second, first, maximum);
+		}
+
+		int[] previous = new int[second.length() + 1];
+		int[] current = new int[second.length() + 1];
+
+		for (int j = 0; j <= second.length(); j++) {
+			previous[j] = j;
+		}
+
+		for (int i = 1; i <= first.length(); i++) {
+			current[0] = i;
+			int minimum = i;
+
+			for (int j = 1; j <= second.length(); j++) {
+				final int cost = first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1;
+				current[j] = Math.min(Math.min(current[j - 1], previous[j]) + 1, previous[j - 1] + cost);
+				minimum = Math.min(minimum, current[j]);
+			}
+
+			if (minimum > maximum) {
+				return minimum;
+			}
+
+			final int[] swap = previous;
+			previous = current;
+			current = swap;
+		}
+
+		return previous[second.length()];
+	}
+
+	private static Lookup lookup(ArtifactMetadata metadata) {
+		final String checksum = metadata.checksum();
+
+		if (checksum == null) {
+			return new Lookup(metadata);
+		}
+
+		return CACHE.computeIfAbsent(checksum, ignore -> new Lookup(metadata));
+	}
+
+	/**
+	 * Trigram index of the descriptor names of a single artifact, built when it is searched for the first time.
+	 */
+	private static final class Lookup {
+		private @Nullable ArtifactMetadata metadata;
+		private volatile @Nullable Grams grams;
+
+		Lookup(ArtifactMetadata metadata) {
+			this.metadata = metadata;
+		}
+
+		List<PropertySuggestion> search(String key, int threshold) {
+			final Grams grams = grams();
+			final PropertyDescriptor[] descriptors = grams.descriptors;
+			final List<PropertySuggestion> suggestions = new ArrayList<>();
+
+			final Set<String> keyGrams = trigrams(key);
+			final int required = keyGrams.size() - GRAM * threshold;
+
+			if (required <= 0) {
+				// short keys do not have enough trigrams to filter the candidates, check all of them
+				for (PropertyDescriptor descriptor : descriptors) {
+					collect(suggestions, descriptor, key, threshold);
+				}
+				return suggestions;
+			}
+
+			final int[] counts = new int[descriptors.length];
+
+			for (String gram : keyGrams) {
+				final int[] postings = grams.postings.get(gram);
+
+				if (postings != null) {
+					for (int candidate : postings) {
+						if (++counts[candidate] == required) {
+							collect(suggestions, descriptors[candidate], key, threshold);
+						}
+					}
+				}
+			}
+
+			return suggestions;
+		}
+
+		private static void collect(List<PropertySuggestion> suggestions, PropertyDescriptor descriptor,
+				String key, int threshold) {
+			if (Math.abs(descriptor.name().length() - key.length()) > threshold) {
+				return;
+			}
+
+			final int distance = distance(key, descriptor.name(), threshold);
+
+			if (distance <= threshold) {
+				suggestions.add(new PropertySuggestion(descriptor, distance));
+			}
+		}
+
+		private Grams grams() {
+			Grams index = grams;
+
+			if (index == null) {
+				synchronized (this) {
+					index = grams;
+
+					if (index == null) {
+						index = Grams.build(metadata);
+						grams = index;
+						metadata = null;
+					}
+				}
+			}
+
+			return index;
+		}
+	}
+
+	/**
+	 * Descriptors with distinct names and the posting lists, containing the descriptor positions, for each
+	 * trigram of their names.
+	 */
+	private record Grams(PropertyDescriptor[] descriptors, Map<String, int[]> postings) {
+
+		static Grams build(Iterable<PropertyDescriptor> metadata) {
+			final Map<String, PropertyDescriptor> descriptors = new LinkedHashMap<>();
+			metadata.forEach(descriptor -> descriptors.putIfAbsent(descriptor.name(), descriptor));
+
+			final PropertyDescriptor[] array = descriptors.values().toArray(PropertyDescriptor[]::new);
+			final Map<String, int[]> postings = new HashMap<>();
+			final Map<String, Integer> sizes = new HashMap<>();
+
+			for (int i = 0; i < array.length; i++) {
+				for (String gram : trigrams(array[i].name())) {
+					final int size = sizes.merge(gram, 1, Integer::sum);
+					int[] values = postings.get(gram);
+
+					if (values == null || values.length < size) {
+						values = Arrays.copyOf(values == null ? new int[0] : values, Math.max(4, size * 2));
+						postings.put(gram, values);
+					}
+
+					values[size - 1] = i;
+				}
+			}
+
+			postings.replaceAll((gram, values) -> Arrays.copyOf(values, sizes.get(gram)));
+
+			return new Grams(array, postings);
+		}
+	}
+
+	/**
+	 * Returns the distinct trigrams of the value, padded with boundary markers so that the first and the last
+	 * characters appear in as many trigrams as the other ones.
+	 *
+	 * @param value value to split
+	 * @return distinct trigrams
+	 */
+	static Set<String> trigrams(String value) {
+		final String padded = "\0\0" + value + "\0\0";
+		final Set<String> grams = new HashSet<>();
+
+		for (int i = 0; i + GRAM <= padded.length(); i++) {
+			grams.add(padded.substring(i, i + GRAM));
+		}
+
+		return grams;
+	}
+
+}
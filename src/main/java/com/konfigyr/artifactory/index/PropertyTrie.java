@@ -0,0 +1,291 @@
+package com.konfigyr.artifactory.index;
+
+import com.konfigyr.artifactory.ArtifactMetadata;
+import com.konfigyr.artifactory.ArtifactMetadataResolver;
+import com.konfigyr.artifactory.BoundedCache;
+import com.konfigyr.artifactory.Manifest;
+import com.konfigyr.artifactory.PropertyDescriptor;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Compressed segment trie that resolves concrete configuration property keys to the
+ * {@link PropertyDescriptor property descriptors} that define them, including keys that are not equal to any
+ * descriptor name.
+ * <p>
+ * Property names are split into segments on dots and index brackets, and each segment becomes an edge in the
+ * trie. Chains of segments without branches, which are very common as most descriptors of an artifact share
+ * the same prefix, are compressed into a single node. Names may contain {@code *} segments which match any
+ * single key segment, for example {@code my.services.*.enabled}. Descriptors with map or collection types, or
+ * with names that end with a wildcard, match any key that they prefix, so the {@code logging.level.org.hibernate}
+ * or {@code spring.profiles.include[0]} keys are resolved to the {@code logging.level} and
+ * {@code spring.profiles.include} descriptors. Resolving a key visits one node per key segment, regardless of
+ * the number of descriptors in the trie. Explicit segments always take precedence over wildcards, and when
+ * multiple map or collection descriptors prefix the key, the longest one is used.
+ * <p>
+ * Unlike the {@link RelaxedNameIndex}, key segments are matched exactly, as they are written in the canonical
+ * form of the property name.
+ * <p>
+ * Tries are immutable and can be shared between threads. Tries created for a single {@link ArtifactMetadata}
+ * with a {@link ArtifactMetadata#checksum() checksum} are cached, so the trie is built only once per checksum,
+ * and the tries of the least recently used checksums are evicted when the cache is full.
+ *
+ * @author Vladimir Spasic
+ * @see PropertyMatch
+ * @since 1.0.0
+ */
+public final class PropertyTrie {
+
+	private static final BoundedCache<String, PropertyTrie> CACHE = BoundedCache.create(1024);
+
+	private static final String WILDCARD = "*";
+
+	private final Node root;
+	private final int size;
+
+	private PropertyTrie(Node root, int size) {
+		this.root = root;
+		this.size = size;
+	}
+
+	/**
+	 * Returns the trie for the property descriptors of the given {@link ArtifactMetadata}. When the metadata
+	 * has a checksum, the trie is cached and the same instance is returned for any metadata with that checksum.
+	 *
+	 * @param metadata artifact metadata, can't be {@literal null}.
+	 * @return property trie, never {@literal null}.
+	 */
+	@NonNull
+	public static PropertyTrie of(@NonNull ArtifactMetadata metadata) {
+		final String checksum = metadata.checksum();
+
+		if (checksum == null) {
+			return of(List.of(metadata));
+		}
+
+		return CACHE.computeIfAbsent(checksum, ignore -> of(List.of(metadata)));
+	}
+
+	/**
+	 * Creates a new trie for the property descriptors of all artifacts contained in the given {@link Manifest}.
+	 * Artifacts for which the metadata could not be resolved are ignored.
+	 *
+	 * @param manifest manifest for which the trie is created, can't be {@literal null}.
+	 * @param resolver resolver used to look up the artifact metadata, can't be {@literal null}.
+	 * @return property trie, never {@literal null}.
+	 */
+	@NonNull
+	public static PropertyTrie of(@NonNull Manifest manifest, @NonNull ArtifactMetadataResolver resolver) {
+		return of(resolver.resolve(manifest));
+	}
+
+	/**
+	 * Creates a new trie for the property descriptors of all given {@link ArtifactMetadata}. In case multiple
+	 * artifacts define the property with the same name, the first one is used.
+	 *
+	 * @param metadata artifact metadata, can't be {@literal null}.
+	 * @return property trie, never {@literal null}.
+	 */
+	@NonNull
+	public static PropertyTrie of(@NonNull Iterable<? extends ArtifactMetadata> metadata) {
+		final Builder root = new Builder();
+		int size = 0;
+
+		for (ArtifactMetadata artifact : metadata) {
+			for (PropertyDescriptor descriptor : artifact) {
+				if (root.add(descriptor)) {
+					size++;
+				}
+			}
+		}
+
+		return new PropertyTrie(root.build(new String[0]), size);
+	}
+
+	/**
+	 * Returns the number of property descriptors in this trie.
+	 *
+	 * @return number of descriptors
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Resolves the concrete property key to the matching {@link PropertyDescriptor}.
+	 *
+	 * @param key property key in the canonical form, can't be {@literal null}.
+	 * @return the matching property, or an empty {@link Optional} if there is no matching descriptor.
+	 */
+	@NonNull
+	public Optional<PropertyMatch> resolve(@NonNull String key) {
+		final List<String> segments = segments(key);
+
+		if (segments.isEmpty()) {
+			return Optional.empty();
+		}
+
+		return Optional.ofNullable(Node.descend(root, key, segments, 0));
+	}
+
+	static List<String> segments(String name) {
+		final List<String> segments = new ArrayList<>();
+		int start = 0;
+
+		for (int i = 0; i < name.length(); i++) {
+			final char c = name.charAt(i);
+
+			if (c == '.' || c == '[') {
+				if (i > start) {
+					segments.add(name.substring(start, i));
+				}
+				if (c == '[') {
+					final int end = name.indexOf(']', i);
+					final int close = end == -1 ? name.length() : end;
+					segments.add(name.substring(i + 1, close));
+					i = close;
+				}
+				start = i + 1;
+			}
+		}
+
+		if (start < name.length()) {
+			segments.add(name.substring(start));
+		}
+
+		return segments;
+	}
+
+	/**
+	 * Immutable trie node. The edge holds the compressed chain of segments that lead from the parent node to
+	 * this one, the first segment of the edge is the key under which the node is stored in its parent.
+	 */
+	private record Node(
+			String[] edge,
+			Map<String, Node> children,
+			@Nullable Node wildcard,
+			@Nullable PropertyDescriptor descriptor,
+			@Nullable PropertyDescriptor container
+	) {
+
+		@Nullable
+		PropertyMatch match(String key, List<String> segments, int position) {
+			if (position == segments.size()) {
+				return descriptor == null ? null : new PropertyMatch(descriptor, key);
+			}
+
+			PropertyMatch match = descend(children.get(segments.get(position)), key, segments, position);
+
+			if (match == null) {
+				match = descend(wildcard, key, segments, position);
+			}
+
+			if (match == null && container != null) {
+				final List<String> remainder = segments.subList(position, segments.size());
+				match = new PropertyMatch(container, key, PropertyTypes.path(container, remainder));
+			}
+
+			return match;
+		}
+
+		@Nullable
+		static PropertyMatch descend(@Nullable Node child, String key, List<String> segments, int position) {
+			if (child == null || position + child.edge.length > segments.size()) {
+				return null;
+			}
+
+			for (int i = 0; i < child.edge.length; i++) {
+				final String segment = child.edge[i];
+
+				if (!WILDCARD.equals(segment) && !segment.equals(segments.get(position + i))) {
+					return null;
+				}
+			}
+
+			return child.match(key, segments, position + child.edge.length);
+		}
+
+		@Override
+		public String toString() {
+			return "Node(" + String.join(".", edge) + ")";
+		}
+	}
+
+	/**
+	 * Mutable, uncompressed, trie node used while descriptors are being added to the trie.
+	 */
+	private static final class Builder {
+		private final Map<String, Builder> children = new LinkedHashMap<>();
+		private @Nullable Builder wildcard;
+		private @Nullable PropertyDescriptor descriptor;
+		private @Nullable PropertyDescriptor container;
+
+		boolean add(PropertyDescriptor descriptor) {
+			final String name = descriptor.name();
+			Builder node = this;
+
+			for (String segment : segments(PropertyTypes.stripWildcard(name))) {
+				if (WILDCARD.equals(segment)) {
+					if (node.wildcard == null) {
+						node.wildcard = new Builder();
+					}
+					node = node.wildcard;
+				} else {
+					node = node.children.computeIfAbsent(segment, ignore -> new Builder());
+				}
+			}
+
+			boolean added = false;
+
+			if (!PropertyTypes.isWildcard(name) && node.descriptor == null) {
+				node.descriptor = descriptor;
+				added = true;
+			}
+			if (PropertyTypes.isContainer(descriptor) && node.container == null) {
+				node.container = descriptor;
+				added = true;
+			}
+
+			return added;
+		}
+
+		Node build(String[] edge) {
+			Builder node = this;
+			String[] path = edge;
+
+			while (node.isChain()) {
+				final Map.Entry<String, Builder> next = node.children.entrySet().iterator().next();
+				path = Arrays.copyOf(path, path.length + 1);
+				path[path.length - 1] = next.getKey();
+				node = next.getValue();
+			}
+
+			final Map<String, Node> children = new HashMap<>();
+
+			for (Map.Entry<String, Builder> child : node.children.entrySet()) {
+				children.put(child.getKey(), child.getValue().build(new String[] { child.getKey() }));
+			}
+
+			return new Node(
+					path,
+					Map.copyOf(children),
+					node.wildcard == null ? null : node.wildcard.build(new String[] { WILDCARD }),
+					node.descriptor,
+					node.container
+			);
+		}
+
+		private boolean isChain() {
+			return descriptor == null && container == null && wildcard == null && children.size() == 1;
+		}
+	}
+
+}
@@ -0,0 +1,105 @@
+package com.konfigyr.artifactory.index;
+
+import com.konfigyr.artifactory.PropertyDescriptor;
+import com.konfigyr.artifactory.schema.TypeNames;
+import org.jspecify.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * Utility class used to classify the {@link PropertyDescriptor#typeName() property value types} into map and
+ * indexed types which accept arbitrary sub-keys in configuration property names. Types are classified by the
+ * {@link TypeNames}, using the same known map and collection type names as the generated schemas.
+ *
+ * @author Vladimir Spasic
+ * @since 1.0.0
+ */
+final class PropertyTypes {
+
+	private PropertyTypes() {
+	}
+
+	/**
+	 * Checks if the descriptor accepts arbitrary sub-keys, either because its type is a map or a collection,
+	 * or because its name ends with a {@code .*} or {@code [*]} wildcard segment.
+	 *
+	 * @param descriptor property descriptor to check
+	 * @return {@code true} when the descriptor accepts sub-keys
+	 */
+	static boolean isContainer(PropertyDescriptor descriptor) {
+		return isMap(descriptor.typeName()) || isIndexed(descriptor.typeName()) || isWildcard(descriptor.name());
+	}
+
+	/**
+	 * Checks if the type name represents a map, for example {@code java.util.Map<java.lang.String,java.lang.String>}.
+	 *
+	 * @param typeName type name to check
+	 * @return {@code true} when type is a map type
+	 * @see TypeNames#isMapType(String)
+	 */
+	static boolean isMap(@Nullable String typeName) {
+		return TypeNames.isMapType(typeName);
+	}
+
+	/**
+	 * Checks if the type name represents an array or a collection, for example {@code java.lang.String[]} or
+	 * {@code java.util.List<java.lang.String>}.
+	 *
+	 * @param typeName type name to check
+	 * @return {@code true} when type is an indexed type
+	 * @see TypeNames#isIndexedType(String)
+	 */
+	static boolean isIndexed(@Nullable String typeName) {
+		return TypeNames.isIndexedType(typeName);
+	}
+
+	/**
+	 * Checks if the property name ends with a wildcard segment, {@code .*} or {@code [*]}.
+	 *
+	 * @param name property name to check
+	 * @return {@code true} when name ends with a wildcard
+	 */
+	static boolean isWildcard(String name) {
+		return name.endsWith(".*") || name.endsWith("[*]");
+	}
+
+	/**
+	 * Removes the trailing wildcard segment from the property name, if present.
+	 *
+	 * @param name property name
+	 * @return property name without the wildcard segment
+	 */
+	static String stripWildcard(String name) {
+		if (name.endsWith(".*")) {
+			return name.substring(0, name.length() - 2);
+		}
+		if (name.endsWith("[*]")) {
+			return name.substring(0, name.length() - 3);
+		}
+		return name;
+	}
+
+	/**
+	 * Creates the path of the value within the container descriptor from the key segments that follow the
+	 * container name. Map keys may contain dots, so they are joined into a single map key, while indexed values
+	 * keep the index followed by nested property names. Wildcard descriptors describe each value directly, so
+	 * the segment matching the wildcard is dropped.
+	 *
+	 * @param container  container property descriptor
+	 * @param remainder  key segments following the container name
+	 * @return path of the value within the container value
+	 */
+	static List<String> path(PropertyDescriptor container, List<String> remainder) {
+		if (remainder.isEmpty()) {
+			return List.of();
+		}
+		if (isWildcard(container.name())) {
+			return List.copyOf(remainder.subList(1, remainder.size()));
+		}
+		if (isMap(container.typeName())) {
+			return List.of(String.join(".", remainder));
+		}
+		return List.copyOf(remainder);
+	}
+
+}
@@ -0,0 +1,290 @@
+package com.konfigyr.artifactory.index;
+
+import com.konfigyr.artifactory.ArtifactMetadata;
+import com.konfigyr.artifactory.ArtifactMetadataResolver;
+import com.konfigyr.artifactory.Manifest;
+import com.konfigyr.artifactory.PropertyDescriptor;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Index that resolves configuration property keys written in any of the Spring Boot relaxed binding forms to
+ * the {@link PropertyDescriptor} that defines them.
+ * <p>
+ * Operators frequently supply configuration as environment variables, like
+ * {@code SPRING_DATASOURCE_HIKARI_MAXIMUMPOOLSIZE}, or using camel case keys, like
+ * {@code spring.datasource.hikari.maximumPoolSize}, while the {@link PropertyDescriptor#name()} contains the
+ * canonical kebab-case form. When the index is created, each descriptor name is reduced to a uniform key, where
+ * each segment is lowercased and stripped of dashes and underscores, so that every relaxed form of the key can be
+ * resolved with a single hash lookup.
+ * <p>
+ * Descriptors of map or collection types, or with names that end with a {@code .*} or {@code [*]} wildcard,
+ * also match any key that they prefix. This way the {@code LOGGING_LEVEL_ORG_HIBERNATE} or
+ * {@code my.hosts[0].name} keys are resolved to their {@code logging.level} and {@code my.hosts} descriptors.
+ * Resolving such keys requires one hash lookup per key segment.
+ * <p>
+ * Indexes are immutable and thread-safe, it is recommended to create one index per {@link ArtifactMetadata}
+ * or {@link Manifest} and reuse it.
+ *
+ * @author Vladimir Spasic
+ * @see RelaxedNames
+ * @since 1.0.0
+ */
+public final class RelaxedNameIndex {
+
+	private final Map<String, RelaxedNames> names;
+	private final Map<String, PropertyDescriptor> exact;
+	private final Map<String, PropertyDescriptor> containers;
+
+	private RelaxedNameIndex(Map<String, RelaxedNames> names, Map<String, PropertyDescriptor> exact,
+			Map<String, PropertyDescriptor> containers) {
+		this.names = names;
+		this.exact = exact;
+		this.containers = containers;
+	}
+
+	/**
+	 * Creates a new index for the property descriptors of the given {@link ArtifactMetadata}.
+	 *
+	 * @param metadata artifact metadata, can't be {@literal null}.
+	 * @return relaxed name index, never {@literal null}.
+	 */
+	@NonNull
+	public static RelaxedNameIndex of(@NonNull ArtifactMetadata metadata) {
+		return of(List.of(metadata));
+	}
+
+	/**
+	 * Creates a new index for the property descriptors of all artifacts contained in the given {@link Manifest}.
+	 * Artifacts for which the metadata could not be resolved are ignored.
+	 *
+	 * @param manifest manifest for which the index is created, can't be {@literal null}.
+	 * @param resolver resolver used to look up the artifact metadata, can't be {@literal null}.
+	 * @return relaxed name index, never {@literal null}.
+	 */
+	@NonNull
+	public static RelaxedNameIndex of(@NonNull Manifest manifest, @NonNull ArtifactMetadataResolver resolver) {
+		return of(resolver.resolve(manifest));
+	}
+
+	/**
+	 * Creates a new index for the property descriptors of all given {@link ArtifactMetadata}. In case multiple
+	 * descriptors are reduced to the same relaxed name, the first one is used.
+	 *
+	 * @param metadata artifact metadata, can't be {@literal null}.
+	 * @return relaxed name index, never {@literal null}.
+	 */
+	@NonNull
+	public static RelaxedNameIndex of(@NonNull Iterable<? extends ArtifactMetadata> metadata) {
+		final Map<String, RelaxedNames> names = new HashMap<>();
+		final Map<String, PropertyDescriptor> exact = new HashMap<>();
+		final Map<String, PropertyDescriptor> containers = new HashMap<>();
+
+		for (ArtifactMetadata artifact : metadata) {
+			for (PropertyDescriptor descriptor : artifact) {
+				names.putIfAbsent(descriptor.name(), RelaxedNames.of(descriptor.name()));
+
+				final String key = uniform(Segment.parse(PropertyTypes.stripWildcard(descriptor.name())));
+
+				if (!PropertyTypes.isWildcard(descriptor.name())) {
+					exact.putIfAbsent(key, descriptor);
+				}
+				if (PropertyTypes.isContainer(descriptor)) {
+					containers.putIfAbsent(key, descriptor);
+				}
+			}
+		}
+
+		return new RelaxedNameIndex(names, exact, containers);
+	}
+
+	/**
+	 * Returns the number of property descriptors in this index.
+	 *
+	 * @return number of indexed descriptors
+	 */
+	public int size() {
+		return names.size();
+	}
+
+	/**
+	 * Returns the relaxed binding forms of the given canonical property name.
+	 *
+	 * @param canonical the canonical name of the indexed property descriptor, can't be {@literal null}.
+	 * @return relaxed binding forms, or {@literal null} when there is no descriptor with this name.
+	 */
+	@Nullable
+	public RelaxedNames forms(@NonNull String canonical) {
+		return names.get(canonical);
+	}
+
+	/**
+	 * Resolves the property key, written in any of the supported relaxed binding forms, to the matching
+	 * {@link PropertyDescriptor} and the canonical form of the key.
+	 *
+	 * @param key property key in canonical, camel case, underscore or environment variable form.
+	 * @return the matching property, or an empty {@link Optional} if there is no matching descriptor.
+	 */
+	@NonNull
+	public Optional<PropertyMatch> lookup(@NonNull String key) {
+		if (key.isBlank()) {
+			return Optional.empty();
+		}
+
+		final boolean property = key.indexOf('.') != -1 || key.indexOf('[') != -1;
+
+		PropertyMatch match = resolve(property ? Segment.parse(key) : Segment.environment(key));
+
+		if (match == null && !property) {
+			match = resolve(Segment.parse(key));
+		}
+
+		return Optional.ofNullable(match);
+	}
+
+	@Nullable
+	private PropertyMatch resolve(List<Segment> segments) {
+		if (segments.isEmpty()) {
+			return null;
+		}
+
+		final PropertyDescriptor descriptor = exact.get(uniform(segments));
+
+		if (descriptor != null) {
+			return new PropertyMatch(descriptor, descriptor.name());
+		}
+
+		final StringBuilder prefix = new StringBuilder();
+		PropertyDescriptor container = null;
+		int position = -1;
+
+		for (int i = 0; i < segments.size() - 1; i++) {
+			if (i > 0) {
+				prefix.append('.');
+			}
+			prefix.append(segments.get(i).uniform);
+
+			final PropertyDescriptor candidate = containers.get(prefix.toString());
+
+			if (candidate != null) {
+				container = candidate;
+				position = i;
+			}
+		}
+
+		if (container == null) {
+			return null;
+		}
+
+		final StringBuilder name = new StringBuilder(PropertyTypes.stripWildcard(container.name()));
+		final List<String> remainder = new ArrayList<>(segments.size() - position - 1);
+		final boolean indexed = PropertyTypes.isIndexed(container.typeName());
+
+		for (int i = position + 1; i < segments.size(); i++) {
+			final Segment segment = segments.get(i);
+			remainder.add(segment.value);
+
+			if (segment.bracket || (indexed && i == position + 1 && segment.isNumeric())) {
+				name.append('[').append(segment.value).append(']');
+			} else {
+				name.append('.').append(segment.value);
+			}
+		}
+
+		return new PropertyMatch(container, name.toString(), PropertyTypes.path(container, remainder));
+	}
+
+	private static String uniform(List<Segment> segments) {
+		final StringBuilder builder = new StringBuilder();
+
+		for (Segment segment : segments) {
+			if (builder.length() > 0) {
+				builder.append('.');
+			}
+			builder.append(segment.uniform);
+		}
+
+		return builder.toString();
+	}
+
+	private record Segment(String value, String uniform, boolean bracket) {
+
+		static Segment of(String value, boolean bracket) {
+			final String lowercase = value.toLowerCase(Locale.ROOT);
+
+			if (bracket) {
+				return new Segment(value, lowercase, true);
+			}
+
+			final StringBuilder uniform = new StringBuilder(lowercase.length());
+			for (int i = 0; i < lowercase.length(); i++) {
+				final char c = lowercase.charAt(i);
+				if (c != '-' && c != '_') {
+					uniform.append(c);
+				}
+			}
+
+			return new Segment(value, uniform.toString(), false);
+		}
+
+		static List<Segment> parse(String name) {
+			final List<Segment> segments = new ArrayList<>();
+			final StringBuilder current = new StringBuilder();
+
+			for (int i = 0; i < name.length(); i++) {
+				final char c = name.charAt(i);
+
+				if (c == '.' || c == '[') {
+					if (current.length() > 0) {
+						segments.add(of(current.toString(), false));
+						current.setLength(0);
+					}
+					if (c == '[') {
+						final int end = name.indexOf(']', i);
+						final int close = end == -1 ? name.length() : end;
+						segments.add(of(name.substring(i + 1, close), true));
+						i = close;
+					}
+				} else {
+					current.append(c);
+				}
+			}
+
+			if (current.length() > 0) {
+				segments.add(of(current.toString(), false));
+			}
+
+			return segments;
+		}
+
+		static List<Segment> environment(String name) {
+			final List<Segment> segments = new ArrayList<>();
+
+			for (String part : name.split("_")) {
+				if (!part.isEmpty()) {
+					final String value = part.toLowerCase(Locale.ROOT);
+					segments.add(new Segment(value, value, false));
+				}
+			}
+
+			return segments;
+		}
+
+		boolean isNumeric() {
+			for (int i = 0; i < value.length(); i++) {
+				if (!Character.isDigit(value.charAt(i))) {
+					return false;
+				}
+			}
+			return !value.isEmpty();
+		}
+	}
+
+}
@@ -0,0 +1,148 @@
+package com.konfigyr.artifactory.index;
+
+import org.jspecify.annotations.NonNull;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Holds the relaxed binding forms of a canonical configuration property name, as supported by the Spring Boot
+ * relaxed binding rules.
+ * <p>
+ * For the {@code spring.datasource.hikari.maximum-pool-size} canonical name, the forms are:
+ * <ul>
+ *   <li>Camel case: {@code spring.datasource.hikari.maximumPoolSize}</li>
+ *   <li>Underscore notation: {@code spring.datasource.hikari.maximum_pool_size}</li>
+ *   <li>Environment variable: {@code SPRING_DATASOURCE_HIKARI_MAXIMUMPOOLSIZE}</li>
+ * </ul>
+ * Indexed segments, like {@code my.hosts[0]}, are converted to {@code MY_HOSTS_0} environment variables.
+ *
+ * @param canonical           the canonical, kebab-case, property name, can't be {@literal null}.
+ * @param camelCase           the camel case form of the property name, can't be {@literal null}.
+ * @param underscore          the underscore form of the property name, can't be {@literal null}.
+ * @param environmentVariable the environment variable form of the property name, can't be {@literal null}.
+ * @author Vladimir Spasic
+ * @see RelaxedNameIndex
+ * @see <a href="https://docs.spring.io/spring-boot/reference/features/external-config.html#features.external-config.typesafe-configuration-properties.relaxed-binding">Relaxed Binding</a>
+ * @since 1.0.0
+ */
+public record RelaxedNames(
+		@NonNull String canonical,
+		@NonNull String camelCase,
+		@NonNull String underscore,
+		@NonNull String environmentVariable
+) {
+
+	/**
+	 * Creates the relaxed binding forms for the given canonical property name.
+	 *
+	 * @param canonical canonical property name, can't be {@literal null}.
+	 * @return relaxed binding forms, never {@literal null}.
+	 */
+	@NonNull
+	public static RelaxedNames of(@NonNull String canonical) {
+		return new RelaxedNames(canonical, toCamelCase(canonical), toUnderscore(canonical),
+				toEnvironmentVariable(canonical));
+	}
+
+	/**
+	 * Returns all the distinct forms of the property name, including the canonical one.
+	 *
+	 * @return all relaxed binding forms, never {@literal null}.
+	 */
+	@NonNull
+	public Set<String> all() {
+		return Set.copyOf(List.of(canonical, camelCase, underscore, environmentVariable));
+	}
+
+	/**
+	 * Converts the kebab-case segments of the property name into camel case, for example
+	 * {@code server.max-http-request-header-size} into {@code server.maxHttpRequestHeaderSize}.
+	 *
+	 * @param name property name to convert, can't be {@literal null}.
+	 * @return camel case property name, never {@literal null}.
+	 */
+	@NonNull
+	public static String toCamelCase(@NonNull String name) {
+		final StringBuilder builder = new StringBuilder(name.length());
+		boolean bracket = false;
+		boolean upper = false;
+
+		for (int i = 0; i < name.length(); i++) {
+			final char c = name.charAt(i);
+
+			if (bracket) {
+				bracket = c != ']';
+				builder.append(c);
+			} else if (c == '[') {
+				bracket = true;
+				builder.append(c);
+			} else if (c == '-' && builder.length() > 0 && builder.charAt(builder.length() - 1) != '.') {
+				upper = true;
+			} else {
+				builder.append(upper ? Character.toUpperCase(c) : c);
+				upper = false;
+			}
+		}
+
+		return builder.toString();
+	}
+
+	/**
+	 * Converts the kebab-case segments of the property name into underscore notation, for example
+	 * {@code server.max-http-request-header-size} into {@code server.max_http_request_header_size}.
+	 *
+	 * @param name property name to convert, can't be {@literal null}.
+	 * @return underscore property name, never {@literal null}.
+	 */
+	@NonNull
+	public static String toUnderscore(@NonNull String name) {
+		final StringBuilder builder = new StringBuilder(name.length());
+		boolean bracket = false;
+
+		for (int i = 0; i < name.length(); i++) {
+			final char c = name.charAt(i);
+
+			if (c == '[' || c == ']') {
+				bracket = c == '[';
+			}
+
+			builder.append(!bracket && c == '-' ? '_' : c);
+		}
+
+		return builder.toString();
+	}
+
+	/**
+	 * Converts the property name into the environment variable form by replacing the dots and index brackets
+	 * with underscores, removing the dashes and converting it to uppercase, for example
+	 * {@code my.hosts[0].server-name} into {@code MY_HOSTS_0_SERVERNAME}.
+	 *
+	 * @param name property name to convert, can't be {@literal null}.
+	 * @return environment variable name, never {@literal null}.
+	 */
+	@NonNull
+	public static String toEnvironmentVariable(@NonNull String name) {
+		final StringBuilder builder = new StringBuilder(name.length());
+
+		for (int i = 0; i < name.length(); i++) {
+			final char c = name.charAt(i);
+
+			switch (c) {
+				case '.', '[' -> {
+					if (builder.length() > 0 && builder.charAt(builder.length() - 1) != '_') {
+						builder.append('_');
+					}
+				}
+				case '-', ']' -> {
+					// dashes and closing brackets are removed
+				}
+				default -> builder.append(c);
+			}
+		}
+
+		return builder.toString().toUpperCase(Locale.ROOT);
+	}
+
+}
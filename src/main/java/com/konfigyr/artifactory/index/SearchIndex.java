@@ -0,0 +1,873 @@
+package com.konfigyr.artifactory.index;
+
+import com.konfigyr.artifactory.Artifact;
+import com.konfigyr.artifactory.ArtifactMetadata;
+import com.konfigyr.artifactory.PropertyDescriptor;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index used to search {@link PropertyDescriptor property descriptors} by the words
+ * contained in their {@link PropertyDescriptor#name() names} and {@link PropertyDescriptor#description()
+ * descriptions}.
+ * <p>
+ * Names are split into words on dots, dashes, underscores, index brackets and camel case boundaries, so the
+ * {@code spring.datasource.hikari.maximum-pool-size} name is indexed as the {@code spring}, {@code datasource},
+ * {@code hikari}, {@code maximum}, {@code pool} and {@code size} words. Descriptions are split into words the
+ * same way. Each word points to a posting list containing the identifiers of the matching descriptors and the
+ * positions of the word within them. Posting lists are stored as delta encoded variable length integers, which
+ * usually takes one or two bytes per descriptor and position, and contain skip data used to jump over the
+ * descriptors that can not match the other query clauses.
+ * <p>
+ * Queries consist of whitespace separated clauses and a descriptor must match all of them:
+ * <ul>
+ *   <li>{@code pool}: descriptors containing the word.</li>
+ *   <li>{@code datasour*}: descriptors containing a word that starts with the prefix.</li>
+ *   <li>{@code "connection timeout"}: descriptors containing the words next to each other, in this order.
+ *   Clauses containing a property name, like {@code spring.datasource.url}, are also matched as phrases.</li>
+ * </ul>
+ * Results are ranked by a simple score where each matching word contributes its inverse document frequency,
+ * and matches in property names weigh more than matches in descriptions. Word positions are only decoded for
+ * phrase clauses, the most selective clauses are evaluated first and the top results are selected using a bounded
+ * heap, so the matching descriptors are never sorted as a whole.
+ * <p>
+ * New {@link ArtifactMetadata} can be added to the index at any time, for instance when new releases are
+ * published. The index is thread-safe, searches can run concurrently with each other and wait only while
+ * an artifact is being added.
+ *
+ * @author Vladimir Spasic
+ * @see SearchResult
+ * @since 1.0.0
+ */
+public final class SearchIndex {
+
+	private static final int DESCRIPTION_POSITION = 1024;
+	private static final double NAME_WEIGHT = 3;
+	private static final double DESCRIPTION_WEIGHT = 1;
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+	private final NavigableMap<String, Postings> terms = new TreeMap<>();
+	private final List<Document> documents = new ArrayList<>();
+	private final Set<String> artifacts = new HashSet<>();
+
+	/**
+	 * Creates a new search index for the property descriptors of all given {@link ArtifactMetadata}.
+	 *
+	 * @param metadata artifact metadata to index, can't be {@literal null}.
+	 * @return search index, never {@literal null}.
+	 */
+	@NonNull
+	public static SearchIndex of(@NonNull Iterable<? extends ArtifactMetadata> metadata) {
+		final SearchIndex index = new SearchIndex();
+		metadata.forEach(index::add);
+		return index;
+	}
+
+	/**
+	 * Adds the property descriptors of the given {@link ArtifactMetadata} to this index. Artifacts are identified
+	 * by their {@link Artifact#coordinates() coordinates}, adding an already indexed artifact has no effect.
+	 *
+	 * @param metadata artifact metadata to index, can't be {@literal null}.
+	 * @return {@code true} if the artifact was added, {@code false} if it was already indexed.
+	 */
+	public boolean add(@NonNull ArtifactMetadata metadata) {
+		lock.writeLock().lock();
+
+		try {
+			if (!artifacts.add(metadata.coordinates())) {
+				return false;
+			}
+
+			for (PropertyDescriptor descriptor : metadata) {
+				index(metadata, descriptor);
+			}
+
+			return true;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Returns the number of property descriptors in this index.
+	 *
+	 * @return number of indexed descriptors
+	 */
+	public int size() {
+		lock.readLock().lock();
+
+		try {
+			return documents.size();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Searches for the property descriptors matching the given query and returns the most relevant ones, ordered
+	 * by their score. Descriptors with the same score are returned in the order in which they were indexed.
+	 *
+	 * @param query search query, can't be {@literal null}.
+	 * @param limit maximum number of results to return.
+	 * @return matching descriptors, never {@literal null}.
+	 * @throws IllegalArgumentException when the limit is not a positive number
+	 */
+	@NonNull
+	public List<SearchResult> search(@NonNull String query, int limit) {
+		if (limit < 1) {
+			throw new IllegalArgumentException("Search result limit must be a positive number");
+		}
+
+		final List<List<Term>> clauses = parse(query);
+
+		if (clauses.isEmpty()) {
+			return List.of();
+		}
+
+		lock.readLock().lock();
+
+		try {
+			final List<Clause> resolved = new ArrayList<>(clauses.size());
+
+			for (List<Term> terms : clauses) {
+				final Clause clause = resolve(terms);
+
+				if (clause == null) {
+					return List.of();
+				}
+
+				resolved.add(clause);
+			}
+
+			// evaluate the most selective clauses first, the others are only evaluated for their matches
+			resolved.sort(Comparator.comparingInt(Clause::cost));
+
+			Scores scores = null;
+
+			for (Clause clause : resolved) {
+				scores = evaluate(clause, scores);
+
+				if (scores.size == 0) {
+					return List.of();
+				}
+			}
+
+			return collect(scores, limit);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	private void index(ArtifactMetadata metadata, PropertyDescriptor descriptor) {
+		final int id = documents.size();
+		documents.add(new Document(metadata, descriptor));
+
+		final Map<String, List<Integer>> positions = new TreeMap<>();
+		final List<String> name = tokenize(descriptor.name());
+
+		for (int i = 0; i < name.size() && i < DESCRIPTION_POSITION - 1; i++) {
+			positions.computeIfAbsent(name.get(i), ignore -> new ArrayList<>()).add(i);
+		}
+
+		if (descriptor.description() != null) {
+			final List<String> description = tokenize(descriptor.description());
+
+			for (int i = 0; i < description.size(); i++) {
+				positions.computeIfAbsent(description.get(i), ignore -> new ArrayList<>())
+						.add(DESCRIPTION_POSITION + i);
+			}
+		}
+
+		for (Map.Entry<String, List<Integer>> entry : positions.entrySet()) {
+			final int[] values = entry.getValue().stream().mapToInt(Integer::intValue).toArray();
+			terms.computeIfAbsent(entry.getKey(), ignore -> new Postings()).add(id, values);
+		}
+	}
+
+	private @Nullable Clause resolve(List<Term> terms) {
+		if (terms.size() == 1 && terms.get(0).prefix()) {
+			final Collection<Postings> expansions = expand(terms.get(0));
+
+			if (expansions.size() != 1) {
+				int cost = 0;
+				for (Postings postings : expansions) {
+					cost += postings.count;
+				}
+				return expansions.isEmpty() ? null : new Clause(new Postings[0], expansions, cost);
+			}
+		}
+
+		final Postings[] postings = new Postings[terms.size()];
+		int cost = Integer.MAX_VALUE;
+
+		for (int i = 0; i < postings.length; i++) {
+			final Term term = terms.get(i);
+
+			if (term.prefix()) {
+				final Collection<Postings> expansions = expand(term);
+				postings[i] = expansions.size() == 1 ? expansions.iterator().next() : Postings.merge(expansions);
+			} else {
+				postings[i] = this.terms.get(term.text());
+			}
+
+			if (postings[i] == null || postings[i].count == 0) {
+				return null;
+			}
+
+			cost = Math.min(cost, postings[i].count);
+		}
+
+		return new Clause(postings, null, cost);
+	}
+
+	private Collection<Postings> expand(Term term) {
+		return terms.subMap(term.text(), true, term.text() + Character.MAX_VALUE, false).values();
+	}
+
+	private Scores evaluate(Clause clause, @Nullable Scores candidates) {
+		if (clause.expansions() != null) {
+			final Scores matches = prefix(clause.expansions());
+			return candidates == null ? matches : candidates.intersect(matches);
+		}
+
+		return clause.terms().length == 1 ? term(clause.terms()[0], candidates) : phrase(clause.terms(), candidates);
+	}
+
+	/**
+	 * Scores the descriptors containing the word, only the number of its occurrences in the property name and
+	 * description are read from the posting list, positions are skipped. When candidates are present, the posting
+	 * list is advanced to each one of them using its skip data.
+	 */
+	private Scores term(Postings postings, @Nullable Scores candidates) {
+		final double idf = idf(postings.count);
+		final Postings.Cursor cursor = postings.cursor();
+
+		if (candidates == null) {
+			final int[] docs = new int[postings.count];
+			final double[] scores = new double[docs.length];
+
+			for (int i = 0; cursor.next(); i++) {
+				docs[i] = cursor.doc;
+				scores[i] = idf * cursor.weight();
+			}
+
+			return new Scores(docs, scores, docs.length);
+		}
+
+		final int[] docs = new int[Math.min(candidates.size, postings.count)];
+		final double[] scores = new double[docs.length];
+		int size = 0;
+
+		for (int i = 0; i < candidates.size && size < docs.length; i++) {
+			final int doc = candidates.docs[i];
+			cursor.advance(doc);
+
+			if (cursor.doc == doc) {
+				docs[size] = doc;
+				scores[size++] = candidates.scores[i] + idf * cursor.weight();
+			}
+		}
+
+		return new Scores(docs, scores, size);
+	}
+
+	/**
+	 * Merges the posting lists of all words starting with the prefix using a heap of posting list cursors, ordered
+	 * by their current descriptor identifier. Descriptors matching more than one word are scored once, as if
+	 * they were matching a single word with all their occurrences.
+	 */
+	private Scores prefix(Collection<Postings> expansions) {
+		final Postings.Cursor[] heap = new Postings.Cursor[expansions.size()];
+		int total = 0;
+		int size = 0;
+
+		for (Postings postings : expansions) {
+			final Postings.Cursor cursor = postings.cursor();
+			cursor.next();
+			heap[size] = cursor;
+			Postings.Cursor.siftUp(heap, size++);
+			total += postings.count;
+		}
+
+		final int[] docs = new int[Math.min(total, documents.size())];
+		final double[] weights = new double[docs.length];
+		int count = 0;
+
+		while (size > 0) {
+			final Postings.Cursor cursor = heap[0];
+
+			if (count > 0 && docs[count - 1] == cursor.doc) {
+				weights[count - 1] += cursor.weight();
+			} else {
+				docs[count] = cursor.doc;
+				weights[count++] = cursor.weight();
+			}
+
+			if (!cursor.next()) {
+				heap[0] = heap[--size];
+			}
+			Postings.Cursor.siftDown(heap, size);
+		}
+
+		final double idf = idf(count);
+
+		for (int i = 0; i < count; i++) {
+			weights[i] *= idf;
+		}
+
+		return new Scores(docs, weights, count);
+	}
+
+	/**
+	 * Scores the descriptors containing the words next to each other. Descriptors are driven either by the
+	 * candidates or by the least frequent word, the other posting lists are advanced to them using their skip
+	 * data and word positions are decoded only for the descriptors that contain all the words.
+	 */
+	private Scores phrase(Postings[] terms, @Nullable Scores candidates) {
+		final Postings.Cursor[] cursors = new Postings.Cursor[terms.length];
+		Postings.Cursor driver = null;
+		double idf = 0;
+
+		for (int t = 0; t < terms.length; t++) {
+			cursors[t] = terms[t].cursor();
+			idf += idf(terms[t].count);
+
+			if (driver == null || terms[t].count < driver.postings().count) {
+				driver = cursors[t];
+			}
+		}
+
+		final int capacity = candidates == null ? driver.postings().count : candidates.size;
+		final int[] docs = new int[capacity];
+		final double[] scores = new double[capacity];
+		int size = 0;
+
+		for (int i = 0; candidates == null ? driver.next() : i < candidates.size; i++) {
+			final int doc = candidates == null ? driver.doc : candidates.docs[i];
+			final double score = phrase(cursors, doc, idf);
+
+			if (score > 0) {
+				docs[size] = doc;
+				scores[size++] = candidates == null ? score : candidates.scores[i] + score;
+			}
+		}
+
+		return new Scores(docs, scores, size);
+	}
+
+	private static double phrase(Postings.Cursor[] cursors, int doc, double idf) {
+		for (Postings.Cursor cursor : cursors) {
+			cursor.advance(doc);
+
+			if (cursor.doc != doc) {
+				return 0;
+			}
+		}
+
+		final int[][] positions = new int[cursors.length][];
+
+		for (int t = 0; t < cursors.length; t++) {
+			positions[t] = cursors[t].positions();
+		}
+
+		double score = 0;
+
+		occurrences:
+		for (int start : positions[0]) {
+			for (int t = 1; t < positions.length; t++) {
+				if (Arrays.binarySearch(positions[t], start + t) < 0) {
+					continue occurrences;
+				}
+			}
+			score += idf * weight(start);
+		}
+
+		return score;
+	}
+
+	private List<SearchResult> collect(Scores scores, int limit) {
+		final int[] top = scores.top(limit);
+		final SearchResult[] results = new SearchResult[top.length];
+
+		for (int i = 0; i < top.length; i++) {
+			final Document document = documents.get(scores.docs[top[i]]);
+			results[i] = new SearchResult(document.artifact(), document.descriptor(), scores.scores[top[i]]);
+		}
+
+		return List.of(results);
+	}
+
+	private double idf(int frequency) {
+		return Math.log(1 + (double) documents.size() / frequency);
+	}
+
+	private static double weight(int position) {
+		return position < DESCRIPTION_POSITION ? NAME_WEIGHT : DESCRIPTION_WEIGHT;
+	}
+
+	private static int[] union(int[] first, int[] second) {
+		final int[] union = Arrays.copyOf(first, first.length + second.length);
+		System.arraycopy(second, 0, union, first.length, second.length);
+		Arrays.sort(union);
+		return union;
+	}
+
+	/**
+	 * Splits the text into lowercase words on any character that is not a letter or a digit, and on camel case
+	 * boundaries, for example {@code maximumPoolSize} is split into {@code maximum}, {@code pool} and
+	 * {@code size} words.
+	 *
+	 * @param text text to split
+	 * @return the lowercase words, never {@literal null}
+	 */
+	static List<String> tokenize(@Nullable String text) {
+		if (text == null) {
+			return List.of();
+		}
+
+		final List<String> tokens = new ArrayList<>();
+		int start = -1;
+
+		for (int i = 0; i <= text.length(); i++) {
+			final char c = i < text.length() ? text.charAt(i) : ' ';
+			final boolean word = Character.isLetterOrDigit(c);
+			final boolean boundary = word && start != -1 && Character.isUpperCase(c)
+					&& Character.isLowerCase(text.charAt(i - 1));
+
+			if (start != -1 && (!word || boundary)) {
+				tokens.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+				start = -1;
+			}
+			if (word && start == -1) {
+				start = i;
+			}
+		}
+
+		return tokens;
+	}
+
+	static List<List<Term>> parse(String query) {
+		final List<List<Term>> clauses = new ArrayList<>();
+		int i = 0;
+
+		while (i < query.length()) {
+			final char c = query.charAt(i);
+
+			if (Character.isWhitespace(c)) {
+				i++;
+				continue;
+			}
+
+			final int end;
+			final String text;
+
+			if (c == '"') {
+				final int close = query.indexOf('"', i + 1);
+				end = close == -1 ? query.length() : close + 1;
+				text = query.substring(i + 1, close == -1 ? query.length() : close);
+			} else {
+				int next = i;
+				while (next < query.length() && !Character.isWhitespace(query.charAt(next))) {
+					next++;
+				}
+				end = next;
+				text = query.substring(i, next);
+			}
+
+			final List<String> tokens = tokenize(text);
+			final boolean prefix = c != '"' && text.endsWith("*");
+
+			if (!tokens.isEmpty()) {
+				final List<Term> clause = new ArrayList<>(tokens.size());
+
+				for (int t = 0; t < tokens.size(); t++) {
+					clause.add(new Term(tokens.get(t), prefix && t == tokens.size() - 1));
+				}
+
+				clauses.add(clause);
+			}
+
+			i = end;
+		}
+
+		return clauses;
+	}
+
+	record Term(String text, boolean prefix) {
+	}
+
+	private record Document(Artifact artifact, PropertyDescriptor descriptor) {
+	}
+
+	/**
+	 * Query clause resolved against the index, holding the posting lists of its words, or the posting lists of
+	 * all words starting with the prefix when the clause is a single prefix word matching more than one word.
+	 * The cost is the estimated number of descriptors that need to be visited to evaluate the clause.
+	 */
+	private record Clause(Postings[] terms, @Nullable Collection<Postings> expansions, int cost) {
+	}
+
+	/**
+	 * Descriptor identifiers, sorted in ascending order, with their scores for the evaluated query clauses.
+	 */
+	private record Scores(int[] docs, double[] scores, int size) {
+
+		Scores intersect(Scores other) {
+			final int[] docs = new int[Math.min(size, other.size)];
+			final double[] scores = new double[docs.length];
+			int count = 0;
+
+			for (int i = 0, j = 0; i < size && j < other.size; ) {
+				if (this.docs[i] < other.docs[j]) {
+					i++;
+				} else if (this.docs[i] > other.docs[j]) {
+					j++;
+				} else {
+					docs[count] = this.docs[i];
+					scores[count++] = this.scores[i++] + other.scores[j++];
+				}
+			}
+
+			return new Scores(docs, scores, count);
+		}
+
+		/**
+		 * Selects the indexes of the highest scores using a bounded heap, where the lowest ranked index is at
+		 * the root, and returns them ordered by their rank.
+		 */
+		int[] top(int limit) {
+			final int[] heap = new int[Math.min(limit, size)];
+			int count = 0;
+
+			for (int i = 0; i < size; i++) {
+				if (count < heap.length) {
+					heap[count] = i;
+					siftUp(heap, count++);
+				} else if (outranks(i, heap[0])) {
+					heap[0] = i;
+					siftDown(heap, count);
+				}
+			}
+
+			for (int last = count - 1; last > 0; last--) {
+				final int lowest = heap[0];
+				heap[0] = heap[last];
+				heap[last] = lowest;
+				siftDown(heap, last);
+			}
+
+			return heap;
+		}
+
+		private boolean outranks(int first, int second) {
+			return scores[first] > scores[second] || scores[first] == scores[second] && docs[first] < docs[second];
+		}
+
+		private void siftUp(int[] heap, int index) {
+			final int value = heap[index];
+
+			while (index > 0 && outranks(heap[(index - 1) >>> 1], value)) {
+				heap[index] = heap[(index - 1) >>> 1];
+				index = (index - 1) >>> 1;
+			}
+
+			heap[index] = value;
+		}
+
+		private void siftDown(int[] heap, int size) {
+			final int value = heap[0];
+			int index = 0;
+
+			while (2 * index + 1 < size) {
+				int child = 2 * index + 1;
+
+				if (child + 1 < size && outranks(heap[child], heap[child + 1])) {
+					child++;
+				}
+				if (!outranks(value, heap[child])) {
+					break;
+				}
+
+				heap[index] = heap[child];
+				index = child;
+			}
+
+			heap[index] = value;
+		}
+	}
+
+	/**
+	 * Posting list of a single word stored as a sequence of variable length integers. For each descriptor, the
+	 * difference from the previous descriptor identifier is written first, followed by the number of occurrences
+	 * of the word in the property name and in the description, the number of bytes used by the positions and the
+	 * differences between consecutive positions of the word in that descriptor. Positions can therefore be
+	 * skipped without being decoded when only the occurrences are needed.
+	 * <p>
+	 * Every {@value #SKIP_INTERVAL} descriptors, the identifier of the previous descriptor and the offset of the
+	 * next one are recorded as skip data, so cursors can advance to a descriptor without reading all the
+	 * descriptors before it.
+	 */
+	private static final class Postings {
+		static final int SKIP_INTERVAL = 64;
+
+		private byte[] data = new byte[8];
+		private int length;
+		private int count;
+		private int last = -1;
+		private int[] skipDocs = new int[0];
+		private int[] skipOffsets = new int[0];
+		private int skips;
+
+		/**
+		 * Merges the posting lists into a new posting list containing the union of their descriptors and positions.
+		 */
+		static Postings merge(Collection<Postings> expansions) {
+			final Cursor[] heap = new Cursor[expansions.size()];
+			final Postings merged = new Postings();
+			int size = 0;
+
+			for (Postings postings : expansions) {
+				final Cursor cursor = postings.cursor();
+				cursor.next();
+				heap[size] = cursor;
+				Cursor.siftUp(heap, size++);
+			}
+
+			int doc = -1;
+			int[] positions = null;
+
+			while (size > 0) {
+				final Cursor cursor = heap[0];
+
+				if (cursor.doc == doc) {
+					positions = union(positions, cursor.positions());
+				} else {
+					if (positions != null) {
+						merged.add(doc, positions);
+					}
+					doc = cursor.doc;
+					positions = cursor.positions();
+				}
+
+				if (!cursor.next()) {
+					heap[0] = heap[--size];
+				}
+				Cursor.siftDown(heap, size);
+			}
+
+			if (positions != null) {
+				merged.add(doc, positions);
+			}
+
+			return merged;
+		}
+
+		void add(int doc, int[] positions) {
+			if (count > 0 && count % SKIP_INTERVAL == 0) {
+				if (skips == skipDocs.length) {
+					skipDocs = Arrays.copyOf(skipDocs, Math.max(4, skips * 2));
+					skipOffsets = Arrays.copyOf(skipOffsets, skipDocs.length);
+				}
+				skipDocs[skips] = last;
+				skipOffsets[skips++] = length;
+			}
+
+			int names = 0;
+			int bytes = 0;
+			int previous = 0;
+
+			for (int position : positions) {
+				names += position < DESCRIPTION_POSITION ? 1 : 0;
+				bytes += size(position - previous);
+				previous = position;
+			}
+
+			write(doc - last);
+			write(names);
+			write(positions.length - names);
+			write(bytes);
+
+			previous = 0;
+			for (int position : positions) {
+				write(position - previous);
+				previous = position;
+			}
+
+			last = doc;
+			count++;
+		}
+
+		Cursor cursor() {
+			return new Cursor(this);
+		}
+
+		private void write(int value) {
+			if (length + 5 > data.length) {
+				data = Arrays.copyOf(data, data.length * 2);
+			}
+
+			while ((value & ~0x7F) != 0) {
+				data[length++] = (byte) ((value & 0x7F) | 0x80);
+				value >>>= 7;
+			}
+
+			data[length++] = (byte) value;
+		}
+
+		private static int size(int value) {
+			return value == 0 ? 1 : (38 - Integer.numberOfLeadingZeros(value)) / 7;
+		}
+
+		/**
+		 * Reads the posting list one descriptor at a time. The cursor is positioned before the first descriptor
+		 * when created and its descriptor identifier is {@link Integer#MAX_VALUE} once all of them are read.
+		 */
+		static final class Cursor {
+			private final Postings postings;
+			private int offset;
+			private int index;
+			private int doc = -1;
+			private int names;
+			private int descriptions;
+			private int positions;
+
+			private Cursor(Postings postings) {
+				this.postings = postings;
+			}
+
+			Postings postings() {
+				return postings;
+			}
+
+			boolean next() {
+				if (index == postings.count) {
+					doc = Integer.MAX_VALUE;
+					return false;
+				}
+
+				doc += read();
+				names = read();
+				descriptions = read();
+
+				final int bytes = read();
+				positions = offset;
+				offset += bytes;
+				index++;
+
+				return true;
+			}
+
+			/**
+			 * Moves the cursor to the first descriptor with an identifier that is equal or greater than the target.
+			 */
+			void advance(int target) {
+				if (doc >= target) {
+					return;
+				}
+
+				int skip = -1;
+
+				for (int i = index / SKIP_INTERVAL; i < postings.skips && postings.skipDocs[i] < target; i++) {
+					skip = i;
+				}
+
+				if (skip != -1) {
+					doc = postings.skipDocs[skip];
+					offset = postings.skipOffsets[skip];
+					index = (skip + 1) * SKIP_INTERVAL;
+				}
+
+				while (doc < target) {
+					if (!next()) {
+						return;
+					}
+				}
+			}
+
+			double weight() {
+				return names * NAME_WEIGHT + descriptions * DESCRIPTION_WEIGHT;
+			}
+
+			int[] positions() {
+				final int[] values = new int[names + descriptions];
+				final int end = offset;
+				int position = 0;
+
+				offset = positions;
+				for (int p = 0; p < values.length; p++) {
+					position += read();
+					values[p] = position;
+				}
+				offset = end;
+
+				return values;
+			}
+
+			private int read() {
+				final byte[] data = postings.data;
+				int value = 0;
+				int shift = 0;
+				byte b;
+
+				do {
+					b = data[offset++];
+					value |= (b & 0x7F) << shift;
+					shift += 7;
+				} while ((b & 0x80) != 0);
+
+				return value;
+			}
+
+			static void siftUp(Cursor[] heap, int index) {
+				final Cursor cursor = heap[index];
+
+				while (index > 0 && heap[(index - 1) >>> 1].doc > cursor.doc) {
+					heap[index] = heap[(index - 1) >>> 1];
+					index = (index - 1) >>> 1;
+				}
+
+				heap[index] = cursor;
+			}
+
+			static void siftDown(Cursor[] heap, int size) {
+				if (size == 0) {
+					return;
+				}
+
+				final Cursor cursor = heap[0];
+				int index = 0;
+
+				while (2 * index + 1 < size) {
+					int child = 2 * index + 1;
+
+					if (child + 1 < size && heap[child + 1].doc < heap[child].doc) {
+						child++;
+					}
+					if (heap[child].doc >= cursor.doc) {
+						break;
+					}
+
+					heap[index] = heap[child];
+					index = child;
+				}
+
+				heap[index] = cursor;
+			}
+		}
+	}
+
+}
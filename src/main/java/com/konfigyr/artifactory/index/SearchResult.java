@@ -0,0 +1,19 @@
+package com.konfigyr.artifactory.index;
+
+import com.konfigyr.artifactory.Artifact;
+import com.konfigyr.artifactory.PropertyDescriptor;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Result of a {@link SearchIndex} query, identifying the matching {@link PropertyDescriptor} and the
+ * {@link Artifact} that defines it.
+ *
+ * @param artifact   the artifact that defines the matching property, can't be {@literal null}.
+ * @param descriptor the matching property descriptor, can't be {@literal null}.
+ * @param score      relevance of the property for the query, higher scores are more relevant.
+ * @author Vladimir Spasic
+ * @see SearchIndex
+ * @since 1.0.0
+ */
+public record SearchResult(@NonNull Artifact artifact, @NonNull PropertyDescriptor descriptor, double score) {
+}
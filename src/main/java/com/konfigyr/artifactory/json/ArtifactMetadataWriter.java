@@ -0,0 +1,392 @@
+package com.konfigyr.artifactory.json;
+
+import com.konfigyr.artifactory.ArtifactMetadata;
+import com.konfigyr.artifactory.Deprecation;
+import com.konfigyr.artifactory.MetadataChecksum;
+import com.konfigyr.artifactory.PropertyDescriptor;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Writes the {@link ArtifactMetadata} as a JSON document directly to an {@link OutputStream} or a
+ * {@link WritableByteChannel}, without creating the JSON text or a document tree in memory first, which keeps
+ * the memory usage constant regardless of the number of property descriptors.
+ * <p>
+ * The {@link MetadataChecksum checksum} of the metadata is computed while the property descriptors are written,
+ * in the same pass, and is written as the last member of the document:
+ * <pre>{@code
+ * {
+ *   "groupId": "com.konfigyr",
+ *   "artifactId": "konfigyr-crypto-api",
+ *   "version": "1.0.0",
+ *   "properties": [
+ *     {
+ *       "name": "konfigyr.crypto.cache-ttl",
+ *       "typeName": "java.time.Duration",
+ *       "schema": "{\"format\":\"duration\",\"type\":\"string\"}",
+ *       "defaultValue": "30s",
+ *       "deprecation": { "reason": "Renamed", "replacement": "konfigyr.crypto.cache.ttl" }
+ *     }
+ *   ],
+ *   "checksum": "..."
+ * }
+ * }</pre>
+ * Absent attributes are not written, and the document is written without insignificant whitespace. The writer
+ * can also compress the document using the {@code GZIP} format, with the {@link Deflater}, while it is written.
+ * Buffers used to encode and compress the document are pooled and shared by all writers.
+ * <pre>{@code
+ * String checksum = ArtifactMetadataWriter.gzip().write(metadata, output);
+ * }</pre>
+ * Writers are immutable and thread-safe.
+ *
+ * @author Vladimir Spasic
+ * @see MetadataChecksum
+ * @since 1.0.0
+ */
+public final class ArtifactMetadataWriter {
+
+	private static final int BUFFER_SIZE = 16 * 1024;
+	private static final BlockingQueue<byte[]> BUFFERS = new ArrayBlockingQueue<>(32);
+
+	private static final byte[] GZIP_HEADER = { 0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff };
+
+	private static final ArtifactMetadataWriter PLAIN = new ArtifactMetadataWriter(false);
+	private static final ArtifactMetadataWriter GZIP = new ArtifactMetadataWriter(true);
+
+	private final boolean compressed;
+
+	private ArtifactMetadataWriter(boolean compressed) {
+		this.compressed = compressed;
+	}
+
+	/**
+	 * Returns the writer that writes uncompressed JSON documents.
+	 *
+	 * @return artifact metadata writer, never {@literal null}.
+	 */
+	@NonNull
+	public static ArtifactMetadataWriter create() {
+		return PLAIN;
+	}
+
+	/**
+	 * Returns the writer that writes {@code GZIP} compressed JSON documents.
+	 *
+	 * @return artifact metadata writer, never {@literal null}.
+	 */
+	@NonNull
+	public static ArtifactMetadataWriter gzip() {
+		return GZIP;
+	}
+
+	/**
+	 * Writes the artifact metadata to the given output stream, which is not closed by this method.
+	 *
+	 * @param metadata artifact metadata to write, can't be {@literal null}.
+	 * @param output   output stream to write to, can't be {@literal null}.
+	 * @return the {@link MetadataChecksum checksum} of the written metadata, never {@literal null}.
+	 * @throws IOException when the document could not be written
+	 */
+	@NonNull
+	public String write(@NonNull ArtifactMetadata metadata, @NonNull OutputStream output) throws IOException {
+		return write(metadata, (Sink) output::write);
+	}
+
+	/**
+	 * Writes the artifact metadata to the given channel, which is not closed by this method.
+	 *
+	 * @param metadata artifact metadata to write, can't be {@literal null}.
+	 * @param channel  channel to write to, can't be {@literal null}.
+	 * @return the {@link MetadataChecksum checksum} of the written metadata, never {@literal null}.
+	 * @throws IOException when the document could not be written
+	 */
+	@NonNull
+	public String write(@NonNull ArtifactMetadata metadata, @NonNull WritableByteChannel channel) throws IOException {
+		return write(metadata, (bytes, offset, length) -> {
+			final ByteBuffer buffer = ByteBuffer.wrap(bytes, offset, length);
+			while (buffer.hasRemaining()) {
+				channel.write(buffer);
+			}
+		});
+	}
+
+	private String write(ArtifactMetadata metadata, Sink sink) throws IOException {
+		final MetadataChecksum checksum = MetadataChecksum.create().artifact(metadata);
+
+		try (Output output = compressed ? new CompressedOutput(sink) : new Output(sink)) {
+			output.write('{');
+			output.member("groupId", metadata.groupId(), true);
+			output.member("artifactId", metadata.artifactId(), false);
+			output.member("version", metadata.version(), false);
+			output.member("name", metadata.name(), false);
+			output.member("description", metadata.description(), false);
+			output.member("website", metadata.website(), false);
+			output.member("repository", metadata.repository(), false);
+			output.write(",\"properties\":[");
+
+			boolean first = true;
+
+			for (PropertyDescriptor descriptor : sorted(metadata.properties())) {
+				if (!first) {
+					output.write(',');
+				}
+
+				write(descriptor, output);
+				checksum.property(descriptor);
+				first = false;
+			}
+
+			final String result = checksum.checksum();
+
+			output.write(']');
+			output.member("checksum", result, false);
+			output.write('}');
+			output.finish();
+
+			return result;
+		}
+	}
+
+	private static void write(PropertyDescriptor descriptor, Output output) throws IOException {
+		output.write('{');
+		output.member("name", descriptor.name(), true);
+		output.member("typeName", descriptor.typeName(), false);
+		output.member("schema", descriptor.schema(), false);
+		output.member("description", descriptor.description(), false);
+		output.member("defaultValue", descriptor.defaultValue(), false);
+
+		final Deprecation deprecation = descriptor.deprecation();
+
+		if (deprecation != null) {
+			output.write(",\"deprecation\":{");
+			output.member("reason", deprecation.reason(), true);
+			output.member("replacement", deprecation.replacement(), deprecation.reason() == null);
+			output.write('}');
+		}
+
+		output.write('}');
+	}
+
+	/**
+	 * Descriptors must be written in the order of their names so that the checksum can be computed in the
+	 * same pass, they are already sorted by the {@link ArtifactMetadata#builder() builder}.
+	 */
+	private static List<PropertyDescriptor> sorted(List<PropertyDescriptor> properties) {
+		for (int i = 1; i < properties.size(); i++) {
+			if (properties.get(i - 1).compareTo(properties.get(i)) > 0) {
+				final List<PropertyDescriptor> sorted = new ArrayList<>(properties);
+				sorted.sort(PropertyDescriptor::compareTo);
+				return sorted;
+			}
+		}
+		return properties;
+	}
+
+	private static byte[] acquire() {
+		final byte[] buffer = BUFFERS.poll();
+		return buffer == null ? new byte[BUFFER_SIZE] : buffer;
+	}
+
+	private static void release(byte[] buffer) {
+		BUFFERS.offer(buffer);
+	}
+
+	@FunctionalInterface
+	private interface Sink {
+		void write(byte[] bytes, int offset, int length) throws IOException;
+	}
+
+	/**
+	 * Encodes the JSON text as {@code UTF-8} into the pooled buffer, which is passed to the sink when it is full.
+	 */
+	private static class Output implements AutoCloseable {
+
+		final Sink sink;
+		final byte[] buffer;
+		int length;
+
+		Output(Sink sink) {
+			this.sink = sink;
+			this.buffer = acquire();
+		}
+
+		void member(String name, @Nullable URI value, boolean first) throws IOException {
+			if (value != null) {
+				member(name, value.toString(), first);
+			}
+		}
+
+		void member(String name, @Nullable String value, boolean first) throws IOException {
+			if (value == null) {
+				return;
+			}
+
+			if (!first) {
+				write(',');
+			}
+
+			string(name);
+			write(':');
+			string(value);
+		}
+
+		void write(String ascii) throws IOException {
+			for (int i = 0; i < ascii.length(); i++) {
+				write(ascii.charAt(i));
+			}
+		}
+
+		void write(int b) throws IOException {
+			if (length == buffer.length) {
+				flush(buffer, length);
+				length = 0;
+			}
+			buffer[length++] = (byte) b;
+		}
+
+		void string(String value) throws IOException {
+			write('"');
+
+			for (int i = 0; i < value.length(); i++) {
+				final char c = value.charAt(i);
+
+				if (c >= 0x20 && c < 0x80) {
+					if (c == '"' || c == '\\') {
+						write('\\');
+					}
+					write(c);
+				} else if (c < 0x20) {
+					escape(c);
+				} else if (c < 0x800) {
+					write(0xC0 | (c >> 6));
+					write(0x80 | (c & 0x3F));
+				} else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+						&& Character.isLowSurrogate(value.charAt(i + 1))) {
+					final int code = Character.toCodePoint(c, value.charAt(++i));
+					write(0xF0 | (code >> 18));
+					write(0x80 | ((code >> 12) & 0x3F));
+					write(0x80 | ((code >> 6) & 0x3F));
+					write(0x80 | (code & 0x3F));
+				} else if (Character.isSurrogate(c)) {
+					write('?');
+				} else {
+					write(0xE0 | (c >> 12));
+					write(0x80 | ((c >> 6) & 0x3F));
+					write(0x80 | (c & 0x3F));
+				}
+			}
+
+			write('"');
+		}
+
+		private void escape(char c) throws IOException {
+			switch (c) {
+				case '\b' -> write("\\b");
+				case '\f' -> write("\\f");
+				case '\n' -> write("\\n");
+				case '\r' -> write("\\r");
+				case '\t' -> write("\\t");
+				default -> {
+					write("\\u00");
+					write(Character.forDigit(c >> 4, 16));
+					write(Character.forDigit(c & 0xF, 16));
+				}
+			}
+		}
+
+		void flush(byte[] bytes, int count) throws IOException {
+			sink.write(bytes, 0, count);
+		}
+
+		void finish() throws IOException {
+			if (length > 0) {
+				flush(buffer, length);
+				length = 0;
+			}
+		}
+
+		@Override
+		public void close() {
+			release(buffer);
+		}
+
+	}
+
+	/**
+	 * Compresses the encoded JSON text, using the {@code GZIP} format, before it is passed to the sink.
+	 */
+	private static final class CompressedOutput extends Output {
+
+		final Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+		final CRC32 crc = new CRC32();
+		final byte[] compressed = acquire();
+		long size;
+
+		CompressedOutput(Sink sink) throws IOException {
+			super(sink);
+			sink.write(GZIP_HEADER, 0, GZIP_HEADER.length);
+		}
+
+		@Override
+		void flush(byte[] bytes, int count) throws IOException {
+			crc.update(bytes, 0, count);
+			size += count;
+
+			deflater.setInput(bytes, 0, count);
+			while (!deflater.needsInput()) {
+				deflate();
+			}
+		}
+
+		@Override
+		void finish() throws IOException {
+			super.finish();
+
+			deflater.finish();
+			while (!deflater.finished()) {
+				deflate();
+			}
+
+			final byte[] trailer = new byte[8];
+			writeInt(trailer, 0, (int) crc.getValue());
+			writeInt(trailer, 4, (int) size);
+			sink.write(trailer, 0, trailer.length);
+		}
+
+		@Override
+		public void close() {
+			deflater.end();
+			release(compressed);
+			super.close();
+		}
+
+		private void deflate() throws IOException {
+			final int count = deflater.deflate(compressed, 0, compressed.length);
+
+			if (count > 0) {
+				sink.write(compressed, 0, count);
+			}
+		}
+
+		private static void writeInt(byte[] bytes, int offset, int value) {
+			bytes[offset] = (byte) value;
+			bytes[offset + 1] = (byte) (value >>> 8);
+			bytes[offset + 2] = (byte) (value >>> 16);
+			bytes[offset + 3] = (byte) (value >>> 24);
+		}
+
+	}
+
+}
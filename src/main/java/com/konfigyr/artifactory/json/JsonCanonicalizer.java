@@ -0,0 +1,252 @@
+package com.konfigyr.artifactory.json;
+
+import com.konfigyr.artifactory.BoundedCache;
+import org.jspecify.annotations.NonNull;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+/**
+ * Converts JSON documents into their canonical text form, so that documents which are semantically equal are
+ * also equal by their text. This is mostly used to normalize JSON Schema documents, produced by different
+ * tools, before they are assigned to the {@code PropertyDescriptor}, which stabilizes artifact checksums and
+ * allows the same schemas to be deduplicated:
+ * <pre>{@code
+ * PropertyDescriptor.builder()
+ *     .name("konfigyr.crypto.cache")
+ *     .schema(JsonCanonicalizer.canonicalize(schema))
+ *     .build();
+ * }</pre>
+ * The canonical form is created using the following rules:
+ * <ul>
+ *   <li>Insignificant whitespace is removed.</li>
+ *   <li>Object members are sorted by their names, when a name is repeated the last member is kept.</li>
+ *   <li>Strings only escape quotation marks, reverse solidus and control characters.</li>
+ *   <li>Numbers are written without trailing fraction zeros, {@code 1.0} and {@code 1e0} are written as
+ *   {@code 1}, and use an exponent only when they are very large or very small.</li>
+ * </ul>
+ * The document is streamed through the {@link JsonReader} directly into the canonical text, without building
+ * the document tree. Canonical forms are cached by the original text and the canonical text, which means that
+ * equal documents share the same canonical {@link String} instance while it is cached. The least recently used
+ * canonical forms are evicted when the cache is full.
+ *
+ * @author Vladimir Spasic
+ * @see JsonReader
+ * @since 1.0.0
+ */
+public final class JsonCanonicalizer {
+
+	private static final BoundedCache<String, String> CACHE = BoundedCache.create(8192);
+
+	private JsonCanonicalizer() {
+	}
+
+	/**
+	 * Converts the given JSON text into its canonical form, or returns the already converted canonical form
+	 * for the same text.
+	 *
+	 * @param json JSON text to convert, can't be {@literal null}.
+	 * @return the canonical JSON text, never {@literal null}.
+	 * @throws IllegalArgumentException when the text is not a valid JSON document
+	 */
+	@NonNull
+	public static String canonicalize(@NonNull CharSequence json) {
+		final String text = json.toString();
+		final String cached = CACHE.get(text);
+
+		if (cached != null) {
+			return cached;
+		}
+
+		String canonical = write(text);
+
+		if (canonical.equals(text)) {
+			canonical = text;
+		}
+
+		final String existing = CACHE.putIfAbsent(canonical, canonical);
+
+		if (existing != null) {
+			canonical = existing;
+		}
+
+		CACHE.putIfAbsent(text, canonical);
+
+		return canonical;
+	}
+
+	private static String write(String json) {
+		final StringBuilder builder = new StringBuilder(json.length());
+		final JsonReader reader = new JsonReader(json);
+
+		write(reader, builder);
+
+		if (reader.peek() != JsonToken.END_DOCUMENT) {
+			throw new IllegalArgumentException("Unexpected content after the end of the JSON document");
+		}
+
+		return builder.toString();
+	}
+
+	private static void write(JsonReader reader, StringBuilder builder) {
+		switch (reader.peek()) {
+			case BEGIN_OBJECT -> writeObject(reader, builder);
+			case BEGIN_ARRAY -> {
+				final int start = builder.length();
+
+				reader.beginArray();
+				builder.append('[');
+
+				while (reader.hasNext()) {
+					if (builder.length() > start + 1) {
+						builder.append(',');
+					}
+					write(reader, builder);
+				}
+
+				reader.endArray();
+				builder.append(']');
+			}
+			case STRING -> writeString(reader.nextString(), builder);
+			case NUMBER -> writeNumber(reader.nextString(), builder);
+			case BOOLEAN -> builder.append(reader.nextBoolean());
+			case NULL -> {
+				reader.nextNull();
+				builder.append("null");
+			}
+			default -> throw new IllegalArgumentException("Expected a JSON value but was " + reader.peek());
+		}
+	}
+
+	/**
+	 * Members are written in the order in which they are read, as most documents are either already sorted or
+	 * very small, and are only rearranged when the member names are not in their ascending order.
+	 */
+	private static void writeObject(JsonReader reader, StringBuilder builder) {
+		final int start = builder.length();
+
+		String[] names = new String[8];
+		int[] offsets = new int[8];
+		int count = 0;
+		boolean sorted = true;
+
+		reader.beginObject();
+		builder.append('{');
+
+		while (reader.hasNext()) {
+			final String name = reader.nextName();
+
+			if (count > 0) {
+				sorted &= names[count - 1].compareTo(name) < 0;
+				builder.append(',');
+			}
+
+			if (count == names.length) {
+				names = Arrays.copyOf(names, count * 2);
+				offsets = Arrays.copyOf(offsets, count * 2);
+			}
+
+			names[count] = name;
+			offsets[count] = builder.length();
+			count++;
+
+			writeString(name, builder);
+			builder.append(':');
+			write(reader, builder);
+		}
+
+		reader.endObject();
+
+		if (!sorted) {
+			sort(builder, start, names, offsets, count);
+		}
+
+		builder.append('}');
+	}
+
+	private static void sort(StringBuilder builder, int start, String[] names, int[] offsets, int count) {
+		final String[] members = new String[count];
+		final Integer[] order = new Integer[count];
+
+		for (int i = 0; i < count; i++) {
+			final int end = i + 1 < count ? offsets[i + 1] - 1 : builder.length();
+			members[i] = builder.substring(offsets[i], end);
+			order[i] = i;
+		}
+
+		// stable sort keeps repeated members in their original order, the last one of them is written
+		Arrays.sort(order, (left, right) -> names[left].compareTo(names[right]));
+
+		builder.setLength(start + 1);
+
+		for (int i = 0; i < count; i++) {
+			final int member = order[i];
+
+			if (i + 1 < count && names[member].equals(names[order[i + 1]])) {
+				continue;
+			}
+
+			if (builder.length() > start + 1) {
+				builder.append(',');
+			}
+
+			builder.append(members[member]);
+		}
+	}
+
+	private static void writeString(String value, StringBuilder builder) {
+		builder.append('"');
+
+		for (int i = 0; i < value.length(); i++) {
+			final char c = value.charAt(i);
+
+			switch (c) {
+				case '"' -> builder.append("\\\"");
+				case '\\' -> builder.append("\\\\");
+				case '\b' -> builder.append("\\b");
+				case '\f' -> builder.append("\\f");
+				case '\n' -> builder.append("\\n");
+				case '\r' -> builder.append("\\r");
+				case '\t' -> builder.append("\\t");
+				default -> {
+					if (c < 0x20) {
+						builder.append("\\u00").append(Character.forDigit(c >> 4, 16))
+								.append(Character.forDigit(c & 0xF, 16));
+					} else {
+						builder.append(c);
+					}
+				}
+			}
+		}
+
+		builder.append('"');
+	}
+
+	/**
+	 * Integer literals, which are the most common numbers in schemas, are already in their canonical form as
+	 * the {@link JsonReader} rejects leading zeros. Other numbers are normalized using their decimal value, so
+	 * that no precision is lost, unlike when using floating point numbers.
+	 */
+	private static void writeNumber(String literal, StringBuilder builder) {
+		if (literal.indexOf('.') == -1 && literal.indexOf('e') == -1 && literal.indexOf('E') == -1) {
+			builder.append(literal.equals("-0") ? "0" : literal);
+			return;
+		}
+
+		final BigDecimal number = new BigDecimal(literal).stripTrailingZeros();
+
+		if (number.signum() == 0) {
+			builder.append('0');
+			return;
+		}
+
+		final int exponent = number.precision() - number.scale() - 1;
+
+		if (exponent >= -7 && exponent < 21) {
+			builder.append(number.toPlainString());
+		} else {
+			builder.append(number.toString().replace('E', 'e'));
+		}
+	}
+
+}
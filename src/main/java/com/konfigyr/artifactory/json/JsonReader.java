@@ -0,0 +1,551 @@
+package com.konfigyr.artifactory.json;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Minimal, dependency free, pull based JSON reader.
+ * <p>
+ * The reader consumes the JSON document one {@link JsonToken token} at a time from the underlying
+ * {@link Reader} using a fixed size buffer, meaning that documents of arbitrary size can be processed
+ * without loading them into memory first. When the whole document is needed, {@link #readValue()} or
+ * {@link #parse(CharSequence)} can be used to read the JSON value into a tree of plain Java types:
+ * <ul>
+ *   <li>JSON objects are read as {@link LinkedHashMap ordered maps}.</li>
+ *   <li>JSON arrays are read as {@link ArrayList lists}.</li>
+ *   <li>JSON strings are read as {@link String strings}.</li>
+ *   <li>JSON numbers are read as {@link Long} when integral and within range, {@link Double} otherwise.</li>
+ *   <li>JSON booleans are read as {@link Boolean booleans}.</li>
+ *   <li>JSON {@code null} literals are read as {@literal null}.</li>
+ * </ul>
+ * Malformed documents are rejected with an {@link IllegalArgumentException} that contains the character
+ * offset at which the error was detected.
+ *
+ * @author Vladimir Spasic
+ * @since 1.0.0
+ */
+public final class JsonReader implements Closeable {
+
+	private static final Pattern NUMBER = Pattern.compile("-?(?:0|[1-9]\\d*)(?:\\.\\d+)?(?:[eE][+-]?\\d+)?");
+
+	private static final int EMPTY_DOCUMENT = 0;
+	private static final int NONEMPTY_DOCUMENT = 1;
+	private static final int EMPTY_ARRAY = 2;
+	private static final int NONEMPTY_ARRAY = 3;
+	private static final int EMPTY_OBJECT = 4;
+	private static final int DANGLING_NAME = 5;
+	private static final int NONEMPTY_OBJECT = 6;
+
+	private final Reader reader;
+	private final char[] buffer;
+	private final StringBuilder scratch = new StringBuilder();
+
+	private int pos;
+	private int limit;
+	private long offset;
+
+	private int[] stack = new int[16];
+	private int depth;
+
+	private JsonToken peeked;
+	private String value;
+
+	/**
+	 * Creates a new reader that would consume the given JSON text.
+	 *
+	 * @param json JSON text to read, can't be {@literal null}.
+	 */
+	public JsonReader(@NonNull CharSequence json) {
+		this(new StringReader(json.toString()), Math.max(16, Math.min(json.length(), 8192)));
+	}
+
+	/**
+	 * Creates a new reader that would consume JSON text from the given {@link Reader}. The reader
+	 * is not buffered by this type, it would read chunks of characters directly into its own buffer.
+	 *
+	 * @param reader reader providing the JSON text, can't be {@literal null}.
+	 */
+	public JsonReader(@NonNull Reader reader) {
+		this(reader, 8192);
+	}
+
+	private JsonReader(Reader reader, int bufferSize) {
+		this.reader = reader;
+		this.buffer = new char[bufferSize];
+		this.stack[depth++] = EMPTY_DOCUMENT;
+	}
+
+	/**
+	 * Parses the given JSON text into a tree of plain Java types.
+	 *
+	 * @param json JSON text to parse, can't be {@literal null}.
+	 * @return parsed JSON value, may be {@literal null} when the document is a {@code null} literal.
+	 * @throws IllegalArgumentException when the document is not a valid JSON
+	 */
+	@Nullable
+	public static Object parse(@NonNull CharSequence json) {
+		final JsonReader reader = new JsonReader(json);
+		final Object result = reader.readValue();
+
+		if (reader.peek() != JsonToken.END_DOCUMENT) {
+			throw reader.syntaxError("Unexpected content after the end of the JSON document");
+		}
+
+		return result;
+	}
+
+	/**
+	 * Returns the type of the next token without consuming it.
+	 *
+	 * @return next token type, never {@literal null}.
+	 */
+	@NonNull
+	public JsonToken peek() {
+		if (peeked != null) {
+			return peeked;
+		}
+
+		final int scope = stack[depth - 1];
+		int c;
+
+		switch (scope) {
+			case EMPTY_ARRAY -> {
+				stack[depth - 1] = NONEMPTY_ARRAY;
+				c = nextNonWhitespace();
+				if (c == ']') {
+					return peeked = JsonToken.END_ARRAY;
+				}
+				if (c != -1) {
+					pos--;
+				}
+			}
+			case NONEMPTY_ARRAY -> {
+				c = nextNonWhitespace();
+				if (c == ']') {
+					return peeked = JsonToken.END_ARRAY;
+				}
+				if (c != ',') {
+					throw syntaxError("Expected ',' or ']' in JSON array");
+				}
+			}
+			case EMPTY_OBJECT, NONEMPTY_OBJECT -> {
+				c = nextNonWhitespace();
+				if (c == '}') {
+					return peeked = JsonToken.END_OBJECT;
+				}
+				if (scope == NONEMPTY_OBJECT) {
+					if (c != ',') {
+						throw syntaxError("Expected ',' or '}' in JSON object");
+					}
+					c = nextNonWhitespace();
+				}
+				if (c != '"') {
+					throw syntaxError("Expected a JSON object member name");
+				}
+				stack[depth - 1] = DANGLING_NAME;
+				value = readString();
+				return peeked = JsonToken.NAME;
+			}
+			case DANGLING_NAME -> {
+				if (nextNonWhitespace() != ':') {
+					throw syntaxError("Expected ':' after the JSON object member name");
+				}
+				stack[depth - 1] = NONEMPTY_OBJECT;
+			}
+			case EMPTY_DOCUMENT -> stack[depth - 1] = NONEMPTY_DOCUMENT;
+			default -> {
+				if (nextNonWhitespace() == -1) {
+					return peeked = JsonToken.END_DOCUMENT;
+				}
+				throw syntaxError("Unexpected content after the end of the JSON document");
+			}
+		}
+
+		return peeked = peekValue();
+	}
+
+	/**
+	 * Checks if the current JSON array or object has more elements.
+	 *
+	 * @return {@code true} when there are more elements to consume, {@code false} otherwise.
+	 */
+	public boolean hasNext() {
+		final JsonToken token = peek();
+		return token != JsonToken.END_OBJECT && token != JsonToken.END_ARRAY && token != JsonToken.END_DOCUMENT;
+	}
+
+	/**
+	 * Consumes the {@link JsonToken#BEGIN_OBJECT} token.
+	 */
+	public void beginObject() {
+		expect(JsonToken.BEGIN_OBJECT);
+		push(EMPTY_OBJECT);
+	}
+
+	/**
+	 * Consumes the {@link JsonToken#END_OBJECT} token.
+	 */
+	public void endObject() {
+		expect(JsonToken.END_OBJECT);
+		depth--;
+	}
+
+	/**
+	 * Consumes the {@link JsonToken#BEGIN_ARRAY} token.
+	 */
+	public void beginArray() {
+		expect(JsonToken.BEGIN_ARRAY);
+		push(EMPTY_ARRAY);
+	}
+
+	/**
+	 * Consumes the {@link JsonToken#END_ARRAY} token.
+	 */
+	public void endArray() {
+		expect(JsonToken.END_ARRAY);
+		depth--;
+	}
+
+	/**
+	 * Consumes the next {@link JsonToken#NAME} token and returns the name of the JSON object member.
+	 *
+	 * @return the JSON object member name, never {@literal null}.
+	 */
+	@NonNull
+	public String nextName() {
+		expect(JsonToken.NAME);
+		return value;
+	}
+
+	/**
+	 * Consumes the next {@link JsonToken#STRING} or {@link JsonToken#NUMBER} token and returns its
+	 * value. In case of numbers, the number literal is returned exactly as it was written.
+	 *
+	 * @return the JSON string value, never {@literal null}.
+	 */
+	@NonNull
+	public String nextString() {
+		if (peek() == JsonToken.NUMBER) {
+			peeked = null;
+			return value;
+		}
+		expect(JsonToken.STRING);
+		return value;
+	}
+
+	/**
+	 * Consumes the next {@link JsonToken#NUMBER} token.
+	 *
+	 * @return the JSON number as a {@link Long} when possible, or a {@link Double}, never {@literal null}.
+	 */
+	@NonNull
+	public Number nextNumber() {
+		expect(JsonToken.NUMBER);
+
+		if (value.indexOf('.') == -1 && value.indexOf('e') == -1 && value.indexOf('E') == -1) {
+			try {
+				return Long.parseLong(value);
+			} catch (NumberFormatException ex) {
+				// number is too large for a long, fallback to double
+			}
+		}
+
+		return Double.parseDouble(value);
+	}
+
+	/**
+	 * Consumes the next {@link JsonToken#BOOLEAN} token.
+	 *
+	 * @return the JSON boolean value.
+	 */
+	public boolean nextBoolean() {
+		expect(JsonToken.BOOLEAN);
+		return value.length() == 4;
+	}
+
+	/**
+	 * Consumes the next {@link JsonToken#NULL} token.
+	 */
+	public void nextNull() {
+		expect(JsonToken.NULL);
+	}
+
+	/**
+	 * Skips the next JSON value, including all nested values in case of JSON objects or arrays.
+	 */
+	public void skipValue() {
+		int count = 0;
+
+		do {
+			switch (peek()) {
+				case BEGIN_OBJECT -> {
+					beginObject();
+					count++;
+				}
+				case BEGIN_ARRAY -> {
+					beginArray();
+					count++;
+				}
+				case END_OBJECT -> {
+					endObject();
+					count--;
+				}
+				case END_ARRAY -> {
+					endArray();
+					count--;
+				}
+				case END_DOCUMENT -> throw syntaxError("Unexpected end of the JSON document");
+				default -> peeked = null;
+			}
+		} while (count > 0);
+	}
+
+	/**
+	 * Reads the next JSON value, including all nested values, into a tree of plain Java types.
+	 *
+	 * @return the JSON value, may be {@literal null} when the value is a {@code null} literal.
+	 */
+	@Nullable
+	public Object readValue() {
+		switch (peek()) {
+			case BEGIN_OBJECT -> {
+				final Map<String, Object> result = new LinkedHashMap<>();
+				beginObject();
+				while (hasNext()) {
+					final String name = nextName();
+					result.put(name, readValue());
+				}
+				endObject();
+				return result;
+			}
+			case BEGIN_ARRAY -> {
+				final List<Object> result = new ArrayList<>();
+				beginArray();
+				while (hasNext()) {
+					result.add(readValue());
+				}
+				endArray();
+				return result;
+			}
+			case STRING -> {
+				return nextString();
+			}
+			case NUMBER -> {
+				return nextNumber();
+			}
+			case BOOLEAN -> {
+				return nextBoolean();
+			}
+			case NULL -> {
+				nextNull();
+				return null;
+			}
+			default -> throw syntaxError("Expected a JSON value but was " + peek());
+		}
+	}
+
+	@Override
+	public void close() {
+		try {
+			reader.close();
+		} catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+	}
+
+	private void expect(JsonToken token) {
+		if (peek() != token) {
+			throw syntaxError("Expected " + token + " but was " + peeked);
+		}
+		peeked = null;
+	}
+
+	private void push(int scope) {
+		if (depth == stack.length) {
+			stack = Arrays.copyOf(stack, depth * 2);
+		}
+		stack[depth++] = scope;
+	}
+
+	private JsonToken peekValue() {
+		final int c = nextNonWhitespace();
+
+		switch (c) {
+			case '{':
+				return JsonToken.BEGIN_OBJECT;
+			case '[':
+				return JsonToken.BEGIN_ARRAY;
+			case '"':
+				value = readString();
+				return JsonToken.STRING;
+			case 't':
+				value = readLiteral("true");
+				return JsonToken.BOOLEAN;
+			case 'f':
+				value = readLiteral("false");
+				return JsonToken.BOOLEAN;
+			case 'n':
+				value = readLiteral("null");
+				return JsonToken.NULL;
+			case -1:
+				throw syntaxError("Unexpected end of the JSON document");
+			default:
+				if (c == '-' || (c >= '0' && c <= '9')) {
+					pos--;
+					value = readNumber();
+					return JsonToken.NUMBER;
+				}
+				throw syntaxError("Unexpected character '" + (char) c + "'");
+		}
+	}
+
+	private String readString() {
+		scratch.setLength(0);
+
+		int start = pos;
+		while (true) {
+			while (pos < limit) {
+				final char c = buffer[pos++];
+
+				if (c == '"') {
+					if (scratch.length() == 0) {
+						return new String(buffer, start, pos - start - 1);
+					}
+					scratch.append(buffer, start, pos - start - 1);
+					return scratch.toString();
+				}
+				if (c == '\\') {
+					scratch.append(buffer, start, pos - start - 1);
+					scratch.append(readEscape());
+					start = pos;
+				} else if (c < 0x20) {
+					throw syntaxError("Unescaped control character in JSON string");
+				}
+			}
+
+			scratch.append(buffer, start, pos - start);
+
+			if (!fill()) {
+				throw syntaxError("Unterminated JSON string");
+			}
+			start = pos;
+		}
+	}
+
+	private char readEscape() {
+		final int c = read();
+
+		switch (c) {
+			case '"', '\\', '/':
+				return (char) c;
+			case 'b':
+				return '\b';
+			case 'f':
+				return '\f';
+			case 'n':
+				return '\n';
+			case 'r':
+				return '\r';
+			case 't':
+				return '\t';
+			case 'u':
+				int result = 0;
+				for (int i = 0; i < 4; i++) {
+					final int digit = Character.digit(read(), 16);
+					if (digit == -1) {
+						throw syntaxError("Invalid unicode escape sequence");
+					}
+					result = (result << 4) | digit;
+				}
+				return (char) result;
+			default:
+				throw syntaxError("Invalid escape sequence");
+		}
+	}
+
+	private String readLiteral(String literal) {
+		for (int i = 1; i < literal.length(); i++) {
+			if (read() != literal.charAt(i)) {
+				throw syntaxError("Invalid JSON literal, expected '" + literal + "'");
+			}
+		}
+		return literal;
+	}
+
+	private String readNumber() {
+		scratch.setLength(0);
+
+		int c;
+		while ((c = read()) != -1) {
+			if ((c >= '0' && c <= '9') || c == '-' || c == '+' || c == '.' || c == 'e' || c == 'E') {
+				scratch.append((char) c);
+			} else {
+				pos--;
+				break;
+			}
+		}
+
+		final String number = scratch.toString();
+
+		if (!NUMBER.matcher(number).matches()) {
+			throw syntaxError("Invalid JSON number '" + number + "'");
+		}
+
+		return number;
+	}
+
+	private int nextNonWhitespace() {
+		int c;
+		while ((c = read()) != -1) {
+			if (c != ' ' && c != '\n' && c != '\r' && c != '\t') {
+				return c;
+			}
+		}
+		return -1;
+	}
+
+	private int read() {
+		if (pos == limit && !fill()) {
+			return -1;
+		}
+		return buffer[pos++];
+	}
+
+	private boolean fill() {
+		offset += limit;
+		pos = 0;
+		limit = 0;
+
+		try {
+			int read;
+			do {
+				read = reader.read(buffer, 0, buffer.length);
+			} while (read == 0);
+
+			if (read > 0) {
+				limit = read;
+				return true;
+			}
+			return false;
+		} catch (IOException ex) {
+			throw new UncheckedIOException("Failed to read JSON document", ex);
+		}
+	}
+
+	private IllegalArgumentException syntaxError(String message) {
+		return new IllegalArgumentException(message + " at position " + (offset + pos));
+	}
+
+}
@@ -0,0 +1,62 @@
+package com.konfigyr.artifactory.json;
+
+/**
+ * Describes the lexical tokens that can be consumed by the {@link JsonReader}.
+ *
+ * @author Vladimir Spasic
+ * @see JsonReader
+ * @since 1.0.0
+ */
+public enum JsonToken {
+
+	/**
+	 * The opening of a JSON array, the {@code [} character.
+	 */
+	BEGIN_ARRAY,
+
+	/**
+	 * The closing of a JSON array, the {@code ]} character.
+	 */
+	END_ARRAY,
+
+	/**
+	 * The opening of a JSON object, the {@code {} character.
+	 */
+	BEGIN_OBJECT,
+
+	/**
+	 * The closing of a JSON object, the {@code }} character.
+	 */
+	END_OBJECT,
+
+	/**
+	 * The name of the JSON object member.
+	 */
+	NAME,
+
+	/**
+	 * A JSON string value.
+	 */
+	STRING,
+
+	/**
+	 * A JSON number value.
+	 */
+	NUMBER,
+
+	/**
+	 * A JSON {@code true} or {@code false} literal.
+	 */
+	BOOLEAN,
+
+	/**
+	 * A JSON {@code null} literal.
+	 */
+	NULL,
+
+	/**
+	 * The end of the JSON document, no more tokens can be consumed.
+	 */
+	END_DOCUMENT
+
+}
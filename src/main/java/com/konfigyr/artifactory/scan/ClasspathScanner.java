@@ -0,0 +1,322 @@
+package com.konfigyr.artifactory.scan;
+
+import com.konfigyr.artifactory.Artifact;
+import com.konfigyr.artifactory.ArtifactMetadata;
+import com.konfigyr.artifactory.MetadataChecksum;
+import com.konfigyr.artifactory.PropertyDescriptor;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Scans the JAR files of the application classpath for Spring Boot configuration metadata and creates the
+ * {@link ArtifactMetadata} for each artifact that defines it.
+ * <p>
+ * Only the central directory of each JAR file is read to locate the {@code META-INF/spring-configuration-metadata.json}
+ * and {@code META-INF/additional-spring-configuration-metadata.json} files, which are then read directly from the
+ * memory-mapped JAR file. The artifact coordinates are read from the {@code META-INF/maven/**&#47;pom.properties}
+ * file that is added to the JAR by Maven, and the {@link MetadataChecksum checksum} of the created metadata is
+ * computed while it is created. JAR files are scanned in parallel, which is where most of the time is
+ * spent when the classpath contains hundreds of dependencies.
+ * <pre>{@code
+ * ClasspathScanner scanner = ClasspathScanner.create();
+ * List<ArtifactMetadata> metadata = scanner.scan(classpath);
+ * }</pre>
+ * JAR files without configuration metadata, or without Maven coordinates, as well as directories and other files
+ * without the {@code .jar} or {@code .zip} extension, are ignored. Scanners are immutable and thread-safe.
+ * <p>
+ * When a {@link ScanCache} is used, JAR files that were already scanned are not read again and their cached
+ * metadata is returned instead.
+ *
+ * @author Vladimir Spasic
+ * @see ArtifactMetadata
+ * @see ScanCache
+ * @since 1.0.0
+ */
+public final class ClasspathScanner {
+
+	static final String METADATA = "META-INF/spring-configuration-metadata.json";
+	static final String ADDITIONAL_METADATA = "META-INF/additional-spring-configuration-metadata.json";
+
+	private static final String MAVEN_DIRECTORY = "META-INF/maven/";
+	private static final String POM_PROPERTIES = "/pom.properties";
+
+	private static final AtomicInteger COUNTER = new AtomicInteger();
+
+	private final int parallelism;
+	private final @Nullable ScanCache cache;
+
+	private ClasspathScanner(int parallelism, @Nullable ScanCache cache) {
+		this.parallelism = parallelism;
+		this.cache = cache;
+	}
+
+	/**
+	 * Creates a new scanner that scans as many JAR files in parallel as there are available processors.
+	 *
+	 * @return classpath scanner, never {@literal null}.
+	 */
+	@NonNull
+	public static ClasspathScanner create() {
+		return create(Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * Creates a new scanner that scans up to the given number of JAR files in parallel.
+	 *
+	 * @param parallelism maximum number of JAR files that are scanned in parallel
+	 * @return classpath scanner, never {@literal null}.
+	 * @throws IllegalArgumentException when parallelism is not a positive number
+	 */
+	@NonNull
+	public static ClasspathScanner create(int parallelism) {
+		return create(parallelism, null);
+	}
+
+	/**
+	 * Creates a new scanner that scans up to the given number of JAR files in parallel and that uses the given
+	 * {@link ScanCache} to avoid scanning JAR files that were already scanned.
+	 *
+	 * @param parallelism maximum number of JAR files that are scanned in parallel
+	 * @param cache       scan cache to be used, can be {@literal null}.
+	 * @return classpath scanner, never {@literal null}.
+	 * @throws IllegalArgumentException when parallelism is not a positive number
+	 */
+	@NonNull
+	public static ClasspathScanner create(int parallelism, @Nullable ScanCache cache) {
+		if (parallelism < 1) {
+			throw new IllegalArgumentException("Parallelism must be a positive number");
+		}
+		return new ClasspathScanner(parallelism, cache);
+	}
+
+	/**
+	 * Scans the given classpath entries and returns the {@link ArtifactMetadata} of each artifact that defines
+	 * the configuration metadata, in the classpath order. When more than one JAR file contains the same artifact,
+	 * the first one is used.
+	 *
+	 * @param classpath classpath entries to scan, can't be {@literal null}.
+	 * @return artifact metadata of scanned artifacts, never {@literal null}.
+	 * @throws UncheckedIOException when a JAR file can not be read
+	 * @throws IllegalArgumentException when a JAR file contains invalid configuration metadata
+	 */
+	@NonNull
+	public List<ArtifactMetadata> scan(@NonNull Iterable<Path> classpath) {
+		final List<Path> jars = new ArrayList<>();
+
+		for (Path path : classpath) {
+			if (isArchive(path) && Files.isRegularFile(path)) {
+				jars.add(path);
+			}
+		}
+
+		final List<ArtifactMetadata> scanned = parallelism == 1 || jars.size() < 2 ? scanAll(jars)
+				: scanAll(jars, Math.min(parallelism, jars.size()));
+
+		final Map<String, ArtifactMetadata> result = new LinkedHashMap<>();
+
+		for (ArtifactMetadata metadata : scanned) {
+			if (metadata != null) {
+				result.putIfAbsent(metadata.coordinates(), metadata);
+			}
+		}
+
+		return List.copyOf(result.values());
+	}
+
+	/**
+	 * Scans the given JAR file and creates its {@link ArtifactMetadata}.
+	 *
+	 * @param jar JAR file to scan, can't be {@literal null}.
+	 * @return artifact metadata, or {@literal null} when the JAR file does not contain the configuration
+	 * metadata or the Maven coordinates.
+	 * @throws UncheckedIOException when a JAR file can not be read
+	 * @throws IllegalArgumentException when a JAR file contains invalid configuration metadata
+	 */
+	@Nullable
+	public ArtifactMetadata scan(@NonNull Path jar) {
+		return cache == null ? read(jar) : cache.get(jar, ClasspathScanner::read);
+	}
+
+	@Nullable
+	private static ArtifactMetadata read(Path jar) {
+		try (JarReader reader = JarReader.open(jar)) {
+			return scan(jar, reader);
+		} catch (IOException ex) {
+			throw new UncheckedIOException("Failed to scan JAR file: " + jar, ex);
+		}
+	}
+
+	/**
+	 * Classpath entries are considered to be JAR files by their extension, other files, such as resources or
+	 * property files that are added to the classpath, are ignored.
+	 */
+	private static boolean isArchive(Path path) {
+		final Path name = path.getFileName();
+
+		if (name == null) {
+			return false;
+		}
+
+		final String value = name.toString().toLowerCase(Locale.ROOT);
+		return value.endsWith(".jar") || value.endsWith(".zip");
+	}
+
+	private List<ArtifactMetadata> scanAll(List<Path> jars) {
+		final List<ArtifactMetadata> result = new ArrayList<>(jars.size());
+
+		for (Path jar : jars) {
+			result.add(scan(jar));
+		}
+
+		return result;
+	}
+
+	private List<ArtifactMetadata> scanAll(List<Path> jars, int threads) {
+		final ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+			final Thread thread = new Thread(runnable, "classpath-scanner-" + COUNTER.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+
+		try {
+			final List<Future<ArtifactMetadata>> futures = new ArrayList<>(jars.size());
+
+			for (Path jar : jars) {
+				futures.add(executor.submit(() -> scan(jar)));
+			}
+
+			final List<ArtifactMetadata> result = new ArrayList<>(jars.size());
+
+			for (Future<ArtifactMetadata> future : futures) {
+				result.add(future.get());
+			}
+
+			return result;
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new UncheckedIOException(new InterruptedIOException("Interrupted while scanning the classpath"));
+		} catch (ExecutionException ex) {
+			if (ex.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			if (ex.getCause() instanceof Error error) {
+				throw error;
+			}
+			throw new IllegalStateException("Failed to scan the classpath", ex.getCause());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Nullable
+	private static ArtifactMetadata scan(Path jar, JarReader reader) throws IOException {
+		final byte[] metadata = reader.read(METADATA);
+		final byte[] additional = reader.read(ADDITIONAL_METADATA);
+
+		if (metadata == null && additional == null) {
+			return null;
+		}
+
+		final Properties coordinates = coordinates(jar, reader);
+
+		if (coordinates == null) {
+			return null;
+		}
+
+		final Map<String, PropertyDescriptor> descriptors = new LinkedHashMap<>();
+
+		try {
+			if (metadata != null) {
+				ConfigurationMetadataReader.read(metadata, descriptors);
+			}
+			if (additional != null) {
+				ConfigurationMetadataReader.read(additional, descriptors);
+			}
+		} catch (IllegalArgumentException ex) {
+			throw new IllegalArgumentException("Invalid configuration metadata in JAR file: " + jar, ex);
+		}
+
+		if (descriptors.isEmpty()) {
+			return null;
+		}
+
+		final Artifact artifact = Artifact.of(coordinates.getProperty("groupId"),
+				coordinates.getProperty("artifactId"), coordinates.getProperty("version"));
+
+		// descriptors are digested in the same order in which they are sorted by the builder
+		final List<PropertyDescriptor> properties = new ArrayList<>(descriptors.values());
+		properties.sort(PropertyDescriptor::compareTo);
+
+		final MetadataChecksum checksum = MetadataChecksum.create().artifact(artifact);
+		properties.forEach(checksum::property);
+
+		return ArtifactMetadata.builder()
+				.artifact(artifact)
+				.properties(properties)
+				.checksum(checksum.checksum())
+				.build();
+	}
+
+	/**
+	 * Reads the Maven coordinates from the {@code pom.properties} file. Shaded JAR files may contain more than one
+	 * of them, in which case the one matching the JAR file name is used, or the first one when none matches.
+	 */
+	@Nullable
+	private static Properties coordinates(Path jar, JarReader reader) throws IOException {
+		final String filename = jar.getFileName().toString();
+		Properties result = null;
+
+		for (String name : reader.names()) {
+			if (!name.startsWith(MAVEN_DIRECTORY) || !name.endsWith(POM_PROPERTIES)) {
+				continue;
+			}
+
+			final byte[] contents = reader.read(name);
+
+			if (contents == null) {
+				continue;
+			}
+
+			final Properties properties = new Properties();
+			properties.load(new ByteArrayInputStream(contents));
+
+			if (isBlank(properties, "groupId") || isBlank(properties, "artifactId") || isBlank(properties, "version")) {
+				continue;
+			}
+
+			if (filename.startsWith(properties.getProperty("artifactId") + "-" + properties.getProperty("version"))) {
+				return properties;
+			}
+
+			if (result == null) {
+				result = properties;
+			}
+		}
+
+		return result;
+	}
+
+	private static boolean isBlank(Properties properties, String key) {
+		final String value = properties.getProperty(key);
+		return value == null || value.isBlank();
+	}
+
+}
@@ -0,0 +1,172 @@
+package com.konfigyr.artifactory.scan;
+
+import com.konfigyr.artifactory.Deprecation;
+import com.konfigyr.artifactory.PropertyDescriptor;
+import com.konfigyr.artifactory.json.JsonReader;
+import com.konfigyr.artifactory.json.JsonToken;
+import com.konfigyr.artifactory.schema.SchemaGenerator;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * Reads the {@link PropertyDescriptor property descriptors} from the Spring Boot configuration metadata files,
+ * {@code META-INF/spring-configuration-metadata.json} and
+ * {@code META-INF/additional-spring-configuration-metadata.json}, that are generated by the
+ * {@code spring-boot-configuration-processor}.
+ * <p>
+ * The metadata file is streamed using the {@link JsonReader}, only the {@code properties} are read while the
+ * {@code groups} and {@code hints} are skipped. As the metadata files do not contain the JSON Schema of the
+ * properties, the schema is {@link SchemaGenerator generated} from the property type name. Default values that
+ * are defined as JSON arrays are converted to comma-delimited values.
+ *
+ * @author Vladimir Spasic
+ * @see <a href="https://docs.spring.io/spring-boot/specification/configuration-metadata/format.html">Metadata Format</a>
+ * @since 1.0.0
+ */
+final class ConfigurationMetadataReader {
+
+	/**
+	 * Type name used for properties without a type, the type may be omitted when it is not known.
+	 */
+	static final String UNKNOWN_TYPE = "java.lang.Object";
+
+	private ConfigurationMetadataReader() {
+	}
+
+	/**
+	 * Reads the property descriptors from the contents of the configuration metadata file and adds them to the
+	 * given map, keyed by their names. Properties that are already present in the map are not replaced.
+	 *
+	 * @param contents    contents of the configuration metadata file
+	 * @param descriptors map to which read property descriptors are added
+	 * @throws IllegalArgumentException when the contents are not a valid configuration metadata file
+	 */
+	static void read(byte[] contents, Map<String, PropertyDescriptor> descriptors) {
+		final JsonReader reader = new JsonReader(new InputStreamReader(new ByteArrayInputStream(contents),
+				StandardCharsets.UTF_8));
+
+		reader.beginObject();
+
+		while (reader.hasNext()) {
+			if (!reader.nextName().equals("properties")) {
+				reader.skipValue();
+				continue;
+			}
+
+			reader.beginArray();
+
+			while (reader.hasNext()) {
+				final PropertyDescriptor descriptor = property(reader);
+				descriptors.putIfAbsent(descriptor.name(), descriptor);
+			}
+
+			reader.endArray();
+		}
+
+		reader.endObject();
+	}
+
+	private static PropertyDescriptor property(JsonReader reader) {
+		String name = null;
+		String type = null;
+		String description = null;
+		String defaultValue = null;
+		Deprecation deprecation = null;
+		boolean deprecated = false;
+
+		reader.beginObject();
+
+		while (reader.hasNext()) {
+			switch (reader.nextName()) {
+				case "name" -> name = string(reader);
+				case "type" -> type = string(reader);
+				case "description" -> description = string(reader);
+				case "defaultValue" -> defaultValue = defaultValue(reader);
+				case "deprecated" -> deprecated = reader.peek() == JsonToken.BOOLEAN && reader.nextBoolean();
+				case "deprecation" -> deprecation = deprecation(reader.readValue());
+				default -> reader.skipValue();
+			}
+		}
+
+		reader.endObject();
+
+		if (name == null || name.isBlank()) {
+			throw new IllegalArgumentException("Configuration metadata property must define a name");
+		}
+
+		if (type == null || type.isBlank()) {
+			type = UNKNOWN_TYPE;
+		}
+
+		if (deprecated && deprecation == null) {
+			deprecation = new Deprecation(null, null);
+		}
+
+		return PropertyDescriptor.builder()
+				.name(name)
+				.schema(SchemaGenerator.generate(type))
+				.typeName(type)
+				.description(description)
+				.defaultValue(defaultValue)
+				.deprecation(deprecation)
+				.build();
+	}
+
+	private static String string(JsonReader reader) {
+		if (reader.peek() == JsonToken.NULL) {
+			reader.nextNull();
+			return null;
+		}
+		return reader.nextString();
+	}
+
+	/**
+	 * Number literals are kept exactly as they are written, array elements are joined by commas and JSON objects
+	 * are ignored, as they can not be represented as a single value.
+	 */
+	private static String defaultValue(JsonReader reader) {
+		switch (reader.peek()) {
+			case BOOLEAN -> {
+				return String.valueOf(reader.nextBoolean());
+			}
+			case BEGIN_ARRAY -> {
+				final StringJoiner joiner = new StringJoiner(",");
+
+				reader.beginArray();
+				while (reader.hasNext()) {
+					final String value = defaultValue(reader);
+
+					if (value != null) {
+						joiner.add(value);
+					}
+				}
+				reader.endArray();
+
+				return joiner.toString();
+			}
+			case BEGIN_OBJECT -> {
+				reader.skipValue();
+				return null;
+			}
+			default -> {
+				return string(reader);
+			}
+		}
+	}
+
+	private static Deprecation deprecation(Object value) {
+		if (value instanceof Map<?, ?> deprecation) {
+			return new Deprecation(text(deprecation.get("reason")), text(deprecation.get("replacement")));
+		}
+		return null;
+	}
+
+	private static String text(Object value) {
+		return value == null ? null : String.valueOf(value);
+	}
+
+}
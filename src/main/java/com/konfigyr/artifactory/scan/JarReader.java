@@ -0,0 +1,321 @@
+package com.konfigyr.artifactory.scan;
+
+import org.jspecify.annotations.Nullable;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+/**
+ * Reads selected entries of a JAR file directly from its memory-mapped central directory, without reading or
+ * inflating any of the other entries. Only the entries within the {@code META-INF/} directory are indexed when
+ * the central directory is read, as this is where the configuration metadata and Maven descriptors are located.
+ * <p>
+ * The reader supports stored and deflated entries and JAR files in the ZIP64 format.
+ *
+ * @author Vladimir Spasic
+ * @see <a href="https://pkware.cachefly.net/webdocs/casestudies/APPNOTE.TXT">ZIP File Format Specification</a>
+ * @since 1.0.0
+ */
+final class JarReader implements Closeable {
+
+	private static final int END_SIGNATURE = 0x06054b50;
+	private static final int END_SIZE = 22;
+	private static final int ZIP64_LOCATOR_SIGNATURE = 0x07064b50;
+	private static final int ZIP64_LOCATOR_SIZE = 20;
+	private static final int ZIP64_END_SIGNATURE = 0x06064b50;
+	private static final int CENTRAL_SIGNATURE = 0x02014b50;
+	private static final int CENTRAL_SIZE = 46;
+	private static final int LOCAL_SIGNATURE = 0x04034b50;
+	private static final int LOCAL_SIZE = 30;
+
+	private static final int STORED = 0;
+	private static final int DEFLATED = 8;
+
+	private static final int CHUNK_SIZE = 64 * 1024;
+
+	private static final byte[] PREFIX = "META-INF/".getBytes(StandardCharsets.US_ASCII);
+
+	private final Path path;
+	private final FileChannel channel;
+	private final Map<String, Entry> entries;
+
+	private JarReader(Path path, FileChannel channel, Map<String, Entry> entries) {
+		this.path = path;
+		this.channel = channel;
+		this.entries = entries;
+	}
+
+	/**
+	 * Opens the JAR file and reads the entries within the {@code META-INF/} directory from its central directory.
+	 *
+	 * @param path path to the JAR file
+	 * @return the JAR reader
+	 * @throws IOException when the file can not be read or is not a valid JAR file
+	 */
+	static JarReader open(Path path) throws IOException {
+		final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+
+		try {
+			return new JarReader(path, channel, entries(path, channel));
+		} catch (IOException | RuntimeException ex) {
+			channel.close();
+			throw ex;
+		}
+	}
+
+	/**
+	 * Returns the names of all indexed entries, which are the entries within the {@code META-INF/} directory.
+	 *
+	 * @return entry names
+	 */
+	Set<String> names() {
+		return entries.keySet();
+	}
+
+	/**
+	 * Reads and, when needed, inflates the contents of the entry with the given name.
+	 *
+	 * @param name entry name
+	 * @return entry contents or {@literal null} when there is no such entry
+	 * @throws IOException when the entry can not be read
+	 */
+	byte @Nullable [] read(String name) throws IOException {
+		final Entry entry = entries.get(name);
+
+		if (entry == null) {
+			return null;
+		}
+
+		final ByteBuffer header = ByteBuffer.allocate(LOCAL_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+
+		while (header.hasRemaining()) {
+			if (channel.read(header, entry.offset() + header.position()) < 0) {
+				throw error("Unexpected end of file while reading local header of " + name);
+			}
+		}
+
+		if (header.getInt(0) != LOCAL_SIGNATURE) {
+			throw error("Invalid local header signature of " + name);
+		}
+
+		final long position = entry.offset() + LOCAL_SIZE + unsignedShort(header, 26) + unsignedShort(header, 28);
+
+		if (position + entry.compressedSize() > channel.size()) {
+			throw error("Entry " + name + " exceeds the file size");
+		}
+
+		final MappedByteBuffer data = channel.map(FileChannel.MapMode.READ_ONLY, position, entry.compressedSize());
+
+		if (entry.method() == STORED) {
+			if (entry.size() != entry.compressedSize()) {
+				throw error("Unexpected size of " + name);
+			}
+
+			final byte[] contents = new byte[entry.size()];
+			data.get(contents);
+			return contents;
+		}
+
+		// the uncompressed size is only declared by the central directory, so the buffer grows while inflating
+		// instead of allocating the declared size before any data is inflated
+		byte[] contents = new byte[Math.min(entry.size(), CHUNK_SIZE)];
+		final Inflater inflater = new Inflater(true);
+
+		try {
+			inflater.setInput(data);
+
+			int length = 0;
+			while (length < entry.size() && !inflater.finished()) {
+				if (length == contents.length) {
+					contents = Arrays.copyOf(contents, (int) Math.min(entry.size(), contents.length * 2L));
+				}
+
+				final int inflated = inflater.inflate(contents, length, contents.length - length);
+
+				if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+					throw error("Truncated deflated data of " + name);
+				}
+
+				length += inflated;
+			}
+
+			if (length != entry.size()) {
+				throw error("Unexpected size of " + name);
+			}
+		} catch (DataFormatException ex) {
+			throw error("Invalid deflated data of " + name + ": " + ex.getMessage());
+		} finally {
+			inflater.end();
+		}
+
+		return contents;
+	}
+
+	@Override
+	public void close() throws IOException {
+		channel.close();
+	}
+
+	private static Map<String, Entry> entries(Path path, FileChannel channel) throws IOException {
+		final long size = channel.size();
+		final int tail = (int) Math.min(size, END_SIZE + 0xFFFF + ZIP64_LOCATOR_SIZE);
+		final ByteBuffer end = channel.map(FileChannel.MapMode.READ_ONLY, size - tail, tail)
+				.order(ByteOrder.LITTLE_ENDIAN);
+
+		// the end record is followed by a variable length comment, scan backwards for its signature
+		int record = tail - END_SIZE;
+		while (record >= 0 && end.getInt(record) != END_SIGNATURE) {
+			record--;
+		}
+
+		if (record < 0) {
+			throw new ZipException(path + ": Could not find the end of central directory record");
+		}
+
+		long directorySize = Integer.toUnsignedLong(end.getInt(record + 12));
+		long directoryOffset = Integer.toUnsignedLong(end.getInt(record + 16));
+
+		if (directoryOffset == 0xFFFFFFFFL && record >= ZIP64_LOCATOR_SIZE
+				&& end.getInt(record - ZIP64_LOCATOR_SIZE) == ZIP64_LOCATOR_SIGNATURE) {
+			final long offset = end.getLong(record - ZIP64_LOCATOR_SIZE + 8);
+			final ByteBuffer zip64 = channel.map(FileChannel.MapMode.READ_ONLY, offset, 56)
+					.order(ByteOrder.LITTLE_ENDIAN);
+
+			if (zip64.getInt(0) != ZIP64_END_SIGNATURE) {
+				throw new ZipException(path + ": Invalid ZIP64 end of central directory record");
+			}
+
+			directorySize = zip64.getLong(40);
+			directoryOffset = zip64.getLong(48);
+		}
+
+		if (directoryOffset + directorySize > size || directorySize > Integer.MAX_VALUE) {
+			throw new ZipException(path + ": Invalid central directory location");
+		}
+
+		final ByteBuffer directory = channel.map(FileChannel.MapMode.READ_ONLY, directoryOffset, directorySize)
+				.order(ByteOrder.LITTLE_ENDIAN);
+		final Map<String, Entry> entries = new LinkedHashMap<>();
+
+		int position = 0;
+		while (position + CENTRAL_SIZE <= directory.limit()) {
+			if (directory.getInt(position) != CENTRAL_SIGNATURE) {
+				throw new ZipException(path + ": Invalid central directory entry signature");
+			}
+
+			final int nameLength = unsignedShort(directory, position + 28);
+			final int extraLength = unsignedShort(directory, position + 30);
+			final int commentLength = unsignedShort(directory, position + 32);
+			final int name = position + CENTRAL_SIZE;
+
+			if (name + nameLength > directory.limit()) {
+				throw new ZipException(path + ": Invalid central directory entry name");
+			}
+
+			if (startsWith(directory, name, nameLength)) {
+				final Entry entry = entry(path, directory, position, name + nameLength, extraLength);
+
+				if (entry != null) {
+					entries.put(decode(directory, name, nameLength), entry);
+				}
+			}
+
+			position = name + nameLength + extraLength + commentLength;
+		}
+
+		return entries;
+	}
+
+	@Nullable
+	private static Entry entry(Path path, ByteBuffer directory, int position, int extra, int extraLength)
+			throws ZipException {
+		final int method = unsignedShort(directory, position + 10);
+
+		if (method != STORED && method != DEFLATED) {
+			return null;
+		}
+
+		long compressedSize = Integer.toUnsignedLong(directory.getInt(position + 20));
+		long size = Integer.toUnsignedLong(directory.getInt(position + 24));
+		long offset = Integer.toUnsignedLong(directory.getInt(position + 42));
+
+		// ZIP64 extra field contains only the values that are set to 0xFFFFFFFF in the entry, in this order
+		if (size == 0xFFFFFFFFL || compressedSize == 0xFFFFFFFFL || offset == 0xFFFFFFFFL) {
+			int field = extra;
+			while (field + 4 <= extra + extraLength) {
+				final int id = unsignedShort(directory, field);
+				final int length = unsignedShort(directory, field + 2);
+
+				if (id == 0x0001) {
+					int value = field + 4;
+					if (size == 0xFFFFFFFFL) {
+						size = directory.getLong(value);
+						value += 8;
+					}
+					if (compressedSize == 0xFFFFFFFFL) {
+						compressedSize = directory.getLong(value);
+						value += 8;
+					}
+					if (offset == 0xFFFFFFFFL) {
+						offset = directory.getLong(value);
+					}
+					break;
+				}
+
+				field += 4 + length;
+			}
+		}
+
+		if (size > Integer.MAX_VALUE - 8) {
+			throw new ZipException(path + ": Entry is too large to be read");
+		}
+
+		return new Entry(method, compressedSize, (int) size, offset);
+	}
+
+	private static boolean startsWith(ByteBuffer buffer, int position, int length) {
+		if (length < PREFIX.length) {
+			return false;
+		}
+
+		for (int i = 0; i < PREFIX.length; i++) {
+			if (buffer.get(position + i) != PREFIX[i]) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private static String decode(ByteBuffer buffer, int position, int length) {
+		final byte[] bytes = new byte[length];
+		buffer.get(position, bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private static int unsignedShort(ByteBuffer buffer, int position) {
+		return Short.toUnsignedInt(buffer.getShort(position));
+	}
+
+	private ZipException error(String message) {
+		return new ZipException(path + ": " + message);
+	}
+
+	private record Entry(int method, long compressedSize, int size, long offset) {
+	}
+
+}
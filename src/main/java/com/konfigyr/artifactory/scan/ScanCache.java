@@ -0,0 +1,384 @@
+package com.konfigyr.artifactory.scan;
+
+import com.konfigyr.artifactory.ArtifactMetadata;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Persistent, on-disk, cache of the {@link ArtifactMetadata} that was created by the {@link ClasspathScanner}
+ * for JAR files that were already scanned, which are most of the dependency JAR files of a project between two
+ * builds.
+ * <p>
+ * Scanned metadata is stored as a serialized {@link ArtifactMetadata}, with its checksum already computed, in a
+ * file that is named after the {@code SHA-256} digest of the JAR file contents. JAR files without configuration
+ * metadata are stored as empty files, so they are not scanned again either. To avoid digesting the JAR files on
+ * every lookup, the cache keeps an index of the digests by the JAR file path, size and last modified time, which
+ * is written to the cache directory when the cache is closed. JAR files whose size and last modified time did not
+ * change are never read.
+ * <p>
+ * Each cache hit updates the last modified time of the cache file. When the total size of the cache files
+ * exceeds the maximum cache size, the least recently used files are evicted until the cache is under the
+ * maximum size again. Cache files that can not be read are treated as cache misses and are replaced.
+ * <pre>{@code
+ * try (ScanCache cache = ScanCache.open(directory)) {
+ *     List<ArtifactMetadata> metadata = ClasspathScanner.create(8, cache).scan(classpath);
+ * }
+ * }</pre>
+ * The cache is thread-safe, it is not safe to use the same cache directory from multiple processes at the same
+ * time.
+ *
+ * @author Vladimir Spasic
+ * @see ClasspathScanner
+ * @since 1.0.0
+ */
+public final class ScanCache implements Closeable {
+
+	/**
+	 * Default maximum size of the cache files, 64MB.
+	 */
+	public static final long DEFAULT_MAX_SIZE = 64L * 1024 * 1024;
+
+	private static final String INDEX = "index";
+	private static final String EXTENSION = ".metadata";
+	private static final int DIGEST_CHUNK = 64 * 1024 * 1024;
+
+	/**
+	 * Filter of the cache file streams, the array limit also applies to the property descriptor counts and the
+	 * string lengths that are read by the serialization proxy of the artifact metadata.
+	 */
+	private static final ObjectInputFilter FILTER = ObjectInputFilter.Config.createFilter(
+			"maxdepth=16;maxarray=1048576;maxbytes=67108864;"
+					+ "com.konfigyr.artifactory.*;java.lang.*;java.util.*;java.net.URI;!*");
+
+	private final Path directory;
+	private final long maxSize;
+	private final Map<String, Stamp> index;
+	private final AtomicLong size;
+	private volatile boolean closed;
+
+	private ScanCache(Path directory, long maxSize, Map<String, Stamp> index, long size) {
+		this.directory = directory;
+		this.maxSize = maxSize;
+		this.index = index;
+		this.size = new AtomicLong(size);
+	}
+
+	/**
+	 * Opens the scan cache in the given directory, with the {@link #DEFAULT_MAX_SIZE default maximum size}.
+	 *
+	 * @param directory cache directory, created if it does not exist, can't be {@literal null}.
+	 * @return the opened scan cache, never {@literal null}.
+	 * @throws UncheckedIOException when the cache could not be opened
+	 */
+	@NonNull
+	public static ScanCache open(@NonNull Path directory) {
+		return open(directory, DEFAULT_MAX_SIZE);
+	}
+
+	/**
+	 * Opens the scan cache in the given directory.
+	 *
+	 * @param directory cache directory, created if it does not exist, can't be {@literal null}.
+	 * @param maxSize   maximum total size of the cache files, in bytes
+	 * @return the opened scan cache, never {@literal null}.
+	 * @throws IllegalArgumentException when maximum size is not a positive number
+	 * @throws UncheckedIOException     when the cache could not be opened
+	 */
+	@NonNull
+	public static ScanCache open(@NonNull Path directory, long maxSize) {
+		if (maxSize <= 0) {
+			throw new IllegalArgumentException("Maximum cache size must be a positive number");
+		}
+
+		try {
+			Files.createDirectories(directory);
+
+			long size = 0;
+			try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + EXTENSION)) {
+				for (Path file : files) {
+					size += Files.size(file);
+				}
+			}
+
+			return new ScanCache(directory, maxSize, readIndex(directory.resolve(INDEX)), size);
+		} catch (IOException ex) {
+			throw new UncheckedIOException("Failed to open scan cache in: " + directory, ex);
+		}
+	}
+
+	/**
+	 * Returns the total size of the cache files, in bytes.
+	 *
+	 * @return cache size
+	 */
+	public long size() {
+		return size.get();
+	}
+
+	/**
+	 * Returns the cached {@link ArtifactMetadata} of the given JAR file, or scans the JAR file using the given
+	 * scanner function and caches its result when the JAR file is not present in the cache.
+	 *
+	 * @param jar     JAR file for which metadata is returned, can't be {@literal null}.
+	 * @param scanner function used to scan the JAR file on cache misses, can't be {@literal null}.
+	 * @return cached or scanned metadata, or {@literal null} when the JAR file does not contain metadata.
+	 * @throws UncheckedIOException  when the JAR file or the cache could not be read
+	 * @throws IllegalStateException when the cache is closed
+	 */
+	@Nullable
+	public ArtifactMetadata get(@NonNull Path jar, @NonNull Function<Path, @Nullable ArtifactMetadata> scanner) {
+		if (closed) {
+			throw new IllegalStateException("Scan cache is closed");
+		}
+
+		try {
+			final String digest = digest(jar);
+			final Path file = directory.resolve(digest + EXTENSION);
+			final Entry entry = read(file);
+
+			if (entry != null) {
+				return entry.metadata();
+			}
+
+			final ArtifactMetadata metadata = scanner.apply(jar);
+			write(file, metadata);
+
+			return metadata;
+		} catch (IOException ex) {
+			throw new UncheckedIOException("Failed to read scan cache entry for: " + jar, ex);
+		}
+	}
+
+	/**
+	 * Writes the index of JAR file digests to the cache directory and closes the cache.
+	 *
+	 * @throws UncheckedIOException when the index could not be written
+	 */
+	@Override
+	public void close() {
+		if (closed) {
+			return;
+		}
+
+		closed = true;
+
+		final Path temporary = directory.resolve(INDEX + ".tmp");
+
+		try {
+			try (BufferedWriter writer = Files.newBufferedWriter(temporary, StandardCharsets.UTF_8)) {
+				for (Map.Entry<String, Stamp> entry : index.entrySet()) {
+					final Stamp stamp = entry.getValue();
+					writer.write(String.join("\t", stamp.digest(), Long.toString(stamp.size()),
+							Long.toString(stamp.modified()), entry.getKey()));
+					writer.newLine();
+				}
+			}
+
+			Files.move(temporary, directory.resolve(INDEX), StandardCopyOption.REPLACE_EXISTING,
+					StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException ex) {
+			throw new UncheckedIOException("Failed to write scan cache index in: " + directory, ex);
+		}
+	}
+
+	/**
+	 * Returns the digest of the JAR file contents, the JAR file is only digested when its size or last modified
+	 * time changed since it was last digested.
+	 */
+	private String digest(Path jar) throws IOException {
+		final Path path = jar.toAbsolutePath().normalize();
+		final BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+		final long modified = attributes.lastModifiedTime().toMillis();
+		final Stamp stamp = index.get(path.toString());
+
+		if (stamp != null && stamp.size() == attributes.size() && stamp.modified() == modified) {
+			return stamp.digest();
+		}
+
+		final String digest = digest(path, attributes.size());
+		index.put(path.toString(), new Stamp(digest, attributes.size(), modified));
+		return digest;
+	}
+
+	@Nullable
+	private Entry read(Path file) throws IOException {
+		final byte[] contents;
+
+		try {
+			contents = Files.readAllBytes(file);
+		} catch (NoSuchFileException ex) {
+			return null;
+		}
+
+		Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+
+		if (contents.length == 0) {
+			return new Entry(null);
+		}
+
+		try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(contents))) {
+			input.setObjectInputFilter(FILTER);
+
+			if (input.readObject() instanceof ArtifactMetadata metadata) {
+				return new Entry(metadata);
+			}
+		} catch (IOException | ClassNotFoundException ex) {
+			// cache file is corrupted, rejected by the filter or was written by an incompatible version
+		}
+
+		return null;
+	}
+
+	private void write(Path file, @Nullable ArtifactMetadata metadata) throws IOException {
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+		if (metadata != null) {
+			try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+				output.writeObject(metadata);
+			}
+		}
+
+		final long previous = Files.exists(file) ? Files.size(file) : 0;
+		final Path temporary = Files.createTempFile(directory, "entry", ".tmp");
+
+		try {
+			Files.write(temporary, bytes.toByteArray());
+			Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} finally {
+			Files.deleteIfExists(temporary);
+		}
+
+		if (size.addAndGet(bytes.size() - previous) > maxSize) {
+			evict();
+		}
+	}
+
+	/**
+	 * Evicts the least recently used cache files until the total size of the cache files is under the
+	 * maximum size. Files are evicted until the cache is at 90% of its maximum size, so the eviction is not
+	 * repeated for each cache miss once the cache is full.
+	 */
+	private synchronized void evict() throws IOException {
+		if (size.get() <= maxSize) {
+			return;
+		}
+
+		final List<Path> files = new ArrayList<>();
+		try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*" + EXTENSION)) {
+			stream.forEach(files::add);
+		}
+
+		final Map<Path, FileTime> accessed = new HashMap<>();
+		for (Path file : files) {
+			try {
+				accessed.put(file, Files.getLastModifiedTime(file));
+			} catch (NoSuchFileException ex) {
+				// file was already evicted
+			}
+		}
+
+		files.removeIf(file -> !accessed.containsKey(file));
+		files.sort(Comparator.comparing(accessed::get));
+
+		final long target = maxSize - maxSize / 10;
+
+		for (Path file : files) {
+			if (size.get() <= target) {
+				break;
+			}
+
+			try {
+				final long length = Files.size(file);
+				Files.delete(file);
+				size.addAndGet(-length);
+			} catch (NoSuchFileException ex) {
+				// file was already evicted
+			}
+		}
+	}
+
+	private static String digest(Path path, long size) throws IOException {
+		final MessageDigest digest;
+
+		try {
+			digest = MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException ex) {
+			throw new IllegalStateException("SHA-256 algorithm is not supported", ex);
+		}
+
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			for (long position = 0; position < size; position += DIGEST_CHUNK) {
+				digest.update(channel.map(FileChannel.MapMode.READ_ONLY, position,
+						Math.min(DIGEST_CHUNK, size - position)));
+			}
+		}
+
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	private static Map<String, Stamp> readIndex(Path file) throws IOException {
+		final Map<String, Stamp> index = new ConcurrentHashMap<>();
+
+		if (!Files.exists(file)) {
+			return index;
+		}
+
+		try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				final String[] parts = line.split("\t", 4);
+
+				if (parts.length != 4) {
+					continue;
+				}
+
+				try {
+					index.put(parts[3], new Stamp(parts[0], Long.parseLong(parts[1]), Long.parseLong(parts[2])));
+				} catch (NumberFormatException ex) {
+					// ignore malformed index lines, the JAR file would be digested again
+				}
+			}
+		}
+
+		return index;
+	}
+
+	private record Stamp(String digest, long size, long modified) {
+	}
+
+	private record Entry(@Nullable ArtifactMetadata metadata) {
+	}
+
+}
@@ -0,0 +1,395 @@
+package com.konfigyr.artifactory.schema;
+
+import com.konfigyr.artifactory.BoundedCache;
+import com.konfigyr.artifactory.PropertyDescriptor;
+import com.konfigyr.artifactory.json.JsonReader;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.nio.charset.Charset;
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Registry of parsers that convert the {@link PropertyDescriptor#defaultValue() default values} of property
+ * descriptors, which are always defined as text, into typed values based on the
+ * {@link PropertyDescriptor#typeName() property type name}.
+ * <p>
+ * The parser for a type name is resolved only once, when the type name is first encountered, and parsed values
+ * are cached by their default value text for each type name. As most descriptors share a small number of types
+ * and default values, like {@code java.time.Duration} and {@code 30s}, each default value is parsed only once,
+ * no matter how many times it is rendered or validated. Parsers are thread-safe and can be shared.
+ * <pre>{@code
+ * DefaultValueParser parser = DefaultValueParser.create();
+ * Duration timeout = parser.parse(descriptor, Duration.class);
+ * }</pre>
+ * Supported types are:
+ * <ul>
+ *   <li>{@link String} and {@link CharSequence} values, returned as is.</li>
+ *   <li>{@link Boolean}, matched case-insensitively, and {@link Character} values.</li>
+ *   <li>{@link Byte}, {@link Short}, {@link Integer}, {@link Long}, {@link Float}, {@link Double},
+ *   {@link BigInteger} and {@link BigDecimal} values, including their primitive types.</li>
+ *   <li>{@link Duration} values, either in the ISO-8601 format, like {@code PT30S}, or in the simple format,
+ *   like {@code 30s} or {@code 500ms}, where values without a unit are in milliseconds. Like in Spring, both
+ *   formats are matched ignoring case, so {@code 30S} and {@code pt30s} are accepted as well.</li>
+ *   <li>Spring {@code DataSize} values, like {@code 10MB} or {@code 10mb}, that are parsed into a {@link Long}
+ *   number of bytes, values without a unit are in bytes.</li>
+ *   <li>{@link Charset}, {@link Locale} and {@link URI} values.</li>
+ *   <li>Arrays and collections, defined as comma-delimited values, that are parsed into unmodifiable lists, or
+ *   sets, of their element types.</li>
+ *   <li>Maps, defined either as JSON objects or as comma-delimited {@code key=value} pairs, that are parsed
+ *   into unmodifiable maps with the values of the map value type.</li>
+ * </ul>
+ * Default values of any other type, like enumerations, are returned as is. Additional parsers can be registered
+ * using the {@link Builder}.
+ *
+ * @author Vladimir Spasic
+ * @see PropertyDescriptor#defaultValue()
+ * @since 1.0.0
+ */
+public final class DefaultValueParser {
+
+	private static final int CACHE_SIZE = 1024;
+
+	private static final Pattern AMOUNT = Pattern.compile("^([+-]?\\d+)([a-zA-Z]{0,2})$");
+
+	private static final Pattern ISO_8601 = Pattern.compile("^[+-]?[pP].*$");
+
+	private static final Function<String, Object> IDENTITY = value -> value;
+
+	private final Map<String, Function<String, ?>> parsers;
+	private final Map<String, Type> types = new ConcurrentHashMap<>();
+
+	private DefaultValueParser(Map<String, Function<String, ?>> parsers) {
+		this.parsers = parsers;
+	}
+
+	/**
+	 * Creates a new parser with the parsers for the supported types.
+	 *
+	 * @return default value parser, never {@literal null}.
+	 */
+	@NonNull
+	public static DefaultValueParser create() {
+		return builder().build();
+	}
+
+	/**
+	 * Creates a new {@link Builder} used to register additional parsers.
+	 *
+	 * @return default value parser builder, never {@literal null}.
+	 */
+	@NonNull
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Parses the default value of the given {@link PropertyDescriptor} into a value of its type.
+	 *
+	 * @param descriptor property descriptor for which default value is parsed, can't be {@literal null}.
+	 * @return the parsed default value, or {@literal null} when the descriptor has no default value.
+	 * @throws IllegalArgumentException when the default value can not be parsed into its type
+	 */
+	@Nullable
+	public Object parse(@NonNull PropertyDescriptor descriptor) {
+		return parse(descriptor.typeName(), descriptor.defaultValue());
+	}
+
+	/**
+	 * Parses the default value of the given {@link PropertyDescriptor} into a value of the expected type.
+	 *
+	 * @param descriptor property descriptor for which default value is parsed, can't be {@literal null}.
+	 * @param type       expected type of the default value, can't be {@literal null}.
+	 * @param <T>        expected type of the default value
+	 * @return the parsed default value, or {@literal null} when the descriptor has no default value.
+	 * @throws IllegalArgumentException when the default value can not be parsed or is not of the expected type
+	 */
+	@Nullable
+	public <T> T parse(@NonNull PropertyDescriptor descriptor, @NonNull Class<T> type) {
+		final Object value = parse(descriptor);
+
+		if (value == null || type.isInstance(value)) {
+			return type.cast(value);
+		}
+
+		throw new IllegalArgumentException("Default value of '" + descriptor.name() + "' is of type "
+				+ value.getClass().getName() + " and not " + type.getName());
+	}
+
+	/**
+	 * Parses the given value text into a value of the given type name.
+	 *
+	 * @param typeName type name of the value, can be {@literal null}.
+	 * @param value    value text to be parsed, can be {@literal null}.
+	 * @return the parsed value, or {@literal null} when the value text is {@literal null}.
+	 * @throws IllegalArgumentException when the value text can not be parsed into its type
+	 */
+	@Nullable
+	public Object parse(@Nullable String typeName, @Nullable String value) {
+		if (value == null) {
+			return null;
+		}
+
+		return types.computeIfAbsent(typeName == null ? "" : typeName, this::resolve).parse(value);
+	}
+
+	private Type resolve(String typeName) {
+		return new Type(typeName, parser(typeName));
+	}
+
+	private Function<String, ?> parser(String typeName) {
+		final Function<String, ?> registered = parsers.get(typeName);
+
+		if (registered != null) {
+			return registered;
+		}
+
+		if (TypeNames.isArray(typeName)) {
+			return list(parser(typeName.substring(0, typeName.length() - 2)));
+		}
+
+		final String raw = TypeNames.raw(typeName);
+
+		if (parsers.containsKey(raw)) {
+			return parsers.get(raw);
+		}
+
+		if (TypeNames.isMap(raw)) {
+			return map(parser(TypeNames.argument(typeName, 1, 2)));
+		}
+		if (TypeNames.isSet(raw)) {
+			return set(parser(TypeNames.argument(typeName, 0, 1)));
+		}
+		if (TypeNames.isCollection(raw)) {
+			return list(parser(TypeNames.argument(typeName, 0, 1)));
+		}
+
+		return IDENTITY;
+	}
+
+	private static Function<String, ?> list(Function<String, ?> element) {
+		return value -> Collections.unmodifiableList(elements(value, element));
+	}
+
+	private static Function<String, ?> set(Function<String, ?> element) {
+		return value -> Collections.unmodifiableSet(new LinkedHashSet<>(elements(value, element)));
+	}
+
+	private static List<Object> elements(String value, Function<String, ?> element) {
+		final List<Object> elements = new ArrayList<>();
+
+		if (value.isBlank()) {
+			return elements;
+		}
+
+		for (String part : value.split(",")) {
+			elements.add(element.apply(part.trim()));
+		}
+
+		return elements;
+	}
+
+	private static Function<String, ?> map(Function<String, ?> element) {
+		return value -> {
+			final Map<String, Object> result = new LinkedHashMap<>();
+
+			if (value.trim().startsWith("{")) {
+				if (JsonReader.parse(value) instanceof Map<?, ?> entries) {
+					entries.forEach((key, it) -> result.put(String.valueOf(key),
+							it == null ? null : element.apply(String.valueOf(it))));
+				}
+			} else if (!value.isBlank()) {
+				for (String part : value.split(",")) {
+					final int separator = part.indexOf('=');
+
+					if (separator == -1) {
+						throw new IllegalArgumentException("Expected a key=value pair but was '" + part + "'");
+					}
+
+					result.put(part.substring(0, separator).trim(), element.apply(part.substring(separator + 1)
+							.trim()));
+				}
+			}
+
+			return Collections.unmodifiableMap(result);
+		};
+	}
+
+	private static Boolean parseBoolean(String value) {
+		if (value.equalsIgnoreCase("true")) {
+			return Boolean.TRUE;
+		}
+		if (value.equalsIgnoreCase("false")) {
+			return Boolean.FALSE;
+		}
+		throw new IllegalArgumentException("Expected either 'true' or 'false'");
+	}
+
+	private static Character parseCharacter(String value) {
+		if (value.length() != 1) {
+			throw new IllegalArgumentException("Expected a single character");
+		}
+		return value.charAt(0);
+	}
+
+	private static Duration parseDuration(String value) {
+		if (ISO_8601.matcher(value).matches()) {
+			return Duration.parse(value);
+		}
+
+		final Matcher matcher = AMOUNT.matcher(value);
+
+		if (!matcher.matches()) {
+			throw new IllegalArgumentException("Expected a duration like '30s' or 'PT30S'");
+		}
+
+		// units are matched ignoring their case, like the Spring DurationStyle does
+		final ChronoUnit unit = switch (matcher.group(2).toLowerCase(Locale.ROOT)) {
+			case "ns" -> ChronoUnit.NANOS;
+			case "us" -> ChronoUnit.MICROS;
+			case "", "ms" -> ChronoUnit.MILLIS;
+			case "s" -> ChronoUnit.SECONDS;
+			case "m" -> ChronoUnit.MINUTES;
+			case "h" -> ChronoUnit.HOURS;
+			case "d" -> ChronoUnit.DAYS;
+			default -> throw new IllegalArgumentException("Unknown duration unit '" + matcher.group(2) + "'");
+		};
+
+		return Duration.of(Long.parseLong(matcher.group(1)), unit);
+	}
+
+	private static Long parseDataSize(String value) {
+		final Matcher matcher = AMOUNT.matcher(value);
+
+		if (!matcher.matches()) {
+			throw new IllegalArgumentException("Expected a data size like '10MB'");
+		}
+
+		// units are matched ignoring their case, like the Spring DataUnit does
+		final int shift = switch (matcher.group(2).toUpperCase(Locale.ROOT)) {
+			case "", "B" -> 0;
+			case "KB" -> 10;
+			case "MB" -> 20;
+			case "GB" -> 30;
+			case "TB" -> 40;
+			default -> throw new IllegalArgumentException("Unknown data size unit '" + matcher.group(2) + "'");
+		};
+
+		return Math.multiplyExact(Long.parseLong(matcher.group(1)), 1L << shift);
+	}
+
+	/**
+	 * Resolved parser for a single type name with the cache of the parsed values. Parsed values are immutable
+	 * and the least recently used ones are evicted when the cache is full.
+	 */
+	private static final class Type {
+
+		private final String name;
+		private final Function<String, ?> parser;
+		private final BoundedCache<String, Object> values = BoundedCache.create(CACHE_SIZE);
+
+		Type(String name, Function<String, ?> parser) {
+			this.name = name;
+			this.parser = parser;
+		}
+
+		Object parse(String value) {
+			final Object cached = values.get(value);
+
+			if (cached != null) {
+				return cached;
+			}
+
+			final Object parsed;
+
+			try {
+				parsed = parser.apply(value);
+			} catch (RuntimeException ex) {
+				throw new IllegalArgumentException("Invalid default value '" + value + "' for type '" + name
+						+ "': " + ex.getMessage(), ex);
+			}
+
+			if (parsed != null) {
+				final Object existing = values.putIfAbsent(value, parsed);
+				return existing == null ? parsed : existing;
+			}
+
+			return parsed;
+		}
+	}
+
+	/**
+	 * Builder used to create a {@link DefaultValueParser} with additional parsers, registered parsers take
+	 * precedence over the parsers of the supported types.
+	 */
+	public static final class Builder {
+
+		private final Map<String, Function<String, ?>> parsers = new HashMap<>();
+
+		private Builder() {
+			register(BigDecimal::new, "java.math.BigDecimal");
+			register(BigInteger::new, "java.math.BigInteger");
+			register(DefaultValueParser::parseBoolean, "java.lang.Boolean", "boolean");
+			register(Byte::valueOf, "java.lang.Byte", "byte");
+			register(DefaultValueParser::parseCharacter, "java.lang.Character", "char");
+			register(Charset::forName, "java.nio.charset.Charset");
+			register(Double::valueOf, "java.lang.Double", "double");
+			register(DefaultValueParser::parseDuration, "java.time.Duration");
+			register(DefaultValueParser::parseDataSize, "org.springframework.util.unit.DataSize");
+			register(Float::valueOf, "java.lang.Float", "float");
+			register(Integer::valueOf, "java.lang.Integer", "int");
+			register(value -> Locale.forLanguageTag(value.replace('_', '-')), "java.util.Locale");
+			register(Long::valueOf, "java.lang.Long", "long");
+			register(Short::valueOf, "java.lang.Short", "short");
+			register(IDENTITY, "java.lang.String", "java.lang.CharSequence", "java.lang.Object");
+			register(URI::create, "java.net.URI");
+		}
+
+		/**
+		 * Registers the parser for the given type name. Type names are matched exactly, parsers of generic
+		 * types, like {@code java.util.List}, should be registered using their raw type name.
+		 *
+		 * @param typeName type name for which the parser is registered, can't be {@literal null}.
+		 * @param parser   parser of the value text, can't be {@literal null}.
+		 * @return builder instance
+		 */
+		@NonNull
+		public Builder parser(@NonNull String typeName, @NonNull Function<String, ?> parser) {
+			parsers.put(typeName, parser);
+			return this;
+		}
+
+		/**
+		 * Creates the {@link DefaultValueParser} with the registered parsers.
+		 *
+		 * @return default value parser, never {@literal null}.
+		 */
+		@NonNull
+		public DefaultValueParser build() {
+			return new DefaultValueParser(Map.copyOf(parsers));
+		}
+
+		private void register(Function<String, ?> parser, String... typeNames) {
+			for (String typeName : typeNames) {
+				parsers.put(typeName, parser);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,585 @@
+package com.konfigyr.artifactory.schema;
+
+import com.konfigyr.artifactory.BoundedCache;
+import com.konfigyr.artifactory.PropertyDescriptor;
+import com.konfigyr.artifactory.json.JsonReader;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Compiled representation of the JSON Schema that is defined by the {@link PropertyDescriptor#schema()}.
+ * <p>
+ * The schema text is parsed only once and compiled into a tree of constraints that can be evaluated against
+ * any number of configuration values without parsing or interpreting the schema again. Compiled schemas are
+ * immutable, thread-safe and cached by their schema text, so descriptors sharing the same schema, which is
+ * the most common case, also share the same compiled instance.
+ * <p>
+ * Supported JSON Schema keywords are:
+ * <ul>
+ *   <li>{@code type}: either a single type name or an array of type names.</li>
+ *   <li>{@code enum}: list of allowed values, matched case-insensitively like Spring enum binding.</li>
+ *   <li>{@code minimum}, {@code maximum}, {@code exclusiveMinimum} and {@code exclusiveMaximum}.</li>
+ *   <li>{@code minLength}, {@code maxLength}, {@code minItems} and {@code maxItems}.</li>
+ *   <li>{@code pattern}: regular expression that string values must contain.</li>
+ *   <li>{@code items}: schema applied to each element of an array value.</li>
+ *   <li>{@code properties}, {@code required} and {@code additionalProperties}: applied to object values.</li>
+ * </ul>
+ * Unknown keywords are ignored. As configuration values are usually supplied as text, string values are
+ * coerced before being checked: numeric strings satisfy {@code integer} and {@code number} types, {@code true}
+ * and {@code false} satisfy the {@code boolean} type and comma-delimited strings satisfy the {@code array}
+ * type. A {@literal null} value represents an absent value and always satisfies the schema.
+ *
+ * @author Vladimir Spasic
+ * @see PropertyDescriptor#schema()
+ * @see <a href="https://json-schema.org/draft/2020-12/json-schema-validation.html">JSON Schema Validation</a>
+ * @since 1.0.0
+ */
+public final class JsonSchema {
+
+	private static final BoundedCache<String, JsonSchema> CACHE = BoundedCache.create(8192);
+
+	private static final Constraint ANY = value -> null;
+
+	private final String source;
+	private final Constraint constraint;
+
+	private JsonSchema(String source, Constraint constraint) {
+		this.source = source;
+		this.constraint = constraint;
+	}
+
+	/**
+	 * Compiles the given JSON Schema text, or returns the already compiled instance for the same text.
+	 *
+	 * @param schema JSON Schema text to compile, can't be {@literal null}.
+	 * @return the compiled JSON Schema, never {@literal null}.
+	 * @throws IllegalArgumentException when the schema is not a valid JSON document or contains an
+	 *                                  invalid regular expression pattern
+	 */
+	@NonNull
+	public static JsonSchema compile(@NonNull String schema) {
+		return CACHE.computeIfAbsent(schema, text -> new JsonSchema(text, compile(JsonReader.parse(text))));
+	}
+
+	/**
+	 * Compiles the JSON Schema of the given {@link PropertyDescriptor}.
+	 *
+	 * @param descriptor property descriptor for which schema should be compiled, can't be {@literal null}.
+	 * @return the compiled JSON Schema, never {@literal null}.
+	 * @throws IllegalArgumentException when the schema is not a valid JSON Schema document
+	 */
+	@NonNull
+	public static JsonSchema compile(@NonNull PropertyDescriptor descriptor) {
+		return compile(descriptor.schema());
+	}
+
+	/**
+	 * Returns the JSON Schema text from which this schema was compiled.
+	 *
+	 * @return JSON Schema text, never {@literal null}.
+	 */
+	@NonNull
+	public String source() {
+		return source;
+	}
+
+	/**
+	 * Checks if the given value satisfies all the constraints of this schema.
+	 *
+	 * @param value value to check, may be {@literal null}.
+	 * @return {@code true} when the value is valid, {@code false} otherwise.
+	 */
+	public boolean matches(@Nullable Object value) {
+		return constraint.check(value) == null;
+	}
+
+	/**
+	 * Validates the given value against the constraints of this schema and returns the message
+	 * describing the first constraint that the value does not satisfy.
+	 *
+	 * @param value value to validate, may be {@literal null}.
+	 * @return the validation error message, or an empty {@link Optional} when value is valid.
+	 */
+	@NonNull
+	public Optional<String> validate(@Nullable Object value) {
+		return Optional.ofNullable(constraint.check(value));
+	}
+
+	/**
+	 * Validates the value of an element nested within the value described by this schema, for instance a single
+	 * entry of a map or a single element of an array. The path contains the map keys, or array indexes, leading
+	 * to the element that should be validated.
+	 * <p>
+	 * This method is used when configuration properties are bound to a map or a collection using separate keys,
+	 * for example when the {@code logging.level.org.hibernate} property, with the value of {@code DEBUG}, is
+	 * validated against the schema of the {@code logging.level} map property with the {@code org.hibernate} path.
+	 *
+	 * @param path  path to the nested element, can't be {@literal null}.
+	 * @param value value of the nested element to validate, may be {@literal null}.
+	 * @return the validation error message, or an empty {@link Optional} when value is valid.
+	 */
+	@NonNull
+	public Optional<String> validate(@NonNull List<String> path, @Nullable Object value) {
+		Constraint current = constraint;
+
+		for (String segment : path) {
+			current = current.child(segment);
+		}
+
+		return Optional.ofNullable(current.check(value));
+	}
+
+	@Override
+	public String toString() {
+		return "JsonSchema(" + source + ")";
+	}
+
+	static Constraint compile(@Nullable Object node) {
+		if (Boolean.FALSE.equals(node)) {
+			return value -> value == null ? null : "value is not allowed";
+		}
+		if (!(node instanceof Map<?, ?> schema)) {
+			return ANY;
+		}
+
+		final List<Constraint> constraints = new ArrayList<>();
+
+		final Object type = schema.get("type");
+		if (type != null) {
+			constraints.add(new TypeConstraint(types(type)));
+		}
+
+		final Object values = schema.get("enum");
+		if (values instanceof Collection<?> collection) {
+			constraints.add(new EnumConstraint(collection));
+		}
+
+		final BigDecimal minimum = decimal(schema.get("minimum"));
+		final BigDecimal exclusiveMinimum = decimal(schema.get("exclusiveMinimum"));
+		final BigDecimal maximum = decimal(schema.get("maximum"));
+		final BigDecimal exclusiveMaximum = decimal(schema.get("exclusiveMaximum"));
+		if (minimum != null || exclusiveMinimum != null || maximum != null || exclusiveMaximum != null) {
+			constraints.add(new RangeConstraint(minimum, exclusiveMinimum, maximum, exclusiveMaximum));
+		}
+
+		final Integer minLength = integer(schema.get("minLength"));
+		final Integer maxLength = integer(schema.get("maxLength"));
+		if (minLength != null || maxLength != null) {
+			constraints.add(new LengthConstraint(minLength, maxLength));
+		}
+
+		final Object pattern = schema.get("pattern");
+		if (pattern instanceof String regex) {
+			try {
+				constraints.add(new PatternConstraint(Pattern.compile(regex)));
+			} catch (PatternSyntaxException ex) {
+				throw new IllegalArgumentException("Invalid JSON Schema pattern: " + regex, ex);
+			}
+		}
+
+		final Integer minItems = integer(schema.get("minItems"));
+		final Integer maxItems = integer(schema.get("maxItems"));
+		if (minItems != null || maxItems != null) {
+			constraints.add(new SizeConstraint(minItems, maxItems));
+		}
+
+		if (schema.containsKey("items")) {
+			constraints.add(new ItemsConstraint(compile(schema.get("items"))));
+		}
+
+		final Object properties = schema.get("properties");
+		final Object required = schema.get("required");
+		final Object additionalProperties = schema.get("additionalProperties");
+		if (properties instanceof Map || required instanceof Collection || additionalProperties != null) {
+			constraints.add(ObjectConstraint.create(properties, required, additionalProperties));
+		}
+
+		if (constraints.isEmpty()) {
+			return ANY;
+		}
+		if (constraints.size() == 1) {
+			return constraints.get(0);
+		}
+
+		return new AllOfConstraint(constraints.toArray(Constraint[]::new));
+	}
+
+	private static Set<Type> types(Object type) {
+		final Set<Type> types = EnumSet.noneOf(Type.class);
+
+		if (type instanceof Collection<?> collection) {
+			collection.forEach(it -> types.add(Type.of(it)));
+		} else {
+			types.add(Type.of(type));
+		}
+
+		return types;
+	}
+
+	@Nullable
+	private static BigDecimal decimal(@Nullable Object value) {
+		return value instanceof Number ? new BigDecimal(value.toString()) : null;
+	}
+
+	@Nullable
+	private static Integer integer(@Nullable Object value) {
+		return value instanceof Number number ? number.intValue() : null;
+	}
+
+	/**
+	 * Attempts to convert the given configuration value into a number.
+	 *
+	 * @param value value to convert
+	 * @return the numeric value or {@literal null} when value is not a number
+	 */
+	@Nullable
+	static BigDecimal toNumber(@Nullable Object value) {
+		if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+			return BigDecimal.valueOf(((Number) value).longValue());
+		}
+		if (value instanceof BigDecimal decimal) {
+			return decimal;
+		}
+		if (value instanceof Number || value instanceof CharSequence) {
+			final String text = value.toString().trim();
+
+			if (text.isEmpty() || !isNumeric(text)) {
+				return null;
+			}
+
+			try {
+				return new BigDecimal(text);
+			} catch (NumberFormatException ex) {
+				return null;
+			}
+		}
+		return null;
+	}
+
+	private static boolean isNumeric(String text) {
+		final char first = text.charAt(0);
+		return first == '-' || first == '+' || first == '.' || (first >= '0' && first <= '9');
+	}
+
+	/**
+	 * Returns the elements of the given array value, comma-delimited strings are split into elements.
+	 *
+	 * @param value value to convert
+	 * @return array elements or {@literal null} when value is not an array
+	 */
+	@Nullable
+	static List<?> toElements(@Nullable Object value) {
+		if (value instanceof List<?> list) {
+			return list;
+		}
+		if (value instanceof Collection<?> collection) {
+			return new ArrayList<>(collection);
+		}
+		if (value instanceof Object[] array) {
+			return List.of(array);
+		}
+		if (value instanceof CharSequence text) {
+			if (text.length() == 0) {
+				return List.of();
+			}
+
+			final String[] parts = text.toString().split(",");
+			final List<String> elements = new ArrayList<>(parts.length);
+			for (String part : parts) {
+				elements.add(part.trim());
+			}
+			return elements;
+		}
+		return null;
+	}
+
+	/**
+	 * Single, compiled JSON Schema constraint.
+	 */
+	@FunctionalInterface
+	interface Constraint {
+
+		/**
+		 * Checks the given value against this constraint.
+		 *
+		 * @param value value to check, may be {@literal null}
+		 * @return error message or {@literal null} when value satisfies this constraint
+		 */
+		@Nullable
+		String check(@Nullable Object value);
+
+		/**
+		 * Returns the constraint that applies to the nested element, identified by a map key or an array
+		 * index, of the value checked by this constraint.
+		 *
+		 * @param segment map key or array index of the nested element
+		 * @return the nested element constraint, never {@literal null}
+		 */
+		default Constraint child(String segment) {
+			return ANY;
+		}
+
+	}
+
+	enum Type {
+		STRING, INTEGER, NUMBER, BOOLEAN, ARRAY, OBJECT, NULL;
+
+		static Type of(Object value) {
+			try {
+				return valueOf(String.valueOf(value).toUpperCase(Locale.ROOT));
+			} catch (IllegalArgumentException ex) {
+				throw new IllegalArgumentException("Unsupported JSON Schema type: " + value, ex);
+			}
+		}
+
+		boolean matches(Object value) {
+			return switch (this) {
+				case STRING -> value instanceof CharSequence || value instanceof Number
+						|| value instanceof Boolean || value instanceof Character || value instanceof Enum;
+				case INTEGER -> {
+					final BigDecimal number = toNumber(value);
+					yield number != null && (number.signum() == 0 || number.stripTrailingZeros().scale() <= 0);
+				}
+				case NUMBER -> toNumber(value) != null;
+				case BOOLEAN -> value instanceof Boolean || (value instanceof CharSequence text
+						&& ("true".equalsIgnoreCase(text.toString().trim())
+						|| "false".equalsIgnoreCase(text.toString().trim())));
+				case ARRAY -> toElements(value) != null;
+				case OBJECT -> value instanceof Map;
+				case NULL -> false;
+			};
+		}
+
+		@Override
+		public String toString() {
+			return name().toLowerCase(Locale.ROOT);
+		}
+	}
+
+	record AllOfConstraint(Constraint[] constraints) implements Constraint {
+		@Override
+		public String check(Object value) {
+			for (Constraint constraint : constraints) {
+				final String error = constraint.check(value);
+				if (error != null) {
+					return error;
+				}
+			}
+			return null;
+		}
+
+		@Override
+		public Constraint child(String segment) {
+			final List<Constraint> children = new ArrayList<>(constraints.length);
+
+			for (Constraint constraint : constraints) {
+				final Constraint child = constraint.child(segment);
+				if (child != ANY) {
+					children.add(child);
+				}
+			}
+
+			if (children.isEmpty()) {
+				return ANY;
+			}
+			return children.size() == 1 ? children.get(0) : new AllOfConstraint(children.toArray(Constraint[]::new));
+		}
+	}
+
+	record TypeConstraint(Set<Type> types) implements Constraint {
+		@Override
+		public String check(Object value) {
+			if (value == null) {
+				return null;
+			}
+			for (Type type : types) {
+				if (type.matches(value)) {
+					return null;
+				}
+			}
+			return types.size() == 1 ? "must be of type " + types.iterator().next()
+					: "must be one of the following types: " + types;
+		}
+	}
+
+	record EnumConstraint(Collection<?> values) implements Constraint {
+		@Override
+		public String check(Object value) {
+			if (value == null) {
+				return null;
+			}
+
+			final String candidate = value.toString().trim();
+
+			for (Object allowed : values) {
+				if (allowed == null ? candidate.isEmpty() : candidate.equalsIgnoreCase(allowed.toString())) {
+					return null;
+				}
+			}
+			return "must be one of " + values;
+		}
+	}
+
+	record RangeConstraint(
+			BigDecimal minimum,
+			BigDecimal exclusiveMinimum,
+			BigDecimal maximum,
+			BigDecimal exclusiveMaximum
+	) implements Constraint {
+		@Override
+		public String check(Object value) {
+			final BigDecimal number = toNumber(value);
+
+			if (number == null) {
+				return null;
+			}
+			if (minimum != null && number.compareTo(minimum) < 0) {
+				return "must be greater than or equal to " + minimum.toPlainString();
+			}
+			if (exclusiveMinimum != null && number.compareTo(exclusiveMinimum) <= 0) {
+				return "must be greater than " + exclusiveMinimum.toPlainString();
+			}
+			if (maximum != null && number.compareTo(maximum) > 0) {
+				return "must be less than or equal to " + maximum.toPlainString();
+			}
+			if (exclusiveMaximum != null && number.compareTo(exclusiveMaximum) >= 0) {
+				return "must be less than " + exclusiveMaximum.toPlainString();
+			}
+			return null;
+		}
+	}
+
+	record LengthConstraint(Integer minLength, Integer maxLength) implements Constraint {
+		@Override
+		public String check(Object value) {
+			if (!(value instanceof CharSequence text)) {
+				return null;
+			}
+			if (minLength != null && text.length() < minLength) {
+				return "must be at least " + minLength + " characters long";
+			}
+			if (maxLength != null && text.length() > maxLength) {
+				return "must be at most " + maxLength + " characters long";
+			}
+			return null;
+		}
+	}
+
+	record PatternConstraint(Pattern pattern) implements Constraint {
+		@Override
+		public String check(Object value) {
+			if (!(value instanceof CharSequence text) || pattern.matcher(text).find()) {
+				return null;
+			}
+			return "must match the pattern " + pattern.pattern();
+		}
+	}
+
+	record SizeConstraint(Integer minItems, Integer maxItems) implements Constraint {
+		@Override
+		public String check(Object value) {
+			final List<?> elements = toElements(value);
+
+			if (elements == null) {
+				return null;
+			}
+			if (minItems != null && elements.size() < minItems) {
+				return "must contain at least " + minItems + " elements";
+			}
+			if (maxItems != null && elements.size() > maxItems) {
+				return "must contain at most " + maxItems + " elements";
+			}
+			return null;
+		}
+	}
+
+	record ItemsConstraint(Constraint items) implements Constraint {
+		@Override
+		public String check(Object value) {
+			if (value instanceof Map) {
+				return null;
+			}
+
+			final List<?> elements = toElements(value);
+
+			if (elements == null) {
+				return null;
+			}
+			for (int i = 0; i < elements.size(); i++) {
+				final String error = items.check(elements.get(i));
+				if (error != null) {
+					return "[" + i + "] " + error;
+				}
+			}
+			return null;
+		}
+
+		@Override
+		public Constraint child(String segment) {
+			return items;
+		}
+	}
+
+	record ObjectConstraint(
+			Map<String, Constraint> properties,
+			Collection<String> required,
+			Constraint additionalProperties
+	) implements Constraint {
+
+		static ObjectConstraint create(Object properties, Object required, Object additionalProperties) {
+			final Map<String, Constraint> constraints = new HashMap<>();
+
+			if (properties instanceof Map<?, ?> map) {
+				map.forEach((name, schema) -> constraints.put(String.valueOf(name), compile(schema)));
+			}
+
+			final List<String> names = new ArrayList<>();
+			if (required instanceof Collection<?> collection) {
+				collection.forEach(name -> names.add(String.valueOf(name)));
+			}
+
+			return new ObjectConstraint(constraints, names, additionalProperties == null ? ANY
+					: compile(additionalProperties));
+		}
+
+		@Override
+		public String check(Object value) {
+			if (!(value instanceof Map<?, ?> map)) {
+				return null;
+			}
+			for (String name : required) {
+				if (!map.containsKey(name)) {
+					return name + ": is required";
+				}
+			}
+			for (Map.Entry<?, ?> entry : map.entrySet()) {
+				final String name = String.valueOf(entry.getKey());
+				final String error = properties.getOrDefault(name, additionalProperties).check(entry.getValue());
+
+				if (error != null) {
+					return name + ": " + error;
+				}
+			}
+			return null;
+		}
+
+		@Override
+		public Constraint child(String segment) {
+			return properties.getOrDefault(segment, additionalProperties);
+		}
+	}
+
+}
@@ -0,0 +1,151 @@
+package com.konfigyr.artifactory.schema;
+
+import com.konfigyr.artifactory.BoundedCache;
+import com.konfigyr.artifactory.PropertyDescriptor;
+import com.konfigyr.artifactory.json.JsonCanonicalizer;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Generates the JSON Schema of a property value from its {@link PropertyDescriptor#typeName() type name}, which
+ * can be used by producers of the {@link PropertyDescriptor property descriptors} to fill in the required
+ * {@link PropertyDescriptor#schema()} when the type of the property is known:
+ * <pre>{@code
+ * PropertyDescriptor.builder()
+ *     .name("server.port")
+ *     .typeName("java.lang.Integer")
+ *     .schema(SchemaGenerator.generate("java.lang.Integer"))
+ *     .build();
+ * }</pre>
+ * Generic type names are parsed into their type arguments, arrays and collections are described by the schema
+ * of their elements and maps by the schema of their values, for example the schema of the
+ * {@code java.util.Map<java.lang.String,java.util.List<java.lang.Integer>>} type is:
+ * <pre>{@code
+ * {"additionalProperties":{"items":{"format":"int32","type":"integer"},"type":"array"},"type":"object"}
+ * }</pre>
+ * Types that can not be described by their name alone, like enumerations or custom value types, accept any
+ * value. Generated schemas are in their {@link JsonCanonicalizer canonical form} and, when possible, are the
+ * shared {@link WellKnownSchema well-known schemas}. Schemas are generated only once for the same type name,
+ * the generator is thread-safe.
+ *
+ * @author Vladimir Spasic
+ * @see WellKnownSchema
+ * @see PropertyDescriptor#typeName()
+ * @since 1.0.0
+ */
+public final class SchemaGenerator {
+
+	private static final BoundedCache<String, String> CACHE = BoundedCache.create(8192);
+
+	private static final Map<String, WellKnownSchema> TYPES = new HashMap<>();
+
+	static {
+		register(WellKnownSchema.STRING, "java.lang.String", "java.lang.CharSequence", "java.lang.Character",
+				"char", "java.lang.Class", "java.util.regex.Pattern", "java.util.Locale", "java.util.TimeZone",
+				"java.time.ZoneId", "java.nio.file.Path", "java.io.File", "org.springframework.core.io.Resource");
+		register(WellKnownSchema.BOOLEAN, "java.lang.Boolean", "boolean");
+		register(WellKnownSchema.INTEGER, "java.lang.Byte", "byte", "java.lang.Short", "short",
+				"java.math.BigInteger");
+		register(WellKnownSchema.INT32, "java.lang.Integer", "int");
+		register(WellKnownSchema.INT64, "java.lang.Long", "long");
+		register(WellKnownSchema.NUMBER, "java.math.BigDecimal", "java.lang.Number");
+		register(WellKnownSchema.FLOAT, "java.lang.Float", "float");
+		register(WellKnownSchema.DOUBLE, "java.lang.Double", "double");
+		register(WellKnownSchema.DURATION, "java.time.Duration");
+		register(WellKnownSchema.DATA_SIZE, "org.springframework.util.unit.DataSize");
+		register(WellKnownSchema.CHARSET, "java.nio.charset.Charset");
+		register(WellKnownSchema.URI, "java.net.URI", "java.net.URL");
+		register(WellKnownSchema.DATE_TIME, "java.util.Date", "java.time.Instant", "java.time.LocalDateTime",
+				"java.time.OffsetDateTime", "java.time.ZonedDateTime");
+	}
+
+	private SchemaGenerator() {
+	}
+
+	/**
+	 * Generates the JSON Schema for the given type name, or returns the already generated schema for the same
+	 * type name.
+	 *
+	 * @param typeName type name of the property value, can be {@literal null}.
+	 * @return canonical JSON Schema text, never {@literal null}.
+	 */
+	@NonNull
+	public static String generate(@Nullable String typeName) {
+		if (typeName == null || typeName.isBlank()) {
+			return WellKnownSchema.ANY.schema();
+		}
+
+		return CACHE.computeIfAbsent(typeName, type -> intern(generateSchema(type.strip())));
+	}
+
+	/**
+	 * Generates the JSON Schema for the {@link PropertyDescriptor#typeName()} of the given descriptor.
+	 *
+	 * @param descriptor property descriptor for which schema is generated, can't be {@literal null}.
+	 * @return canonical JSON Schema text, never {@literal null}.
+	 */
+	@NonNull
+	public static String generate(@NonNull PropertyDescriptor descriptor) {
+		return generate(descriptor.typeName());
+	}
+
+	/**
+	 * Generated schemas are written in their canonical form, the nested schemas are canonical and members are
+	 * written in their sorted order, which means that the text does not need to be canonicalized again.
+	 */
+	private static String generateSchema(String typeName) {
+		if (TypeNames.isArray(typeName)) {
+			return array(typeName.substring(0, typeName.length() - 2));
+		}
+
+		final String raw = TypeNames.raw(typeName);
+		final WellKnownSchema schema = TYPES.get(raw);
+
+		if (schema != null) {
+			return schema.schema();
+		}
+
+		if (TypeNames.isMap(raw)) {
+			final String values = TypeNames.argument(typeName, 1, 2);
+
+			if (values.isEmpty() || raw.equals("java.util.Properties")) {
+				return WellKnownSchema.STRING_MAP.schema();
+			}
+
+			return "{\"additionalProperties\":" + generateSchema(values) + ",\"type\":\"object\"}";
+		}
+		if (TypeNames.isSet(raw) || TypeNames.isCollection(raw)) {
+			final String elements = TypeNames.argument(typeName, 0, 1);
+			return elements.isEmpty() ? WellKnownSchema.ARRAY.schema() : array(elements);
+		}
+		if (raw.equals("java.util.Optional")) {
+			final String value = TypeNames.argument(typeName, 0, 1);
+			return value.isEmpty() ? WellKnownSchema.ANY.schema() : generateSchema(value);
+		}
+
+		return WellKnownSchema.ANY.schema();
+	}
+
+	private static String array(String elements) {
+		return "{\"items\":" + generateSchema(elements) + ",\"type\":\"array\"}";
+	}
+
+	/**
+	 * Returns the shared instance of the well-known schema for the generated schema text, if there is one, so
+	 * that the generated schemas do not retain copies of the well-known schema texts.
+	 */
+	private static String intern(String schema) {
+		final WellKnownSchema wellKnown = WellKnownSchema.lookup(schema);
+		return wellKnown == null ? schema : wellKnown.schema();
+	}
+
+	private static void register(WellKnownSchema schema, String... typeNames) {
+		for (String typeName : typeNames) {
+			TYPES.put(typeName, schema);
+		}
+	}
+
+}
@@ -0,0 +1,215 @@
+package com.konfigyr.artifactory.schema;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Utility class used to parse the generic {@link com.konfigyr.artifactory.PropertyDescriptor#typeName() type
+ * names} of property descriptors, like {@code java.util.Map<java.lang.String,java.util.List<java.lang.Integer>>}.
+ * <p>
+ * Map, set and collection types are recognized by their known names, which is how Spring decides whether to bind
+ * a property as a container or as a regular object. The {@link #isMapType(String)} and
+ * {@link #isIndexedType(String)} methods expose this classification to the indexes that resolve the sub-keys of
+ * container properties, so that they agree with the generated schemas.
+ *
+ * @author Vladimir Spasic
+ * @since 1.0.0
+ */
+public final class TypeNames {
+
+	/**
+	 * Known map types, types are matched by their exact names as user types, like {@code com.acme.ColorMap},
+	 * are bound by Spring as regular objects and not as maps.
+	 */
+	private static final Set<String> MAPS = Set.of(
+			"java.util.Map",
+			"java.util.HashMap",
+			"java.util.LinkedHashMap",
+			"java.util.TreeMap",
+			"java.util.SortedMap",
+			"java.util.NavigableMap",
+			"java.util.EnumMap",
+			"java.util.Hashtable",
+			"java.util.WeakHashMap",
+			"java.util.IdentityHashMap",
+			"java.util.Properties",
+			"java.util.concurrent.ConcurrentMap",
+			"java.util.concurrent.ConcurrentHashMap",
+			"java.util.concurrent.ConcurrentNavigableMap",
+			"java.util.concurrent.ConcurrentSkipListMap",
+			"org.springframework.util.MultiValueMap",
+			"org.springframework.util.LinkedMultiValueMap",
+			"org.springframework.util.LinkedCaseInsensitiveMap"
+	);
+
+	private static final Set<String> SETS = Set.of(
+			"java.util.Set",
+			"java.util.HashSet",
+			"java.util.LinkedHashSet",
+			"java.util.TreeSet",
+			"java.util.SortedSet",
+			"java.util.NavigableSet",
+			"java.util.EnumSet",
+			"java.util.concurrent.CopyOnWriteArraySet",
+			"java.util.concurrent.ConcurrentSkipListSet"
+	);
+
+	private static final Set<String> COLLECTIONS = Set.of(
+			"java.lang.Iterable",
+			"java.util.Collection",
+			"java.util.List",
+			"java.util.ArrayList",
+			"java.util.LinkedList",
+			"java.util.Vector",
+			"java.util.Stack",
+			"java.util.Queue",
+			"java.util.Deque",
+			"java.util.ArrayDeque",
+			"java.util.concurrent.CopyOnWriteArrayList"
+	);
+
+	private TypeNames() {
+	}
+
+	/**
+	 * Checks if the type name represents one of the known map types, for example
+	 * {@code java.util.Map<java.lang.String,java.lang.String>} or {@code java.util.Properties}. Types that are
+	 * only named like maps, like {@code com.acme.ColorMap}, are not map types.
+	 *
+	 * @param typeName type name to check, can be {@literal null}.
+	 * @return {@code true} when type is a map type
+	 */
+	public static boolean isMapType(@Nullable String typeName) {
+		return typeName != null && isMap(raw(typeName.strip()).strip());
+	}
+
+	/**
+	 * Checks if the type name represents an array or one of the known set and collection types, for example
+	 * {@code java.lang.String[]} or {@code java.util.List<java.lang.String>}. Types that are only named like
+	 * collections, like {@code java.util.BitSet}, are not indexed types.
+	 *
+	 * @param typeName type name to check, can be {@literal null}.
+	 * @return {@code true} when type is an indexed type
+	 */
+	public static boolean isIndexedType(@Nullable String typeName) {
+		if (typeName == null) {
+			return false;
+		}
+
+		final String type = typeName.strip();
+
+		if (isArray(type)) {
+			return true;
+		}
+
+		final String raw = raw(type).strip();
+		return isSet(raw) || isCollection(raw);
+	}
+
+	/**
+	 * Returns the raw type name without the generic type arguments.
+	 *
+	 * @param typeName type name
+	 * @return raw type name
+	 */
+	static String raw(String typeName) {
+		final int generics = typeName.indexOf('<');
+		return generics == -1 ? typeName : typeName.substring(0, generics);
+	}
+
+	/**
+	 * Returns the generic type arguments of the type name. Arguments are split on the top level commas, nested
+	 * generic type arguments are kept as a part of their type argument.
+	 *
+	 * @param typeName type name
+	 * @return generic type arguments, or an empty list when type is not generic
+	 */
+	static List<String> arguments(String typeName) {
+		final int generics = typeName.indexOf('<');
+		final int end = typeName.lastIndexOf('>');
+
+		if (generics == -1 || end < generics) {
+			return List.of();
+		}
+
+		final List<String> result = new ArrayList<>(2);
+
+		int depth = 0;
+		int start = generics + 1;
+
+		for (int i = start; i < end; i++) {
+			final char c = typeName.charAt(i);
+
+			if (c == '<') {
+				depth++;
+			} else if (c == '>') {
+				depth--;
+			} else if (c == ',' && depth == 0) {
+				result.add(typeName.substring(start, i).trim());
+				start = i + 1;
+			}
+		}
+
+		result.add(typeName.substring(start, end).trim());
+		return result;
+	}
+
+	/**
+	 * Returns the generic type argument at the given index, or an empty type name when there is no such
+	 * argument or when the type is not generic.
+	 *
+	 * @param typeName type name
+	 * @param index    argument index
+	 * @param count    expected number of generic type arguments
+	 * @return generic type argument or an empty string
+	 */
+	static String argument(String typeName, int index, int count) {
+		final List<String> arguments = arguments(typeName);
+		return arguments.size() == count ? arguments.get(index) : "";
+	}
+
+	/**
+	 * Checks if the type name represents an array, for example {@code java.lang.String[]}.
+	 *
+	 * @param typeName type name to check
+	 * @return {@code true} when type is an array type
+	 */
+	static boolean isArray(String typeName) {
+		return typeName.endsWith("[]");
+	}
+
+	/**
+	 * Checks if the raw type name represents one of the known map types or {@link java.util.Properties}.
+	 *
+	 * @param raw raw type name to check
+	 * @return {@code true} when type is a map type
+	 */
+	static boolean isMap(String raw) {
+		return MAPS.contains(raw);
+	}
+
+	/**
+	 * Checks if the raw type name represents one of the known set types.
+	 *
+	 * @param raw raw type name to check
+	 * @return {@code true} when type is a set type
+	 */
+	static boolean isSet(String raw) {
+		return SETS.contains(raw);
+	}
+
+	/**
+	 * Checks if the raw type name represents one of the known ordered collection types, like a list, or an
+	 * iterable.
+	 *
+	 * @param raw raw type name to check
+	 * @return {@code true} when type is a collection type
+	 */
+	static boolean isCollection(String raw) {
+		return COLLECTIONS.contains(raw);
+	}
+
+}
@@ -0,0 +1,201 @@
+package com.konfigyr.artifactory.schema;
+
+import com.konfigyr.artifactory.PropertyDescriptor;
+import com.konfigyr.artifactory.json.JsonCanonicalizer;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Catalog of small JSON Schema documents that are shared by the vast majority of
+ * {@link PropertyDescriptor property descriptors}, like {@code {"type":"string"}} or {@code {"type":"boolean"}}.
+ * <p>
+ * Each well-known schema is identified by a small, stable numeric identifier. Encoders can write this identifier
+ * instead of the full schema text when the {@link PropertyDescriptor#schema()} matches one of the well-known
+ * schemas, and decoders can return the shared {@link #schema() canonical schema text} without allocating a new
+ * string. Schemas are matched by their exact {@link JsonCanonicalizer canonical text}, any other text is not
+ * considered well-known and should be encoded as is.
+ * <p>
+ * Identifiers are persisted by the encoders and must never be changed or reused, new schemas must be added with a
+ * new identifier.
+ *
+ * @author Vladimir Spasic
+ * @see PropertyDescriptor#schema()
+ * @since 1.0.0
+ */
+public enum WellKnownSchema {
+
+	/**
+	 * Schema that accepts any value.
+	 */
+	ANY(1, "{}"),
+
+	/**
+	 * Schema of string values.
+	 */
+	STRING(2, "{\"type\":\"string\"}"),
+
+	/**
+	 * Schema of boolean values.
+	 */
+	BOOLEAN(3, "{\"type\":\"boolean\"}"),
+
+	/**
+	 * Schema of integer values.
+	 */
+	INTEGER(4, "{\"type\":\"integer\"}"),
+
+	/**
+	 * Schema of 32-bit integer values.
+	 */
+	INT32(5, "{\"format\":\"int32\",\"type\":\"integer\"}"),
+
+	/**
+	 * Schema of 64-bit integer values.
+	 */
+	INT64(6, "{\"format\":\"int64\",\"type\":\"integer\"}"),
+
+	/**
+	 * Schema of numeric values.
+	 */
+	NUMBER(7, "{\"type\":\"number\"}"),
+
+	/**
+	 * Schema of single precision floating point values.
+	 */
+	FLOAT(8, "{\"format\":\"float\",\"type\":\"number\"}"),
+
+	/**
+	 * Schema of double precision floating point values.
+	 */
+	DOUBLE(9, "{\"format\":\"double\",\"type\":\"number\"}"),
+
+	/**
+	 * Schema of duration values, like {@code 30s} or {@code PT30S}.
+	 */
+	DURATION(10, "{\"format\":\"duration\",\"type\":\"string\"}"),
+
+	/**
+	 * Schema of data size values, like {@code 10MB}.
+	 */
+	DATA_SIZE(11, "{\"format\":\"data-size\",\"type\":\"string\"}"),
+
+	/**
+	 * Schema of character set names.
+	 */
+	CHARSET(12, "{\"format\":\"charset\",\"type\":\"string\"}"),
+
+	/**
+	 * Schema of URI values.
+	 */
+	URI(13, "{\"format\":\"uri\",\"type\":\"string\"}"),
+
+	/**
+	 * Schema of date and time values.
+	 */
+	DATE_TIME(14, "{\"format\":\"date-time\",\"type\":\"string\"}"),
+
+	/**
+	 * Schema of arrays of string values.
+	 */
+	STRING_ARRAY(15, "{\"items\":{\"type\":\"string\"},\"type\":\"array\"}"),
+
+	/**
+	 * Schema of objects, or maps, with string values.
+	 */
+	STRING_MAP(16, "{\"additionalProperties\":{\"type\":\"string\"},\"type\":\"object\"}"),
+
+	/**
+	 * Schema of array values.
+	 */
+	ARRAY(17, "{\"type\":\"array\"}"),
+
+	/**
+	 * Schema of object values.
+	 */
+	OBJECT(18, "{\"type\":\"object\"}");
+
+	private static final WellKnownSchema[] IDS;
+	private static final Map<String, WellKnownSchema> SCHEMAS = new HashMap<>();
+
+	static {
+		int max = 0;
+
+		for (WellKnownSchema schema : values()) {
+			max = Math.max(max, schema.id);
+			SCHEMAS.put(schema.schema, schema);
+		}
+
+		IDS = new WellKnownSchema[max + 1];
+
+		for (WellKnownSchema schema : values()) {
+			IDS[schema.id] = schema;
+		}
+	}
+
+	private final int id;
+	private final String schema;
+
+	WellKnownSchema(int id, String schema) {
+		this.id = id;
+		this.schema = schema;
+	}
+
+	/**
+	 * Looks up the well-known schema with the given canonical JSON Schema text.
+	 *
+	 * @param schema JSON Schema text, can be {@literal null}.
+	 * @return the matching well-known schema, or {@literal null} when the schema is not well-known.
+	 */
+	@Nullable
+	public static WellKnownSchema lookup(@Nullable String schema) {
+		return schema == null ? null : SCHEMAS.get(schema);
+	}
+
+	/**
+	 * Returns the well-known schema with the given identifier.
+	 *
+	 * @param id identifier of the well-known schema
+	 * @return the well-known schema, never {@literal null}.
+	 * @throws IllegalArgumentException when there is no well-known schema with the given identifier
+	 */
+	@NonNull
+	public static WellKnownSchema of(int id) {
+		if (id < 1 || id >= IDS.length || IDS[id] == null) {
+			throw new IllegalArgumentException("Unknown well-known schema identifier: " + id);
+		}
+		return IDS[id];
+	}
+
+	/**
+	 * Returns the stable identifier of this well-known schema, identifiers are positive numbers.
+	 *
+	 * @return schema identifier
+	 */
+	public int id() {
+		return id;
+	}
+
+	/**
+	 * Returns the canonical JSON Schema text of this well-known schema.
+	 *
+	 * @return JSON Schema text, never {@literal null}.
+	 */
+	@NonNull
+	public String schema() {
+		return schema;
+	}
+
+	/**
+	 * Returns the compiled {@link JsonSchema} of this well-known schema.
+	 *
+	 * @return compiled JSON Schema, never {@literal null}.
+	 */
+	@NonNull
+	public JsonSchema compile() {
+		return JsonSchema.compile(schema);
+	}
+
+}
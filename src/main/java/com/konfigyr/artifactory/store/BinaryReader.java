@@ -0,0 +1,79 @@
+package com.konfigyr.artifactory.store;
+
+import org.jspecify.annotations.Nullable;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Utility methods that decode values written by the {@link BinaryWriter} from a {@link ByteBuffer}.
+ * <p>
+ * Methods accepting an absolute position never modify the position of the buffer, which allows multiple threads
+ * to read from the same, usually memory-mapped, buffer. Methods without a position read the value at the current
+ * position of the buffer and advance it.
+ *
+ * @author Vladimir Spasic
+ * @see BinaryWriter
+ * @since 1.0.0
+ */
+final class BinaryReader {
+
+	private BinaryReader() {
+	}
+
+	static int readVarint(ByteBuffer buffer) {
+		return (int) readVarlong(buffer);
+	}
+
+	static long readVarlong(ByteBuffer buffer) {
+		long value = 0;
+		int shift = 0;
+		byte b;
+
+		do {
+			if (shift > 63) {
+				throw new IllegalStateException("Malformed variable length integer");
+			}
+			b = buffer.get();
+			value |= (long) (b & 0x7F) << shift;
+			shift += 7;
+		} while ((b & 0x80) != 0);
+
+		return value;
+	}
+
+	@Nullable
+	static String readString(ByteBuffer buffer) {
+		final int length = readVarint(buffer) - 1;
+
+		if (length < 0) {
+			return null;
+		}
+
+		final String value = decode(buffer, buffer.position(), length);
+		buffer.position(buffer.position() + length);
+		return value;
+	}
+
+	static void skipString(ByteBuffer buffer) {
+		final int length = readVarint(buffer) - 1;
+
+		if (length > 0) {
+			buffer.position(buffer.position() + length);
+		}
+	}
+
+	/**
+	 * Decodes the UTF-8 string of the given length that starts at the absolute position in the buffer.
+	 */
+	static String decode(ByteBuffer buffer, int position, int length) {
+		if (buffer.hasArray()) {
+			return new String(buffer.array(), buffer.arrayOffset() + position, length, StandardCharsets.UTF_8);
+		}
+
+		final byte[] bytes = new byte[length];
+		buffer.get(position, bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+}
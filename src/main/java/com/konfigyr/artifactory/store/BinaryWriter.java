@@ -0,0 +1,140 @@
+package com.konfigyr.artifactory.store;
+
+import org.jspecify.annotations.Nullable;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Growable byte buffer used to encode records in the compact binary format shared by the stores of this package.
+ * <p>
+ * Integers are written as unsigned variable length integers, seven bits per byte, with the highest bit of each
+ * byte marking that more bytes follow. Strings are written as their UTF-8 encoded bytes prefixed with the byte
+ * length plus one, so that the {@code 0} length prefix can represent a {@literal null} string.
+ *
+ * @author Vladimir Spasic
+ * @see BinaryReader
+ * @since 1.0.0
+ */
+final class BinaryWriter {
+
+	private byte[] buffer;
+	private int length;
+
+	BinaryWriter() {
+		this(256);
+	}
+
+	BinaryWriter(int capacity) {
+		this.buffer = new byte[Math.max(16, capacity)];
+	}
+
+	int length() {
+		return length;
+	}
+
+	BinaryWriter reset() {
+		length = 0;
+		return this;
+	}
+
+	BinaryWriter writeByte(int value) {
+		ensure(1);
+		buffer[length++] = (byte) value;
+		return this;
+	}
+
+	BinaryWriter writeInt(int value) {
+		ensure(4);
+		buffer[length++] = (byte) (value >>> 24);
+		buffer[length++] = (byte) (value >>> 16);
+		buffer[length++] = (byte) (value >>> 8);
+		buffer[length++] = (byte) value;
+		return this;
+	}
+
+	BinaryWriter writeLong(long value) {
+		writeInt((int) (value >>> 32));
+		return writeInt((int) value);
+	}
+
+	BinaryWriter writeVarint(int value) {
+		return writeVarlong(value & 0xFFFFFFFFL);
+	}
+
+	BinaryWriter writeVarlong(long value) {
+		ensure(10);
+
+		while ((value & ~0x7FL) != 0) {
+			buffer[length++] = (byte) ((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+
+		buffer[length++] = (byte) value;
+		return this;
+	}
+
+	BinaryWriter writeBytes(byte[] bytes) {
+		return writeBytes(bytes, 0, bytes.length);
+	}
+
+	BinaryWriter writeBytes(byte[] bytes, int offset, int count) {
+		ensure(count);
+		System.arraycopy(bytes, offset, buffer, length, count);
+		length += count;
+		return this;
+	}
+
+	/**
+	 * Writes the remaining bytes of the buffer without modifying its position.
+	 */
+	BinaryWriter writeBytes(ByteBuffer bytes) {
+		final int count = bytes.remaining();
+		ensure(count);
+		bytes.get(bytes.position(), buffer, length, count);
+		length += count;
+		return this;
+	}
+
+	BinaryWriter writeString(@Nullable String value) {
+		if (value == null) {
+			return writeVarint(0);
+		}
+
+		final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		writeVarint(bytes.length + 1);
+		return writeBytes(bytes);
+	}
+
+	/**
+	 * Overwrites the 4 bytes at the given position with the big-endian integer value, used to fill in length
+	 * prefixes once the size of the encoded record is known.
+	 */
+	BinaryWriter setInt(int position, int value) {
+		buffer[position] = (byte) (value >>> 24);
+		buffer[position + 1] = (byte) (value >>> 16);
+		buffer[position + 2] = (byte) (value >>> 8);
+		buffer[position + 3] = (byte) value;
+		return this;
+	}
+
+	byte[] array() {
+		return buffer;
+	}
+
+	byte[] toByteArray() {
+		return Arrays.copyOf(buffer, length);
+	}
+
+	ByteBuffer toByteBuffer() {
+		return ByteBuffer.wrap(buffer, 0, length);
+	}
+
+	private void ensure(int count) {
+		if (length + count > buffer.length) {
+			buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, length + count));
+		}
+	}
+
+}
@@ -0,0 +1,838 @@
+package com.konfigyr.artifactory.store;
+
+import com.konfigyr.artifactory.Artifact;
+import com.konfigyr.artifactory.ArtifactMetadata;
+import com.konfigyr.artifactory.ArtifactMetadataResolver;
+import com.konfigyr.artifactory.DefaultArtifact;
+import com.konfigyr.artifactory.DefaultArtifactMetadata;
+import com.konfigyr.artifactory.DefaultManifest;
+import com.konfigyr.artifactory.DefaultPropertyDescriptor;
+import com.konfigyr.artifactory.Deprecation;
+import com.konfigyr.artifactory.Manifest;
+import com.konfigyr.artifactory.PropertyDescriptor;
+import com.konfigyr.artifactory.schema.WellKnownSchema;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.Serial;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * Read-only snapshot of the artifact metadata and manifest catalog that is stored in a single, memory-mapped file.
+ * <p>
+ * The snapshot file consists of a header followed by five sections:
+ * <ul>
+ *     <li>string table, containing each distinct string once, prefixed with its UTF-8 encoded length</li>
+ *     <li>fixed-width property descriptor records</li>
+ *     <li>fixed-width artifact metadata records, sorted in the {@link Artifact#compareTo(Artifact) artifact order},
+ *     each one pointing to the range of its property descriptor records</li>
+ *     <li>fixed-width manifest records, sorted by their identifiers, each one pointing to the range of its artifact
+ *     records</li>
+ *     <li>fixed-width artifact records of the manifests</li>
+ * </ul>
+ * Records refer to strings by their offset in the string table, except for {@link WellKnownSchema well-known}
+ * descriptor schemas which are referred to by their identifiers. This makes it possible to locate any record and
+ * any of its fields in constant time. Opening a snapshot only maps the sections of the file, its size has no
+ * impact on the time needed to open it. Metadata, descriptors and manifests returned by the snapshot are views over
+ * the mapped file that decode their fields every time they are accessed, nothing is copied on-heap in advance.
+ * Each section is mapped separately and can not be larger than 2GB.
+ * <p>
+ * Snapshots are immutable and thread-safe. Views are equal when they represent the same record of the same
+ * snapshot.
+ *
+ * <pre>{@code
+ * CatalogSnapshot.write(file, metadata, manifests);
+ *
+ * CatalogSnapshot snapshot = CatalogSnapshot.open(file);
+ * ArtifactMetadata metadata = snapshot.resolve(artifact);
+ * }</pre>
+ *
+ * @author Vladimir Spasic
+ * @see ArtifactMetadataResolver
+ * @since 1.0.0
+ */
+public final class CatalogSnapshot implements ArtifactMetadataResolver {
+
+	private static final int MAGIC = 0x4b434154;
+	private static final int VERSION = 1;
+	private static final int SECTIONS = 5;
+	private static final int HEADER_SIZE = 8 + SECTIONS * 16;
+
+	private static final int NULL = -1;
+	private static final int DESCRIPTOR_SIZE = 32;
+	private static final int METADATA_SIZE = 40;
+	private static final int MANIFEST_SIZE = 28;
+	private static final int ARTIFACT_SIZE = 28;
+
+	private final ByteBuffer strings;
+	private final ByteBuffer descriptors;
+	private final ByteBuffer metadata;
+	private final ByteBuffer manifests;
+	private final ByteBuffer artifacts;
+
+	private CatalogSnapshot(ByteBuffer[] sections) {
+		this.strings = sections[0];
+		this.descriptors = sections[1];
+		this.metadata = sections[2];
+		this.manifests = sections[3];
+		this.artifacts = sections[4];
+	}
+
+	/**
+	 * Opens the catalog snapshot by mapping the sections of the given snapshot file.
+	 *
+	 * @param file snapshot file, can't be {@literal null}.
+	 * @return the catalog snapshot, never {@literal null}.
+	 * @throws UncheckedIOException when the file could not be read or is not a catalog snapshot
+	 */
+	@NonNull
+	public static CatalogSnapshot open(@NonNull Path file) {
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+
+			while (header.hasRemaining() && channel.read(header) >= 0) {
+				// read the complete header
+			}
+
+			header.flip();
+
+			if (header.remaining() < HEADER_SIZE || header.getInt() != MAGIC) {
+				throw new IOException("Invalid catalog snapshot file: " + file);
+			}
+			if (header.getInt() != VERSION) {
+				throw new IOException("Unsupported catalog snapshot version: " + file);
+			}
+
+			final ByteBuffer[] sections = new ByteBuffer[SECTIONS];
+
+			for (int i = 0; i < SECTIONS; i++) {
+				final long offset = header.getLong();
+				final long length = header.getLong();
+
+				if (offset < HEADER_SIZE || length < 0 || length > Integer.MAX_VALUE
+						|| offset + length > channel.size()) {
+					throw new IOException("Invalid catalog snapshot section: " + file);
+				}
+
+				sections[i] = channel.map(FileChannel.MapMode.READ_ONLY, offset, length);
+			}
+
+			return new CatalogSnapshot(sections);
+		} catch (IOException ex) {
+			throw new UncheckedIOException("Failed to open catalog snapshot: " + file, ex);
+		}
+	}
+
+	/**
+	 * Writes a new catalog snapshot file with the given artifact metadata and manifests. The snapshot is first
+	 * written to a temporary file that atomically replaces the target file once it is complete.
+	 *
+	 * @param file      snapshot file, can't be {@literal null}.
+	 * @param metadata  artifact metadata to write, can't be {@literal null}.
+	 * @param manifests manifests to write, can't be {@literal null}.
+	 * @throws IllegalArgumentException when there are multiple metadata with the same coordinates or multiple
+	 *                                  manifests with the same identifier
+	 * @throws UncheckedIOException     when the snapshot could not be written
+	 */
+	public static void write(
+			@NonNull Path file,
+			@NonNull Iterable<? extends ArtifactMetadata> metadata,
+			@NonNull Iterable<? extends Manifest> manifests
+	) {
+		final List<ArtifactMetadata> sortedMetadata = new ArrayList<>();
+		metadata.forEach(sortedMetadata::add);
+		sortedMetadata.sort(Comparator.comparing(Key::of));
+
+		for (int i = 1; i < sortedMetadata.size(); i++) {
+			if (Key.of(sortedMetadata.get(i - 1)).equals(Key.of(sortedMetadata.get(i)))) {
+				throw new IllegalArgumentException("Duplicate artifact metadata: "
+						+ sortedMetadata.get(i).coordinates());
+			}
+		}
+
+		final List<Manifest> sortedManifests = new ArrayList<>();
+		manifests.forEach(sortedManifests::add);
+		sortedManifests.sort(Comparator.comparing(Manifest::id));
+
+		for (int i = 1; i < sortedManifests.size(); i++) {
+			if (sortedManifests.get(i - 1).id().equals(sortedManifests.get(i).id())) {
+				throw new IllegalArgumentException("Duplicate manifest: " + sortedManifests.get(i).id());
+			}
+		}
+
+		final Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+
+		try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+				StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+			new SnapshotWriter(channel).write(sortedMetadata, sortedManifests);
+			channel.force(true);
+		} catch (IOException ex) {
+			throw new UncheckedIOException("Failed to write catalog snapshot: " + file, ex);
+		}
+
+		try {
+			Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+		} catch (IOException ex) {
+			throw new UncheckedIOException("Failed to write catalog snapshot: " + file, ex);
+		}
+	}
+
+	/**
+	 * Looks up the metadata for the coordinates of the given artifact using a binary search over the sorted
+	 * artifact metadata records.
+	 *
+	 * @param artifact the artifact for which metadata should be resolved, can't be {@literal null}.
+	 * @return the metadata view, or {@literal null} when the snapshot does not contain the artifact.
+	 */
+	@Nullable
+	@Override
+	public ArtifactMetadata resolve(@NonNull Artifact artifact) {
+		final Key key = Key.of(artifact);
+		final int index = search(key);
+
+		return index < metadataCount() && compare(index, key) == 0 ? new MetadataView(index) : null;
+	}
+
+	/**
+	 * Returns the metadata of all versions of an artifact contained in this snapshot, sorted by their version in
+	 * the {@link Artifact#compareTo(Artifact) artifact order}.
+	 *
+	 * @param groupId    artifact group identifier, can't be {@literal null}.
+	 * @param artifactId artifact identifier, can't be {@literal null}.
+	 * @return metadata views of the artifact versions, never {@literal null}.
+	 */
+	@NonNull
+	public List<ArtifactMetadata> versions(@NonNull String groupId, @NonNull String artifactId) {
+		final int from = search(Key.first(groupId, artifactId));
+		int to = from;
+
+		while (to < metadataCount() && compare(metadata, to * METADATA_SIZE, groupId) == 0
+				&& compare(metadata, to * METADATA_SIZE + 4, artifactId) == 0) {
+			to++;
+		}
+
+		return new RecordList<>(from, to - from, MetadataView::new);
+	}
+
+	/**
+	 * Returns the metadata of all artifacts contained in this snapshot, sorted in the
+	 * {@link Artifact#compareTo(Artifact) artifact order}.
+	 *
+	 * @return metadata views, never {@literal null}.
+	 */
+	@NonNull
+	public List<ArtifactMetadata> metadata() {
+		return new RecordList<>(0, metadataCount(), MetadataView::new);
+	}
+
+	/**
+	 * Looks up the manifest with the given identifier using a binary search over the sorted manifest records.
+	 *
+	 * @param id manifest identifier, can't be {@literal null}.
+	 * @return the manifest view, or {@literal null} when the snapshot does not contain the manifest.
+	 */
+	@Nullable
+	public Manifest manifest(@NonNull String id) {
+		int low = 0;
+		int high = manifests.capacity() / MANIFEST_SIZE - 1;
+
+		while (low <= high) {
+			final int middle = (low + high) >>> 1;
+			final int result = compare(manifests, middle * MANIFEST_SIZE, id);
+
+			if (result == 0) {
+				return new ManifestView(middle);
+			}
+			if (result < 0) {
+				low = middle + 1;
+			} else {
+				high = middle - 1;
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Returns all manifests contained in this snapshot, sorted by their identifiers.
+	 *
+	 * @return manifest views, never {@literal null}.
+	 */
+	@NonNull
+	public List<Manifest> manifests() {
+		return new RecordList<>(0, manifests.capacity() / MANIFEST_SIZE, ManifestView::new);
+	}
+
+	private int metadataCount() {
+		return metadata.capacity() / METADATA_SIZE;
+	}
+
+	/**
+	 * Returns the index of the first metadata record whose key is not smaller than the given key.
+	 */
+	private int search(Key key) {
+		int low = 0;
+		int high = metadataCount();
+
+		while (low < high) {
+			final int middle = (low + high) >>> 1;
+
+			if (compare(middle, key) < 0) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+
+		return low;
+	}
+
+	private int compare(int index, Key key) {
+		final int position = index * METADATA_SIZE;
+		int result = compare(metadata, position, key.groupId());
+
+		if (result == 0) {
+			result = compare(metadata, position + 4, key.artifactId());
+		}
+		if (result == 0) {
+			result = compare(metadata, position + 8, key.version());
+		}
+
+		return result;
+	}
+
+	/**
+	 * Compares the string referenced by the record field at the given position with the value, in the same order
+	 * as {@link String#compareTo(String)}. ASCII characters are compared in place, without decoding the string
+	 * from the string table, which is the common case for artifact coordinates and manifest identifiers.
+	 */
+	private int compare(ByteBuffer section, int position, String value) {
+		final int offset = section.getInt(position);
+		final int length = strings.getInt(offset);
+		final int count = Math.min(length, value.length());
+
+		for (int i = 0; i < count; i++) {
+			final byte b = strings.get(offset + 4 + i);
+			final char c = value.charAt(i);
+
+			if (b < 0 || c > 0x7F) {
+				return BinaryReader.decode(strings, offset + 4, length).compareTo(value);
+			}
+			if (b != c) {
+				return b - c;
+			}
+		}
+
+		if (length > count) {
+			return 1;
+		}
+
+		return count - value.length();
+	}
+
+	/**
+	 * Decodes the string from the string table that is referenced by the record field at the given position.
+	 */
+	@Nullable
+	private String string(ByteBuffer section, int position) {
+		final int offset = section.getInt(position);
+
+		if (offset == NULL) {
+			return null;
+		}
+
+		return BinaryReader.decode(strings, offset + 4, strings.getInt(offset));
+	}
+
+	@Nullable
+	private URI uri(ByteBuffer section, int position) {
+		final String value = string(section, position);
+		return value == null ? null : URI.create(value);
+	}
+
+	@FunctionalInterface
+	private interface RecordView<T> {
+		T create(int index);
+	}
+
+	private static final class RecordList<T> extends AbstractList<T> implements RandomAccess {
+
+		private final int offset;
+		private final int size;
+		private final RecordView<? extends T> view;
+
+		RecordList(int offset, int size, RecordView<? extends T> view) {
+			this.offset = offset;
+			this.size = size;
+			this.view = view;
+		}
+
+		@Override
+		public T get(int index) {
+			if (index < 0 || index >= size) {
+				throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+			}
+			return view.create(offset + index);
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+	}
+
+	/**
+	 * Base class of the snapshot views, a view is identified by the snapshot and the index of its record. Views
+	 * can not be serialized with their snapshot, they are serialized as copies, using the default implementations
+	 * of the model they represent.
+	 */
+	private abstract class View {
+
+		final int index;
+
+		View(int index) {
+			this.index = index;
+		}
+
+		private CatalogSnapshot snapshot() {
+			return CatalogSnapshot.this;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+
+			return o != null && getClass() == o.getClass() && index == ((View) o).index
+					&& snapshot() == ((View) o).snapshot();
+		}
+
+		@Override
+		public int hashCode() {
+			return System.identityHashCode(snapshot()) * 31 + index;
+		}
+	}
+
+	private final class DescriptorView extends View implements PropertyDescriptor {
+
+		@Serial
+		private static final long serialVersionUID = 1L;
+
+		DescriptorView(int index) {
+			super(index);
+		}
+
+		@NonNull
+		@Override
+		public String name() {
+			return string(descriptors, index * DESCRIPTOR_SIZE);
+		}
+
+		@NonNull
+		@Override
+		public String schema() {
+			final int offset = descriptors.getInt(index * DESCRIPTOR_SIZE + 4);
+
+			if (offset < NULL) {
+				return WellKnownSchema.of(NULL - offset).schema();
+			}
+
+			return string(descriptors, index * DESCRIPTOR_SIZE + 4);
+		}
+
+		@Override
+		public String typeName() {
+			return string(descriptors, index * DESCRIPTOR_SIZE + 8);
+		}
+
+		@Override
+		public String description() {
+			return string(descriptors, index * DESCRIPTOR_SIZE + 12);
+		}
+
+		@Override
+		public String defaultValue() {
+			return string(descriptors, index * DESCRIPTOR_SIZE + 16);
+		}
+
+		@Override
+		public Deprecation deprecation() {
+			final int position = index * DESCRIPTOR_SIZE;
+
+			if (descriptors.getInt(position + 28) == 0) {
+				return null;
+			}
+
+			return new Deprecation(string(descriptors, position + 20), string(descriptors, position + 24));
+		}
+
+		@Override
+		public String toString() {
+			return "PropertyDescriptor(name=" + name() + ", typeName=" + typeName() + ")";
+		}
+
+		DefaultPropertyDescriptor copy() {
+			return new DefaultPropertyDescriptor(name(), schema(), typeName(), description(), defaultValue(),
+					deprecation());
+		}
+
+		@Serial
+		private Object writeReplace() {
+			return copy();
+		}
+	}
+
+	private final class MetadataView extends View implements ArtifactMetadata {
+
+		@Serial
+		private static final long serialVersionUID = 1L;
+
+		MetadataView(int index) {
+			super(index);
+		}
+
+		@NonNull
+		@Override
+		public String groupId() {
+			return string(metadata, index * METADATA_SIZE);
+		}
+
+		@NonNull
+		@Override
+		public String artifactId() {
+			return string(metadata, index * METADATA_SIZE + 4);
+		}
+
+		@NonNull
+		@Override
+		public String version() {
+			return string(metadata, index * METADATA_SIZE + 8);
+		}
+
+		@Override
+		public String name() {
+			return string(metadata, index * METADATA_SIZE + 12);
+		}
+
+		@Override
+		public String description() {
+			return string(metadata, index * METADATA_SIZE + 16);
+		}
+
+		@Override
+		public URI website() {
+			return uri(metadata, index * METADATA_SIZE + 20);
+		}
+
+		@Override
+		public URI repository() {
+			return uri(metadata, index * METADATA_SIZE + 24);
+		}
+
+		@Override
+		public String checksum() {
+			return string(metadata, index * METADATA_SIZE + 28);
+		}
+
+		@NonNull
+		@Override
+		public List<PropertyDescriptor> properties() {
+			final int position = index * METADATA_SIZE;
+			return new RecordList<>(metadata.getInt(position + 32), metadata.getInt(position + 36),
+					DescriptorView::new);
+		}
+
+		@Override
+		public String toString() {
+			return "ArtifactMetadata(" + coordinates() + ")";
+		}
+
+		@Serial
+		private Object writeReplace() {
+			final List<PropertyDescriptor> properties = properties().stream()
+					.<PropertyDescriptor>map(descriptor -> ((DescriptorView) descriptor).copy())
+					.toList();
+
+			return new DefaultArtifactMetadata(groupId(), artifactId(), version(), name(), description(), website(),
+					repository(), checksum(), properties);
+		}
+	}
+
+	private final class ArtifactView extends View implements Artifact {
+
+		@Serial
+		private static final long serialVersionUID = 1L;
+
+		ArtifactView(int index) {
+			super(index);
+		}
+
+		@NonNull
+		@Override
+		public String groupId() {
+			return string(artifacts, index * ARTIFACT_SIZE);
+		}
+
+		@NonNull
+		@Override
+		public String artifactId() {
+			return string(artifacts, index * ARTIFACT_SIZE + 4);
+		}
+
+		@NonNull
+		@Override
+		public String version() {
+			return string(artifacts, index * ARTIFACT_SIZE + 8);
+		}
+
+		@Override
+		public String name() {
+			return string(artifacts, index * ARTIFACT_SIZE + 12);
+		}
+
+		@Override
+		public String description() {
+			return string(artifacts, index * ARTIFACT_SIZE + 16);
+		}
+
+		@Override
+		public URI website() {
+			return uri(artifacts, index * ARTIFACT_SIZE + 20);
+		}
+
+		@Override
+		public URI repository() {
+			return uri(artifacts, index * ARTIFACT_SIZE + 24);
+		}
+
+		@Override
+		public String toString() {
+			return "Artifact(" + coordinates() + ")";
+		}
+
+		DefaultArtifact copy() {
+			return new DefaultArtifact(groupId(), artifactId(), version(), name(), description(), website(),
+					repository());
+		}
+
+		@Serial
+		private Object writeReplace() {
+			return copy();
+		}
+	}
+
+	private final class ManifestView extends View implements Manifest {
+
+		@Serial
+		private static final long serialVersionUID = 1L;
+
+		ManifestView(int index) {
+			super(index);
+		}
+
+		@NonNull
+		@Override
+		public String id() {
+			return string(manifests, index * MANIFEST_SIZE);
+		}
+
+		@NonNull
+		@Override
+		public String name() {
+			return string(manifests, index * MANIFEST_SIZE + 4);
+		}
+
+		@NonNull
+		@Override
+		public Instant createdAt() {
+			final int position = index * MANIFEST_SIZE;
+			return Instant.ofEpochSecond(manifests.getLong(position + 8), manifests.getInt(position + 16));
+		}
+
+		@NonNull
+		@Override
+		public List<Artifact> artifacts() {
+			final int position = index * MANIFEST_SIZE;
+			return new RecordList<>(manifests.getInt(position + 20), manifests.getInt(position + 24),
+					ArtifactView::new);
+		}
+
+		@Override
+		public String toString() {
+			return "Manifest(id=" + id() + ", name=" + name() + ")";
+		}
+
+		@Serial
+		private Object writeReplace() {
+			final List<Artifact> artifacts = artifacts().stream()
+					.<Artifact>map(artifact -> ((ArtifactView) artifact).copy())
+					.toList();
+
+			return new DefaultManifest(id(), name(), artifacts, createdAt());
+		}
+	}
+
+	/**
+	 * Writes the snapshot sections. The string table is streamed to the file while the records are encoded, the
+	 * fixed-width records are buffered and written after it, followed by the header that is written last.
+	 */
+	private static final class SnapshotWriter {
+
+		private static final int BUFFER_SIZE = 64 * 1024;
+
+		private final FileChannel channel;
+		private final Map<String, Integer> offsets = new HashMap<>();
+		private final BinaryWriter strings = new BinaryWriter(BUFFER_SIZE);
+		private long position = HEADER_SIZE;
+		private long size = 0;
+
+		SnapshotWriter(FileChannel channel) {
+			this.channel = channel;
+		}
+
+		void write(List<ArtifactMetadata> metadata, List<Manifest> manifests) throws IOException {
+			final BinaryWriter descriptors = new BinaryWriter();
+			final BinaryWriter records = new BinaryWriter();
+			final BinaryWriter manifestRecords = new BinaryWriter();
+			final BinaryWriter artifacts = new BinaryWriter();
+			int descriptorCount = 0;
+			int artifactCount = 0;
+
+			for (ArtifactMetadata candidate : metadata) {
+				records.writeInt(string(candidate.groupId()))
+						.writeInt(string(candidate.artifactId()))
+						.writeInt(string(candidate.version()))
+						.writeInt(string(candidate.name()))
+						.writeInt(string(candidate.description()))
+						.writeInt(string(candidate.website() == null ? null : candidate.website().toString()))
+						.writeInt(string(candidate.repository() == null ? null : candidate.repository().toString()))
+						.writeInt(string(candidate.checksum()))
+						.writeInt(descriptorCount)
+						.writeInt(candidate.properties().size());
+
+				for (PropertyDescriptor descriptor : candidate.properties()) {
+					final Deprecation deprecation = descriptor.deprecation();
+
+					descriptors.writeInt(string(descriptor.name()))
+							.writeInt(schema(descriptor.schema()))
+							.writeInt(string(descriptor.typeName()))
+							.writeInt(string(descriptor.description()))
+							.writeInt(string(descriptor.defaultValue()))
+							.writeInt(string(deprecation == null ? null : deprecation.reason()))
+							.writeInt(string(deprecation == null ? null : deprecation.replacement()))
+							.writeInt(deprecation == null ? 0 : 1);
+
+					descriptorCount++;
+				}
+			}
+
+			for (Manifest manifest : manifests) {
+				manifestRecords.writeInt(string(manifest.id()))
+						.writeInt(string(manifest.name()))
+						.writeLong(manifest.createdAt().getEpochSecond())
+						.writeInt(manifest.createdAt().getNano())
+						.writeInt(artifactCount)
+						.writeInt(manifest.artifacts().size());
+
+				for (Artifact artifact : manifest.artifacts()) {
+					artifacts.writeInt(string(artifact.groupId()))
+							.writeInt(string(artifact.artifactId()))
+							.writeInt(string(artifact.version()))
+							.writeInt(string(artifact.name()))
+							.writeInt(string(artifact.description()))
+							.writeInt(string(artifact.website() == null ? null : artifact.website().toString()))
+							.writeInt(string(artifact.repository() == null ? null : artifact.repository().toString()));
+
+					artifactCount++;
+				}
+			}
+
+			flush();
+
+			final BinaryWriter header = new BinaryWriter(HEADER_SIZE)
+					.writeInt(MAGIC)
+					.writeInt(VERSION)
+					.writeLong(HEADER_SIZE)
+					.writeLong(size);
+
+			for (BinaryWriter section : List.of(descriptors, records, manifestRecords, artifacts)) {
+				header.writeLong(position).writeLong(section.length());
+				write(section.toByteBuffer());
+			}
+
+			final ByteBuffer buffer = header.toByteBuffer();
+
+			while (buffer.hasRemaining()) {
+				channel.write(buffer, buffer.position());
+			}
+		}
+
+		/**
+		 * Well-known schemas are not added to the string table, they are referenced using negative offsets
+		 * derived from their identifiers.
+		 */
+		private int schema(String value) throws IOException {
+			final WellKnownSchema schema = WellKnownSchema.lookup(value);
+			return schema == null ? string(value) : NULL - schema.id();
+		}
+
+		private int string(@Nullable String value) throws IOException {
+			if (value == null) {
+				return NULL;
+			}
+
+			final Integer existing = offsets.get(value);
+
+			if (existing != null) {
+				return existing;
+			}
+
+			final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+			final long offset = size;
+
+			if (offset + 4 + bytes.length > Integer.MAX_VALUE) {
+				throw new IOException("Catalog snapshot string table exceeds the maximum size");
+			}
+
+			strings.writeInt(bytes.length).writeBytes(bytes);
+			size += 4 + bytes.length;
+			offsets.put(value, (int) offset);
+
+			if (strings.length() >= BUFFER_SIZE) {
+				flush();
+			}
+
+			return (int) offset;
+		}
+
+		private void flush() throws IOException {
+			write(strings.toByteBuffer());
+			strings.reset();
+		}
+
+		private void write(ByteBuffer buffer) throws IOException {
+			while (buffer.hasRemaining()) {
+				position += channel.write(buffer, position);
+			}
+		}
+	}
+
+}
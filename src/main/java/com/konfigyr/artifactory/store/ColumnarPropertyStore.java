@@ -0,0 +1,592 @@
+package com.konfigyr.artifactory.store;
+
+import com.konfigyr.artifactory.DefaultPropertyDescriptor;
+import com.konfigyr.artifactory.Deprecation;
+import com.konfigyr.artifactory.PropertyDescriptor;
+import com.konfigyr.artifactory.schema.WellKnownSchema;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.io.Serial;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.stream.IntStream;
+
+/**
+ * Columnar store of {@link PropertyDescriptor property descriptors} that keeps its data off-heap.
+ * <p>
+ * Each descriptor attribute is stored in its own column, a direct {@link ByteBuffer} of integers where each row
+ * holds the dictionary identifier of the attribute value. Distinct strings are stored once in the dictionary, which
+ * keeps the UTF-8 encoded strings and the hash table used to look them up off-heap as well. Whether a descriptor is
+ * deprecated is stored in a bitset. A store with millions of descriptors is therefore represented by a handful of
+ * objects, regardless of the number of descriptors, which keeps them out of the reach of the garbage collector.
+ * <p>
+ * Descriptors are read using flyweight {@link PropertyDescriptor} views that only hold the row number and decode
+ * the attributes from the columns when they are accessed. Bulk scans, like {@link #findByTypeName(String)} or
+ * {@link #findDeprecated()}, run directly over the columns and return the matching row numbers, without creating
+ * any descriptor views.
+ *
+ * <pre>{@code
+ * ColumnarPropertyStore store = ColumnarPropertyStore.of(descriptors);
+ *
+ * store.findByTypeName("java.time.Duration")
+ *     .filter(store::isDeprecated)
+ *     .mapToObj(store::get)
+ *     .forEach(descriptor -> report(descriptor));
+ * }</pre>
+ * <p>
+ * Stores are immutable and thread-safe. Views are equal to other views of any store when their attribute values
+ * are equal, and are serialized as {@link DefaultPropertyDescriptor default descriptors}.
+ *
+ * @author Vladimir Spasic
+ * @see PropertyDescriptor
+ * @since 1.0.0
+ */
+public final class ColumnarPropertyStore {
+
+	private static final int NULL = -1;
+
+	private final int size;
+	private final Dictionary dictionary;
+	private final IntColumn names;
+	private final IntColumn schemas;
+	private final IntColumn typeNames;
+	private final IntColumn descriptions;
+	private final IntColumn defaultValues;
+	private final IntColumn reasons;
+	private final IntColumn replacements;
+	private final ByteBuffer deprecated;
+
+	private ColumnarPropertyStore(Builder builder) {
+		this.size = builder.size;
+		this.dictionary = builder.dictionary.compact();
+		this.names = builder.names.compact(size);
+		this.schemas = builder.schemas.compact(size);
+		this.typeNames = builder.typeNames.compact(size);
+		this.descriptions = builder.descriptions.compact(size);
+		this.defaultValues = builder.defaultValues.compact(size);
+		this.reasons = builder.reasons.compact(size);
+		this.replacements = builder.replacements.compact(size);
+		this.deprecated = copy(builder.deprecated, ((size + 63) >>> 6) * 8);
+	}
+
+	/**
+	 * Creates a new columnar store that contains the given property descriptors, in their iteration order.
+	 *
+	 * @param descriptors property descriptors to store, can't be {@literal null}.
+	 * @return the columnar property store, never {@literal null}.
+	 */
+	@NonNull
+	public static ColumnarPropertyStore of(@NonNull Iterable<? extends PropertyDescriptor> descriptors) {
+		final Builder builder = builder();
+		descriptors.forEach(builder::add);
+		return builder.build();
+	}
+
+	/**
+	 * Creates a new builder used to append property descriptors to a new columnar store.
+	 *
+	 * @return columnar store builder, never {@literal null}.
+	 */
+	@NonNull
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Returns the number of property descriptors, or rows, in this store.
+	 *
+	 * @return number of descriptors.
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns the flyweight view of the property descriptor stored in the given row.
+	 *
+	 * @param row row number of the descriptor
+	 * @return property descriptor view, never {@literal null}.
+	 * @throws IndexOutOfBoundsException when the row is out of range
+	 */
+	@NonNull
+	public PropertyDescriptor get(int row) {
+		return new Row(checkRow(row));
+	}
+
+	/**
+	 * Returns a list of flyweight views of all the property descriptors in this store.
+	 *
+	 * @return property descriptor views, never {@literal null}.
+	 */
+	@NonNull
+	public List<PropertyDescriptor> descriptors() {
+		return new Rows();
+	}
+
+	/**
+	 * Checks if the property descriptor stored in the given row is deprecated.
+	 *
+	 * @param row row number of the descriptor
+	 * @return {@code true} when the descriptor is deprecated
+	 * @throws IndexOutOfBoundsException when the row is out of range
+	 */
+	public boolean isDeprecated(int row) {
+		checkRow(row);
+		return (deprecated.getLong((row >>> 6) * 8) & (1L << row)) != 0;
+	}
+
+	/**
+	 * Finds the rows of the property descriptors with the given type name by scanning the type name column.
+	 *
+	 * @param typeName the type name to look for, can't be {@literal null}.
+	 * @return ordered stream of matching row numbers, never {@literal null}.
+	 */
+	@NonNull
+	public IntStream findByTypeName(@NonNull String typeName) {
+		final int id = dictionary.lookup(typeName);
+
+		if (id == NULL) {
+			return IntStream.empty();
+		}
+
+		return IntStream.range(0, size).filter(row -> typeNames.get(row) == id);
+	}
+
+	/**
+	 * Finds the rows of the deprecated property descriptors by scanning the deprecation bitset.
+	 *
+	 * @return ordered stream of matching row numbers, never {@literal null}.
+	 */
+	@NonNull
+	public IntStream findDeprecated() {
+		return IntStream.iterate(nextDeprecated(0), row -> row >= 0, row -> nextDeprecated(row + 1));
+	}
+
+	private int nextDeprecated(int from) {
+		final int words = deprecated.capacity() / 8;
+		int index = from >>> 6;
+
+		if (index >= words) {
+			return -1;
+		}
+
+		long word = deprecated.getLong(index * 8) & (-1L << from);
+
+		while (true) {
+			if (word != 0) {
+				return (index << 6) + Long.numberOfTrailingZeros(word);
+			}
+			if (++index == words) {
+				return -1;
+			}
+			word = deprecated.getLong(index * 8);
+		}
+	}
+
+	private int checkRow(int row) {
+		if (row < 0 || row >= size) {
+			throw new IndexOutOfBoundsException("Row " + row + " out of bounds for length " + size);
+		}
+		return row;
+	}
+
+	private static ByteBuffer copy(ByteBuffer source, int length) {
+		final ByteBuffer target = ByteBuffer.allocateDirect(length).order(ByteOrder.nativeOrder());
+		target.put(0, source, 0, length);
+		return target;
+	}
+
+	private static ByteBuffer grow(ByteBuffer buffer, int capacity) {
+		final ByteBuffer grown = ByteBuffer.allocateDirect(capacity).order(ByteOrder.nativeOrder());
+		grown.put(0, buffer, 0, buffer.capacity());
+		return grown;
+	}
+
+	/**
+	 * Builder used to append property descriptors to a new {@link ColumnarPropertyStore}. Builders are not
+	 * thread-safe, the columns are copied into exactly sized buffers when the store is built.
+	 */
+	public static final class Builder {
+
+		private final Dictionary dictionary = new Dictionary(1024);
+		private final IntColumn names = new IntColumn(1024);
+		private final IntColumn schemas = new IntColumn(1024);
+		private final IntColumn typeNames = new IntColumn(1024);
+		private final IntColumn descriptions = new IntColumn(1024);
+		private final IntColumn defaultValues = new IntColumn(1024);
+		private final IntColumn reasons = new IntColumn(1024);
+		private final IntColumn replacements = new IntColumn(1024);
+		private ByteBuffer deprecated = ByteBuffer.allocateDirect(128).order(ByteOrder.nativeOrder());
+		private int size;
+
+		private Builder() {
+		}
+
+		/**
+		 * Appends the property descriptor to the next row of the store.
+		 *
+		 * @param descriptor property descriptor to append, can't be {@literal null}.
+		 * @return columnar store builder, never {@literal null}.
+		 */
+		@NonNull
+		public Builder add(@NonNull PropertyDescriptor descriptor) {
+			final Deprecation deprecation = descriptor.deprecation();
+
+			names.set(size, dictionary.intern(descriptor.name()));
+			schemas.set(size, schema(descriptor.schema()));
+			typeNames.set(size, dictionary.intern(descriptor.typeName()));
+			descriptions.set(size, dictionary.intern(descriptor.description()));
+			defaultValues.set(size, dictionary.intern(descriptor.defaultValue()));
+			reasons.set(size, dictionary.intern(deprecation == null ? null : deprecation.reason()));
+			replacements.set(size, dictionary.intern(deprecation == null ? null : deprecation.replacement()));
+
+			if (deprecation != null) {
+				final int position = (size >>> 6) * 8;
+
+				if (position + 8 > deprecated.capacity()) {
+					deprecated = grow(deprecated, Math.max(deprecated.capacity() * 2, position + 8));
+				}
+
+				deprecated.putLong(position, deprecated.getLong(position) | (1L << size));
+			}
+
+			size++;
+			return this;
+		}
+
+		/**
+		 * Well-known schemas are not added to the dictionary, they are stored as negative identifiers derived
+		 * from their well-known schema identifiers.
+		 */
+		private int schema(String value) {
+			final WellKnownSchema schema = WellKnownSchema.lookup(value);
+			return schema == null ? dictionary.intern(value) : NULL - schema.id();
+		}
+
+		/**
+		 * Creates the {@link ColumnarPropertyStore} with the appended property descriptors.
+		 *
+		 * @return columnar property store, never {@literal null}.
+		 */
+		@NonNull
+		public ColumnarPropertyStore build() {
+			final int words = (size + 63) >>> 6;
+
+			if (words * 8 > deprecated.capacity()) {
+				deprecated = grow(deprecated, words * 8);
+			}
+
+			return new ColumnarPropertyStore(this);
+		}
+	}
+
+	private final class Rows extends AbstractList<PropertyDescriptor> implements RandomAccess {
+
+		@Override
+		public PropertyDescriptor get(int index) {
+			return ColumnarPropertyStore.this.get(index);
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+	}
+
+	private final class Row implements PropertyDescriptor {
+
+		@Serial
+		private static final long serialVersionUID = 1L;
+
+		private final int row;
+
+		Row(int row) {
+			this.row = row;
+		}
+
+		@NonNull
+		@Override
+		public String name() {
+			return dictionary.get(names.get(row));
+		}
+
+		@NonNull
+		@Override
+		public String schema() {
+			final int id = schemas.get(row);
+			return id < NULL ? WellKnownSchema.of(NULL - id).schema() : dictionary.get(id);
+		}
+
+		@Override
+		public String typeName() {
+			return dictionary.get(typeNames.get(row));
+		}
+
+		@Override
+		public String description() {
+			return dictionary.get(descriptions.get(row));
+		}
+
+		@Override
+		public String defaultValue() {
+			return dictionary.get(defaultValues.get(row));
+		}
+
+		@Override
+		public Deprecation deprecation() {
+			if (!isDeprecated(row)) {
+				return null;
+			}
+			return new Deprecation(dictionary.get(reasons.get(row)), dictionary.get(replacements.get(row)));
+		}
+
+		private ColumnarPropertyStore store() {
+			return ColumnarPropertyStore.this;
+		}
+
+		/**
+		 * Rows of the same store are compared by their dictionary identifiers, as equal values share the same
+		 * identifier, while rows of different stores are compared by their decoded attribute values.
+		 */
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+
+			if (!(o instanceof Row other)) {
+				return false;
+			}
+
+			if (store() == other.store()) {
+				return names.get(row) == names.get(other.row)
+						&& schemas.get(row) == schemas.get(other.row)
+						&& typeNames.get(row) == typeNames.get(other.row)
+						&& descriptions.get(row) == descriptions.get(other.row)
+						&& defaultValues.get(row) == defaultValues.get(other.row)
+						&& Objects.equals(deprecation(), other.deprecation());
+			}
+
+			return name().equals(other.name())
+					&& schema().equals(other.schema())
+					&& Objects.equals(typeName(), other.typeName())
+					&& Objects.equals(description(), other.description())
+					&& Objects.equals(defaultValue(), other.defaultValue())
+					&& Objects.equals(deprecation(), other.deprecation());
+		}
+
+		@Override
+		public int hashCode() {
+			return name().hashCode();
+		}
+
+		@Serial
+		private Object writeReplace() {
+			return new DefaultPropertyDescriptor(name(), schema(), typeName(), description(), defaultValue(),
+					deprecation());
+		}
+	}
+
+	/**
+	 * Growable column of integers stored in a direct buffer.
+	 */
+	private static final class IntColumn {
+
+		private ByteBuffer buffer;
+
+		IntColumn(int capacity) {
+			this.buffer = ByteBuffer.allocateDirect(capacity * 4).order(ByteOrder.nativeOrder());
+		}
+
+		private IntColumn(ByteBuffer buffer) {
+			this.buffer = buffer;
+		}
+
+		int get(int row) {
+			return buffer.getInt(row * 4);
+		}
+
+		void set(int row, int value) {
+			if (row * 4 + 4 > buffer.capacity()) {
+				if (buffer.capacity() > Integer.MAX_VALUE / 2) {
+					throw new IllegalStateException("Column exceeds the maximum number of rows");
+				}
+				buffer = grow(buffer, buffer.capacity() * 2);
+			}
+			buffer.putInt(row * 4, value);
+		}
+
+		IntColumn compact(int size) {
+			return new IntColumn(copy(buffer, size * 4));
+		}
+	}
+
+	/**
+	 * Off-heap dictionary that assigns sequential identifiers to distinct strings. The UTF-8 encoded strings are
+	 * appended to a byte heap, prefixed with their length, and the identifiers are mapped to their positions in the
+	 * heap using an offsets column. Strings are looked up using an open addressing hash table of identifiers.
+	 */
+	private static final class Dictionary {
+
+		private ByteBuffer heap;
+		private int length;
+		private final IntColumn offsets;
+		private ByteBuffer table;
+		private int size;
+
+		Dictionary(int capacity) {
+			this(ByteBuffer.allocateDirect(capacity * 16).order(ByteOrder.nativeOrder()), 0, new IntColumn(capacity),
+					ByteBuffer.allocateDirect(Integer.highestOneBit(capacity) * 2 * 4).order(ByteOrder.nativeOrder()),
+					0);
+		}
+
+		private Dictionary(ByteBuffer heap, int length, IntColumn offsets, ByteBuffer table, int size) {
+			this.heap = heap;
+			this.length = length;
+			this.offsets = offsets;
+			this.table = table;
+			this.size = size;
+		}
+
+		@Nullable
+		String get(int id) {
+			if (id == NULL) {
+				return null;
+			}
+
+			final int offset = offsets.get(id);
+			return BinaryReader.decode(heap, offset + 4, heap.getInt(offset));
+		}
+
+		int lookup(String value) {
+			final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+			final int slot = find(bytes, hash(bytes, 0, bytes.length));
+			return table.getInt(slot * 4) - 1;
+		}
+
+		int intern(@Nullable String value) {
+			if (value == null) {
+				return NULL;
+			}
+
+			final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+			final int slot = find(bytes, hash(bytes, 0, bytes.length));
+			final int existing = table.getInt(slot * 4);
+
+			if (existing != 0) {
+				return existing - 1;
+			}
+
+			if ((long) length + 4 + bytes.length > Integer.MAX_VALUE) {
+				throw new IllegalStateException("Dictionary exceeds the maximum size");
+			}
+			if (length + 4 + bytes.length > heap.capacity()) {
+				heap = grow(heap, (int) Math.min(Integer.MAX_VALUE,
+						Math.max(heap.capacity() * 2L, length + 4L + bytes.length)));
+			}
+
+			final int id = size++;
+
+			heap.putInt(length, bytes.length);
+			heap.put(length + 4, bytes);
+			offsets.set(id, length);
+			table.putInt(slot * 4, id + 1);
+			length += 4 + bytes.length;
+
+			if (size * 4 > slots() * 3) {
+				rehash(slots() * 2);
+			}
+
+			return id;
+		}
+
+		/**
+		 * Copies the dictionary into exactly sized buffers, keeping the hash table at most three quarters full.
+		 */
+		Dictionary compact() {
+			final Dictionary compacted = new Dictionary(copy(heap, length), length, offsets.compact(size),
+					ByteBuffer.allocateDirect(slots() * 4).order(ByteOrder.nativeOrder()), size);
+			compacted.table.put(0, table, 0, table.capacity());
+			return compacted;
+		}
+
+		private int slots() {
+			return table.capacity() / 4;
+		}
+
+		/**
+		 * Finds the slot of the hash table that either contains the identifier of the given string or the empty
+		 * slot where it should be inserted, using linear probing.
+		 */
+		private int find(byte[] bytes, int hash) {
+			final int mask = slots() - 1;
+			int slot = hash & mask;
+
+			while (true) {
+				final int id = table.getInt(slot * 4) - 1;
+
+				if (id == NULL || matches(offsets.get(id), bytes)) {
+					return slot;
+				}
+
+				slot = (slot + 1) & mask;
+			}
+		}
+
+		private boolean matches(int offset, byte[] bytes) {
+			if (heap.getInt(offset) != bytes.length) {
+				return false;
+			}
+
+			for (int i = 0; i < bytes.length; i++) {
+				if (heap.get(offset + 4 + i) != bytes[i]) {
+					return false;
+				}
+			}
+
+			return true;
+		}
+
+		private void rehash(int slots) {
+			table = ByteBuffer.allocateDirect(slots * 4).order(ByteOrder.nativeOrder());
+
+			for (int id = 0; id < size; id++) {
+				final int offset = offsets.get(id);
+				int slot = hash(heap, offset + 4, heap.getInt(offset)) & (slots - 1);
+
+				while (table.getInt(slot * 4) != 0) {
+					slot = (slot + 1) & (slots - 1);
+				}
+
+				table.putInt(slot * 4, id + 1);
+			}
+		}
+
+		private static int hash(byte[] bytes, int offset, int length) {
+			int hash = 0x811c9dc5;
+
+			for (int i = offset; i < offset + length; i++) {
+				hash = (hash ^ bytes[i]) * 0x01000193;
+			}
+
+			return hash ^ (hash >>> 16);
+		}
+
+		private static int hash(ByteBuffer buffer, int offset, int length) {
+			int hash = 0x811c9dc5;
+
+			for (int i = offset; i < offset + length; i++) {
+				hash = (hash ^ buffer.get(i)) * 0x01000193;
+			}
+
+			return hash ^ (hash >>> 16);
+		}
+	}
+
+}
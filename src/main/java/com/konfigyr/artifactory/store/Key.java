@@ -0,0 +1,53 @@
+package com.konfigyr.artifactory.store;
+
+import com.konfigyr.artifactory.Artifact;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Coordinates of an artifact that are used as a sort key by the stores of this package. Keys are sorted in the
+ * same order as {@link Artifact#compareTo(Artifact) artifacts}, by group, artifact identifier and version.
+ *
+ * @param groupId    artifact group identifier, can't be {@literal null}.
+ * @param artifactId artifact identifier, can't be {@literal null}.
+ * @param version    artifact version, can't be {@literal null}.
+ * @author Vladimir Spasic
+ * @since 1.0.0
+ */
+record Key(@NonNull String groupId, @NonNull String artifactId, @NonNull String version) implements Comparable<Key> {
+
+	static Key of(Artifact artifact) {
+		return new Key(artifact.groupId(), artifact.artifactId(), artifact.version());
+	}
+
+	/**
+	 * Creates the smallest key of an artifact with the given group and artifact identifier, used to start range
+	 * scans over all versions of that artifact.
+	 */
+	static Key first(String groupId, String artifactId) {
+		return new Key(groupId, artifactId, "");
+	}
+
+	boolean matches(String groupId, String artifactId) {
+		return this.groupId.equals(groupId) && this.artifactId.equals(artifactId);
+	}
+
+	@Override
+	public int compareTo(@NonNull Key other) {
+		int result = groupId.compareTo(other.groupId);
+
+		if (result == 0) {
+			result = artifactId.compareTo(other.artifactId);
+		}
+		if (result == 0) {
+			result = version.compareTo(other.version);
+		}
+
+		return result;
+	}
+
+	@Override
+	public String toString() {
+		return groupId + ':' + artifactId + ':' + version;
+	}
+
+}
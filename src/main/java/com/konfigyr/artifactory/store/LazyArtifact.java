@@ -0,0 +1,112 @@
+package com.konfigyr.artifactory.store;
+
+import com.konfigyr.artifactory.Artifact;
+import com.konfigyr.artifactory.DefaultArtifact;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.io.Serial;
+import java.net.URI;
+import java.nio.ByteBuffer;
+
+/**
+ * {@link Artifact} that decodes its attributes lazily from the encoded bytes, when they are first accessed. The
+ * {@link #website()} and {@link #repository()} locations are only parsed into {@link URI URIs} when they are
+ * accessed. The artifact is serialized as a {@link DefaultArtifact}.
+ *
+ * @author Vladimir Spasic
+ * @see LazyRecord
+ * @since 1.0.0
+ */
+class LazyArtifact extends LazyRecord implements Artifact {
+
+	@Serial
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Number of encoded artifact fields, subclasses store their own fields after them.
+	 */
+	static final int FIELDS = 7;
+
+	private static final int GROUP_ID = 0;
+	private static final int ARTIFACT_ID = 1;
+	private static final int VERSION = 2;
+	private static final int NAME = 3;
+	private static final int DESCRIPTION = 4;
+	private static final int WEBSITE = 5;
+	private static final int REPOSITORY = 6;
+
+	LazyArtifact(ByteBuffer buffer, int start, int end, int[] fields) {
+		super(buffer, start, end, fields);
+	}
+
+	/**
+	 * Creates a lazy artifact from the encoded artifact that starts at the given position.
+	 *
+	 * @param buffer   buffer with the encoded artifact
+	 * @param position position of the encoded artifact
+	 * @return lazy artifact
+	 */
+	static LazyArtifact decode(ByteBuffer buffer, int position) {
+		final ByteBuffer reader = buffer.duplicate().position(position);
+		final int[] fields = new int[FIELDS * 2];
+
+		scan(reader, fields, GROUP_ID, FIELDS);
+
+		return new LazyArtifact(buffer, position, reader.position(), fields);
+	}
+
+	@NonNull
+	@Override
+	public String groupId() {
+		return string(GROUP_ID);
+	}
+
+	@NonNull
+	@Override
+	public String artifactId() {
+		return string(ARTIFACT_ID);
+	}
+
+	@NonNull
+	@Override
+	public String version() {
+		return string(VERSION);
+	}
+
+	@Nullable
+	@Override
+	public String name() {
+		return string(NAME);
+	}
+
+	@Nullable
+	@Override
+	public String description() {
+		return string(DESCRIPTION);
+	}
+
+	@Nullable
+	@Override
+	public URI website() {
+		return uri(WEBSITE);
+	}
+
+	@Nullable
+	@Override
+	public URI repository() {
+		return uri(REPOSITORY);
+	}
+
+	@Override
+	public String toString() {
+		return "Artifact(" + coordinates() + ")";
+	}
+
+	@Serial
+	Object writeReplace() {
+		return new DefaultArtifact(groupId(), artifactId(), version(), name(), description(), website(),
+				repository());
+	}
+
+}
@@ -0,0 +1,119 @@
+package com.konfigyr.artifactory.store;
+
+import com.konfigyr.artifactory.ArtifactMetadata;
+import com.konfigyr.artifactory.DefaultArtifactMetadata;
+import com.konfigyr.artifactory.PropertyDescriptor;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.io.Serial;
+import java.nio.ByteBuffer;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * {@link ArtifactMetadata} that decodes its attributes lazily from the encoded bytes, when they are first accessed.
+ * The encoded metadata contains a table with the relative offsets of the encoded property descriptors, which are
+ * decoded into {@link LazyPropertyDescriptor lazy descriptors} one by one, when they are accessed.
+ * <p>
+ * The metadata is serialized as a {@link DefaultArtifactMetadata}.
+ *
+ * @author Vladimir Spasic
+ * @see LazyRecord
+ * @since 1.0.0
+ */
+final class LazyArtifactMetadata extends LazyArtifact implements ArtifactMetadata {
+
+	@Serial
+	private static final long serialVersionUID = 1L;
+
+	private static final int CHECKSUM = FIELDS;
+
+	private final Descriptors properties;
+
+	private LazyArtifactMetadata(ByteBuffer buffer, int start, int end, int[] fields, int table, int count) {
+		super(buffer, start, end, fields);
+		this.properties = new Descriptors(table, count);
+	}
+
+	/**
+	 * Creates lazy artifact metadata from the encoded metadata that occupies the given range of the buffer.
+	 *
+	 * @param buffer buffer with the encoded metadata
+	 * @param start  position of the encoded metadata
+	 * @param end    position after the encoded metadata
+	 * @return lazy artifact metadata
+	 */
+	static LazyArtifactMetadata decode(ByteBuffer buffer, int start, int end) {
+		final ByteBuffer reader = buffer.duplicate().position(start);
+		final int[] fields = new int[(FIELDS + 1) * 2];
+
+		scan(reader, fields, 0, FIELDS + 1);
+
+		final int count = BinaryReader.readVarint(reader);
+
+		return new LazyArtifactMetadata(buffer, start, end, fields, reader.position(), count);
+	}
+
+	@Nullable
+	@Override
+	public String checksum() {
+		return string(CHECKSUM);
+	}
+
+	@NonNull
+	@Override
+	public List<PropertyDescriptor> properties() {
+		return properties;
+	}
+
+	@Override
+	public String toString() {
+		return "ArtifactMetadata(" + coordinates() + ")";
+	}
+
+	@Serial
+	@Override
+	Object writeReplace() {
+		return new DefaultArtifactMetadata(groupId(), artifactId(), version(), name(), description(), website(),
+				repository(), checksum(), properties);
+	}
+
+	/**
+	 * List of property descriptors that are created from the offset table when they are first accessed. Created
+	 * descriptors are cached, concurrent access may create the same descriptor more than once, which is harmless
+	 * as lazy descriptors are immutable.
+	 */
+	private final class Descriptors extends AbstractList<PropertyDescriptor> implements RandomAccess {
+
+		private final int table;
+		private final PropertyDescriptor[] descriptors;
+
+		Descriptors(int table, int count) {
+			this.table = table;
+			this.descriptors = new PropertyDescriptor[count];
+		}
+
+		@Override
+		public PropertyDescriptor get(int index) {
+			PropertyDescriptor descriptor = descriptors[index];
+
+			if (descriptor == null) {
+				final ByteBuffer buffer = buffer();
+				final int position = table + descriptors.length * 4 + buffer.getInt(table + index * 4);
+
+				descriptor = LazyPropertyDescriptor.decode(buffer, position);
+				descriptors[index] = descriptor;
+			}
+
+			return descriptor;
+		}
+
+		@Override
+		public int size() {
+			return descriptors.length;
+		}
+	}
+
+}
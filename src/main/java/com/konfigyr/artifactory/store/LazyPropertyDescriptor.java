@@ -0,0 +1,130 @@
+package com.konfigyr.artifactory.store;
+
+import com.konfigyr.artifactory.DefaultPropertyDescriptor;
+import com.konfigyr.artifactory.Deprecation;
+import com.konfigyr.artifactory.PropertyDescriptor;
+import com.konfigyr.artifactory.schema.WellKnownSchema;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.io.Serial;
+import java.nio.ByteBuffer;
+
+/**
+ * {@link PropertyDescriptor} that decodes its attributes lazily from the encoded bytes, when they are first
+ * accessed. {@link WellKnownSchema Well-known schemas} are encoded using their identifiers and are never decoded.
+ * The descriptor is serialized as a {@link DefaultPropertyDescriptor}.
+ *
+ * @author Vladimir Spasic
+ * @see LazyRecord
+ * @since 1.0.0
+ */
+final class LazyPropertyDescriptor extends LazyRecord implements PropertyDescriptor {
+
+	@Serial
+	private static final long serialVersionUID = 1L;
+
+	private static final int NAME = 0;
+	private static final int SCHEMA = 1;
+	private static final int TYPE_NAME = 2;
+	private static final int DESCRIPTION = 3;
+	private static final int DEFAULT_VALUE = 4;
+	private static final int REASON = 5;
+	private static final int REPLACEMENT = 6;
+
+	@Nullable
+	private final WellKnownSchema schema;
+	private final boolean deprecated;
+
+	private LazyPropertyDescriptor(ByteBuffer buffer, int start, int end, int[] fields,
+			@Nullable WellKnownSchema schema, boolean deprecated) {
+		super(buffer, start, end, fields);
+		this.schema = schema;
+		this.deprecated = deprecated;
+	}
+
+	/**
+	 * Creates a lazy property descriptor from the encoded descriptor that starts at the given position.
+	 *
+	 * @param buffer   buffer with the encoded descriptor
+	 * @param start    position of the encoded descriptor
+	 * @return lazy property descriptor
+	 */
+	static LazyPropertyDescriptor decode(ByteBuffer buffer, int start) {
+		final ByteBuffer reader = buffer.duplicate().position(start);
+		final int[] fields = new int[14];
+
+		scan(reader, fields, NAME, 1);
+
+		final int position = reader.position();
+		final WellKnownSchema schema;
+
+		if (BinaryReader.readVarint(reader) == 0) {
+			schema = WellKnownSchema.of(BinaryReader.readVarint(reader));
+			clear(fields, SCHEMA, 1);
+		} else {
+			schema = null;
+			scan(reader.position(position), fields, SCHEMA, 1);
+		}
+
+		scan(reader, fields, TYPE_NAME, 3);
+
+		final boolean deprecated = reader.get() != 0;
+
+		if (deprecated) {
+			scan(reader, fields, REASON, 2);
+		} else {
+			clear(fields, REASON, 2);
+		}
+
+		return new LazyPropertyDescriptor(buffer, start, reader.position(), fields, schema, deprecated);
+	}
+
+	@NonNull
+	@Override
+	public String name() {
+		return string(NAME);
+	}
+
+	@NonNull
+	@Override
+	public String schema() {
+		return schema == null ? string(SCHEMA) : schema.schema();
+	}
+
+	@Nullable
+	@Override
+	public String typeName() {
+		return string(TYPE_NAME);
+	}
+
+	@Nullable
+	@Override
+	public String description() {
+		return string(DESCRIPTION);
+	}
+
+	@Nullable
+	@Override
+	public String defaultValue() {
+		return string(DEFAULT_VALUE);
+	}
+
+	@Nullable
+	@Override
+	public Deprecation deprecation() {
+		return deprecated ? new Deprecation(string(REASON), string(REPLACEMENT)) : null;
+	}
+
+	@Override
+	public String toString() {
+		return "PropertyDescriptor(name=" + name() + ", typeName=" + typeName() + ")";
+	}
+
+	@Serial
+	private Object writeReplace() {
+		return new DefaultPropertyDescriptor(name(), schema(), typeName(), description(), defaultValue(),
+				deprecation());
+	}
+
+}
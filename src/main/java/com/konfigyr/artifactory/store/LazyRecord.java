@@ -0,0 +1,138 @@
+package com.konfigyr.artifactory.store;
+
+import org.jspecify.annotations.Nullable;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.util.function.Function;
+
+/**
+ * Base class of records that are decoded lazily from the encoded bytes written by the {@link BinaryWriter}.
+ * <p>
+ * When the record is created, its encoded fields are only scanned to find the positions and lengths of their UTF-8
+ * encoded bytes, nothing is decoded. Each field is decoded, or parsed, when it is first accessed and the result is
+ * cached. Records that are only partially read, like most property descriptors of which only the name and the type
+ * are ever needed, therefore never pay for decoding their remaining fields.
+ * <p>
+ * Two records are equal when they are of the same type and their encoded bytes are equal, which does not require
+ * any of their fields to be decoded. Records are thread-safe, concurrent access may decode the same field more than
+ * once, but the decoded values are always safely published.
+ *
+ * @author Vladimir Spasic
+ * @since 1.0.0
+ */
+abstract class LazyRecord {
+
+	private static final VarHandle VALUES = MethodHandles.arrayElementVarHandle(Object[].class);
+
+	private final ByteBuffer buffer;
+	private final int start;
+	private final int end;
+	private final int[] fields;
+	private final Object[] values;
+	private int hash;
+
+	/**
+	 * Creates a lazy record over the encoded bytes in the given range of the buffer.
+	 *
+	 * @param buffer buffer with encoded records, shared by all the records decoded from it.
+	 * @param start  position of the first byte of this record
+	 * @param end    position after the last byte of this record
+	 * @param fields positions and lengths of the encoded string fields, as created by {@link #scan}
+	 */
+	LazyRecord(ByteBuffer buffer, int start, int end, int[] fields) {
+		this.buffer = buffer;
+		this.start = start;
+		this.end = end;
+		this.fields = fields;
+		this.values = new Object[fields.length / 2];
+	}
+
+	/**
+	 * Scans the given number of encoded strings from the current position of the reader, storing the position and
+	 * the length of their UTF-8 bytes into the fields array, starting from the given field index. Strings that are
+	 * {@literal null} have a negative length.
+	 */
+	static void scan(ByteBuffer reader, int[] fields, int from, int count) {
+		for (int i = from; i < from + count; i++) {
+			final int length = BinaryReader.readVarint(reader) - 1;
+
+			fields[i * 2] = reader.position();
+			fields[i * 2 + 1] = length;
+
+			if (length > 0) {
+				reader.position(reader.position() + length);
+			}
+		}
+	}
+
+	/**
+	 * Marks the fields in the given range as {@literal null}.
+	 */
+	static void clear(int[] fields, int from, int count) {
+		for (int i = from; i < from + count; i++) {
+			fields[i * 2 + 1] = -1;
+		}
+	}
+
+	@Nullable
+	final String string(int field) {
+		return value(field, Function.identity());
+	}
+
+	@Nullable
+	final URI uri(int field) {
+		return value(field, URI::create);
+	}
+
+	final ByteBuffer buffer() {
+		return buffer;
+	}
+
+	@Nullable
+	@SuppressWarnings("unchecked")
+	private <T> T value(int field, Function<String, T> parser) {
+		Object value = VALUES.getAcquire(values, field);
+
+		if (value == null) {
+			final int length = fields[field * 2 + 1];
+
+			if (length < 0) {
+				return null;
+			}
+
+			value = parser.apply(BinaryReader.decode(buffer, fields[field * 2], length));
+			VALUES.setRelease(values, field, value);
+		}
+
+		return (T) value;
+	}
+
+	private ByteBuffer bytes() {
+		return buffer.slice(start, end - start);
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+
+		return o != null && getClass() == o.getClass() && bytes().equals(((LazyRecord) o).bytes());
+	}
+
+	@Override
+	public int hashCode() {
+		int result = hash;
+
+		if (result == 0) {
+			result = bytes().hashCode();
+			hash = result;
+		}
+
+		return result;
+	}
+
+}
@@ -0,0 +1,368 @@
+package com.konfigyr.artifactory.store;
+
+import com.konfigyr.artifactory.ArtifactMetadata;
+import com.konfigyr.artifactory.Deprecation;
+import com.konfigyr.artifactory.PropertyDescriptor;
+import com.konfigyr.artifactory.schema.WellKnownSchema;
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Immutable, memory-mapped file that contains encoded {@link ArtifactMetadata} sorted by their {@link Key}.
+ * <p>
+ * The segment file starts with the metadata entries, each one prefixed with its length. Every
+ * {@value #INDEX_INTERVAL}th entry is added to the sparse index that is written after the entries, the index is
+ * followed by a fixed size footer that contains the position of the index and the number of entries. The sparse
+ * index is loaded on-heap when the segment is opened, lookups find the closest indexed entry using a binary search
+ * and scan at most {@value #INDEX_INTERVAL} entries from there.
+ * <p>
+ * An encoded entry starts with the artifact coordinates, followed by the remaining artifact attributes and a table
+ * with the relative offsets of the encoded property descriptors. Metadata read from the segment is a
+ * {@link LazyArtifactMetadata} that decodes its attributes and descriptors lazily, when they are accessed.
+ * Descriptor schemas that are {@link WellKnownSchema well-known} are encoded using their identifiers.
+ *
+ * @author Vladimir Spasic
+ * @see MetadataStore
+ * @since 1.0.0
+ */
+final class MetadataSegment {
+
+	static final String SUFFIX = ".seg";
+	static final int INDEX_INTERVAL = 16;
+
+	private static final int MAGIC = 0x4b4d5347;
+	private static final int FOOTER_SIZE = 16;
+	private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+	private final long id;
+	private final MappedByteBuffer buffer;
+	private final int limit;
+	private final int count;
+	private final Key[] keys;
+	private final int[] offsets;
+
+	private MetadataSegment(long id, MappedByteBuffer buffer, int limit, int count, Key[] keys, int[] offsets) {
+		this.id = id;
+		this.buffer = buffer;
+		this.limit = limit;
+		this.count = count;
+		this.keys = keys;
+		this.offsets = offsets;
+	}
+
+	static Path file(Path directory, long id) {
+		return directory.resolve(String.format("%020d%s", id, SUFFIX));
+	}
+
+	/**
+	 * Opens and maps the segment file, loading its sparse index.
+	 */
+	static MetadataSegment open(Path file, long id) throws IOException {
+		final MappedByteBuffer buffer;
+
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			if (channel.size() < FOOTER_SIZE || channel.size() > Integer.MAX_VALUE) {
+				throw new IOException("Invalid metadata segment file size: " + file);
+			}
+			buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+		}
+
+		final int footer = buffer.limit() - FOOTER_SIZE;
+
+		if (buffer.getInt(footer + 12) != MAGIC) {
+			throw new IOException("Invalid metadata segment file: " + file);
+		}
+
+		final int index = (int) buffer.getLong(footer);
+		final int count = buffer.getInt(footer + 8);
+		final ByteBuffer reader = buffer.duplicate().position(index).limit(footer);
+		final int size = BinaryReader.readVarint(reader);
+		final Key[] keys = new Key[size];
+		final int[] offsets = new int[size];
+
+		for (int i = 0; i < size; i++) {
+			keys[i] = readKey(reader);
+			offsets[i] = BinaryReader.readVarint(reader);
+		}
+
+		return new MetadataSegment(id, buffer, index, count, keys, offsets);
+	}
+
+	/**
+	 * Writes the entries, that must be sorted by their keys, into a new segment file that replaces any existing
+	 * segment with the same identifier. The file is first written to a temporary location, forced to the storage
+	 * device, and then atomically moved to its final location.
+	 */
+	static MetadataSegment write(Path directory, long id, Iterator<Entry> entries) throws IOException {
+		final Path file = file(directory, id);
+		final Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+		final BinaryWriter writer = new BinaryWriter(WRITE_BUFFER_SIZE);
+		final BinaryWriter index = new BinaryWriter();
+		long position = 0;
+		int count = 0;
+		int indexed = 0;
+
+		try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+				StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+			while (entries.hasNext()) {
+				final Entry entry = entries.next();
+
+				if (count % INDEX_INTERVAL == 0) {
+					writeKey(index, entry.key()).writeVarint((int) position);
+					indexed++;
+				}
+
+				writer.writeInt(entry.data().remaining()).writeBytes(entry.data());
+				position += 4 + entry.data().remaining();
+				count++;
+
+				if (position > Integer.MAX_VALUE - FOOTER_SIZE) {
+					throw new IOException("Metadata segment exceeds the maximum segment size: " + file);
+				}
+				if (writer.length() >= WRITE_BUFFER_SIZE) {
+					write(channel, writer);
+				}
+			}
+
+			writer.writeVarint(indexed)
+					.writeBytes(index.toByteBuffer())
+					.writeLong(position)
+					.writeInt(count)
+					.writeInt(MAGIC);
+
+			write(channel, writer);
+			channel.force(true);
+		}
+
+		Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+		return open(file, id);
+	}
+
+	long id() {
+		return id;
+	}
+
+	int count() {
+		return count;
+	}
+
+	long size() {
+		return buffer.capacity();
+	}
+
+	/**
+	 * Looks up the metadata with the given key, returns {@literal null} when the segment does not contain it.
+	 */
+	@Nullable
+	ArtifactMetadata get(Key key) {
+		final int block = block(key);
+
+		if (block < 0) {
+			return null;
+		}
+
+		int position = offsets[block];
+
+		for (int i = 0; i < INDEX_INTERVAL && position < limit; i++) {
+			final int result = readKey(buffer.duplicate().position(position + 4)).compareTo(key);
+
+			if (result == 0) {
+				return decode(buffer, position);
+			}
+			if (result > 0) {
+				break;
+			}
+
+			position += 4 + buffer.getInt(position);
+		}
+
+		return null;
+	}
+
+	/**
+	 * Adds all versions of the artifact with the given group and artifact identifiers to the target map, keyed by
+	 * their version. Versions that are already present in the map are not replaced.
+	 */
+	void versions(String groupId, String artifactId, Map<String, ArtifactMetadata> target) {
+		final Key first = Key.first(groupId, artifactId);
+		int position = offsets.length == 0 ? limit : offsets[Math.max(0, block(first))];
+
+		while (position < limit) {
+			final Key key = readKey(buffer.duplicate().position(position + 4));
+
+			if (key.matches(groupId, artifactId)) {
+				if (!target.containsKey(key.version())) {
+					target.put(key.version(), decode(buffer, position));
+				}
+			} else if (key.compareTo(first) > 0) {
+				break;
+			}
+
+			position += 4 + buffer.getInt(position);
+		}
+	}
+
+	/**
+	 * Returns an iterator over the encoded entries of this segment in their key order.
+	 */
+	Iterator<Entry> entries() {
+		return new Iterator<>() {
+			private int position = 0;
+
+			@Override
+			public boolean hasNext() {
+				return position < limit;
+			}
+
+			@Override
+			public Entry next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+
+				final int length = buffer.getInt(position);
+				final ByteBuffer data = buffer.slice(position + 4, length);
+				position += 4 + length;
+
+				return new Entry(readKey(data.duplicate()), data);
+			}
+		};
+	}
+
+	@Override
+	public String toString() {
+		return "MetadataSegment(id=" + id + ", count=" + count + ")";
+	}
+
+	/**
+	 * Returns the index of the last sparse index entry whose key is not greater than the given key, or
+	 * {@code -1} when the key is smaller than all the keys in this segment.
+	 */
+	private int block(Key key) {
+		int low = 0;
+		int high = keys.length - 1;
+
+		while (low <= high) {
+			final int middle = (low + high) >>> 1;
+			final int result = keys[middle].compareTo(key);
+
+			if (result == 0) {
+				return middle;
+			}
+			if (result < 0) {
+				low = middle + 1;
+			} else {
+				high = middle - 1;
+			}
+		}
+
+		return high;
+	}
+
+	/**
+	 * Encodes the artifact metadata into an entry that can be written to a segment file.
+	 */
+	static byte[] encode(ArtifactMetadata metadata) {
+		final List<PropertyDescriptor> descriptors = metadata.properties();
+		final BinaryWriter writer = new BinaryWriter(128 + descriptors.size() * 192);
+
+		writeKey(writer, Key.of(metadata))
+				.writeString(metadata.name())
+				.writeString(metadata.description())
+				.writeString(metadata.website() == null ? null : metadata.website().toString())
+				.writeString(metadata.repository() == null ? null : metadata.repository().toString())
+				.writeString(metadata.checksum())
+				.writeVarint(descriptors.size());
+
+		final int table = writer.length();
+
+		for (int i = 0; i < descriptors.size(); i++) {
+			writer.writeInt(0);
+		}
+
+		final int start = writer.length();
+
+		for (int i = 0; i < descriptors.size(); i++) {
+			final PropertyDescriptor descriptor = descriptors.get(i);
+			final Deprecation deprecation = descriptor.deprecation();
+
+			writer.setInt(table + i * 4, writer.length() - start)
+					.writeString(descriptor.name());
+
+			final WellKnownSchema schema = WellKnownSchema.lookup(descriptor.schema());
+
+			if (schema == null) {
+				writer.writeString(descriptor.schema());
+			} else {
+				// schema can not be null, the null string marker is followed by the well-known schema identifier
+				writer.writeString(null).writeVarint(schema.id());
+			}
+
+			writer.writeString(descriptor.typeName())
+					.writeString(descriptor.description())
+					.writeString(descriptor.defaultValue());
+
+			if (deprecation == null) {
+				writer.writeByte(0);
+			} else {
+				writer.writeByte(1)
+						.writeString(deprecation.reason())
+						.writeString(deprecation.replacement());
+			}
+		}
+
+		return writer.toByteArray();
+	}
+
+	/**
+	 * Decodes the artifact metadata entry whose length prefix starts at the given position, the metadata attributes
+	 * and its property descriptors are decoded lazily when they are accessed.
+	 */
+	static ArtifactMetadata decode(ByteBuffer buffer, int position) {
+		return LazyArtifactMetadata.decode(buffer, position + 4, position + 4 + buffer.getInt(position));
+	}
+
+	private static Key readKey(ByteBuffer reader) {
+		return new Key(BinaryReader.readString(reader), BinaryReader.readString(reader),
+				BinaryReader.readString(reader));
+	}
+
+	private static BinaryWriter writeKey(BinaryWriter writer, Key key) {
+		return writer.writeString(key.groupId())
+				.writeString(key.artifactId())
+				.writeString(key.version());
+	}
+
+	private static void write(FileChannel channel, BinaryWriter writer) throws IOException {
+		final ByteBuffer buffer = writer.toByteBuffer();
+
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+
+		writer.reset();
+	}
+
+	/**
+	 * Encoded segment entry with its key.
+	 *
+	 * @param key  key of the encoded artifact metadata
+	 * @param data encoded artifact metadata
+	 */
+	record Entry(Key key, ByteBuffer data) {
+	}
+
+}
@@ -0,0 +1,515 @@
+package com.konfigyr.artifactory.store;
+
+import com.konfigyr.artifactory.Artifact;
+import com.konfigyr.artifactory.ArtifactMetadata;
+import com.konfigyr.artifactory.ArtifactMetadataResolver;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Embedded, log-structured store of {@link ArtifactMetadata} that keeps most of the metadata on disk.
+ * <p>
+ * Metadata is first written to an in-memory sorted buffer. Once the buffer reaches its maximum size, or when the
+ * store is {@link #flush() flushed}, the buffer is written to a new immutable segment file, sorted by the artifact
+ * coordinates in the {@link Artifact#compareTo(Artifact) artifact order}. Segments are memory-mapped and only their
+ * sparse indexes are kept on-heap, the {@link com.konfigyr.artifactory.PropertyDescriptor property descriptors} of
+ * the metadata read from a segment are decoded lazily, one at a time, when they are accessed.
+ * <p>
+ * Lookups check the buffer first and then the segments, from the newest to the oldest one, so newer metadata for
+ * the same coordinates replaces the older one. As the number of segments grows, they are merged in the background
+ * into a single segment, which keeps the number of segments that need to be checked by a lookup small.
+ * <p>
+ * Metadata is durably stored only once the buffer that contains it is written to a segment, either when the buffer
+ * is full, when the store is flushed or when it is closed.
+ * <p>
+ * The store is thread-safe.
+ *
+ * @author Vladimir Spasic
+ * @see ArtifactMetadataResolver
+ * @since 1.0.0
+ */
+public final class MetadataStore implements ArtifactMetadataResolver, Closeable {
+
+	/**
+	 * Default maximum size of the in-memory buffer, in encoded bytes, 16MB.
+	 */
+	public static final long DEFAULT_BUFFER_SIZE = 16L * 1024 * 1024;
+
+	private static final int MERGE_THRESHOLD = 4;
+	private static final long MAX_MERGE_SIZE = 1L << 30;
+
+	private final Path directory;
+	private final long bufferSize;
+	private final AtomicLong sequence;
+	private final ExecutorService merger;
+	private final AtomicBoolean mergeScheduled = new AtomicBoolean();
+
+	private final ReadWriteLock bufferLock = new ReentrantReadWriteLock();
+	private final ReentrantLock stateLock = new ReentrantLock();
+	private final ReentrantLock flushLock = new ReentrantLock();
+	private final ReentrantLock mergeLock = new ReentrantLock();
+
+	private volatile State state;
+	private volatile boolean closed;
+
+	private MetadataStore(Path directory, long bufferSize, List<MetadataSegment> segments, long sequence) {
+		this.directory = directory;
+		this.bufferSize = bufferSize;
+		this.sequence = new AtomicLong(sequence);
+		this.state = new State(new Buffer(), null, segments);
+		this.merger = Executors.newSingleThreadExecutor(runnable -> {
+			final Thread thread = new Thread(runnable, "metadata-store-merger");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Opens the metadata store in the given directory, with the {@link #DEFAULT_BUFFER_SIZE default buffer size}.
+	 *
+	 * @param directory store directory, created if it does not exist, can't be {@literal null}.
+	 * @return the opened metadata store, never {@literal null}.
+	 * @throws UncheckedIOException when the store could not be opened
+	 */
+	@NonNull
+	public static MetadataStore open(@NonNull Path directory) {
+		return open(directory, DEFAULT_BUFFER_SIZE);
+	}
+
+	/**
+	 * Opens the metadata store in the given directory and maps all of its segment files.
+	 *
+	 * @param directory  store directory, created if it does not exist, can't be {@literal null}.
+	 * @param bufferSize size of the encoded metadata, in bytes, after which the in-memory buffer is written to a
+	 *                   new segment.
+	 * @return the opened metadata store, never {@literal null}.
+	 * @throws IllegalArgumentException when the buffer size is not a positive number
+	 * @throws UncheckedIOException     when the store could not be opened
+	 */
+	@NonNull
+	public static MetadataStore open(@NonNull Path directory, long bufferSize) {
+		if (bufferSize < 1) {
+			throw new IllegalArgumentException("Maximum buffer size must be a positive number");
+		}
+
+		final List<MetadataSegment> segments = new ArrayList<>();
+
+		try {
+			Files.createDirectories(directory);
+
+			final List<Path> files;
+
+			try (Stream<Path> stream = Files.list(directory)) {
+				files = stream.sorted(Comparator.reverseOrder()).toList();
+			}
+
+			for (Path file : files) {
+				final String name = file.getFileName().toString();
+
+				if (name.endsWith(MetadataSegment.SUFFIX)) {
+					final long id = Long.parseLong(name.substring(0, name.length() - MetadataSegment.SUFFIX.length()));
+					segments.add(MetadataSegment.open(file, id));
+				} else if (name.endsWith(MetadataSegment.SUFFIX + ".tmp")) {
+					// segment that was not completely written before the store was closed
+					Files.delete(file);
+				}
+			}
+		} catch (IOException ex) {
+			throw new UncheckedIOException("Failed to open metadata store in: " + directory, ex);
+		}
+
+		final long sequence = segments.isEmpty() ? 0 : segments.get(0).id() + 1;
+
+		return new MetadataStore(directory, bufferSize, List.copyOf(segments), sequence);
+	}
+
+	/**
+	 * Stores the artifact metadata, replacing any metadata that was stored for the same artifact coordinates.
+	 *
+	 * @param metadata metadata to store, can't be {@literal null}.
+	 * @throws IllegalStateException when the store is closed
+	 * @throws UncheckedIOException  when the in-memory buffer is full and could not be written to a segment
+	 */
+	public void put(@NonNull ArtifactMetadata metadata) {
+		final byte[] encoded = MetadataSegment.encode(metadata);
+		final Buffer buffer;
+
+		bufferLock.readLock().lock();
+
+		try {
+			ensureOpen();
+			buffer = state.active();
+			buffer.put(Key.of(metadata), new Value(metadata, encoded));
+		} finally {
+			bufferLock.readLock().unlock();
+		}
+
+		if (buffer.size() >= bufferSize && flushLock.tryLock()) {
+			try {
+				if (buffer == state.active()) {
+					flush();
+				}
+			} finally {
+				flushLock.unlock();
+			}
+		}
+	}
+
+	/**
+	 * Looks up the metadata stored for the coordinates of the given artifact.
+	 *
+	 * @param artifact the artifact for which metadata should be resolved, can't be {@literal null}.
+	 * @return the stored metadata, or {@literal null} when there is no metadata for the artifact.
+	 */
+	@Nullable
+	@Override
+	public ArtifactMetadata resolve(@NonNull Artifact artifact) {
+		final Key key = Key.of(artifact);
+		final State state = this.state;
+
+		Value value = state.active().entries().get(key);
+
+		if (value == null && state.flushing() != null) {
+			value = state.flushing().entries().get(key);
+		}
+		if (value != null) {
+			return value.metadata();
+		}
+
+		for (MetadataSegment segment : state.segments()) {
+			final ArtifactMetadata metadata = segment.get(key);
+
+			if (metadata != null) {
+				return metadata;
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Returns the metadata of all the stored versions of an artifact, sorted by their version in the
+	 * {@link Artifact#compareTo(Artifact) artifact order}.
+	 *
+	 * @param groupId    artifact group identifier, can't be {@literal null}.
+	 * @param artifactId artifact identifier, can't be {@literal null}.
+	 * @return metadata of the artifact versions, never {@literal null}.
+	 */
+	@NonNull
+	public List<ArtifactMetadata> versions(@NonNull String groupId, @NonNull String artifactId) {
+		final Map<String, ArtifactMetadata> versions = new TreeMap<>();
+		final State state = this.state;
+
+		state.active().versions(groupId, artifactId, versions);
+
+		if (state.flushing() != null) {
+			state.flushing().versions(groupId, artifactId, versions);
+		}
+
+		for (MetadataSegment segment : state.segments()) {
+			segment.versions(groupId, artifactId, versions);
+		}
+
+		return List.copyOf(versions.values());
+	}
+
+	/**
+	 * Writes the metadata from the in-memory buffer to a new segment file.
+	 *
+	 * @throws IllegalStateException when the store is closed
+	 * @throws UncheckedIOException  when the segment could not be written
+	 */
+	public void flush() {
+		flushLock.lock();
+
+		try {
+			ensureOpen();
+
+			// buffer left behind by a previous flush that failed to write its segment
+			if (state.flushing() != null) {
+				write(state.flushing());
+			}
+
+			final Buffer buffer = swap();
+
+			if (buffer != null) {
+				write(buffer);
+			}
+		} catch (IOException ex) {
+			throw new UncheckedIOException("Failed to write metadata store segment", ex);
+		} finally {
+			flushLock.unlock();
+		}
+
+		if (state.segments().size() > MERGE_THRESHOLD && mergeScheduled.compareAndSet(false, true)) {
+			try {
+				merger.execute(this::mergeInBackground);
+			} catch (RejectedExecutionException ex) {
+				mergeScheduled.set(false);
+			}
+		}
+	}
+
+	/**
+	 * Merges the newest segments of this store into a single segment. Segments are merged until the size of the
+	 * merged segment would exceed 1GB. Merges are performed in the background as segments are added, this method
+	 * can be used to merge the segments immediately.
+	 *
+	 * @throws IllegalStateException when the store is closed
+	 * @throws UncheckedIOException  when the segments could not be merged
+	 */
+	public void merge() {
+		mergeLock.lock();
+
+		try {
+			ensureOpen();
+
+			final List<MetadataSegment> run = new ArrayList<>();
+			long size = 0;
+
+			for (MetadataSegment segment : state.segments()) {
+				if (size + segment.size() > MAX_MERGE_SIZE) {
+					break;
+				}
+				run.add(segment);
+				size += segment.size();
+			}
+
+			if (run.size() < 2) {
+				return;
+			}
+
+			// merged segment replaces the newest segment of the run, older segments are shadowed by it until removed
+			final MetadataSegment merged = MetadataSegment.write(directory, run.get(0).id(), new MergeIterator(run));
+
+			stateLock.lock();
+
+			try {
+				final List<MetadataSegment> segments = new ArrayList<>(state.segments().size());
+
+				for (MetadataSegment segment : state.segments()) {
+					if (segment == run.get(0)) {
+						segments.add(merged);
+					} else if (!run.contains(segment)) {
+						segments.add(segment);
+					}
+				}
+
+				state = new State(state.active(), state.flushing(), List.copyOf(segments));
+			} finally {
+				stateLock.unlock();
+			}
+
+			for (int i = 1; i < run.size(); i++) {
+				Files.deleteIfExists(MetadataSegment.file(directory, run.get(i).id()));
+			}
+		} catch (IOException ex) {
+			throw new UncheckedIOException("Failed to merge metadata store segments", ex);
+		} finally {
+			mergeLock.unlock();
+		}
+	}
+
+	/**
+	 * Flushes the in-memory buffer and closes the store, waiting for any running merge to complete.
+	 *
+	 * @throws UncheckedIOException when the in-memory buffer could not be written
+	 */
+	@Override
+	public void close() {
+		if (closed) {
+			return;
+		}
+
+		try {
+			flush();
+		} finally {
+			bufferLock.writeLock().lock();
+			closed = true;
+			bufferLock.writeLock().unlock();
+
+			merger.shutdown();
+			mergeLock.lock();
+			mergeLock.unlock();
+		}
+	}
+
+	private void mergeInBackground() {
+		try {
+			if (!closed) {
+				merge();
+			}
+		} catch (RuntimeException ex) {
+			// segments are left as they are, the merge is attempted again once the next segment is written
+		} finally {
+			mergeScheduled.set(false);
+		}
+	}
+
+	/**
+	 * Replaces the active in-memory buffer with an empty one, returns the replaced buffer or {@literal null} when
+	 * the active buffer is empty.
+	 */
+	@Nullable
+	private Buffer swap() {
+		bufferLock.writeLock().lock();
+		stateLock.lock();
+
+		try {
+			final Buffer buffer = state.active();
+
+			if (buffer.entries().isEmpty()) {
+				return null;
+			}
+
+			state = new State(new Buffer(), buffer, state.segments());
+			return buffer;
+		} finally {
+			stateLock.unlock();
+			bufferLock.writeLock().unlock();
+		}
+	}
+
+	private void write(Buffer buffer) throws IOException {
+		final Iterator<MetadataSegment.Entry> entries = buffer.entries().entrySet().stream()
+				.map(entry -> new MetadataSegment.Entry(entry.getKey(),
+						ByteBuffer.wrap(entry.getValue().encoded())))
+				.iterator();
+
+		final MetadataSegment segment = MetadataSegment.write(directory, sequence.getAndIncrement(), entries);
+
+		stateLock.lock();
+
+		try {
+			final List<MetadataSegment> segments = new ArrayList<>(state.segments().size() + 1);
+			segments.add(segment);
+			segments.addAll(state.segments());
+
+			state = new State(state.active(), null, List.copyOf(segments));
+		} finally {
+			stateLock.unlock();
+		}
+	}
+
+	private void ensureOpen() {
+		if (closed) {
+			throw new IllegalStateException("Metadata store is closed");
+		}
+	}
+
+	private record State(Buffer active, @Nullable Buffer flushing, List<MetadataSegment> segments) {
+	}
+
+	private record Value(ArtifactMetadata metadata, byte[] encoded) {
+	}
+
+	private record Buffer(ConcurrentNavigableMap<Key, Value> entries, AtomicLong encoded) {
+
+		Buffer() {
+			this(new ConcurrentSkipListMap<>(), new AtomicLong());
+		}
+
+		void put(Key key, Value value) {
+			entries.put(key, value);
+			encoded.addAndGet(value.encoded().length);
+		}
+
+		long size() {
+			return encoded.get();
+		}
+
+		void versions(String groupId, String artifactId, Map<String, ArtifactMetadata> target) {
+			for (Map.Entry<Key, Value> entry : entries.tailMap(Key.first(groupId, artifactId)).entrySet()) {
+				if (!entry.getKey().matches(groupId, artifactId)) {
+					break;
+				}
+				target.putIfAbsent(entry.getKey().version(), entry.getValue().metadata());
+			}
+		}
+	}
+
+	/**
+	 * Iterates over the entries of multiple segments in their key order. When more segments contain the same key,
+	 * only the entry from the newest segment is returned.
+	 */
+	private static final class MergeIterator implements Iterator<MetadataSegment.Entry> {
+
+		private final PriorityQueue<Cursor> cursors = new PriorityQueue<>();
+
+		MergeIterator(List<MetadataSegment> segments) {
+			for (int i = 0; i < segments.size(); i++) {
+				final Iterator<MetadataSegment.Entry> entries = segments.get(i).entries();
+
+				if (entries.hasNext()) {
+					cursors.add(new Cursor(entries, entries.next(), i));
+				}
+			}
+		}
+
+		@Override
+		public boolean hasNext() {
+			return !cursors.isEmpty();
+		}
+
+		@Override
+		public MetadataSegment.Entry next() {
+			final Cursor cursor = cursors.poll();
+
+			if (cursor == null) {
+				throw new NoSuchElementException();
+			}
+
+			final MetadataSegment.Entry entry = cursor.entry();
+			advance(cursor);
+
+			while (!cursors.isEmpty() && cursors.peek().entry().key().equals(entry.key())) {
+				advance(cursors.poll());
+			}
+
+			return entry;
+		}
+
+		private void advance(Cursor cursor) {
+			if (cursor.entries().hasNext()) {
+				cursors.add(new Cursor(cursor.entries(), cursor.entries().next(), cursor.rank()));
+			}
+		}
+	}
+
+	private record Cursor(Iterator<MetadataSegment.Entry> entries, MetadataSegment.Entry entry, int rank)
+			implements Comparable<Cursor> {
+
+		@Override
+		public int compareTo(Cursor other) {
+			final int result = entry.key().compareTo(other.entry.key());
+			return result == 0 ? Integer.compare(rank, other.rank) : result;
+		}
+	}
+
+}
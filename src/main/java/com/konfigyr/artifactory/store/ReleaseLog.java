@@ -0,0 +1,629 @@
+package com.konfigyr.artifactory.store;
+
+import com.konfigyr.artifactory.Artifact;
+import com.konfigyr.artifactory.Release;
+import com.konfigyr.artifactory.ReleaseState;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * File-backed, append-only log of {@link Release} state transitions that keeps the latest state of each release
+ * in memory.
+ * <p>
+ * Each transition is written as a record that is prefixed with its length and the CRC-32 checksum of its
+ * contents. Records are appended to segment files within the log directory, once the active segment reaches its
+ * maximum size, it is closed and a new segment is started. Appends are durable once the {@link #append(Release)}
+ * method returns. Concurrent appends use group commit: while one thread forces the segment to the storage device,
+ * other threads keep writing their records, and the next force makes all of them durable at once. This way many
+ * appends share the cost of a single {@code fsync}.
+ * <p>
+ * The latest state of each release, keyed by its {@link Artifact#coordinates() coordinates}, can be periodically
+ * written to a {@link #checkpoint() checkpoint} file. When the log is opened, the latest state is restored from
+ * the checkpoint and the records appended after it are replayed from the memory-mapped segments. Records that were
+ * only partially written, because of a crash, are detected by their length or checksum and are truncated.
+ * <p>
+ * As the log grows, it can be {@link #compact() compacted}, which writes a new checkpoint and removes all the
+ * segments covered by it, keeping only the latest state of each release.
+ * <p>
+ * The log is thread-safe.
+ *
+ * @author Vladimir Spasic
+ * @see Release
+ * @since 1.0.0
+ */
+public final class ReleaseLog implements Closeable {
+
+	/**
+	 * Default maximum size of a segment file, 64MB.
+	 */
+	public static final long DEFAULT_SEGMENT_SIZE = 64L * 1024 * 1024;
+
+	private static final String SEGMENT_SUFFIX = ".log";
+	private static final String CHECKPOINT = "checkpoint";
+	private static final int CHECKPOINT_MAGIC = 0x4b52434b;
+	private static final int HEADER_SIZE = 8;
+	private static final int MAX_RECORD_SIZE = 16 * 1024 * 1024;
+
+	private final Path directory;
+	private final long maxSegmentSize;
+	private final Map<String, Release> latest = new ConcurrentHashMap<>();
+
+	private final ReentrantLock appendLock = new ReentrantLock();
+	private final ReadWriteLock channelLock = new ReentrantReadWriteLock();
+	private final ReentrantLock maintenanceLock = new ReentrantLock();
+	private final Object commitMonitor = new Object();
+
+	private FileChannel active;
+	private long activeId;
+	private long activeSize;
+
+	private volatile long appended;
+	private long durable;
+	private boolean committing;
+	private volatile boolean closed;
+
+	private ReleaseLog(Path directory, long maxSegmentSize) {
+		this.directory = directory;
+		this.maxSegmentSize = maxSegmentSize;
+	}
+
+	/**
+	 * Opens the release log in the given directory, with the {@link #DEFAULT_SEGMENT_SIZE default segment size}.
+	 *
+	 * @param directory log directory, created if it does not exist, can't be {@literal null}.
+	 * @return the opened release log, never {@literal null}.
+	 * @throws UncheckedIOException when the log could not be opened or recovered
+	 */
+	@NonNull
+	public static ReleaseLog open(@NonNull Path directory) {
+		return open(directory, DEFAULT_SEGMENT_SIZE);
+	}
+
+	/**
+	 * Opens the release log in the given directory. The latest release states are restored from the last
+	 * checkpoint and the segments written after it.
+	 *
+	 * @param directory      log directory, created if it does not exist, can't be {@literal null}.
+	 * @param maxSegmentSize size in bytes after which a new segment is started.
+	 * @return the opened release log, never {@literal null}.
+	 * @throws IllegalArgumentException when the segment size is not a positive number
+	 * @throws UncheckedIOException     when the log could not be opened or recovered
+	 */
+	@NonNull
+	public static ReleaseLog open(@NonNull Path directory, long maxSegmentSize) {
+		if (maxSegmentSize < 1) {
+			throw new IllegalArgumentException("Maximum segment size must be a positive number");
+		}
+
+		final ReleaseLog log = new ReleaseLog(directory, maxSegmentSize);
+
+		try {
+			Files.createDirectories(directory);
+			log.recover();
+		} catch (IOException ex) {
+			throw new UncheckedIOException("Failed to open release log in: " + directory, ex);
+		}
+
+		return log;
+	}
+
+	/**
+	 * Appends the release state transition to the log and waits until it is durably stored.
+	 *
+	 * @param release release to append, can't be {@literal null}.
+	 * @throws IllegalStateException when the log is closed
+	 * @throws UncheckedIOException  when the release could not be written
+	 */
+	public void append(@NonNull Release release) {
+		final byte[] record = record(release);
+		final long sequence;
+
+		appendLock.lock();
+
+		try {
+			ensureOpen();
+
+			if (activeSize > 0 && activeSize + record.length > maxSegmentSize) {
+				roll();
+			}
+
+			write(active, ByteBuffer.wrap(record), activeSize);
+			activeSize += record.length;
+			latest.put(release.coordinates(), release);
+			sequence = ++appended;
+		} catch (IOException ex) {
+			throw new UncheckedIOException("Failed to append release: " + release.coordinates(), ex);
+		} finally {
+			appendLock.unlock();
+		}
+
+		commit(sequence);
+	}
+
+	/**
+	 * Returns the latest state of the release with the coordinates of the given artifact.
+	 *
+	 * @param artifact artifact for which the release is looked up, can't be {@literal null}.
+	 * @return the latest release state, or {@literal null} when there is no such release.
+	 */
+	@Nullable
+	public Release get(@NonNull Artifact artifact) {
+		return latest.get(artifact.coordinates());
+	}
+
+	/**
+	 * Returns the latest state of all releases in this log.
+	 *
+	 * @return latest release states, never {@literal null}.
+	 */
+	@NonNull
+	public Collection<Release> releases() {
+		return List.copyOf(latest.values());
+	}
+
+	/**
+	 * Returns all the state transitions of the release with the coordinates of the given artifact, in the order
+	 * in which they were appended, read from the memory-mapped segments. Transitions that were removed by the
+	 * {@link #compact() compaction} are no longer available.
+	 *
+	 * @param artifact artifact for which the release history is read, can't be {@literal null}.
+	 * @return release state transitions, never {@literal null}.
+	 * @throws UncheckedIOException when the segments could not be read
+	 */
+	@NonNull
+	public List<Release> history(@NonNull Artifact artifact) {
+		final String coordinates = artifact.coordinates();
+		final List<Release> history = new ArrayList<>();
+		final long limit;
+		final long id;
+
+		appendLock.lock();
+
+		try {
+			ensureOpen();
+			limit = activeSize;
+			id = activeId;
+		} finally {
+			appendLock.unlock();
+		}
+
+		try {
+			for (long segment : segments()) {
+				if (segment > id) {
+					break;
+				}
+
+				final ByteBuffer buffer;
+
+				try {
+					buffer = map(segment, segment == id ? limit : Long.MAX_VALUE);
+				} catch (NoSuchFileException ex) {
+					// segment was removed by a concurrent compaction
+					continue;
+				}
+
+				while (buffer.hasRemaining()) {
+					final Release release = next(buffer);
+
+					if (release == null) {
+						break;
+					}
+					if (coordinates.equals(release.coordinates())) {
+						history.add(release);
+					}
+				}
+			}
+		} catch (IOException ex) {
+			throw new UncheckedIOException("Failed to read release log history for: " + coordinates, ex);
+		}
+
+		return history;
+	}
+
+	/**
+	 * Writes the latest state of all releases to the checkpoint file, so that the log can be recovered without
+	 * replaying the records written before it.
+	 *
+	 * @throws UncheckedIOException when the checkpoint could not be written
+	 */
+	public void checkpoint() {
+		checkpoint(false);
+	}
+
+	/**
+	 * Writes a new checkpoint and removes all the segments that precede it, keeping only the latest state of
+	 * each release.
+	 *
+	 * @throws UncheckedIOException when the log could not be compacted
+	 */
+	public void compact() {
+		checkpoint(true);
+	}
+
+	@Override
+	public void close() throws IOException {
+		appendLock.lock();
+		channelLock.writeLock().lock();
+
+		try {
+			if (!closed) {
+				closed = true;
+				active.force(true);
+				active.close();
+
+				synchronized (commitMonitor) {
+					durable = Math.max(durable, appended);
+					commitMonitor.notifyAll();
+				}
+			}
+		} finally {
+			channelLock.writeLock().unlock();
+			appendLock.unlock();
+		}
+	}
+
+	private void checkpoint(boolean compact) {
+		maintenanceLock.lock();
+
+		try {
+			final Map<String, Release> snapshot;
+			final long segment;
+			final long offset;
+
+			appendLock.lock();
+
+			try {
+				ensureOpen();
+
+				if (compact && activeSize > 0) {
+					roll();
+				} else {
+					active.force(false);
+				}
+
+				snapshot = new LinkedHashMap<>(latest);
+				segment = activeId;
+				offset = activeSize;
+			} finally {
+				appendLock.unlock();
+			}
+
+			writeCheckpoint(snapshot.values(), segment, offset);
+
+			if (compact) {
+				for (long id : segments()) {
+					if (id < segment) {
+						Files.deleteIfExists(segment(id));
+					}
+				}
+			}
+		} catch (IOException ex) {
+			throw new UncheckedIOException("Failed to write release log checkpoint", ex);
+		} finally {
+			maintenanceLock.unlock();
+		}
+	}
+
+	/**
+	 * Waits until the record with the given sequence number is durable. The first waiting thread forces the
+	 * active segment, covering every record written before the force started, while the others wait for it.
+	 * When the force fails, no record is acknowledged, and the next waiting thread forces the segment again.
+	 *
+	 * @throws UncheckedIOException  when the active segment could not be forced
+	 * @throws IllegalStateException when the log was closed before the record became durable
+	 */
+	private void commit(long sequence) {
+		while (true) {
+			synchronized (commitMonitor) {
+				while (durable < sequence && committing) {
+					try {
+						commitMonitor.wait();
+					} catch (InterruptedException ex) {
+						Thread.currentThread().interrupt();
+						throw new UncheckedIOException(new InterruptedIOException("Interrupted while committing"));
+					}
+				}
+
+				if (durable >= sequence) {
+					return;
+				}
+
+				committing = true;
+			}
+
+			long target = -1;
+			boolean closedLog = false;
+
+			channelLock.readLock().lock();
+
+			try {
+				if (closed) {
+					closedLog = true;
+				} else {
+					final long covered = appended;
+					active.force(false);
+					target = covered;
+				}
+			} catch (IOException ex) {
+				throw new UncheckedIOException("Failed to commit release log segment", ex);
+			} finally {
+				channelLock.readLock().unlock();
+
+				// a failed force acknowledges nothing, the waiting threads retry it for their own records
+				synchronized (commitMonitor) {
+					committing = false;
+					durable = Math.max(durable, target);
+					commitMonitor.notifyAll();
+				}
+			}
+
+			// records of a closed log are made durable by the close, unless its force has failed
+			if (closedLog) {
+				synchronized (commitMonitor) {
+					if (durable >= sequence) {
+						return;
+					}
+				}
+				throw new IllegalStateException("Release log is closed");
+			}
+		}
+	}
+
+	/**
+	 * Closes the active segment and starts a new one, must be invoked while holding the append lock.
+	 */
+	private void roll() throws IOException {
+		channelLock.writeLock().lock();
+
+		try {
+			active.force(true);
+			active.close();
+
+			synchronized (commitMonitor) {
+				durable = Math.max(durable, appended);
+				commitMonitor.notifyAll();
+			}
+
+			activeId++;
+			activeSize = 0;
+			active = FileChannel.open(segment(activeId), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+		} finally {
+			channelLock.writeLock().unlock();
+		}
+	}
+
+	private void recover() throws IOException {
+		long segment = 0;
+		long offset = 0;
+
+		final Path checkpoint = directory.resolve(CHECKPOINT);
+
+		if (Files.exists(checkpoint)) {
+			final ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(checkpoint));
+
+			if (buffer.remaining() < 24 || buffer.getInt() != CHECKPOINT_MAGIC) {
+				throw new IOException("Invalid release log checkpoint file: " + checkpoint);
+			}
+
+			segment = buffer.getLong();
+			offset = buffer.getLong();
+			final int count = buffer.getInt();
+
+			for (int i = 0; i < count; i++) {
+				final Release release = next(buffer);
+
+				if (release == null) {
+					throw new IOException("Corrupted release log checkpoint file: " + checkpoint);
+				}
+
+				latest.put(release.coordinates(), release);
+			}
+		}
+
+		final List<Long> segments = segments();
+
+		activeId = segments.isEmpty() ? segment : Math.max(segment, segments.get(segments.size() - 1));
+		activeSize = 0;
+
+		for (long id : segments) {
+			if (id < segment) {
+				continue;
+			}
+
+			final ByteBuffer buffer = map(id, Long.MAX_VALUE);
+			buffer.position((int) Math.min(id == segment ? offset : 0, buffer.limit()));
+
+			while (buffer.hasRemaining()) {
+				final int position = buffer.position();
+				final Release release = next(buffer);
+
+				if (release == null) {
+					if (id != activeId) {
+						throw new IOException("Corrupted release log segment: " + segment(id));
+					}
+
+					// partially written record at the end of the log, left behind by a crash
+					try (FileChannel channel = FileChannel.open(segment(id), StandardOpenOption.WRITE)) {
+						channel.truncate(position);
+					}
+					buffer.position(buffer.limit());
+					break;
+				}
+
+				latest.put(release.coordinates(), release);
+			}
+
+			if (id == activeId) {
+				activeSize = buffer.position();
+			}
+		}
+
+		active = FileChannel.open(segment(activeId), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+	}
+
+	private void writeCheckpoint(Collection<Release> releases, long segment, long offset) throws IOException {
+		final BinaryWriter writer = new BinaryWriter(releases.size() * 128 + 24)
+				.writeInt(CHECKPOINT_MAGIC)
+				.writeLong(segment)
+				.writeLong(offset)
+				.writeInt(releases.size());
+
+		for (Release release : releases) {
+			writer.writeBytes(record(release));
+		}
+
+		final Path temporary = directory.resolve(CHECKPOINT + ".tmp");
+
+		try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+				StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+			write(channel, writer.toByteBuffer(), 0);
+			channel.force(true);
+		}
+
+		Files.move(temporary, directory.resolve(CHECKPOINT), StandardCopyOption.ATOMIC_MOVE,
+				StandardCopyOption.REPLACE_EXISTING);
+	}
+
+	private List<Long> segments() throws IOException {
+		try (Stream<Path> files = Files.list(directory)) {
+			return files.map(file -> file.getFileName().toString())
+					.filter(name -> name.endsWith(SEGMENT_SUFFIX))
+					.map(name -> Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length())))
+					.sorted()
+					.toList();
+		}
+	}
+
+	private Path segment(long id) {
+		return directory.resolve(String.format("%020d%s", id, SEGMENT_SUFFIX));
+	}
+
+	private MappedByteBuffer map(long id, long limit) throws IOException {
+		try (FileChannel channel = FileChannel.open(segment(id), StandardOpenOption.READ)) {
+			return channel.map(FileChannel.MapMode.READ_ONLY, 0, Math.min(channel.size(), limit));
+		}
+	}
+
+	private void ensureOpen() {
+		if (closed) {
+			throw new IllegalStateException("Release log is closed");
+		}
+	}
+
+	private static void write(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+		while (buffer.hasRemaining()) {
+			position += channel.write(buffer, position);
+		}
+	}
+
+	/**
+	 * Encodes the release into a record, the record starts with the length of the encoded release and its
+	 * CRC-32 checksum, followed by the encoded release.
+	 */
+	static byte[] record(Release release) {
+		final BinaryWriter writer = new BinaryWriter()
+				.writeInt(0)
+				.writeInt(0)
+				.writeString(release.groupId())
+				.writeString(release.artifactId())
+				.writeString(release.version())
+				.writeString(release.name())
+				.writeString(release.description())
+				.writeString(release.website() == null ? null : release.website().toString())
+				.writeString(release.repository() == null ? null : release.repository().toString())
+				.writeByte(release.state().ordinal())
+				.writeVarint(release.errors().size());
+
+		for (String error : release.errors()) {
+			writer.writeString(error);
+		}
+
+		writer.writeString(release.checksum())
+				.writeVarlong(release.releaseDate().getEpochSecond())
+				.writeVarint(release.releaseDate().getNano());
+
+		final CRC32 crc = new CRC32();
+		crc.update(writer.array(), HEADER_SIZE, writer.length() - HEADER_SIZE);
+
+		return writer.setInt(0, writer.length() - HEADER_SIZE)
+				.setInt(4, (int) crc.getValue())
+				.toByteArray();
+	}
+
+	/**
+	 * Decodes the next record from the buffer, returns {@literal null} when the record at the current position
+	 * is incomplete or its checksum does not match.
+	 */
+	@Nullable
+	static Release next(ByteBuffer buffer) {
+		if (buffer.remaining() < HEADER_SIZE) {
+			return null;
+		}
+
+		final int start = buffer.position();
+		final int length = buffer.getInt();
+		final int checksum = buffer.getInt();
+
+		if (length <= 0 || length > MAX_RECORD_SIZE || length > buffer.remaining()) {
+			buffer.position(start);
+			return null;
+		}
+
+		final ByteBuffer payload = buffer.slice(buffer.position(), length);
+		final CRC32 crc = new CRC32();
+		crc.update(payload.duplicate());
+
+		if ((int) crc.getValue() != checksum) {
+			buffer.position(start);
+			return null;
+		}
+
+		buffer.position(buffer.position() + length);
+
+		final var builder = Release.builder()
+				.groupId(BinaryReader.readString(payload))
+				.artifactId(BinaryReader.readString(payload))
+				.version(BinaryReader.readString(payload))
+				.name(BinaryReader.readString(payload))
+				.description(BinaryReader.readString(payload))
+				.website(BinaryReader.readString(payload))
+				.repository(BinaryReader.readString(payload))
+				.state(ReleaseState.values()[payload.get()]);
+
+		final int errors = BinaryReader.readVarint(payload);
+
+		for (int i = 0; i < errors; i++) {
+			builder.error(BinaryReader.readString(payload));
+		}
+
+		return builder.checksum(BinaryReader.readString(payload))
+				.releaseDate(Instant.ofEpochSecond(BinaryReader.readVarlong(payload), BinaryReader.readVarint(payload)))
+				.build();
+	}
+
+}
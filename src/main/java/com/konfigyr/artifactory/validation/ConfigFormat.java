@@ -0,0 +1,59 @@
+package com.konfigyr.artifactory.validation;
+
+import org.jspecify.annotations.NonNull;
+
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * Configuration file formats that can be validated by the {@link ConfigValidator} in a streaming fashion.
+ *
+ * @author Vladimir Spasic
+ * @see ConfigValidator#validate(java.io.Reader, ConfigFormat, int)
+ * @since 1.0.0
+ */
+public enum ConfigFormat {
+
+	/**
+	 * The {@code .properties} file format, as read by {@link java.util.Properties#load(java.io.Reader)}.
+	 */
+	PROPERTIES(PropertiesParser.INSTANCE),
+
+	/**
+	 * The subset of the {@code YAML} file format that is commonly used by Spring Boot {@code application.yml}
+	 * files, block mappings and sequences are flattened into property names.
+	 */
+	YAML(YamlParser.INSTANCE);
+
+	private final ConfigParser parser;
+
+	ConfigFormat(ConfigParser parser) {
+		this.parser = parser;
+	}
+
+	/**
+	 * Resolves the configuration format based on the extension of the given file.
+	 *
+	 * @param path path to the configuration file, can't be {@literal null}.
+	 * @return matching configuration format, never {@literal null}.
+	 * @throws IllegalArgumentException when the file extension is not supported
+	 */
+	@NonNull
+	public static ConfigFormat of(@NonNull Path path) {
+		final String name = String.valueOf(path.getFileName()).toLowerCase(Locale.ROOT);
+
+		if (name.endsWith(".properties")) {
+			return PROPERTIES;
+		}
+		if (name.endsWith(".yml") || name.endsWith(".yaml")) {
+			return YAML;
+		}
+
+		throw new IllegalArgumentException("Unsupported configuration file format: " + path);
+	}
+
+	ConfigParser parser() {
+		return parser;
+	}
+
+}
@@ -0,0 +1,133 @@
+package com.konfigyr.artifactory.validation;
+
+import com.konfigyr.artifactory.deprecation.DeprecationResolver;
+import org.jspecify.annotations.NonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Rewrites the deprecated configuration properties in {@code .properties} files to their final replacements,
+ * as resolved by the {@link DeprecationResolver}.
+ * <p>
+ * The file is migrated in a single pass, each line is written to the output as soon as it is read, without
+ * building any intermediate representation of the file. Only the keys of the deprecated properties are rewritten,
+ * everything else, including comments, blank lines, property values and their line continuations, is copied as
+ * it is. Deprecated properties without a replacement are left untouched. Lines are always terminated with the
+ * {@code \n} line feed character.
+ *
+ * <pre>{@code
+ * ConfigMigrator migrator = ConfigMigrator.of(DeprecationResolver.of(metadata));
+ * List<PropertyMigration> migrations = migrator.migrate(reader, writer);
+ * }</pre>
+ * <p>
+ * Migrators are immutable and thread-safe.
+ *
+ * @author Vladimir Spasic
+ * @see DeprecationResolver
+ * @see PropertyMigration
+ * @since 1.0.0
+ */
+public final class ConfigMigrator {
+
+	private final DeprecationResolver resolver;
+
+	private ConfigMigrator(DeprecationResolver resolver) {
+		this.resolver = resolver;
+	}
+
+	/**
+	 * Creates a new migrator that renames properties using the given {@link DeprecationResolver}.
+	 *
+	 * @param resolver resolver of the deprecated property replacements, can't be {@literal null}.
+	 * @return configuration migrator, never {@literal null}.
+	 */
+	@NonNull
+	public static ConfigMigrator of(@NonNull DeprecationResolver resolver) {
+		return new ConfigMigrator(resolver);
+	}
+
+	/**
+	 * Migrates the {@code .properties} file contents read from the given {@link Reader} and writes the migrated
+	 * contents to the given {@link Writer}. Neither the reader nor the writer are closed by this method.
+	 *
+	 * @param reader reader providing the configuration file contents, can't be {@literal null}.
+	 * @param writer writer receiving the migrated configuration file contents, can't be {@literal null}.
+	 * @return the renamed properties, in the order in which they appear in the file, never {@literal null}.
+	 * @throws UncheckedIOException when the configuration could not be read or written
+	 */
+	@NonNull
+	public List<PropertyMigration> migrate(@NonNull Reader reader, @NonNull Writer writer) {
+		final List<PropertyMigration> migrations = new ArrayList<>();
+		final BufferedReader buffered = reader instanceof BufferedReader br ? br : new BufferedReader(reader);
+
+		try {
+			String line;
+			int number = 0;
+
+			while ((line = buffered.readLine()) != null) {
+				number++;
+
+				final int start = PropertiesParser.skipWhitespace(line, 0);
+
+				if (start == line.length() || line.charAt(start) == '#' || line.charAt(start) == '!') {
+					writer.write(line);
+					writer.write('\n');
+					continue;
+				}
+
+				writer.write(rename(line, start, number, migrations));
+				writer.write('\n');
+
+				// continuation lines only hold the remainder of the value, they are copied as they are
+				String current = line;
+
+				while (PropertiesParser.isContinued(current) && (current = buffered.readLine()) != null) {
+					number++;
+					writer.write(current);
+					writer.write('\n');
+				}
+			}
+
+			writer.flush();
+		} catch (IOException ex) {
+			throw new UncheckedIOException("Failed to migrate configuration", ex);
+		}
+
+		return migrations;
+	}
+
+	private String rename(String line, int start, int number, List<PropertyMigration> migrations) {
+		final CharSequence content = line.subSequence(start, line.length());
+		final int separator = PropertiesParser.separator(content);
+
+		// keys that continue on the next line are never renamed, they are too rare to justify buffering
+		if (separator == content.length() && PropertiesParser.isContinued(content)) {
+			return line;
+		}
+
+		final String key;
+
+		try {
+			key = PropertiesParser.unescape(content, 0, separator);
+		} catch (IllegalArgumentException ex) {
+			return line;
+		}
+
+		final String replacement = resolver.resolve(key);
+
+		if (replacement == null) {
+			return line;
+		}
+
+		migrations.add(new PropertyMigration(key, replacement, number));
+
+		return line.substring(0, start) + PropertiesParser.escapeKey(replacement) + line.substring(start + separator);
+	}
+
+}
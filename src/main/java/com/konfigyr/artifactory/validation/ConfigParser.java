@@ -0,0 +1,57 @@
+package com.konfigyr.artifactory.validation;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+/**
+ * Streaming parser of configuration files that emits each configuration property as soon as it is read,
+ * without ever collecting the properties into an intermediate structure.
+ *
+ * @author Vladimir Spasic
+ * @see ConfigFormat
+ * @since 1.0.0
+ */
+interface ConfigParser {
+
+	/**
+	 * Reads the configuration file line by line and notifies the handler about each property or syntax error.
+	 * Parsing stops as soon as the handler returns {@code false} or the end of the input is reached.
+	 *
+	 * @param reader  reader providing the configuration file contents
+	 * @param handler handler that is notified about parsed properties
+	 * @throws IOException when the configuration could not be read
+	 */
+	void parse(@NonNull BufferedReader reader, @NonNull Handler handler) throws IOException;
+
+	/**
+	 * Callback that receives the properties, or syntax errors, in the order in which they are read.
+	 */
+	interface Handler {
+
+		/**
+		 * Invoked for each configuration property that was read.
+		 *
+		 * @param name   the fully qualified property name
+		 * @param value  the property value, may be {@literal null} when value is not set
+		 * @param line   line on which the property is defined
+		 * @param column column at which the property name starts
+		 * @return {@code true} to continue parsing, {@code false} to stop
+		 */
+		boolean property(@NonNull String name, @Nullable String value, int line, int column);
+
+		/**
+		 * Invoked when a line could not be parsed.
+		 *
+		 * @param message the syntax error message
+		 * @param line    line on which the error was detected
+		 * @param column  column at which the error was detected
+		 * @return {@code true} to continue parsing, {@code false} to stop
+		 */
+		boolean malformed(@NonNull String message, int line, int column);
+
+	}
+
+}
@@ -0,0 +1,263 @@
+package com.konfigyr.artifactory.validation;
+
+import com.konfigyr.artifactory.ArtifactMetadata;
+import com.konfigyr.artifactory.ArtifactMetadataResolver;
+import com.konfigyr.artifactory.Manifest;
+import com.konfigyr.artifactory.PropertyDescriptor;
+import com.konfigyr.artifactory.index.PropertyMatch;
+import com.konfigyr.artifactory.index.PropertySuggestions;
+import com.konfigyr.artifactory.index.PropertyTrie;
+import com.konfigyr.artifactory.schema.JsonSchema;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Validates configuration property values against the {@link PropertyDescriptor property descriptors} of
+ * one or more {@link ArtifactMetadata artifacts}.
+ * <p>
+ * When the validator is created, the {@link PropertyDescriptor#schema() JSON Schema} of each descriptor is
+ * {@link JsonSchema#compile(String) compiled} and indexed by the property name. Validating a configuration is
+ * then a single pass over its properties with a constant time lookup per property, the schemas are never
+ * parsed again. Properties bound to map or collection descriptors, like {@code logging.level.org.hibernate}
+ * or {@code spring.profiles.include[0]}, are resolved using the {@link PropertyTrie} and their values are
+ * validated against the element schema of the matching descriptor. Unknown properties are reported together
+ * with the closest known property name, when there is one within a small edit distance, as found by the
+ * {@link PropertySuggestions}. Validators are immutable and thread-safe, it is recommended to create one validator per
+ * {@link ArtifactMetadata} or {@link Manifest} and reuse it for all configurations.
+ *
+ * <pre>{@code
+ * ConfigValidator validator = ConfigValidator.of(metadata);
+ * List<ConfigViolation> violations = validator.validate(Map.of("server.port", "8080"));
+ * }</pre>
+ * <p>
+ * Large configuration files can be validated without loading them into memory first using the
+ * {@link #validate(Reader, ConfigFormat, int)} method. The file is read line by line, each property
+ * is validated as soon as it is read and reading stops once the maximum number of violations is
+ * reached. Violations detected this way carry the line and column of the offending property.
+ *
+ * @author Vladimir Spasic
+ * @see JsonSchema
+ * @see ConfigViolation
+ * @since 1.0.0
+ */
+public final class ConfigValidator {
+
+	private static final int MAX_SUGGESTION_DISTANCE = 2;
+
+	private final Map<String, Entry> entries;
+	private final PropertyTrie trie;
+	private final PropertySuggestions suggestions;
+
+	private ConfigValidator(Map<String, Entry> entries, PropertyTrie trie, PropertySuggestions suggestions) {
+		this.entries = entries;
+		this.trie = trie;
+		this.suggestions = suggestions;
+	}
+
+	/**
+	 * Creates a new validator for the property descriptors of the given {@link ArtifactMetadata}.
+	 *
+	 * @param metadata artifact metadata, can't be {@literal null}.
+	 * @return configuration validator, never {@literal null}.
+	 */
+	@NonNull
+	public static ConfigValidator of(@NonNull ArtifactMetadata metadata) {
+		return of(List.of(metadata), PropertyTrie.of(metadata));
+	}
+
+	/**
+	 * Creates a new validator for the property descriptors of all artifacts contained in the given
+	 * {@link Manifest}. Artifacts for which the metadata could not be resolved are ignored.
+	 *
+	 * @param manifest manifest for which the validator is created, can't be {@literal null}.
+	 * @param resolver resolver used to look up the artifact metadata, can't be {@literal null}.
+	 * @return configuration validator, never {@literal null}.
+	 */
+	@NonNull
+	public static ConfigValidator of(@NonNull Manifest manifest, @NonNull ArtifactMetadataResolver resolver) {
+		return of(resolver.resolve(manifest));
+	}
+
+	/**
+	 * Creates a new validator for the property descriptors of all given {@link ArtifactMetadata}. In case
+	 * multiple artifacts define the property with the same name, the first one is used.
+	 *
+	 * @param metadata artifact metadata, can't be {@literal null}.
+	 * @return configuration validator, never {@literal null}.
+	 */
+	@NonNull
+	public static ConfigValidator of(@NonNull Iterable<? extends ArtifactMetadata> metadata) {
+		return of(metadata, PropertyTrie.of(metadata));
+	}
+
+	private static ConfigValidator of(Iterable<? extends ArtifactMetadata> metadata, PropertyTrie trie) {
+		final Map<String, Entry> entries = new HashMap<>();
+
+		for (ArtifactMetadata artifact : metadata) {
+			for (PropertyDescriptor descriptor : artifact) {
+				entries.computeIfAbsent(descriptor.name(), name -> new Entry(descriptor,
+						JsonSchema.compile(descriptor.schema())));
+			}
+		}
+
+		return new ConfigValidator(entries, trie, PropertySuggestions.of(metadata));
+	}
+
+	/**
+	 * Returns the {@link PropertyDescriptor} that is used to validate the property with the given name. For map
+	 * keys or collection elements, this is the descriptor of the map or collection property.
+	 *
+	 * @param name property name, can't be {@literal null}.
+	 * @return matching property descriptor, or {@literal null} when the property is not known.
+	 */
+	@Nullable
+	public PropertyDescriptor descriptor(@NonNull String name) {
+		final Entry entry = entries.get(name);
+
+		if (entry != null) {
+			return entry.descriptor();
+		}
+
+		return trie.resolve(name).map(PropertyMatch::descriptor).orElse(null);
+	}
+
+	/**
+	 * Validates all the configuration properties contained in the given map.
+	 *
+	 * @param properties configuration properties to validate, can't be {@literal null}.
+	 * @return list of detected violations, never {@literal null}.
+	 */
+	@NonNull
+	public List<ConfigViolation> validate(@NonNull Map<String, ?> properties) {
+		final List<ConfigViolation> violations = new ArrayList<>();
+
+		for (Map.Entry<String, ?> property : properties.entrySet()) {
+			final ConfigViolation violation = validate(property.getKey(), property.getValue());
+
+			if (violation != null) {
+				violations.add(violation);
+			}
+		}
+
+		return violations;
+	}
+
+	/**
+	 * Validates a single configuration property value.
+	 *
+	 * @param name  property name, can't be {@literal null}.
+	 * @param value property value, may be {@literal null}.
+	 * @return the detected violation, or {@literal null} when the property value is valid.
+	 */
+	@Nullable
+	public ConfigViolation validate(@NonNull String name, @Nullable Object value) {
+		Entry entry = entries.get(name);
+		List<String> path = List.of();
+
+		if (entry == null) {
+			final PropertyMatch match = trie.resolve(name).orElse(null);
+
+			if (match != null) {
+				entry = entries.get(match.descriptor().name());
+				path = match.path();
+			}
+		}
+
+		if (entry == null) {
+			final String suggestion = suggestions.closest(name, MAX_SUGGESTION_DISTANCE);
+
+			return new ConfigViolation(name, ConfigViolation.Type.UNKNOWN_PROPERTY, suggestion == null
+					? "Unknown configuration property: " + name
+					: "Unknown configuration property: " + name + ", did you mean '" + suggestion + "'?");
+		}
+
+		return entry.schema().validate(path, value)
+				.map(message -> new ConfigViolation(name, ConfigViolation.Type.INVALID_VALUE,
+						"Invalid value for '" + name + "': " + message))
+				.orElse(null);
+	}
+
+	/**
+	 * Validates the configuration file at the given location, the format of the file is resolved from
+	 * the file extension using {@link ConfigFormat#of(Path)}.
+	 *
+	 * @param path      location of the configuration file, can't be {@literal null}.
+	 * @param maxErrors maximum number of violations after which the validation stops.
+	 * @return list of detected violations, never {@literal null}.
+	 * @throws UncheckedIOException when the configuration file could not be read
+	 */
+	@NonNull
+	public List<ConfigViolation> validate(@NonNull Path path, int maxErrors) {
+		final ConfigFormat format = ConfigFormat.of(path);
+
+		try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+			return validate(reader, format, maxErrors);
+		} catch (IOException ex) {
+			throw new UncheckedIOException("Failed to read configuration file: " + path, ex);
+		}
+	}
+
+	/**
+	 * Validates the configuration file contents as they are read from the given {@link Reader}. Properties are
+	 * never collected, each one is validated as soon as it is read, keeping the memory usage constant regardless
+	 * of the size of the configuration file.
+	 *
+	 * @param reader    reader providing the configuration file contents, can't be {@literal null}.
+	 * @param format    format of the configuration file, can't be {@literal null}.
+	 * @param maxErrors maximum number of violations after which the validation stops.
+	 * @return list of detected violations, with at most {@code maxErrors} elements, never {@literal null}.
+	 * @throws IllegalArgumentException when the maximum number of errors is not a positive number
+	 * @throws UncheckedIOException     when the configuration file could not be read
+	 */
+	@NonNull
+	public List<ConfigViolation> validate(@NonNull Reader reader, @NonNull ConfigFormat format, int maxErrors) {
+		if (maxErrors < 1) {
+			throw new IllegalArgumentException("Maximum number of errors must be a positive number");
+		}
+
+		final List<ConfigViolation> violations = new ArrayList<>();
+		final BufferedReader buffered = reader instanceof BufferedReader br ? br : new BufferedReader(reader);
+
+		try {
+			format.parser().parse(buffered, new ConfigParser.Handler() {
+				@Override
+				public boolean property(@NonNull String name, @Nullable String value, int line, int column) {
+					final ConfigViolation violation = validate(name, value);
+
+					if (violation != null) {
+						violations.add(violation.at(line, column));
+					}
+
+					return violations.size() < maxErrors;
+				}
+
+				@Override
+				public boolean malformed(@NonNull String message, int line, int column) {
+					violations.add(new ConfigViolation("", ConfigViolation.Type.MALFORMED_INPUT, message, line, column));
+
+					return violations.size() < maxErrors;
+				}
+			});
+		} catch (IOException ex) {
+			throw new UncheckedIOException("Failed to read configuration", ex);
+		}
+
+		return violations;
+	}
+
+	private record Entry(PropertyDescriptor descriptor, JsonSchema schema) {
+	}
+
+}
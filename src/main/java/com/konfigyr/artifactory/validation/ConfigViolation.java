@@ -0,0 +1,76 @@
+package com.konfigyr.artifactory.validation;
+
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Describes a single problem that was detected while validating configuration values against the
+ * {@link com.konfigyr.artifactory.PropertyDescriptor property descriptors}.
+ * <p>
+ * When the configuration is read from a file, the violation also carries the position in that file. The
+ * {@code line} and {@code column} values are {@code 1} based and are set to {@code -1} when the position
+ * is not known, for instance when validating an in-memory {@link java.util.Map}.
+ *
+ * @param property the name of the configuration property, can't be {@literal null}.
+ * @param type     the type of the violation, can't be {@literal null}.
+ * @param message  human-readable message describing the violation, can't be {@literal null}.
+ * @param line     line number where the violation was detected, or {@code -1} if unknown.
+ * @param column   column number where the violation was detected, or {@code -1} if unknown.
+ * @author Vladimir Spasic
+ * @see ConfigValidator
+ * @since 1.0.0
+ */
+public record ConfigViolation(
+		@NonNull String property,
+		@NonNull Type type,
+		@NonNull String message,
+		int line,
+		int column
+) {
+
+	/**
+	 * Creates a new configuration violation without a known position.
+	 *
+	 * @param property the name of the configuration property, can't be {@literal null}.
+	 * @param type     the type of the violation, can't be {@literal null}.
+	 * @param message  human-readable message describing the violation, can't be {@literal null}.
+	 */
+	public ConfigViolation(@NonNull String property, @NonNull Type type, @NonNull String message) {
+		this(property, type, message, -1, -1);
+	}
+
+	/**
+	 * Creates a copy of this violation positioned at the given line and column.
+	 *
+	 * @param line   line number where the violation was detected
+	 * @param column column number where the violation was detected
+	 * @return positioned configuration violation, never {@literal null}.
+	 */
+	@NonNull
+	public ConfigViolation at(int line, int column) {
+		return new ConfigViolation(property, type, message, line, column);
+	}
+
+	/**
+	 * Types of configuration violations.
+	 */
+	public enum Type {
+
+		/**
+		 * There is no {@link com.konfigyr.artifactory.PropertyDescriptor} defined for the property.
+		 */
+		UNKNOWN_PROPERTY,
+
+		/**
+		 * The property value does not satisfy the JSON Schema of the matching
+		 * {@link com.konfigyr.artifactory.PropertyDescriptor}.
+		 */
+		INVALID_VALUE,
+
+		/**
+		 * The configuration file contains a syntax error and the property could not be read.
+		 */
+		MALFORMED_INPUT
+
+	}
+
+}
@@ -0,0 +1,228 @@
+package com.konfigyr.artifactory.validation;
+
+import org.jspecify.annotations.NonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+/**
+ * Streaming parser for the {@code .properties} file format, as specified by the
+ * {@link java.util.Properties#load(java.io.Reader)} method, including comments, line continuations
+ * and escape sequences.
+ *
+ * @author Vladimir Spasic
+ * @see ConfigFormat#PROPERTIES
+ * @since 1.0.0
+ */
+final class PropertiesParser implements ConfigParser {
+
+	static final PropertiesParser INSTANCE = new PropertiesParser();
+
+	private PropertiesParser() {
+	}
+
+	@Override
+	public void parse(@NonNull BufferedReader reader, @NonNull Handler handler) throws IOException {
+		final StringBuilder logical = new StringBuilder();
+
+		String line;
+		int number = 0;
+
+		while ((line = reader.readLine()) != null) {
+			number++;
+
+			final int start = skipWhitespace(line, 0);
+			if (start == line.length() || line.charAt(start) == '#' || line.charAt(start) == '!') {
+				continue;
+			}
+
+			final int lineNumber = number;
+			final int column = start + 1;
+
+			logical.setLength(0);
+
+			String current = line;
+			int from = start;
+
+			while (isContinued(current)) {
+				logical.append(current, from, current.length() - 1);
+				current = reader.readLine();
+
+				if (current == null) {
+					break;
+				}
+
+				number++;
+				from = skipWhitespace(current, 0);
+			}
+
+			if (current != null) {
+				logical.append(current, from, current.length());
+			}
+
+			final boolean proceed;
+
+			try {
+				final int separator = separator(logical);
+				final int value = valueStart(logical, separator);
+
+				proceed = handler.property(unescape(logical, 0, separator),
+						unescape(logical, value, logical.length()), lineNumber, column);
+			} catch (IllegalArgumentException ex) {
+				if (!handler.malformed(ex.getMessage(), lineNumber, column)) {
+					return;
+				}
+				continue;
+			}
+
+			if (!proceed) {
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Returns the index of the first unescaped key terminator, the {@code =}, {@code :} or a whitespace
+	 * character, within the given logical line.
+	 *
+	 * @param line logical line
+	 * @return index where the property key ends
+	 */
+	static int separator(CharSequence line) {
+		boolean escaped = false;
+
+		for (int i = 0; i < line.length(); i++) {
+			final char c = line.charAt(i);
+
+			if (escaped) {
+				escaped = false;
+			} else if (c == '\\') {
+				escaped = true;
+			} else if (c == '=' || c == ':' || isWhitespace(c)) {
+				return i;
+			}
+		}
+
+		return line.length();
+	}
+
+	/**
+	 * Returns the index where the property value starts, skipping the key terminator and any whitespace
+	 * surrounding it.
+	 *
+	 * @param line      logical line
+	 * @param separator index where the property key ends
+	 * @return index where the property value starts
+	 */
+	static int valueStart(CharSequence line, int separator) {
+		int index = skipWhitespace(line, separator);
+
+		if (index < line.length() && (line.charAt(index) == '=' || line.charAt(index) == ':')) {
+			index = skipWhitespace(line, index + 1);
+		}
+
+		return index;
+	}
+
+	/**
+	 * Checks if the line ends with an odd number of backslashes, meaning that the logical line
+	 * continues on the next physical line.
+	 *
+	 * @param line physical line
+	 * @return {@code true} when line is continued
+	 */
+	static boolean isContinued(CharSequence line) {
+		int count = 0;
+
+		for (int i = line.length() - 1; i >= 0 && line.charAt(i) == '\\'; i--) {
+			count++;
+		}
+
+		return count % 2 == 1;
+	}
+
+	static String unescape(CharSequence line, int start, int end) {
+		final StringBuilder builder = new StringBuilder(end - start);
+
+		for (int i = start; i < end; i++) {
+			char c = line.charAt(i);
+
+			if (c == '\\' && ++i < end) {
+				c = line.charAt(i);
+
+				switch (c) {
+					case 't' -> c = '\t';
+					case 'n' -> c = '\n';
+					case 'r' -> c = '\r';
+					case 'f' -> c = '\f';
+					case 'u' -> {
+						if (i + 4 >= end) {
+							throw new IllegalArgumentException("Malformed \\uxxxx encoding");
+						}
+						int value = 0;
+						for (int j = 1; j <= 4; j++) {
+							final int digit = Character.digit(line.charAt(i + j), 16);
+							if (digit == -1) {
+								throw new IllegalArgumentException("Malformed \\uxxxx encoding");
+							}
+							value = (value << 4) | digit;
+						}
+						i += 4;
+						c = (char) value;
+					}
+					default -> {
+						// any other escaped character is taken literally
+					}
+				}
+			}
+
+			builder.append(c);
+		}
+
+		return builder.toString();
+	}
+
+	/**
+	 * Escapes the property key so that it can be written to a {@code .properties} file, as specified by the
+	 * {@link java.util.Properties#store(java.io.Writer, String)} method.
+	 *
+	 * @param key property key to escape
+	 * @return escaped property key
+	 */
+	static String escapeKey(String key) {
+		final StringBuilder builder = new StringBuilder(key.length());
+
+		for (int i = 0; i < key.length(); i++) {
+			final char c = key.charAt(i);
+
+			switch (c) {
+				case '\\', '=', ':', ' ', '#', '!' -> builder.append('\\').append(c);
+				case '\t' -> builder.append("\\t");
+				case '\n' -> builder.append("\\n");
+				case '\r' -> builder.append("\\r");
+				case '\f' -> builder.append("\\f");
+				default -> {
+					if (c < 0x20 || c > 0x7e) {
+						builder.append(String.format("\\u%04X", (int) c));
+					} else {
+						builder.append(c);
+					}
+				}
+			}
+		}
+
+		return builder.toString();
+	}
+
+	static int skipWhitespace(CharSequence line, int index) {
+		while (index < line.length() && isWhitespace(line.charAt(index))) {
+			index++;
+		}
+		return index;
+	}
+
+	private static boolean isWhitespace(char c) {
+		return c == ' ' || c == '\t' || c == '\f';
+	}
+
+}
@@ -0,0 +1,16 @@
+package com.konfigyr.artifactory.validation;
+
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Describes a single deprecated configuration property that was renamed by the {@link ConfigMigrator}.
+ *
+ * @param property    the name of the deprecated configuration property, can't be {@literal null}.
+ * @param replacement the name of the property that replaced it, can't be {@literal null}.
+ * @param line        line number where the property is defined.
+ * @author Vladimir Spasic
+ * @see ConfigMigrator
+ * @since 1.0.0
+ */
+public record PropertyMigration(@NonNull String property, @NonNull String replacement, int line) {
+}
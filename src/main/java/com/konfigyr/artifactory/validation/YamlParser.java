@@ -0,0 +1,410 @@
+package com.konfigyr.artifactory.validation;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.regex.Pattern;
+
+/**
+ * Streaming parser for the subset of YAML that is commonly used by Spring Boot {@code application.yml} files.
+ * <p>
+ * Nested block mappings are flattened into dot separated property names and block sequences are flattened
+ * into indexed property names, for example {@code spring.profiles.include[0]}. Supported syntax includes:
+ * <ul>
+ *   <li>Block mappings, including dotted and quoted keys.</li>
+ *   <li>Block sequences of scalars or of mappings.</li>
+ *   <li>Plain, single-quoted and double-quoted scalars.</li>
+ *   <li>Flow sequences, like {@code [a, b]}, which are read as comma-delimited values.</li>
+ *   <li>Literal and folded block scalars, {@code |} and {@code >}.</li>
+ *   <li>Comments and multiple documents separated by {@code ---}.</li>
+ * </ul>
+ * Anchors, aliases, tags and flow mappings are not interpreted and are read as plain scalar values.
+ *
+ * @author Vladimir Spasic
+ * @see ConfigFormat#YAML
+ * @since 1.0.0
+ */
+final class YamlParser implements ConfigParser {
+
+	static final YamlParser INSTANCE = new YamlParser();
+
+	private static final Pattern BLOCK_INDICATOR = Pattern.compile("[|>][0-9+-]*(?:\\s+#.*)?");
+
+	private YamlParser() {
+	}
+
+	@Override
+	public void parse(@NonNull BufferedReader reader, @NonNull Handler handler) throws IOException {
+		new State(handler).parse(reader);
+	}
+
+	private static final class State {
+
+		private final Handler handler;
+		private final Deque<Frame> frames = new ArrayDeque<>();
+
+		private Block block;
+		private int number;
+
+		State(Handler handler) {
+			this.handler = handler;
+		}
+
+		void parse(BufferedReader reader) throws IOException {
+			String line;
+
+			while ((line = reader.readLine()) != null) {
+				number++;
+
+				if (!line(line)) {
+					return;
+				}
+			}
+
+			if (block == null || complete()) {
+				clear();
+			}
+		}
+
+		private boolean line(String line) {
+			final int indent = indentation(line);
+
+			if (block != null) {
+				if (indent == line.length() || indent > block.parent) {
+					block.append(line, indent);
+					return true;
+				}
+				if (!complete()) {
+					return false;
+				}
+			}
+
+			if (indent == line.length() || line.charAt(indent) == '#') {
+				return true;
+			}
+			if (line.lastIndexOf('\t', indent) != -1) {
+				return handler.malformed("Tabs can not be used for indentation", number, indent + 1);
+			}
+			if (indent == 0 && (line.startsWith("---") || line.startsWith("..."))) {
+				return clear();
+			}
+
+			return entry(line, indent);
+		}
+
+		private boolean entry(String line, int indent) {
+			if (line.charAt(indent) == '-' && (indent + 1 == line.length() || line.charAt(indent + 1) == ' ')) {
+				return item(line, indent);
+			}
+
+			final int separator = separator(line, indent);
+
+			if (separator == -1) {
+				return handler.malformed("Expected a 'key: value' mapping entry", number, indent + 1);
+			}
+
+			final String key = key(line.substring(indent, separator).trim());
+
+			if (key.isEmpty()) {
+				return handler.malformed("Mapping key can not be empty", number, indent + 1);
+			}
+			if (!pop(indent, true)) {
+				return false;
+			}
+
+			final Frame parent = frames.peek();
+			final String name = parent == null ? key : key.charAt(0) == '[' ? parent.name + key
+					: parent.name + '.' + key;
+
+			if (parent != null) {
+				parent.children = true;
+			}
+
+			final int start = PropertiesParser.skipWhitespace(line, separator + 1);
+			final String value = start == line.length() || line.charAt(start) == '#' ? null : line.substring(start);
+
+			if (value == null) {
+				frames.push(new Frame(indent, name, false));
+				return true;
+			}
+
+			return value(name, value, indent);
+		}
+
+		private boolean item(String line, int indent) {
+			if (!pop(indent, false)) {
+				return false;
+			}
+
+			final Frame parent = frames.peek();
+
+			if (parent == null || parent.item) {
+				return handler.malformed("Sequence entry must belong to a mapping key", number, indent + 1);
+			}
+
+			parent.children = true;
+
+			final String name = parent.name + '[' + parent.index++ + ']';
+			final int start = PropertiesParser.skipWhitespace(line, indent + 1);
+
+			if (start == line.length() || line.charAt(start) == '#') {
+				return handler.property(name, null, number, indent + 1);
+			}
+
+			if (separator(line, start) != -1 && line.charAt(start) != '"' && line.charAt(start) != '\'') {
+				final Frame item = new Frame(indent + 1, name, true);
+				item.children = true;
+				frames.push(item);
+				return entry(line, start);
+			}
+
+			return value(name, line.substring(start), indent);
+		}
+
+		private boolean value(String name, String raw, int indent) {
+			final String text = raw.strip();
+			final char first = text.charAt(0);
+
+			if ((first == '|' || first == '>') && isBlockIndicator(text)) {
+				block = new Block(name, indent, number, first == '>');
+				return true;
+			}
+
+			final String value;
+
+			try {
+				value = scalar(text);
+			} catch (IllegalArgumentException ex) {
+				return handler.malformed(ex.getMessage(), number, indent + 1);
+			}
+
+			return handler.property(name, value, number, indent + 1);
+		}
+
+		private boolean pop(int indent, boolean inclusive) {
+			while (!frames.isEmpty()) {
+				final Frame frame = frames.peek();
+
+				if (frame.indent < indent || (!inclusive && frame.indent == indent)) {
+					break;
+				}
+
+				frames.pop();
+
+				if (!frame.children && !handler.property(frame.name, null, frame.line, frame.indent + 1)) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		private boolean clear() {
+			if (!pop(-1, true)) {
+				return false;
+			}
+			frames.clear();
+			return true;
+		}
+
+		private boolean complete() {
+			final Block current = block;
+			block = null;
+			return handler.property(current.name, current.value(), current.line, current.parent + 1);
+		}
+
+		private final class Frame {
+			final int indent;
+			final String name;
+			final boolean item;
+			final int line;
+			boolean children;
+			int index;
+
+			Frame(int indent, String name, boolean item) {
+				this.indent = indent;
+				this.name = name;
+				this.item = item;
+				this.line = number;
+			}
+		}
+
+	}
+
+	private static final class Block {
+		final String name;
+		final int parent;
+		final int line;
+		final boolean folded;
+		final StringBuilder value = new StringBuilder();
+		int indent = -1;
+		int pending;
+
+		Block(String name, int parent, int line, boolean folded) {
+			this.name = name;
+			this.parent = parent;
+			this.line = line;
+			this.folded = folded;
+		}
+
+		void append(String line, int indentation) {
+			if (indentation == line.length()) {
+				pending++;
+				return;
+			}
+			if (indent == -1) {
+				indent = indentation;
+			}
+			if (value.length() > 0 && !folded) {
+				value.append('\n');
+			} else if (value.length() > 0 && pending == 0) {
+				value.append(' ');
+			}
+			for (int i = 0; i < pending && value.length() > 0; i++) {
+				value.append('\n');
+			}
+			pending = 0;
+			value.append(line, Math.min(indent, indentation), line.length());
+		}
+
+		String value() {
+			return folded ? value.toString() : value.append('\n').toString();
+		}
+	}
+
+	static int indentation(String line) {
+		int index = 0;
+		while (index < line.length() && (line.charAt(index) == ' ' || line.charAt(index) == '\t')) {
+			index++;
+		}
+		return index;
+	}
+
+	/**
+	 * Returns the index of the {@code :} character that separates the mapping key from its value, ignoring
+	 * any colons within quoted keys, or {@code -1} when the line is not a mapping entry.
+	 *
+	 * @param line  the line to check
+	 * @param start index where the mapping key starts
+	 * @return separator index or {@code -1}
+	 */
+	static int separator(String line, int start) {
+		int index = start;
+		final char quote = line.charAt(start);
+
+		if (quote == '"' || quote == '\'') {
+			index = line.indexOf(quote, start + 1);
+			if (index == -1) {
+				return -1;
+			}
+		}
+
+		for (; index < line.length(); index++) {
+			final char c = line.charAt(index);
+
+			if (c == ':' && (index + 1 == line.length() || line.charAt(index + 1) == ' ')) {
+				return index;
+			}
+			if (c == '#' && index > start && line.charAt(index - 1) == ' ') {
+				return -1;
+			}
+		}
+
+		return -1;
+	}
+
+	static String key(String key) {
+		if (key.length() >= 2 && (key.charAt(0) == '"' || key.charAt(0) == '\'')
+				&& key.charAt(key.length() - 1) == key.charAt(0)) {
+			return key.substring(1, key.length() - 1);
+		}
+		return key;
+	}
+
+	@Nullable
+	static String scalar(String text) {
+		final char first = text.charAt(0);
+
+		if (first == '"') {
+			return doubleQuoted(text);
+		}
+		if (first == '\'') {
+			return singleQuoted(text);
+		}
+		if (first == '[') {
+			final int end = text.indexOf(']');
+			if (end == -1) {
+				throw new IllegalArgumentException("Unterminated flow sequence");
+			}
+			final String[] elements = text.substring(1, end).split(",");
+			final StringBuilder builder = new StringBuilder();
+			for (String element : elements) {
+				final String trimmed = element.strip();
+				if (!trimmed.isEmpty()) {
+					if (builder.length() > 0) {
+						builder.append(',');
+					}
+					builder.append(scalar(trimmed));
+				}
+			}
+			return builder.toString();
+		}
+
+		final int comment = text.indexOf(" #");
+		final String plain = comment == -1 ? text : text.substring(0, comment).strip();
+
+		return "~".equals(plain) || "null".equals(plain) ? null : plain;
+	}
+
+	private static String doubleQuoted(String text) {
+		final StringBuilder builder = new StringBuilder(text.length());
+
+		for (int i = 1; i < text.length(); i++) {
+			char c = text.charAt(i);
+
+			if (c == '"') {
+				return builder.toString();
+			}
+			if (c == '\\' && ++i < text.length()) {
+				c = switch (text.charAt(i)) {
+					case 'n' -> '\n';
+					case 't' -> '\t';
+					case 'r' -> '\r';
+					case '0' -> '\0';
+					default -> text.charAt(i);
+				};
+			}
+			builder.append(c);
+		}
+
+		throw new IllegalArgumentException("Unterminated double-quoted scalar");
+	}
+
+	private static String singleQuoted(String text) {
+		final StringBuilder builder = new StringBuilder(text.length());
+
+		for (int i = 1; i < text.length(); i++) {
+			final char c = text.charAt(i);
+
+			if (c == '\'') {
+				if (i + 1 < text.length() && text.charAt(i + 1) == '\'') {
+					builder.append('\'');
+					i++;
+					continue;
+				}
+				return builder.toString();
+			}
+			builder.append(c);
+		}
+
+		throw new IllegalArgumentException("Unterminated single-quoted scalar");
+	}
+
+	private static boolean isBlockIndicator(String text) {
+		return BLOCK_INDICATOR.matcher(text).matches();
+	}
+
+}
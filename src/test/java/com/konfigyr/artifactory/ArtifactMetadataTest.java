@@ -103,4 +103,47 @@ class ArtifactMetadataTest {
 				.withMessage("Artifact metadata must contain at least one property descriptor");
 	}
 
+	@Test
+	@DisplayName("should compare artifact metadata using the property descriptors fingerprint and checksum")
+	void compareArtifactMetadata() {
+		final var first = PropertyDescriptor.builder()
+				.name("spring.application.group")
+				.typeName("java.lang.String")
+				.schema("{\"type\":\"string\"}")
+				.build();
+
+		final var second = PropertyDescriptor.builder()
+				.name("spring.application.name")
+				.typeName("java.lang.String")
+				.schema("{\"type\":\"string\"}")
+				.build();
+
+		final var metadata = ArtifactMetadata.builder()
+				.groupId("com.konfigyr")
+				.artifactId("konfigyr-artifactory")
+				.version("1.0.0")
+				.checksum("checksum")
+				.properties(List.of(second, first))
+				.build();
+
+		assertThat(metadata)
+				.isEqualTo(new DefaultArtifactMetadata("com.konfigyr", "konfigyr-artifactory", "1.0.0", null, null,
+						null, null, "checksum", List.of(first, second)))
+				.hasSameHashCodeAs(new DefaultArtifactMetadata("com.konfigyr", "konfigyr-artifactory", "1.0.0",
+						null, null, null, null, "checksum", List.of(first, second)))
+				.isNotEqualTo(new DefaultArtifactMetadata("com.konfigyr", "konfigyr-artifactory", "1.0.0", null,
+						null, null, null, "other", List.of(first, second)))
+				.isNotEqualTo(new DefaultArtifactMetadata("com.konfigyr", "konfigyr-artifactory", "1.0.0", null,
+						null, null, null, "checksum", List.of(first)))
+				.isNotEqualTo(new DefaultArtifactMetadata("com.konfigyr", "konfigyr-artifactory", "1.0.1", null,
+						null, null, null, "checksum", List.of(first, second)));
+
+		assertThat(metadata.properties())
+				.isEqualTo(List.of(first, second))
+				.hasSameHashCodeAs(List.of(first, second));
+
+		assertThatExceptionOfType(UnsupportedOperationException.class)
+				.isThrownBy(() -> metadata.properties().add(first));
+	}
+
 }
@@ -0,0 +1,63 @@
+package com.konfigyr.artifactory;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+class BoundedCacheTest {
+
+	@Test
+	@DisplayName("should compute values only once for the same key")
+	void computeValues() {
+		final BoundedCache<String, Integer> cache = BoundedCache.create(4);
+		final AtomicInteger computations = new AtomicInteger();
+
+		assertThat(cache.computeIfAbsent("konfigyr", key -> computations.incrementAndGet()))
+				.isEqualTo(1);
+		assertThat(cache.computeIfAbsent("konfigyr", key -> computations.incrementAndGet()))
+				.isEqualTo(1);
+		assertThat(cache.computeIfAbsent("missing", key -> null))
+				.isNull();
+
+		assertThat(cache.putIfAbsent("konfigyr", 5)).isEqualTo(1);
+		assertThat(cache.get("konfigyr")).isEqualTo(1);
+		assertThat(cache.get("missing")).isNull();
+		assertThat(cache.size()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("should evict least recently used entries instead of refusing new entries")
+	void evictEntries() {
+		final BoundedCache<Integer, String> cache = BoundedCache.create(3);
+
+		cache.putIfAbsent(1, "one");
+		cache.putIfAbsent(2, "two");
+		cache.putIfAbsent(3, "three");
+
+		assertThat(cache.get(1)).isEqualTo("one");
+
+		assertThat(cache.putIfAbsent(4, "four")).isNull();
+		assertThat(cache.size()).isEqualTo(3);
+		assertThat(cache.get(1)).isEqualTo("one");
+		assertThat(cache.get(2)).isNull();
+		assertThat(cache.get(4)).isEqualTo("four");
+
+		IntStream.range(10, 1000).forEach(i -> cache.putIfAbsent(i, "value-" + i));
+
+		assertThat(cache.size()).isEqualTo(3);
+		assertThat(cache.get(999)).isEqualTo("value-999");
+	}
+
+	@Test
+	@DisplayName("should validate the cache capacity")
+	void validateCapacity() {
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> BoundedCache.create(0))
+				.withMessage("Cache capacity must be a positive number");
+	}
+
+}
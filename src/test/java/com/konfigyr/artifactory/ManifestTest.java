@@ -113,4 +113,36 @@ class ManifestTest {
 				.isCloseTo(Instant.now(), within(500, ChronoUnit.MILLIS));
 	}
 
+	@Test
+	@DisplayName("should compare manifests using the artifacts fingerprint")
+	void compareManifests() {
+		final var createdAt = Instant.now();
+		final var artifacts = List.of(
+				Artifact.of("com.konfigyr", "konfigyr-crypto-api", "1.0.0"),
+				Artifact.of("com.konfigyr", "konfigyr-crypto-tink", "1.0.0")
+		);
+
+		final var manifest = Manifest.builder()
+				.id("konfigyr-service")
+				.name("Konfigyr example service")
+				.artifacts(artifacts)
+				.createdAt(createdAt)
+				.build();
+
+		assertThatObject(manifest)
+				.isEqualTo(new DefaultManifest("konfigyr-service", "Konfigyr example service", artifacts, createdAt))
+				.hasSameHashCodeAs(new DefaultManifest("konfigyr-service", "Konfigyr example service", artifacts,
+						createdAt))
+				.isNotEqualTo(new DefaultManifest("konfigyr-service", "Konfigyr example service",
+						artifacts.subList(0, 1), createdAt))
+				.isNotEqualTo(new DefaultManifest("konfigyr-service", "Konfigyr service", artifacts, createdAt));
+
+		assertThat(manifest.artifacts())
+				.isEqualTo(artifacts)
+				.hasSameHashCodeAs(artifacts);
+
+		assertThatExceptionOfType(UnsupportedOperationException.class)
+				.isThrownBy(() -> manifest.artifacts().clear());
+	}
+
 }
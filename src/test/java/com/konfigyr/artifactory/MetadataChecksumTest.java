@@ -0,0 +1,90 @@
+package com.konfigyr.artifactory;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class MetadataChecksumTest {
+
+	static final PropertyDescriptor GROUP = PropertyDescriptor.builder()
+			.name("spring.application.group")
+			.typeName("java.lang.String")
+			.schema("{\"type\":\"string\"}")
+			.build();
+
+	static final PropertyDescriptor NAME = PropertyDescriptor.builder()
+			.name("spring.application.name")
+			.typeName("java.lang.String")
+			.schema("{\"type\":\"string\"}")
+			.description("Application name.")
+			.deprecation(new Deprecation("Renamed", null))
+			.build();
+
+	@Test
+	@DisplayName("should compute the same checksum for the same metadata")
+	void computeChecksum() {
+		final var metadata = ArtifactMetadata.builder()
+				.groupId("com.konfigyr")
+				.artifactId("konfigyr-artifactory")
+				.version("1.0.0")
+				.website("https://konfigyr.com")
+				.checksum("ignored")
+				.properties(List.of(NAME, GROUP))
+				.build();
+
+		final var checksum = MetadataChecksum.create()
+				.artifact(metadata)
+				.property(GROUP)
+				.property(NAME)
+				.checksum();
+
+		assertThat(MetadataChecksum.of(metadata))
+				.isEqualTo(checksum)
+				.isEqualTo(MetadataChecksum.of(ArtifactMetadata.builder()
+						.groupId("com.konfigyr")
+						.artifactId("konfigyr-artifactory")
+						.version("1.0.0")
+						.website("https://konfigyr.com")
+						.property(GROUP)
+						.property(NAME)
+						.build()))
+				.hasSize(44);
+	}
+
+	@Test
+	@DisplayName("should compute different checksums when metadata attributes differ")
+	void computeDifferentChecksums() {
+		final var metadata = ArtifactMetadata.builder()
+				.groupId("com.konfigyr")
+				.artifactId("konfigyr-artifactory")
+				.version("1.0.0")
+				.property(GROUP)
+				.build();
+
+		assertThat(MetadataChecksum.of(metadata))
+				.isNotEqualTo(MetadataChecksum.of(ArtifactMetadata.builder()
+						.groupId("com.konfigyr")
+						.artifactId("konfigyr-artifactory")
+						.version("1.0.1")
+						.property(GROUP)
+						.build()))
+				.isNotEqualTo(MetadataChecksum.of(ArtifactMetadata.builder()
+						.groupId("com.konfigyr")
+						.artifactId("konfigyr-artifactory")
+						.version("1.0.0")
+						.description("")
+						.property(GROUP)
+						.build()))
+				.isNotEqualTo(MetadataChecksum.of(ArtifactMetadata.builder()
+						.groupId("com.konfigyr")
+						.artifactId("konfigyr-artifactory")
+						.version("1.0.0")
+						.property(GROUP)
+						.property(NAME)
+						.build()));
+	}
+
+}
@@ -0,0 +1,245 @@
+package com.konfigyr.artifactory;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OptionalDataException;
+import java.io.StreamCorruptedException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SerializationProxyTest {
+
+	static final String STRING_SCHEMA = "{\"type\":\"string\"}";
+	static final String DURATION_SCHEMA = "{\"type\":\"string\",\"format\":\"duration\"}";
+
+	static final ArtifactMetadata METADATA = ArtifactMetadata.builder()
+			.groupId("com.konfigyr")
+			.artifactId("konfigyr-crypto-api")
+			.version("1.0.0")
+			.name("Konfigyr Crypto API")
+			.website("https://konfigyr.com")
+			.repository("https://github.com/konfigyr/konfigyr-crypto")
+			.checksum("checksum")
+			.properties(IntStream.range(0, 200)
+					.mapToObj(i -> PropertyDescriptor.builder()
+							.name("konfigyr.crypto.property-" + i)
+							.typeName(i % 2 == 0 ? "java.lang.String" : "java.time.Duration")
+							.schema(i % 2 == 0 ? STRING_SCHEMA : DURATION_SCHEMA)
+							.description("Shared description of the property.")
+							.defaultValue(i % 3 == 0 ? null : "value-" + i)
+							.deprecation(i % 10 == 0 ? new Deprecation("Ünicode reason", null) : null)
+							.build())
+					.toList())
+			.build();
+
+	@Test
+	@DisplayName("should serialize artifact metadata using the serialization proxy")
+	void serializeMetadata() throws Exception {
+		final byte[] bytes = serialize(METADATA);
+
+		assertThat(deserialize(bytes))
+				.isInstanceOf(DefaultArtifactMetadata.class)
+				.isEqualTo(METADATA);
+
+		assertThat(new String(bytes, StandardCharsets.ISO_8859_1))
+				.contains(SerializationProxy.class.getName())
+				.doesNotContain(DefaultPropertyDescriptor.class.getName())
+				.doesNotContain("java.net.URI")
+				.doesNotContain("java.util.Collections");
+
+		// shared schemas, type names and descriptions are only written once
+		assertThat(occurrences(bytes, "Shared description of the property."))
+				.isOne();
+	}
+
+	@Test
+	@DisplayName("should serialize property descriptors that are not default descriptors in the compact form")
+	void serializeCustomDescriptors() throws Exception {
+		final var metadata = ArtifactMetadata.builder()
+				.groupId("com.konfigyr")
+				.artifactId("konfigyr-crypto-api")
+				.version("1.0.0")
+				.property(new CustomPropertyDescriptor("konfigyr.custom"))
+				.property(METADATA.properties().get(0))
+				.build();
+
+		final byte[] bytes = serialize(metadata);
+
+		assertThat(new String(bytes, StandardCharsets.ISO_8859_1))
+				.doesNotContain(CustomPropertyDescriptor.class.getName());
+
+		assertThat(((ArtifactMetadata) deserialize(bytes)).properties())
+				.hasExactlyElementsOfTypes(DefaultPropertyDescriptor.class, DefaultPropertyDescriptor.class)
+				.containsExactly(
+						PropertyDescriptor.builder()
+								.name("konfigyr.custom")
+								.schema("{}")
+								.typeName("java.lang.Object")
+								.build(),
+						METADATA.properties().get(0)
+				);
+	}
+
+	@Test
+	@DisplayName("should serialize releases using the serialization proxy")
+	void serializeRelease() throws Exception {
+		final var release = Release.builder()
+				.artifact(METADATA)
+				.state(ReleaseState.FAILED)
+				.error("Invalid property")
+				.error("Invalid property")
+				.checksum("checksum")
+				.releaseDate(Instant.parse("2025-10-01T10:15:30.123456789Z"))
+				.build();
+
+		assertThat(deserialize(serialize(release)))
+				.isInstanceOf(DefaultRelease.class)
+				.isEqualTo(release)
+				.returns(List.of("Invalid property", "Invalid property"), it -> ((Release) it).errors());
+	}
+
+	@Test
+	@DisplayName("should serialize manifests using the serialization proxy")
+	void serializeManifest() throws Exception {
+		final var manifest = Manifest.builder()
+				.id("konfigyr-api")
+				.name("Konfigyr API")
+				.artifact(Artifact.of("com.konfigyr", "konfigyr-crypto-tink", "1.0.0"))
+				.artifact(Artifact.of("com.konfigyr", "konfigyr-crypto-jdbc", "1.0.0"))
+				.artifact(METADATA)
+				.artifact(Release.builder()
+						.artifact(Artifact.of("com.konfigyr", "konfigyr-crypto-kms", "1.0.0"))
+						.state(ReleaseState.RELEASED)
+						.checksum("checksum")
+						.releaseDate(Instant.parse("2025-10-01T10:15:30Z"))
+						.build())
+				.createdAt(Instant.parse("2025-10-01T10:15:30Z"))
+				.build();
+
+		final byte[] bytes = serialize(manifest);
+		final var result = deserialize(bytes);
+
+		assertThat(result)
+				.isInstanceOf(DefaultManifest.class)
+				.isEqualTo(manifest);
+
+		assertThat(((Manifest) result).artifacts())
+				.hasExactlyElementsOfTypes(DefaultArtifactMetadata.class, DefaultArtifact.class,
+						DefaultRelease.class, DefaultArtifact.class);
+
+		// artifact metadata and releases share the string table of the manifest
+		assertThat(occurrences(bytes, "checksum"))
+				.isOne();
+	}
+
+	@Test
+	@DisplayName("should check the lengths read by the serialization proxy with the stream filter")
+	void filterLengths() throws Exception {
+		final byte[] bytes = serialize(METADATA);
+
+		try (var input = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+			input.setObjectInputFilter(ObjectInputFilter.Config.createFilter("maxarray=100"));
+
+			assertThatExceptionOfType(InvalidClassException.class)
+					.isThrownBy(input::readObject)
+					.withMessageContaining("Length 200 rejected by the filter");
+		}
+
+		try (var input = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+			input.setObjectInputFilter(ObjectInputFilter.Config.createFilter("maxarray=200"));
+
+			assertThat(input.readObject())
+					.isEqualTo(METADATA);
+		}
+	}
+
+	@Test
+	@DisplayName("should fail to deserialize streams with corrupted lengths")
+	void corruptedLengths() throws Exception {
+		final byte[] bytes = serialize(METADATA);
+		final String text = new String(bytes, StandardCharsets.ISO_8859_1);
+
+		// property descriptor count of 200, encoded as a variable length integer, follows the checksum
+		final int count = text.indexOf("checksum\u00c8\u0001") + "checksum".length();
+
+		assertThat(count)
+				.isPositive();
+
+		bytes[count] = (byte) 0xFF;
+		bytes[count + 1] = (byte) 0x7F;
+
+		assertThatException()
+				.isThrownBy(() -> deserialize(bytes))
+				.isInstanceOfAny(EOFException.class, StreamCorruptedException.class, OptionalDataException.class);
+	}
+
+	static byte[] serialize(Object object) throws IOException {
+		final var bytes = new ByteArrayOutputStream();
+
+		try (var output = new ObjectOutputStream(bytes)) {
+			output.writeObject(object);
+		}
+
+		return bytes.toByteArray();
+	}
+
+	static Object deserialize(byte[] bytes) throws Exception {
+		try (var input = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+			return input.readObject();
+		}
+	}
+
+	static int occurrences(byte[] bytes, String value) {
+		final String text = new String(bytes, StandardCharsets.ISO_8859_1);
+		int count = 0;
+
+		for (int index = text.indexOf(value); index >= 0; index = text.indexOf(value, index + 1)) {
+			count++;
+		}
+
+		return count;
+	}
+
+	record CustomPropertyDescriptor(String name) implements PropertyDescriptor {
+
+		@Override
+		public String schema() {
+			return "{}";
+		}
+
+		@Override
+		public String typeName() {
+			return "java.lang.Object";
+		}
+
+		@Override
+		public String description() {
+			return null;
+		}
+
+		@Override
+		public String defaultValue() {
+			return null;
+		}
+
+		@Override
+		public Deprecation deprecation() {
+			return null;
+		}
+
+	}
+
+}
@@ -0,0 +1,280 @@
+package com.konfigyr.artifactory.client;
+
+import com.konfigyr.artifactory.Artifact;
+import com.konfigyr.artifactory.ArtifactMetadata;
+import com.konfigyr.artifactory.Manifest;
+import com.konfigyr.artifactory.MetadataChecksum;
+import com.konfigyr.artifactory.PropertyDescriptor;
+import com.konfigyr.artifactory.schema.WellKnownSchema;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.*;
+
+class FetchClientTest {
+
+	final StubArtifactoryServer server = new StubArtifactoryServer();
+
+	@TempDir
+	Path directory;
+
+	@AfterEach
+	void cleanup() {
+		server.close();
+	}
+
+	FetchClient client(FetchCache cache) {
+		return FetchClient.builder()
+				.endpoint(server.endpoint())
+				.cache(cache)
+				.build();
+	}
+
+	@Test
+	@DisplayName("should revalidate cached artifact metadata using its checksum")
+	void fetchMetadata() {
+		final var metadata = UploadClientTest.metadata(1);
+		server.publish(metadata);
+
+		final var client = client(FetchCache.create());
+		final var fetched = client.metadata(metadata);
+
+		assertThat(fetched)
+				.isNotNull()
+				.returns(metadata.coordinates(), ArtifactMetadata::coordinates)
+				.returns(MetadataChecksum.of(metadata), ArtifactMetadata::checksum)
+				.returns(metadata.properties(), ArtifactMetadata::properties);
+
+		assertThat(client.metadata(metadata))
+				.isSameAs(fetched);
+
+		assertThat(server.fetched).hasValue(1);
+		assertThat(server.notModified).hasValue(1);
+
+		final var changed = UploadClientTest.metadata(2);
+		server.publish(ArtifactMetadata.builder()
+				.artifact(metadata)
+				.properties(changed.properties())
+				.build());
+
+		assertThat(client.metadata(metadata))
+				.isNotNull()
+				.isNotSameAs(fetched)
+				.returns(changed.properties(), ArtifactMetadata::properties);
+
+		assertThat(server.fetched).hasValue(2);
+	}
+
+	@Test
+	@DisplayName("should convert schemas of fetched property descriptors into their canonical form")
+	void fetchCanonicalSchemas() {
+		final var metadata = ArtifactMetadata.builder()
+				.groupId("com.konfigyr")
+				.artifactId("konfigyr-crypto-api")
+				.version("1.0.0")
+				.property(PropertyDescriptor.builder()
+						.name("konfigyr.crypto.cache-ttl")
+						.typeName("java.time.Duration")
+						.schema("{ \"type\": \"string\", \"format\": \"duration\" }")
+						.build())
+				.build();
+
+		server.publish(metadata);
+
+		assertThat(client(FetchCache.create()).metadata(metadata))
+				.isNotNull()
+				.extracting(it -> it.properties().get(0).schema())
+				.isEqualTo(WellKnownSchema.DURATION.schema());
+	}
+
+	@Test
+	@DisplayName("should revalidate cached manifests using their creation date")
+	void fetchManifest() {
+		final var manifest = Manifest.builder()
+				.id("konfigyr-api")
+				.name("Konfigyr API")
+				.artifact(Artifact.of("com.konfigyr", "konfigyr-crypto-api", "1.0.0"))
+				.createdAt(Instant.parse("2025-10-01T10:15:30Z"))
+				.build();
+
+		server.publish(manifest);
+
+		final var client = client(FetchCache.create());
+		final var fetched = client.manifest("konfigyr-api");
+
+		assertThat(fetched)
+				.isNotNull()
+				.returns(manifest.id(), Manifest::id)
+				.returns(manifest.createdAt(), Manifest::createdAt)
+				.returns(1, it -> it.artifacts().size());
+
+		assertThat(client.manifest("konfigyr-api"))
+				.isSameAs(fetched);
+
+		server.publish(Manifest.builder()
+				.id("konfigyr-api")
+				.name("Konfigyr API")
+				.createdAt(Instant.parse("2025-10-02T10:15:30Z"))
+				.build());
+
+		assertThat(client.manifest("konfigyr-api"))
+				.isNotNull()
+				.returns(Instant.parse("2025-10-02T10:15:30Z"), Manifest::createdAt)
+				.returns(0, it -> it.artifacts().size());
+
+		assertThat(server.fetched).hasValue(2);
+		assertThat(server.notModified).hasValue(1);
+
+		assertThat(client.manifest("unknown"))
+				.isNull();
+	}
+
+	@Test
+	@DisplayName("should revalidate payloads kept in the disk tier")
+	void fetchFromDiskTier() {
+		final var metadata = UploadClientTest.metadata(1);
+		server.publish(metadata);
+
+		assertThat(client(FetchCache.create(1024 * 1024, directory)).metadata(metadata))
+				.isNotNull();
+
+		final var cache = FetchCache.create(1024 * 1024, directory);
+
+		assertThat(client(cache).metadata(metadata))
+				.isNotNull()
+				.returns(MetadataChecksum.of(metadata), ArtifactMetadata::checksum);
+
+		assertThat(server.fetched).hasValue(1);
+		assertThat(server.notModified).hasValue(1);
+		assertThat(cache.size()).isPositive();
+
+		cache.clear();
+
+		assertThat(cache.size()).isZero();
+		assertThat(directory).isEmptyDirectory();
+	}
+
+	@Test
+	@DisplayName("should ignore corrupted payload lengths in the disk tier")
+	void corruptedDiskTier() throws IOException {
+		final var metadata = UploadClientTest.metadata(1);
+		server.publish(metadata);
+
+		assertThat(client(FetchCache.create(1024 * 1024, directory)).metadata(metadata))
+				.isNotNull();
+
+		try (var files = Files.list(directory)) {
+			for (Path file : files.toList()) {
+				final byte[] contents = Files.readAllBytes(file);
+				final ByteBuffer buffer = ByteBuffer.wrap(contents);
+
+				// the payload length is stored right before the payload, at the end of the entry
+				for (int position = 0; position + 4 <= contents.length; position++) {
+					if (buffer.getInt(position) == contents.length - position - 4) {
+						buffer.putInt(position, Integer.MAX_VALUE - 8);
+						break;
+					}
+				}
+
+				Files.write(file, contents);
+			}
+		}
+
+		assertThat(client(FetchCache.create(1024 * 1024, directory)).metadata(metadata))
+				.isNotNull()
+				.returns(metadata.coordinates(), ArtifactMetadata::coordinates);
+
+		assertThat(server.fetched).hasValue(2);
+		assertThat(server.notModified).hasValue(0);
+	}
+
+	@Test
+	@DisplayName("should cache payloads of clients with different endpoints separately")
+	void shareCache() {
+		final var metadata = UploadClientTest.metadata(1);
+		final var changed = ArtifactMetadata.builder()
+				.artifact(metadata)
+				.properties(UploadClientTest.metadata(2).properties())
+				.build();
+
+		server.publish(metadata);
+
+		try (var other = new StubArtifactoryServer().publish(changed)) {
+			final var cache = FetchCache.create();
+			final var client = client(cache);
+			final var otherClient = FetchClient.builder()
+					.endpoint(other.endpoint())
+					.cache(cache)
+					.build();
+
+			assertThat(client.metadata(metadata))
+					.isNotNull()
+					.returns(metadata.properties(), ArtifactMetadata::properties);
+
+			assertThat(otherClient.metadata(metadata))
+					.isNotNull()
+					.returns(changed.properties(), ArtifactMetadata::properties);
+
+			assertThat(client.metadata(metadata))
+					.isNotNull()
+					.returns(metadata.properties(), ArtifactMetadata::properties);
+
+			assertThat(server.fetched).hasValue(1);
+			assertThat(server.notModified).hasValue(1);
+			assertThat(other.fetched).hasValue(1);
+			assertThat(other.notModified).hasValue(0);
+		}
+	}
+
+	@Test
+	@DisplayName("should evict least recently used payloads from the memory tier")
+	void evictPayloads() {
+		final var first = UploadClientTest.metadata(1);
+		final var second = UploadClientTest.metadata(2);
+		server.publish(first).publish(second);
+
+		final var unbounded = FetchCache.create();
+		client(unbounded).metadata(first);
+
+		final long size = unbounded.size();
+		final var cache = FetchCache.create(size + size / 2);
+		final var client = client(cache);
+
+		client.metadata(first);
+		client.metadata(second);
+
+		assertThat(cache.size())
+				.isLessThanOrEqualTo(size + size / 2)
+				.isEqualTo(size);
+
+		client.metadata(first);
+
+		assertThat(server.fetched).hasValue(4);
+		assertThat(server.notModified).hasValue(0);
+	}
+
+	@Test
+	@DisplayName("should fail to fetch payloads when the server responds with an error")
+	void failToFetch() {
+		final var client = client(FetchCache.create());
+		server.close();
+
+		assertThatExceptionOfType(UncheckedIOException.class)
+				.isThrownBy(() -> client.manifest("konfigyr-api"))
+				.withMessageStartingWith("Failed to fetch manifests/konfigyr-api");
+
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> FetchCache.create(0))
+				.withMessage("Maximum cache size must be a positive number");
+	}
+
+}
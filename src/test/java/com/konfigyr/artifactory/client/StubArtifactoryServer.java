@@ -0,0 +1,225 @@
+package com.konfigyr.artifactory.client;
+
+import com.konfigyr.artifactory.Artifact;
+import com.konfigyr.artifactory.ArtifactMetadata;
+import com.konfigyr.artifactory.Manifest;
+import com.konfigyr.artifactory.json.ArtifactMetadataWriter;
+import com.konfigyr.artifactory.json.JsonReader;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Embedded {@code Artifactory} stub backend, using the JDK {@link HttpServer}, that accepts the uploaded artifact
+ * metadata and responds with a released {@code Release}. It records the number of received requests and the
+ * highest number of requests that were processed at the same time, and can be instructed to respond with
+ * error statuses or to slow down the responses.
+ * <p>
+ * Published artifact metadata and manifests are served using conditional {@code GET} requests, the artifact
+ * metadata is validated by its checksum and manifests by their creation date.
+ */
+final class StubArtifactoryServer implements AutoCloseable {
+
+	final HttpServer server;
+	final ExecutorService executor = Executors.newCachedThreadPool();
+
+	final AtomicInteger requests = new AtomicInteger();
+	final AtomicInteger inFlight = new AtomicInteger();
+	final AtomicInteger maxInFlight = new AtomicInteger();
+	final Queue<Integer> statuses = new ConcurrentLinkedQueue<>();
+	final Queue<String> encodings = new ConcurrentLinkedQueue<>();
+	final Map<String, Published> published = new ConcurrentHashMap<>();
+	final AtomicInteger fetched = new AtomicInteger();
+	final AtomicInteger notModified = new AtomicInteger();
+
+	volatile long delay;
+	volatile String checksum;
+
+	StubArtifactoryServer() {
+		try {
+			server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+		} catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+
+		server.setExecutor(executor);
+		server.createContext("/artifacts/", this::handle);
+		server.createContext("/manifests/", this::handle);
+		server.start();
+	}
+
+	URI endpoint() {
+		return URI.create("http://127.0.0.1:" + server.getAddress().getPort() + "/");
+	}
+
+	/**
+	 * Responds to the next requests with the given statuses, before accepting the uploads again.
+	 */
+	StubArtifactoryServer respond(int... statuses) {
+		for (int status : statuses) {
+			this.statuses.add(status);
+		}
+		return this;
+	}
+
+	StubArtifactoryServer publish(ArtifactMetadata metadata) {
+		final ByteArrayOutputStream payload = new ByteArrayOutputStream();
+
+		try {
+			final String checksum = ArtifactMetadataWriter.create().write(metadata, payload);
+			published.put(path(metadata), new Published(payload.toByteArray(), "\"" + checksum + "\"", null));
+		} catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+
+		return this;
+	}
+
+	StubArtifactoryServer publish(Manifest manifest) {
+		final StringBuilder payload = new StringBuilder("{\"id\":\"").append(manifest.id())
+				.append("\",\"name\":\"").append(manifest.name())
+				.append("\",\"createdAt\":\"").append(manifest.createdAt())
+				.append("\",\"artifacts\":[");
+
+		for (Artifact artifact : manifest) {
+			payload.append(payload.charAt(payload.length() - 1) == '[' ? "" : ",")
+					.append("{\"groupId\":\"").append(artifact.groupId())
+					.append("\",\"artifactId\":\"").append(artifact.artifactId())
+					.append("\",\"version\":\"").append(artifact.version()).append("\"}");
+		}
+
+		published.put("/manifests/" + manifest.id(), new Published(payload.append("]}").toString()
+				.getBytes(StandardCharsets.UTF_8), null, manifest.createdAt()));
+
+		return this;
+	}
+
+	/**
+	 * Responds to the uploads with the given release checksum, instead of the checksum of the uploaded metadata.
+	 */
+	StubArtifactoryServer checksum(String checksum) {
+		this.checksum = checksum;
+		return this;
+	}
+
+	StubArtifactoryServer delay(long millis) {
+		this.delay = millis;
+		return this;
+	}
+
+	@Override
+	public void close() {
+		server.stop(0);
+		executor.shutdownNow();
+	}
+
+	private void handle(HttpExchange exchange) throws IOException {
+		if ("GET".equals(exchange.getRequestMethod())) {
+			try (exchange) {
+				fetch(exchange);
+			}
+			return;
+		}
+
+		requests.incrementAndGet();
+		maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+
+		try (exchange) {
+			if (delay > 0) {
+				Thread.sleep(delay);
+			}
+
+			final String encoding = exchange.getRequestHeaders().getFirst("Content-Encoding");
+			encodings.add(encoding == null ? "identity" : encoding);
+
+			final byte[] body;
+
+			try (InputStream input = "gzip".equals(encoding) ? new GZIPInputStream(exchange.getRequestBody())
+					: exchange.getRequestBody()) {
+				body = input.readAllBytes();
+			}
+
+			final Integer status = statuses.poll();
+
+			if (status != null) {
+				exchange.sendResponseHeaders(status, -1);
+				return;
+			}
+
+			final Map<?, ?> metadata = (Map<?, ?>) JsonReader.parse(new String(body, StandardCharsets.UTF_8));
+			final byte[] release = ("{\"groupId\":\"" + metadata.get("groupId") + "\","
+					+ "\"artifactId\":\"" + metadata.get("artifactId") + "\","
+					+ "\"version\":\"" + metadata.get("version") + "\","
+					+ "\"state\":\"RELEASED\",\"errors\":[],"
+					+ "\"checksum\":\"" + (checksum == null ? metadata.get("checksum") : checksum) + "\","
+					+ "\"releaseDate\":\"" + Instant.now() + "\"}").getBytes(StandardCharsets.UTF_8);
+
+			exchange.getResponseHeaders().add("Content-Type", "application/json");
+			exchange.sendResponseHeaders(201, release.length);
+			exchange.getResponseBody().write(release);
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		} finally {
+			inFlight.decrementAndGet();
+		}
+	}
+
+	private void fetch(HttpExchange exchange) throws IOException {
+		final Published payload = published.get(exchange.getRequestURI().getPath());
+
+		if (payload == null) {
+			exchange.sendResponseHeaders(404, -1);
+			return;
+		}
+
+		final String etag = exchange.getRequestHeaders().getFirst("If-None-Match");
+		final String since = exchange.getRequestHeaders().getFirst("If-Modified-Since");
+
+		if (payload.etag() != null && payload.etag().equals(etag) || payload.modified() != null && since != null
+				&& !payload.modified().truncatedTo(ChronoUnit.SECONDS).isAfter(ZonedDateTime.parse(since,
+				DateTimeFormatter.RFC_1123_DATE_TIME).toInstant())) {
+			notModified.incrementAndGet();
+			exchange.sendResponseHeaders(304, -1);
+			return;
+		}
+
+		if (payload.modified() != null) {
+			exchange.getResponseHeaders().add("Last-Modified",
+					DateTimeFormatter.RFC_1123_DATE_TIME.format(payload.modified().atOffset(ZoneOffset.UTC)));
+		}
+
+		fetched.incrementAndGet();
+		exchange.getResponseHeaders().add("Content-Type", "application/json");
+		exchange.sendResponseHeaders(200, payload.body().length);
+		exchange.getResponseBody().write(payload.body());
+	}
+
+	private static String path(Artifact artifact) {
+		return "/artifacts/" + artifact.groupId() + "/" + artifact.artifactId() + "/" + artifact.version();
+	}
+
+	record Published(byte[] body, String etag, Instant modified) {
+	}
+
+}
@@ -0,0 +1,153 @@
+package com.konfigyr.artifactory.client;
+
+import com.konfigyr.artifactory.ArtifactMetadata;
+import com.konfigyr.artifactory.MetadataChecksum;
+import com.konfigyr.artifactory.PropertyDescriptor;
+import com.konfigyr.artifactory.Release;
+import com.konfigyr.artifactory.ReleaseState;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+class UploadClientTest {
+
+	final StubArtifactoryServer server = new StubArtifactoryServer();
+
+	@AfterEach
+	void cleanup() {
+		server.close();
+	}
+
+	static ArtifactMetadata metadata(int module) {
+		return ArtifactMetadata.builder()
+				.groupId("com.konfigyr")
+				.artifactId("module-" + module)
+				.version("1.0.0-SNAPSHOT")
+				.properties(IntStream.range(0, 50)
+						.mapToObj(i -> PropertyDescriptor.builder()
+								.name("konfigyr.module-" + module + ".property-" + i)
+								.typeName("java.lang.String")
+								.schema("{\"type\":\"string\"}")
+								.build())
+						.toList())
+				.build();
+	}
+
+	UploadClient.Builder client() {
+		return UploadClient.builder()
+				.endpoint(server.endpoint())
+				.backoff(Duration.ofMillis(10))
+				.timeout(Duration.ofSeconds(10));
+	}
+
+	@Test
+	@DisplayName("should upload artifact metadata concurrently without exceeding the concurrency limit")
+	void uploadConcurrently() {
+		final var metadata = IntStream.range(0, 24).mapToObj(UploadClientTest::metadata).toList();
+
+		server.delay(50);
+
+		try (var client = client().concurrency(4).build()) {
+			assertThat(client.upload(metadata))
+					.hasSize(24)
+					.allSatisfy(release -> assertThat(release.state()).isEqualTo(ReleaseState.RELEASED))
+					.extracting(Release::artifactId, Release::checksum)
+					.containsExactlyElementsOf(metadata.stream()
+							.map(it -> tuple(it.artifactId(), MetadataChecksum.of(it)))
+							.toList());
+		}
+
+		assertThat(server.requests).hasValue(24);
+		assertThat(server.maxInFlight.get()).isBetween(2, 4);
+		assertThat(server.encodings).containsOnly("gzip");
+	}
+
+	@Test
+	@DisplayName("should retry uploads that failed with retryable response statuses")
+	void retryUploads() {
+		server.respond(503, 429);
+
+		try (var client = client().compressed(false).build()) {
+			assertThat(client.upload(metadata(1)))
+					.returns("module-1", Release::artifactId)
+					.returns(MetadataChecksum.of(metadata(1)), Release::checksum);
+		}
+
+		assertThat(server.requests).hasValue(3);
+		assertThat(server.encodings).containsOnly("identity");
+	}
+
+	@Test
+	@DisplayName("should fail uploads that failed with client errors or exhausted their retries")
+	void failUploads() {
+		server.respond(400, 503, 503);
+
+		try (var client = client().retries(1).build()) {
+			assertThatExceptionOfType(UncheckedIOException.class)
+					.isThrownBy(() -> client.upload(List.of(metadata(1))))
+					.withMessageContaining("com.konfigyr:module-1:1.0.0-SNAPSHOT, server responded with status 400");
+
+			assertThatExceptionOfType(UncheckedIOException.class)
+					.isThrownBy(() -> client.upload(metadata(2)))
+					.withMessageContaining("server responded with status 503");
+		}
+
+		assertThat(server.requests).hasValue(3);
+	}
+
+	@Test
+	@DisplayName("should verify release checksums only when the verification is enabled")
+	void verifyChecksums() {
+		server.checksum("server-checksum");
+
+		try (var client = client().build()) {
+			assertThat(client.upload(metadata(1)))
+					.returns("module-1", Release::artifactId)
+					.returns("server-checksum", Release::checksum);
+		}
+
+		try (var client = client().verifyChecksum(true).build()) {
+			assertThatExceptionOfType(UncheckedIOException.class)
+					.isThrownBy(() -> client.upload(metadata(2)))
+					.withMessageContaining("Release checksum of com.konfigyr:module-2:1.0.0-SNAPSHOT does not match");
+		}
+
+		server.checksum(null);
+
+		try (var client = client().verifyChecksum(true).build()) {
+			assertThat(client.upload(metadata(3)))
+					.returns(MetadataChecksum.of(metadata(3)), Release::checksum);
+		}
+	}
+
+	@Test
+	@DisplayName("should validate the upload client configuration")
+	void validateConfiguration() {
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> UploadClient.builder().build())
+				.withMessage("Artifactory endpoint can not be null");
+
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> client().concurrency(0).build())
+				.withMessage("Concurrency must be a positive number");
+
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> client().retries(-1).build())
+				.withMessage("Number of retries can not be negative");
+
+		final var client = client().build();
+		client.close();
+
+		assertThatIllegalStateException()
+				.isThrownBy(() -> client.uploadAsync(metadata(1)))
+				.withMessage("Upload client is closed");
+	}
+
+}
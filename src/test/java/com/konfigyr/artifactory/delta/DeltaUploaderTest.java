@@ -0,0 +1,80 @@
+package com.konfigyr.artifactory.delta;
+
+import com.konfigyr.artifactory.ArtifactMetadata;
+import com.konfigyr.artifactory.MetadataChecksum;
+import com.konfigyr.artifactory.PropertyDescriptor;
+import com.konfigyr.artifactory.Release;
+import com.konfigyr.artifactory.ReleaseState;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static com.konfigyr.artifactory.delta.MetadataDeltaTest.metadata;
+import static com.konfigyr.artifactory.delta.MetadataDeltaTest.property;
+import static org.assertj.core.api.Assertions.*;
+
+class DeltaUploaderTest {
+
+	final InMemoryMetadataBackend backend = new InMemoryMetadataBackend();
+	final DeltaUploader uploader = DeltaUploader.create(backend);
+
+	static ArtifactMetadata snapshot(String version, String changed) {
+		return metadata(version, IntStream.range(0, 100)
+				.mapToObj(i -> property("konfigyr.property-" + i, i == 42 ? changed : "value"))
+				.toArray(PropertyDescriptor[]::new));
+	}
+
+	@Test
+	@DisplayName("should upload the full metadata and then only the delta against the previous release")
+	void uploadDelta() {
+		final var first = snapshot("1.0.0-SNAPSHOT", "first");
+		final var second = snapshot("1.0.1-SNAPSHOT", "second");
+
+		assertThat(uploader.upload(first, null))
+				.returns(ReleaseState.RELEASED, Release::state)
+				.returns(MetadataChecksum.of(first), Release::checksum);
+
+		assertThat(uploader.upload(second, first))
+				.returns(ReleaseState.RELEASED, Release::state)
+				.returns("1.0.1-SNAPSHOT", Release::version)
+				.returns(MetadataChecksum.of(second), Release::checksum);
+
+		assertThat(backend.get(MetadataChecksum.of(second)))
+				.isNotNull()
+				.returns(second.properties(), ArtifactMetadata::properties);
+
+		assertThat(backend.uploads).hasValue(1);
+		assertThat(backend.deltas).hasValue(1);
+	}
+
+	@Test
+	@DisplayName("should fall back to the full upload when the backend does not know the base metadata")
+	void fallbackToFullUpload() {
+		final var first = snapshot("1.0.0-SNAPSHOT", "first");
+		final var second = snapshot("1.0.1-SNAPSHOT", "second");
+
+		assertThat(uploader.upload(second, first))
+				.returns(ReleaseState.RELEASED, Release::state)
+				.returns(MetadataChecksum.of(second), Release::checksum);
+
+		assertThat(backend.uploads).hasValue(1);
+		assertThat(backend.deltas).hasValue(1);
+	}
+
+	@Test
+	@DisplayName("should upload the full metadata when the delta is not smaller than the metadata")
+	void uploadFullMetadataForLargeDelta() {
+		final var first = metadata("1.0.0", property("konfigyr.a", "a"));
+		final var second = metadata("1.0.1", property("konfigyr.b", "b"));
+
+		uploader.upload(first, null);
+
+		assertThat(uploader.upload(second, first))
+				.returns(MetadataChecksum.of(second), Release::checksum);
+
+		assertThat(backend.uploads).hasValue(2);
+		assertThat(backend.deltas).hasValue(0);
+	}
+
+}
@@ -0,0 +1,69 @@
+package com.konfigyr.artifactory.delta;
+
+import com.konfigyr.artifactory.ArtifactMetadata;
+import com.konfigyr.artifactory.MetadataChecksum;
+import com.konfigyr.artifactory.Release;
+import com.konfigyr.artifactory.ReleaseState;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-process stand-in for the {@code Artifactory} backend that keeps the uploaded metadata by its checksum.
+ */
+class InMemoryMetadataBackend implements MetadataBackend {
+
+	final Map<String, ArtifactMetadata> releases = new ConcurrentHashMap<>();
+	final AtomicInteger uploads = new AtomicInteger();
+	final AtomicInteger deltas = new AtomicInteger();
+
+	@NonNull
+	@Override
+	public Release upload(@NonNull ArtifactMetadata metadata) {
+		uploads.incrementAndGet();
+
+		final String checksum = MetadataChecksum.of(metadata);
+
+		if (metadata.checksum() != null && !metadata.checksum().equals(checksum)) {
+			return release(metadata, checksum, ReleaseState.FAILED);
+		}
+
+		releases.put(checksum, metadata);
+		return release(metadata, checksum, ReleaseState.RELEASED);
+	}
+
+	@Nullable
+	@Override
+	public Release upload(@NonNull MetadataDelta delta) {
+		deltas.incrementAndGet();
+
+		final ArtifactMetadata base = releases.get(delta.base());
+
+		if (base == null) {
+			return null;
+		}
+
+		final ArtifactMetadata metadata = delta.apply(base);
+		releases.put(delta.checksum(), metadata);
+		return release(metadata, delta.checksum(), ReleaseState.RELEASED);
+	}
+
+	@Nullable
+	ArtifactMetadata get(String checksum) {
+		return releases.get(checksum);
+	}
+
+	static Release release(ArtifactMetadata metadata, String checksum, ReleaseState state) {
+		return Release.builder()
+				.artifact(metadata)
+				.state(state)
+				.checksum(checksum)
+				.releaseDate(Instant.now())
+				.build();
+	}
+
+}
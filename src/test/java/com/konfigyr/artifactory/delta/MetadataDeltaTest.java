@@ -0,0 +1,139 @@
+package com.konfigyr.artifactory.delta;
+
+import com.konfigyr.artifactory.ArtifactMetadata;
+import com.konfigyr.artifactory.DefaultPropertyDescriptor;
+import com.konfigyr.artifactory.Deprecation;
+import com.konfigyr.artifactory.MetadataChecksum;
+import com.konfigyr.artifactory.PropertyDescriptor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class MetadataDeltaTest {
+
+	static PropertyDescriptor property(String name, String defaultValue) {
+		return PropertyDescriptor.builder()
+				.name(name)
+				.typeName("java.lang.String")
+				.schema("{\"type\":\"string\"}")
+				.defaultValue(defaultValue)
+				.build();
+	}
+
+	static ArtifactMetadata metadata(String version, PropertyDescriptor... properties) {
+		return ArtifactMetadata.builder()
+				.groupId("com.konfigyr")
+				.artifactId("konfigyr-crypto-api")
+				.version(version)
+				.properties(List.of(properties))
+				.build();
+	}
+
+	@Test
+	@DisplayName("should create delta with added, modified and removed property descriptors")
+	void createDelta() {
+		final var base = metadata("1.0.0-SNAPSHOT", property("konfigyr.a", "a"), property("konfigyr.b", "b"),
+				property("konfigyr.c", "c"));
+		final var metadata = metadata("1.0.1-SNAPSHOT", property("konfigyr.a", "a"), property("konfigyr.b", "changed"),
+				property("konfigyr.d", "d"));
+
+		final var delta = MetadataDelta.between(base, metadata);
+
+		assertThat(delta)
+				.returns("com.konfigyr:konfigyr-crypto-api:1.0.1-SNAPSHOT", it -> it.artifact().coordinates())
+				.returns(MetadataChecksum.of(base), MetadataDelta::base)
+				.returns(MetadataChecksum.of(metadata), MetadataDelta::checksum)
+				.returns(List.of(property("konfigyr.d", "d")), MetadataDelta::added)
+				.returns(List.of(property("konfigyr.b", "changed")), MetadataDelta::modified)
+				.returns(List.of("konfigyr.c"), MetadataDelta::removed)
+				.returns(3, MetadataDelta::size)
+				.returns(false, MetadataDelta::isEmpty);
+
+		assertThat(delta.apply(base))
+				.returns(delta.checksum(), ArtifactMetadata::checksum)
+				.returns(List.of(property("konfigyr.a", "a"), property("konfigyr.b", "changed"),
+						property("konfigyr.d", "d")), ArtifactMetadata::properties);
+	}
+
+	@Test
+	@DisplayName("should create empty delta when only the artifact attributes change")
+	void createEmptyDelta() {
+		final var base = metadata("1.0.0", property("konfigyr.a", "a"));
+		final var metadata = metadata("1.0.1", property("konfigyr.a", "a"));
+
+		final var delta = MetadataDelta.between(base, metadata);
+
+		assertThat(delta.isEmpty()).isTrue();
+
+		assertThat(delta.apply(base))
+				.returns("1.0.1", ArtifactMetadata::version)
+				.returns(MetadataChecksum.of(metadata), ArtifactMetadata::checksum);
+	}
+
+	@Test
+	@DisplayName("should create delta for property descriptors without type names")
+	void createDeltaWithoutTypeNames() {
+		final var base = metadata("1.0.0", property("konfigyr.a", "a"),
+				new DefaultPropertyDescriptor("konfigyr.b", "{}", null, null, "b", null));
+		final var metadata = metadata("1.0.1", property("konfigyr.a", "a"),
+				new DefaultPropertyDescriptor("konfigyr.b", "{}", null, null, "changed", null));
+
+		final var delta = MetadataDelta.between(base, metadata);
+
+		assertThat(delta)
+				.returns(List.of(), MetadataDelta::added)
+				.returns(List.of(metadata.properties().get(1)), MetadataDelta::modified)
+				.returns(List.of(), MetadataDelta::removed);
+
+		assertThat(delta.apply(base))
+				.returns(MetadataChecksum.of(metadata), ArtifactMetadata::checksum);
+
+		assertThat(MetadataDelta.between(base, metadata("1.0.1", base.properties().toArray(PropertyDescriptor[]::new))))
+				.returns(true, MetadataDelta::isEmpty);
+	}
+
+	@Test
+	@DisplayName("should fail to apply delta to metadata with a different checksum")
+	void applyToUnknownBase() {
+		final var base = metadata("1.0.0", property("konfigyr.a", "a"));
+		final var delta = MetadataDelta.between(base, metadata("1.0.1", property("konfigyr.b", "b")));
+
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> delta.apply(metadata("1.0.0", property("konfigyr.a", "changed"))))
+				.withMessageContaining("as its checksum does not match the delta base checksum");
+	}
+
+	@Test
+	@DisplayName("should fail to apply delta when the reconstructed metadata checksum does not match")
+	void verifyReconstructedChecksum() {
+		final var base = metadata("1.0.0", property("konfigyr.a", "a"));
+		final var delta = MetadataDelta.between(base, metadata("1.0.1", property("konfigyr.a", "b")));
+
+		final var tampered = new MetadataDelta(delta.artifact(), delta.base(), delta.checksum(), delta.added(),
+				List.of(PropertyDescriptor.builder()
+						.name("konfigyr.a")
+						.typeName("java.lang.String")
+						.schema("{\"type\":\"string\"}")
+						.defaultValue("b")
+						.deprecation(new Deprecation("Tampered", null))
+						.build()),
+				delta.removed());
+
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> tampered.apply(base))
+				.withMessageStartingWith("Checksum of the reconstructed com.konfigyr:konfigyr-crypto-api:1.0.1 "
+						+ "metadata does not match");
+
+		final var invalid = new MetadataDelta(delta.artifact(), delta.base(), delta.checksum(), List.of(),
+				List.of(), List.of("konfigyr.unknown"));
+
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> invalid.apply(base))
+				.withMessage("Removed property descriptor 'konfigyr.unknown' is not present in "
+						+ "com.konfigyr:konfigyr-crypto-api:1.0.0");
+	}
+
+}
@@ -0,0 +1,115 @@
+package com.konfigyr.artifactory.deprecation;
+
+import com.konfigyr.artifactory.Artifact;
+import com.konfigyr.artifactory.ArtifactMetadata;
+import com.konfigyr.artifactory.Deprecation;
+import com.konfigyr.artifactory.Manifest;
+import com.konfigyr.artifactory.PropertyDescriptor;
+import com.konfigyr.artifactory.index.PropertyMatch;
+import org.assertj.core.api.InstanceOfAssertFactories;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.*;
+
+class DeprecationImpactAnalyzerTest {
+
+	final ArtifactMetadata release = ArtifactMetadata.of("org.springframework.boot", "spring-boot", "3.5.0",
+			descriptor("server.max-http-header-size", "java.lang.String", true),
+			descriptor("logging.level", "java.util.Map<java.lang.String,java.lang.String>", true),
+			descriptor("server.port", "java.lang.Integer", false)
+	);
+
+	final DeprecationImpactAnalyzer analyzer = DeprecationImpactAnalyzer.of(List.of(release));
+
+	@Test
+	@DisplayName("should find manifests using deprecated properties of the released artifact")
+	void analyzeManifests() {
+		final var affected = manifest("affected", Artifact.of("org.springframework.boot", "spring-boot", "3.4.0"));
+		final var unaffected = manifest("unaffected", Artifact.of("org.springframework.boot", "spring-boot", "3.3.0"));
+		final var unrelated = manifest("unrelated", Artifact.of("com.konfigyr", "konfigyr-crypto", "1.0.0"));
+		final var unknown = manifest("unknown", Artifact.of("org.springframework.boot", "spring-boot", "3.4.0"));
+
+		final Map<String, List<String>> configurations = Map.of(
+				"affected", List.of("server.port", "server.max-http-header-size", "logging.level.org.hibernate"),
+				"unaffected", List.of("server.port"),
+				"unrelated", List.of("server.max-http-header-size")
+		);
+
+		assertThat(analyzer.analyze(List.of(affected, unaffected, unrelated, unknown),
+				manifest -> configurations.get(manifest.id())))
+				.singleElement()
+				.returns(affected, DeprecationImpact::manifest)
+				.returns(release, DeprecationImpact::release)
+				.returns("3.4.0", impact -> impact.artifact().version())
+				.extracting(DeprecationImpact::properties)
+				.asInstanceOf(InstanceOfAssertFactories.list(PropertyMatch.class))
+				.extracting(PropertyMatch::name, match -> match.descriptor().name())
+				.containsExactly(
+						tuple("server.max-http-header-size", "server.max-http-header-size"),
+						tuple("logging.level.org.hibernate", "logging.level")
+				);
+	}
+
+	@Test
+	@DisplayName("should stream impacts from the fork/join pool while manifests are being analyzed")
+	void streamImpacts() {
+		final var manifests = new ArrayList<Manifest>();
+
+		for (int i = 0; i < 500; i++) {
+			manifests.add(manifest("service-" + i, Artifact.of("org.springframework.boot", "spring-boot", "3.4." + i)));
+		}
+
+		final Set<String> services = ConcurrentHashMap.newKeySet();
+		final var pool = new ForkJoinPool(4);
+
+		try {
+			analyzer.analyze(pool, manifests, manifest -> List.of("server.max-http-header-size"),
+					impact -> services.add(impact.manifest().id()));
+		} finally {
+			pool.shutdown();
+		}
+
+		assertThat(services).hasSize(500);
+	}
+
+	@Test
+	@DisplayName("should ignore releases without deprecated properties")
+	void noDeprecations() {
+		final var analyzer = DeprecationImpactAnalyzer.of(List.of(ArtifactMetadata.of("com.konfigyr", "konfigyr-crypto",
+				"1.0.0", descriptor("konfigyr.crypto.enabled", "java.lang.Boolean", false))));
+
+		assertThat(analyzer.analyze(List.of(manifest("service", Artifact.of("com.konfigyr", "konfigyr-crypto", "0.9.0"))),
+				manifest -> List.of("konfigyr.crypto.enabled")))
+				.isEmpty();
+	}
+
+	static Manifest manifest(String id, Artifact artifact) {
+		return Manifest.builder()
+				.id(id)
+				.name(id)
+				.artifact(artifact)
+				.build();
+	}
+
+	static PropertyDescriptor descriptor(String name, String type, boolean deprecated) {
+		final var builder = PropertyDescriptor.builder()
+				.name(name)
+				.typeName(type)
+				.schema("{}");
+
+		if (deprecated) {
+			builder.deprecation(new Deprecation("No longer supported", null));
+		}
+
+		return builder.build();
+	}
+
+}
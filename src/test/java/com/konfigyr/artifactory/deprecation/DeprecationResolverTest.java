@@ -0,0 +1,98 @@
+package com.konfigyr.artifactory.deprecation;
+
+import com.konfigyr.artifactory.Artifact;
+import com.konfigyr.artifactory.ArtifactMetadata;
+import com.konfigyr.artifactory.ArtifactMetadataResolver;
+import com.konfigyr.artifactory.Deprecation;
+import com.konfigyr.artifactory.Manifest;
+import com.konfigyr.artifactory.PropertyDescriptor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+class DeprecationResolverTest {
+
+	final ArtifactMetadata metadata = ArtifactMetadata.of("com.konfigyr", "konfigyr-crypto", "2.0.0",
+			descriptor("konfigyr.crypto.key", "konfigyr.crypto.keyset"),
+			descriptor("konfigyr.crypto.keyset", "konfigyr.crypto.keyset.name"),
+			descriptor("konfigyr.crypto.keyset.name", null),
+			descriptor("konfigyr.crypto.cache", ""),
+			descriptor("konfigyr.crypto.legacy.algorithm", "konfigyr.crypto.algorithm")
+	);
+
+	@Test
+	@DisplayName("should resolve transitive deprecation replacements")
+	void resolveReplacementChains() {
+		final var resolver = DeprecationResolver.of(metadata);
+
+		assertThat(resolver.replacements())
+				.containsExactlyInAnyOrderEntriesOf(Map.of(
+						"konfigyr.crypto.key", "konfigyr.crypto.keyset.name",
+						"konfigyr.crypto.keyset", "konfigyr.crypto.keyset.name",
+						"konfigyr.crypto.legacy.algorithm", "konfigyr.crypto.algorithm"
+				));
+
+		assertThat(resolver.chain("konfigyr.crypto.key"))
+				.containsExactly("konfigyr.crypto.key", "konfigyr.crypto.keyset", "konfigyr.crypto.keyset.name");
+
+		assertThat(resolver.resolve("konfigyr.crypto.keyset")).isEqualTo("konfigyr.crypto.keyset.name");
+		assertThat(resolver.resolve("konfigyr.crypto.keyset.name")).isNull();
+		assertThat(resolver.resolve("konfigyr.crypto.cache")).isNull();
+
+		assertThat(resolver.isDeprecated("konfigyr.crypto.cache")).isTrue();
+		assertThat(resolver.isDeprecated("konfigyr.crypto.keyset.name")).isFalse();
+		assertThat(resolver.deprecation("konfigyr.crypto.key"))
+				.returns("konfigyr.crypto.keyset", Deprecation::replacement);
+	}
+
+	@Test
+	@DisplayName("should reject deprecation replacements that form a cycle")
+	void detectCycles() {
+		final var cyclic = ArtifactMetadata.of("com.konfigyr", "konfigyr-cyclic", "1.0.0",
+				descriptor("konfigyr.first", "konfigyr.second"),
+				descriptor("konfigyr.second", "konfigyr.first")
+		);
+
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> DeprecationResolver.of(cyclic))
+				.withMessageStartingWith("Deprecation replacements form a cycle: ");
+	}
+
+	@Test
+	@DisplayName("should resolve replacements across artifacts of a manifest")
+	void resolveManifest() {
+		final var starter = ArtifactMetadata.of("com.konfigyr", "konfigyr-starter", "2.0.0",
+				descriptor("konfigyr.crypto.algorithm", "konfigyr.encryption.algorithm")
+		);
+
+		final var manifest = Manifest.builder()
+				.id("konfigyr-service")
+				.name("Konfigyr service")
+				.artifact(Artifact.of("com.konfigyr", "konfigyr-crypto", "2.0.0"))
+				.artifact(Artifact.of("com.konfigyr", "konfigyr-starter", "2.0.0"))
+				.build();
+
+		final var resolver = DeprecationResolver.of(manifest, ArtifactMetadataResolver.of(List.of(metadata, starter)));
+
+		assertThat(resolver.resolve("konfigyr.crypto.legacy.algorithm"))
+				.isEqualTo("konfigyr.encryption.algorithm");
+	}
+
+	static PropertyDescriptor descriptor(String name, String replacement) {
+		final var builder = PropertyDescriptor.builder()
+				.name(name)
+				.typeName("java.lang.String")
+				.schema("{}");
+
+		if (replacement != null) {
+			builder.deprecation(new Deprecation("Property was renamed", replacement.isEmpty() ? null : replacement));
+		}
+
+		return builder.build();
+	}
+
+}
@@ -0,0 +1,110 @@
+package com.konfigyr.artifactory.index;
+
+import com.konfigyr.artifactory.Artifact;
+import com.konfigyr.artifactory.ArtifactMetadata;
+import com.konfigyr.artifactory.ArtifactMetadataResolver;
+import com.konfigyr.artifactory.Manifest;
+import com.konfigyr.artifactory.PropertyDescriptor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class PropertySuggestionsTest {
+
+	final ArtifactMetadata jdbc = ArtifactMetadata.of("org.springframework.boot", "spring-boot-jdbc", "3.5.0",
+			descriptor("spring.datasource.url"),
+			descriptor("spring.datasource.username"),
+			descriptor("spring.datasource.password")
+	);
+
+	final ArtifactMetadata redis = ArtifactMetadata.of("org.springframework.boot", "spring-boot-redis", "3.5.0",
+			descriptor("spring.data.redis.url"),
+			descriptor("spring.datasource.url"),
+			descriptor("server.port")
+	);
+
+	final PropertySuggestions suggestions = PropertySuggestions.of(List.of(jdbc, redis));
+
+	@Test
+	@DisplayName("should suggest closest property names ordered by distance")
+	void suggest() {
+		assertThat(suggestions.suggest("spring.datasource.usrname", 3, 5))
+				.extracting(suggestion -> suggestion.descriptor().name(), PropertySuggestion::distance)
+				.containsExactly(tuple("spring.datasource.username", 1));
+
+		assertThat(suggestions.suggest("spring.data.url", 6, 2))
+				.extracting(suggestion -> suggestion.descriptor().name(), PropertySuggestion::distance)
+				.containsExactly(
+						tuple("spring.data.redis.url", 6),
+						tuple("spring.datasource.url", 6)
+				);
+	}
+
+	@CsvSource({
+			"spring.datasoruce.url, spring.datasource.url",
+			"spring.datasource.pasword, spring.datasource.password",
+			"server.prot, server.port",
+			"sever.port, server.port"
+	})
+	@ParameterizedTest(name = "should suggest {1} for {0}")
+	void closest(String key, String expected) {
+		assertThat(suggestions.closest(key, 2)).isEqualTo(expected);
+	}
+
+	@Test
+	@DisplayName("should not suggest property names outside of the maximum distance")
+	void noSuggestions() {
+		assertThat(suggestions.closest("management.port", 2)).isNull();
+		assertThat(suggestions.closest("port", 2)).isNull();
+		assertThat(suggestions.suggest("spring.datasource.url", 0, 5)).hasSize(1);
+
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> suggestions.suggest("server.port", -1, 5))
+				.withMessage("Maximum edit distance can not be negative");
+
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> suggestions.suggest("server.port", 1, 0))
+				.withMessage("Suggestion limit must be a positive number");
+	}
+
+	@Test
+	@DisplayName("should combine suggestions for artifacts of a manifest")
+	void manifestSuggestions() {
+		final var manifest = Manifest.builder()
+				.id("konfigyr-service")
+				.name("Konfigyr service")
+				.artifact(Artifact.of("org.springframework.boot", "spring-boot-redis", "3.5.0"))
+				.build();
+
+		final var suggestions = PropertySuggestions.of(manifest, ArtifactMetadataResolver.of(List.of(jdbc, redis)));
+
+		assertThat(suggestions.closest("spring.datasource.usernam", 1)).isNull();
+		assertThat(suggestions.closest("spring.data.redis.uri", 1)).isEqualTo("spring.data.redis.url");
+	}
+
+	@CsvSource({
+			"kitten, sitting, 3",
+			"spring, spring, 0",
+			"'', abc, 3",
+			"flaw, lawn, 2"
+	})
+	@ParameterizedTest(name = "distance between {0} and {1} should be {2}")
+	void distance(String first, String second, int distance) {
+		assertThat(PropertySuggestions.distance(first, second)).isEqualTo(distance);
+		assertThat(PropertySuggestions.distance(second, first)).isEqualTo(distance);
+	}
+
+	static PropertyDescriptor descriptor(String name) {
+		return PropertyDescriptor.builder()
+				.name(name)
+				.typeName("java.lang.String")
+				.schema("{}")
+				.build();
+	}
+
+}
@@ -0,0 +1,131 @@
+package com.konfigyr.artifactory.index;
+
+import com.konfigyr.artifactory.Artifact;
+import com.konfigyr.artifactory.ArtifactMetadata;
+import com.konfigyr.artifactory.ArtifactMetadataResolver;
+import com.konfigyr.artifactory.Manifest;
+import com.konfigyr.artifactory.PropertyDescriptor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class PropertyTrieTest {
+
+	final ArtifactMetadata boot = ArtifactMetadata.of("org.springframework.boot", "spring-boot", "3.5.0",
+			descriptor("logging.level", "java.util.Map<java.lang.String,java.lang.String>"),
+			descriptor("logging.level.custom", "java.lang.String"),
+			descriptor("spring.profiles.include", "java.util.List<java.lang.String>"),
+			descriptor("spring.profiles.active", "java.lang.String"),
+			descriptor("management.endpoint.*", "java.lang.Boolean"),
+			descriptor("my.services.*.enabled", "java.lang.Boolean"),
+			descriptor("my.hosts", "java.util.List<com.konfigyr.Host>")
+	);
+
+	final PropertyTrie trie = PropertyTrie.of(List.of(boot));
+
+	@CsvSource(delimiter = '|', value = {
+			"spring.profiles.active | spring.profiles.active | ''",
+			"logging.level | logging.level | ''",
+			"logging.level.custom | logging.level.custom | ''",
+			"logging.level.org.hibernate.SQL | logging.level | org.hibernate.SQL",
+			"logging.level[org.hibernate] | logging.level | org.hibernate",
+			"spring.profiles.include[2] | spring.profiles.include | 2",
+			"management.endpoint.health | management.endpoint.* | ''",
+			"my.services.billing.enabled | my.services.*.enabled | ''",
+			"my.hosts[0].name | my.hosts | 0.name"
+	})
+	@ParameterizedTest(name = "should resolve property key: {0}")
+	void resolveKeys(String key, String descriptor, String path) {
+		assertThat(trie.resolve(key))
+				.isPresent()
+				.get()
+				.returns(descriptor, match -> match.descriptor().name())
+				.returns(key, PropertyMatch::name)
+				.returns(path, match -> String.join(".", match.path()));
+	}
+
+	@ValueSource(strings = {
+			"server.port",
+			"spring.profiles",
+			"spring.profiles.active.value",
+			"management.endpoint",
+			"my.services.billing",
+			"my.services.billing.url",
+			""
+	})
+	@ParameterizedTest(name = "should not resolve unknown property key: {0}")
+	void unknownKeys(String key) {
+		assertThat(trie.resolve(key)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("should not resolve sub-keys of types that are only named like maps or collections")
+	void nonContainerTypes() {
+		final var trie = PropertyTrie.of(List.of(ArtifactMetadata.of("com.acme", "acme", "1.0.0",
+				descriptor("app.flags", "java.util.BitSet"),
+				descriptor("app.colors", "com.acme.ColorMap"),
+				descriptor("app.names", "com.acme.NameList<java.lang.String>"),
+				descriptor("app.tags", "java.util.LinkedHashSet<java.lang.String>")
+		)));
+
+		assertThat(trie.resolve("app.flags")).isPresent();
+		assertThat(trie.resolve("app.flags.typo")).isEmpty();
+		assertThat(trie.resolve("app.colors.red")).isEmpty();
+		assertThat(trie.resolve("app.names[0]")).isEmpty();
+		assertThat(trie.resolve("app.tags[0]"))
+				.isPresent()
+				.get()
+				.returns("app.tags", match -> match.descriptor().name());
+	}
+
+	@Test
+	@DisplayName("should cache tries by the artifact metadata checksum")
+	void cacheByChecksum() {
+		final var metadata = ArtifactMetadata.builder()
+				.groupId("com.konfigyr")
+				.artifactId("konfigyr-crypto")
+				.version("1.0.0")
+				.checksum("cache-by-checksum")
+				.property(descriptor("konfigyr.crypto.enabled", "java.lang.Boolean"))
+				.build();
+
+		assertThat(PropertyTrie.of(metadata))
+				.isSameAs(PropertyTrie.of(metadata))
+				.returns(1, PropertyTrie::size);
+
+		assertThat(PropertyTrie.of(boot))
+				.isNotSameAs(PropertyTrie.of(boot))
+				.returns(7, PropertyTrie::size);
+	}
+
+	@Test
+	@DisplayName("should create trie for artifacts of a manifest")
+	void manifestTrie() {
+		final var manifest = Manifest.builder()
+				.id("konfigyr-service")
+				.name("Konfigyr service")
+				.artifact(Artifact.of("org.springframework.boot", "spring-boot", "3.5.0"))
+				.artifact(Artifact.of("com.konfigyr", "unknown", "1.0.0"))
+				.build();
+
+		final var trie = PropertyTrie.of(manifest, ArtifactMetadataResolver.of(List.of(boot)));
+
+		assertThat(trie.size()).isEqualTo(7);
+		assertThat(trie.resolve("logging.level.root")).isPresent();
+	}
+
+	static PropertyDescriptor descriptor(String name, String type) {
+		return PropertyDescriptor.builder()
+				.name(name)
+				.typeName(type)
+				.schema("{}")
+				.build();
+	}
+
+}
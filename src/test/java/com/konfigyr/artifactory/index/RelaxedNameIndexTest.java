@@ -0,0 +1,126 @@
+package com.konfigyr.artifactory.index;
+
+import com.konfigyr.artifactory.Artifact;
+import com.konfigyr.artifactory.ArtifactMetadata;
+import com.konfigyr.artifactory.ArtifactMetadataResolver;
+import com.konfigyr.artifactory.Manifest;
+import com.konfigyr.artifactory.PropertyDescriptor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class RelaxedNameIndexTest {
+
+	final ArtifactMetadata hikari = ArtifactMetadata.of("com.zaxxer", "HikariCP", "6.3.0",
+			descriptor("spring.datasource.hikari.maximum-pool-size", "java.lang.Integer"),
+			descriptor("spring.datasource.hikari.data-source-properties", "java.util.Properties")
+	);
+
+	final ArtifactMetadata boot = ArtifactMetadata.of("org.springframework.boot", "spring-boot", "3.5.0",
+			descriptor("logging.level", "java.util.Map<java.lang.String,java.lang.String>"),
+			descriptor("spring.profiles.include", "java.util.List<java.lang.String>"),
+			descriptor("management.endpoint.*", "java.lang.Boolean")
+	);
+
+	final RelaxedNameIndex index = RelaxedNameIndex.of(List.of(hikari, boot));
+
+	@CsvSource({
+			"SPRING_DATASOURCE_HIKARI_MAXIMUMPOOLSIZE, spring.datasource.hikari.maximum-pool-size, spring.datasource.hikari.maximum-pool-size",
+			"spring.datasource.hikari.maximumPoolSize, spring.datasource.hikari.maximum-pool-size, spring.datasource.hikari.maximum-pool-size",
+			"spring.datasource.hikari.maximum_pool_size, spring.datasource.hikari.maximum-pool-size, spring.datasource.hikari.maximum-pool-size",
+			"spring.datasource.hikari.maximum-pool-size, spring.datasource.hikari.maximum-pool-size, spring.datasource.hikari.maximum-pool-size",
+			"LOGGING_LEVEL_ORG_HIBERNATE, logging.level, logging.level.org.hibernate",
+			"logging.level.org.hibernate.SQL, logging.level, logging.level.org.hibernate.SQL",
+			"SPRING_PROFILES_INCLUDE_0, spring.profiles.include, spring.profiles.include[0]",
+			"spring.profiles.include[1], spring.profiles.include, spring.profiles.include[1]",
+			"spring.datasource.hikari.dataSourceProperties.cachePrepStmts, spring.datasource.hikari.data-source-properties, spring.datasource.hikari.data-source-properties.cachePrepStmts",
+			"management.endpoint.health, management.endpoint.*, management.endpoint.health"
+	})
+	@ParameterizedTest(name = "should resolve relaxed property key: {0}")
+	void resolveRelaxedNames(String key, String descriptor, String name) {
+		assertThat(index.lookup(key))
+				.isPresent()
+				.get()
+				.returns(descriptor, match -> match.descriptor().name())
+				.returns(name, PropertyMatch::name);
+	}
+
+	@Test
+	@DisplayName("should not resolve unknown property keys")
+	void unknownKeys() {
+		assertThat(index.lookup("server.port")).isEmpty();
+		assertThat(index.lookup("SERVER_PORT")).isEmpty();
+		assertThat(index.lookup("spring.datasource.hikari.maximum-pool-size.value")).isEmpty();
+		assertThat(index.lookup(" ")).isEmpty();
+	}
+
+	@Test
+	@DisplayName("should not resolve sub-keys of types that are only named like maps or collections")
+	void nonContainerTypes() {
+		final var index = RelaxedNameIndex.of(List.of(ArtifactMetadata.of("com.acme", "acme", "1.0.0",
+				descriptor("app.flags", "java.util.BitSet"),
+				descriptor("app.colors", "com.acme.ColorMap"),
+				descriptor("app.tags", "java.util.TreeSet<java.lang.String>")
+		)));
+
+		assertThat(index.lookup("APP_FLAGS")).isPresent();
+		assertThat(index.lookup("app.flags.typo")).isEmpty();
+		assertThat(index.lookup("APP_COLORS_RED")).isEmpty();
+		assertThat(index.lookup("app.colors.red")).isEmpty();
+		assertThat(index.lookup("APP_TAGS_0"))
+				.isPresent()
+				.get()
+				.returns("app.tags[0]", PropertyMatch::name);
+	}
+
+	@Test
+	@DisplayName("should expose relaxed binding forms of canonical property names")
+	void relaxedForms() {
+		assertThat(index.size()).isEqualTo(5);
+
+		assertThat(index.forms("spring.datasource.hikari.maximum-pool-size"))
+				.isEqualTo(new RelaxedNames(
+						"spring.datasource.hikari.maximum-pool-size",
+						"spring.datasource.hikari.maximumPoolSize",
+						"spring.datasource.hikari.maximum_pool_size",
+						"SPRING_DATASOURCE_HIKARI_MAXIMUMPOOLSIZE"
+				));
+
+		assertThat(index.forms("spring.datasource.hikari.maximumPoolSize")).isNull();
+
+		assertThat(RelaxedNames.of("my.hosts[0].server-name"))
+				.returns("my.hosts[0].serverName", RelaxedNames::camelCase)
+				.returns("my.hosts[0].server_name", RelaxedNames::underscore)
+				.returns("MY_HOSTS_0_SERVERNAME", RelaxedNames::environmentVariable);
+	}
+
+	@Test
+	@DisplayName("should create index for artifacts of a manifest")
+	void manifestIndex() {
+		final var manifest = Manifest.builder()
+				.id("konfigyr-service")
+				.name("Konfigyr service")
+				.artifact(Artifact.of("com.zaxxer", "HikariCP", "6.3.0"))
+				.build();
+
+		final var index = RelaxedNameIndex.of(manifest, ArtifactMetadataResolver.of(List.of(hikari, boot)));
+
+		assertThat(index.size()).isEqualTo(2);
+		assertThat(index.lookup("SPRING_DATASOURCE_HIKARI_MAXIMUMPOOLSIZE")).isPresent();
+		assertThat(index.lookup("LOGGING_LEVEL_ROOT")).isEmpty();
+	}
+
+	static PropertyDescriptor descriptor(String name, String type) {
+		return PropertyDescriptor.builder()
+				.name(name)
+				.typeName(type)
+				.schema("{}")
+				.build();
+	}
+
+}
@@ -0,0 +1,143 @@
+package com.konfigyr.artifactory.index;
+
+import com.konfigyr.artifactory.ArtifactMetadata;
+import com.konfigyr.artifactory.PropertyDescriptor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SearchIndexTest {
+
+	final ArtifactMetadata hikari = ArtifactMetadata.of("com.zaxxer", "HikariCP", "6.3.0",
+			descriptor("spring.datasource.hikari.maximum-pool-size", "Maximum size of the connection pool."),
+			descriptor("spring.datasource.hikari.connection-timeout", "Maximum time to wait for a connection from the pool."),
+			descriptor("spring.datasource.url", "JDBC URL of the database.")
+	);
+
+	final ArtifactMetadata boot = ArtifactMetadata.of("org.springframework.boot", "spring-boot", "3.5.0",
+			descriptor("server.tomcat.threads.max", "Maximum amount of worker threads, see maxThreads."),
+			descriptor("logging.pattern.console", null)
+	);
+
+	final SearchIndex index = SearchIndex.of(List.of(hikari));
+
+	@Test
+	@DisplayName("should rank property name matches before description matches")
+	void searchWord() {
+		assertThat(index.search("pool", 10))
+				.extracting(result -> result.descriptor().name())
+				.containsExactly("spring.datasource.hikari.maximum-pool-size", "spring.datasource.hikari.connection-timeout");
+	}
+
+	@Test
+	@DisplayName("should search using prefix queries")
+	void searchPrefix() {
+		assertThat(index.search("datasour*", 10))
+				.hasSize(3);
+
+		assertThat(index.search("spring.datasource.hik*", 10))
+				.extracting(result -> result.descriptor().name())
+				.containsExactlyInAnyOrder("spring.datasource.hikari.maximum-pool-size",
+						"spring.datasource.hikari.connection-timeout");
+	}
+
+	@Test
+	@DisplayName("should search using phrase queries")
+	void searchPhrase() {
+		assertThat(index.search("\"connection pool\"", 10))
+				.extracting(result -> result.descriptor().name())
+				.containsExactly("spring.datasource.hikari.maximum-pool-size");
+
+		assertThat(index.search("\"pool connection\"", 10))
+				.isEmpty();
+
+		assertThat(index.search("spring.datasource.url", 10))
+				.extracting(result -> result.descriptor().name())
+				.containsExactly("spring.datasource.url");
+	}
+
+	@Test
+	@DisplayName("should require all query clauses to match")
+	void searchClauses() {
+		assertThat(index.search("maximum jdbc", 10)).isEmpty();
+		assertThat(index.search("unknown", 10)).isEmpty();
+		assertThat(index.search(" ", 10)).isEmpty();
+
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> index.search("pool", 0))
+				.withMessage("Search result limit must be a positive number");
+	}
+
+	@Test
+	@DisplayName("should intersect query clauses using the skip data of long posting lists")
+	void searchLargePostingLists() {
+		final SearchIndex index = SearchIndex.of(List.of(ArtifactMetadata.builder()
+				.groupId("com.konfigyr")
+				.artifactId("konfigyr-module")
+				.version("1.0.0")
+				.properties(IntStream.range(0, 1000)
+						.mapToObj(i -> descriptor("konfigyr.module.property-" + i + (i % 100 == 0 ? "-timeout" : ""),
+								"Connection pool property."))
+						.toList())
+				.build()));
+
+		assertThat(index.search("pool timeout", 20))
+				.extracting(result -> result.descriptor().name())
+				.containsExactlyElementsOf(IntStream.range(0, 10)
+						.mapToObj(i -> "konfigyr.module.property-" + i * 100 + "-timeout")
+						.toList());
+
+		assertThat(index.search("connection \"property 700\" pool", 20))
+				.extracting(result -> result.descriptor().name())
+				.containsExactly("konfigyr.module.property-700-timeout");
+
+		assertThat(index.search("\"pool property\" module.p*", 5))
+				.hasSize(5)
+				.extracting(result -> result.descriptor().name())
+				.containsExactly("konfigyr.module.property-0-timeout", "konfigyr.module.property-1",
+						"konfigyr.module.property-10", "konfigyr.module.property-100-timeout",
+						"konfigyr.module.property-101");
+	}
+
+	@Test
+	@DisplayName("should add artifacts to the index incrementally")
+	void incrementalAdd() {
+		assertThat(index.size()).isEqualTo(3);
+		assertThat(index.search("threads", 10)).isEmpty();
+
+		assertThat(index.add(boot)).isTrue();
+		assertThat(index.add(boot)).isFalse();
+		assertThat(index.size()).isEqualTo(5);
+
+		assertThat(index.search("max*", 2))
+				.extracting(SearchResult::artifact, result -> result.descriptor().name())
+				.containsExactly(
+						tuple(boot, "server.tomcat.threads.max"),
+						tuple(hikari, "spring.datasource.hikari.maximum-pool-size")
+				);
+	}
+
+	@Test
+	@DisplayName("should split names and descriptions into lowercase words")
+	void tokenize() {
+		assertThat(SearchIndex.tokenize("my.hosts[0].server-name"))
+				.containsExactly("my", "hosts", "0", "server", "name");
+
+		assertThat(SearchIndex.tokenize("Number of maxThreads, see server_name."))
+				.containsExactly("number", "of", "max", "threads", "see", "server", "name");
+	}
+
+	static PropertyDescriptor descriptor(String name, String description) {
+		return PropertyDescriptor.builder()
+				.name(name)
+				.typeName("java.lang.String")
+				.schema("{}")
+				.description(description)
+				.build();
+	}
+
+}
@@ -0,0 +1,112 @@
+package com.konfigyr.artifactory.json;
+
+import com.konfigyr.artifactory.ArtifactMetadata;
+import com.konfigyr.artifactory.Deprecation;
+import com.konfigyr.artifactory.MetadataChecksum;
+import com.konfigyr.artifactory.PropertyDescriptor;
+import org.assertj.core.api.InstanceOfAssertFactories;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ArtifactMetadataWriterTest {
+
+	final ArtifactMetadata metadata = ArtifactMetadata.builder()
+			.groupId("com.konfigyr")
+			.artifactId("konfigyr-crypto-api")
+			.version("1.0.0")
+			.website("https://konfigyr.com")
+			.property(PropertyDescriptor.builder()
+					.name("konfigyr.crypto.enabled")
+					.typeName("java.lang.Boolean")
+					.schema("{\"type\":\"boolean\"}")
+					.defaultValue("true")
+					.build())
+			.property(PropertyDescriptor.builder()
+					.name("konfigyr.crypto.cache-ttl")
+					.typeName("java.time.Duration")
+					.schema("{\"format\":\"duration\",\"type\":\"string\"}")
+					.description("Time to live of the \"cached\" keysets.\n")
+					.deprecation(new Deprecation("Renamed", "konfigyr.crypto.cache.ttl"))
+					.build())
+			.build();
+
+	@Test
+	@DisplayName("should write artifact metadata as JSON and compute its checksum")
+	void writeMetadata() throws IOException {
+		final var output = new ByteArrayOutputStream();
+		final var checksum = ArtifactMetadataWriter.create().write(metadata, output);
+
+		assertThat(checksum)
+				.isEqualTo(MetadataChecksum.of(metadata));
+
+		assertThat(output.toString(StandardCharsets.UTF_8))
+				.isEqualTo("{\"groupId\":\"com.konfigyr\",\"artifactId\":\"konfigyr-crypto-api\",\"version\":\"1.0.0\","
+						+ "\"website\":\"https://konfigyr.com\",\"properties\":["
+						+ "{\"name\":\"konfigyr.crypto.cache-ttl\",\"typeName\":\"java.time.Duration\","
+						+ "\"schema\":\"{\\\"format\\\":\\\"duration\\\",\\\"type\\\":\\\"string\\\"}\","
+						+ "\"description\":\"Time to live of the \\\"cached\\\" keysets.\\n\","
+						+ "\"deprecation\":{\"reason\":\"Renamed\",\"replacement\":\"konfigyr.crypto.cache.ttl\"}},"
+						+ "{\"name\":\"konfigyr.crypto.enabled\",\"typeName\":\"java.lang.Boolean\","
+						+ "\"schema\":\"{\\\"type\\\":\\\"boolean\\\"}\",\"defaultValue\":\"true\"}],"
+						+ "\"checksum\":\"" + checksum + "\"}");
+	}
+
+	@Test
+	@DisplayName("should write large artifact metadata with non-ASCII characters that can be read back")
+	void writeLargeMetadata() throws IOException {
+		final var large = ArtifactMetadata.builder()
+				.groupId("com.konfigyr")
+				.artifactId("konfigyr-crypto-api")
+				.version("1.0.0")
+				.properties(IntStream.range(0, 2000)
+						.mapToObj(i -> PropertyDescriptor.builder()
+								.name("konfigyr.property-" + i)
+								.typeName("java.lang.String")
+								.schema("{\"type\":\"string\"}")
+								.description("Opis svojstva šđč 😀 \u0001")
+								.build())
+						.toList())
+				.build();
+
+		final var output = new ByteArrayOutputStream();
+
+		assertThat(ArtifactMetadataWriter.create().write(large, output))
+				.isEqualTo(MetadataChecksum.of(large));
+
+		assertThat(JsonReader.parse(output.toString(StandardCharsets.UTF_8)))
+				.asInstanceOf(InstanceOfAssertFactories.map(String.class, Object.class))
+				.containsEntry("checksum", MetadataChecksum.of(large))
+				.extractingByKey("properties", InstanceOfAssertFactories.list(Object.class))
+				.hasSize(2000)
+				.first(InstanceOfAssertFactories.map(String.class, Object.class))
+				.containsEntry("description", "Opis svojstva šđč 😀 \u0001");
+	}
+
+	@Test
+	@DisplayName("should write GZIP compressed artifact metadata to a channel")
+	void writeCompressedMetadata() throws IOException {
+		final var plain = new ByteArrayOutputStream();
+		ArtifactMetadataWriter.create().write(metadata, plain);
+
+		final var compressed = new ByteArrayOutputStream();
+
+		assertThat(ArtifactMetadataWriter.gzip().write(metadata, Channels.newChannel(compressed)))
+				.isEqualTo(MetadataChecksum.of(metadata));
+
+		try (var input = new GZIPInputStream(new ByteArrayInputStream(compressed.toByteArray()))) {
+			assertThat(input.readAllBytes())
+					.isEqualTo(plain.toByteArray());
+		}
+	}
+
+}
@@ -0,0 +1,85 @@
+package com.konfigyr.artifactory.json;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.assertj.core.api.Assertions.*;
+
+class JsonCanonicalizerTest {
+
+	@Test
+	@DisplayName("should remove whitespace and sort object members by their names")
+	void canonicalizeDocument() {
+		final var canonical = JsonCanonicalizer.canonicalize("""
+				{
+					"type": "object",
+					"properties": {
+						"port": { "type": "integer", "minimum": 0 },
+						"host": { "type": "string" }
+					},
+					"required": [ "port", "host" ]
+				}
+				""");
+
+		assertThat(canonical)
+				.isEqualTo("{\"properties\":{\"host\":{\"type\":\"string\"},\"port\":{\"minimum\":0," +
+						"\"type\":\"integer\"}},\"required\":[\"port\",\"host\"],\"type\":\"object\"}");
+	}
+
+	@Test
+	@DisplayName("should share the same canonical instance for semantically equal documents")
+	void shareCanonicalForm() {
+		final var canonical = JsonCanonicalizer.canonicalize("{\"type\":\"integer\",\"format\":\"int32\"}");
+
+		assertThat(canonical)
+				.isEqualTo("{\"format\":\"int32\",\"type\":\"integer\"}")
+				.isSameAs(JsonCanonicalizer.canonicalize("{ \"format\": \"int32\", \"type\": \"integer\" }"))
+				.isSameAs(JsonCanonicalizer.canonicalize("{\"format\":\"int32\",\"type\":\"integer\"}"));
+	}
+
+	@Test
+	@DisplayName("should keep the last object member when member names are repeated")
+	void repeatedMembers() {
+		assertThat(JsonCanonicalizer.canonicalize("{\"b\":1,\"a\":2,\"b\":3}"))
+				.isEqualTo("{\"a\":2,\"b\":3}");
+	}
+
+	@ParameterizedTest
+	@CsvSource(delimiter = '|', value = {
+			"42|42",
+			"-0|0",
+			"1.0|1",
+			"-2.50|-2.5",
+			"1e2|100",
+			"0.0001|0.0001",
+			"1.5E30|1.5e+30",
+			"1e-8|1e-8",
+			"0.0e10|0"
+	})
+	@DisplayName("should normalize number literals")
+	void normalizeNumbers(String literal, String expected) {
+		assertThat(JsonCanonicalizer.canonicalize("[" + literal + "]"))
+				.isEqualTo("[" + expected + "]");
+	}
+
+	@Test
+	@DisplayName("should only escape quotation marks, reverse solidus and control characters")
+	void escapeStrings() {
+		assertThat(JsonCanonicalizer.canonicalize("\"\\u0041\\/\\\"\\\\\\n\\u0001\""))
+				.isEqualTo("\"A/\\\"\\\\\\n\\u0001\"");
+	}
+
+	@Test
+	@DisplayName("should reject malformed JSON documents")
+	void rejectMalformedDocuments() {
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> JsonCanonicalizer.canonicalize("{} []"))
+				.withMessageContaining("Unexpected content after the end of the JSON document");
+
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> JsonCanonicalizer.canonicalize("{\"type\":}"));
+	}
+
+}
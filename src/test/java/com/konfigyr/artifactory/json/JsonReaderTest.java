@@ -0,0 +1,81 @@
+package com.konfigyr.artifactory.json;
+
+import org.assertj.core.api.InstanceOfAssertFactories;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.StringReader;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+class JsonReaderTest {
+
+	@Test
+	@DisplayName("should parse JSON document into a tree of plain Java types")
+	void parseDocument() {
+		final var result = JsonReader.parse("""
+				{
+					"string": "value \\"quoted\\" \\u0041",
+					"integer": 42,
+					"decimal": -2.5e1,
+					"enabled": true,
+					"disabled": false,
+					"empty": null,
+					"array": [1, "two", {}],
+					"object": {"nested": []}
+				}
+				""");
+
+		assertThat(result)
+				.isInstanceOf(Map.class)
+				.asInstanceOf(InstanceOfAssertFactories.map(String.class, Object.class))
+				.containsExactly(
+						entry("string", "value \"quoted\" A"),
+						entry("integer", 42L),
+						entry("decimal", -25.0),
+						entry("enabled", true),
+						entry("disabled", false),
+						entry("empty", null),
+						entry("array", List.of(1L, "two", Map.of())),
+						entry("object", Map.of("nested", List.of()))
+				);
+	}
+
+	@Test
+	@DisplayName("should stream JSON tokens from a reader")
+	void streamTokens() {
+		final var reader = new JsonReader(new StringReader("{\"name\": \"server.port\", \"values\": [8080, 8443]}"));
+
+		reader.beginObject();
+		assertThat(reader.nextName()).isEqualTo("name");
+		assertThat(reader.nextString()).isEqualTo("server.port");
+		assertThat(reader.nextName()).isEqualTo("values");
+		assertThat(reader.peek()).isEqualTo(JsonToken.BEGIN_ARRAY);
+		reader.skipValue();
+		assertThat(reader.hasNext()).isFalse();
+		reader.endObject();
+		assertThat(reader.peek()).isEqualTo(JsonToken.END_DOCUMENT);
+	}
+
+	@Test
+	@DisplayName("should read strings that span across multiple buffer reads")
+	void readLargeDocument() {
+		final var value = "konfigyr-".repeat(4096);
+
+		assertThat(new JsonReader(new StringReader("[\"" + value + "\", \"\\n" + value + "\"]")).readValue())
+				.isEqualTo(List.of(value, "\n" + value));
+	}
+
+	@ValueSource(strings = {"", "{", "[1,]", "{\"a\" 1}", "tru", "01", "[1 2]", "{} {}", "\"unterminated"})
+	@ParameterizedTest(name = "should reject malformed JSON document: {0}")
+	void rejectMalformedDocuments(String json) {
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> JsonReader.parse(json))
+				.withMessageContaining("at position");
+	}
+
+}
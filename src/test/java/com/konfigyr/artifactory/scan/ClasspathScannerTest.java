@@ -0,0 +1,273 @@
+package com.konfigyr.artifactory.scan;
+
+import com.konfigyr.artifactory.ArtifactMetadata;
+import com.konfigyr.artifactory.Deprecation;
+import com.konfigyr.artifactory.MetadataChecksum;
+import com.konfigyr.artifactory.PropertyDescriptor;
+import com.konfigyr.artifactory.schema.WellKnownSchema;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ClasspathScannerTest {
+
+	static final String METADATA = """
+			{
+				"groups": [{ "name": "konfigyr.crypto", "type": "com.konfigyr.crypto.CryptoProperties" }],
+				"properties": [
+					{
+						"name": "konfigyr.crypto.cache-ttl",
+						"type": "java.time.Duration",
+						"description": "Time to live of the cached keysets.",
+						"defaultValue": "30s",
+						"deprecation": { "reason": "Renamed", "replacement": "konfigyr.crypto.cache.ttl" }
+					},
+					{
+						"name": "konfigyr.crypto.algorithms",
+						"type": "java.util.List<java.lang.String>",
+						"defaultValue": ["AES128_GCM", "AES256_GCM"]
+					},
+					{
+						"name": "konfigyr.crypto.enabled",
+						"type": "java.lang.Boolean",
+						"defaultValue": true
+					}
+				],
+				"hints": [{ "name": "konfigyr.crypto.algorithms", "values": [] }]
+			}
+			""";
+
+	static final String ADDITIONAL_METADATA = """
+			{
+				"properties": [
+					{ "name": "konfigyr.crypto.enabled", "type": "java.lang.String" },
+					{ "name": "konfigyr.crypto.provider", "deprecated": true }
+				]
+			}
+			""";
+
+	@TempDir
+	Path directory;
+
+	@Test
+	@DisplayName("should create artifact metadata from the configuration metadata and Maven coordinates")
+	void scanJar() throws IOException {
+		final var jar = jar("konfigyr-crypto-api-1.0.0.jar", false, Map.of(
+				"com/konfigyr/crypto/CryptoProperties.class", "class",
+				"META-INF/maven/com.konfigyr/konfigyr-crypto-api/pom.properties", pom("konfigyr-crypto-api", "1.0.0"),
+				ClasspathScanner.METADATA, METADATA,
+				ClasspathScanner.ADDITIONAL_METADATA, ADDITIONAL_METADATA
+		));
+
+		assertThat(ClasspathScanner.create().scan(jar))
+				.isNotNull()
+				.returns("com.konfigyr:konfigyr-crypto-api:1.0.0", ArtifactMetadata::coordinates)
+				.satisfies(it -> assertThat(it.checksum()).isEqualTo(MetadataChecksum.of(it)))
+				.satisfies(it -> assertThat(it.properties())
+						.satisfiesExactly(
+								descriptor -> assertThat(descriptor)
+										.returns("konfigyr.crypto.cache-ttl", PropertyDescriptor::name)
+										.returns(WellKnownSchema.DURATION.schema(), PropertyDescriptor::schema)
+										.returns("java.time.Duration", PropertyDescriptor::typeName)
+										.returns("Time to live of the cached keysets.", PropertyDescriptor::description)
+										.returns("30s", PropertyDescriptor::defaultValue)
+										.returns(new Deprecation("Renamed", "konfigyr.crypto.cache.ttl"),
+												PropertyDescriptor::deprecation),
+								descriptor -> assertThat(descriptor)
+										.returns("konfigyr.crypto.algorithms", PropertyDescriptor::name)
+										.returns(WellKnownSchema.STRING_ARRAY.schema(), PropertyDescriptor::schema)
+										.returns("AES128_GCM,AES256_GCM", PropertyDescriptor::defaultValue),
+								descriptor -> assertThat(descriptor)
+										.returns("konfigyr.crypto.enabled", PropertyDescriptor::name)
+										.returns("java.lang.Boolean", PropertyDescriptor::typeName)
+										.returns("true", PropertyDescriptor::defaultValue),
+								descriptor -> assertThat(descriptor)
+										.returns("konfigyr.crypto.provider", PropertyDescriptor::name)
+										.returns(WellKnownSchema.ANY.schema(), PropertyDescriptor::schema)
+										.returns("java.lang.Object", PropertyDescriptor::typeName)
+										.returns(new Deprecation(null, null), PropertyDescriptor::deprecation)
+						)
+				);
+	}
+
+	@Test
+	@DisplayName("should read stored JAR entries and pick the coordinates matching the JAR file name")
+	void scanStoredJar() throws IOException {
+		final var jar = jar("konfigyr-crypto-tink-1.0.0.jar", true, Map.of(
+				"META-INF/maven/com.google.crypto.tink/tink/pom.properties", pom("tink", "1.15.0"),
+				"META-INF/maven/com.konfigyr/konfigyr-crypto-tink/pom.properties", pom("konfigyr-crypto-tink", "1.0.0"),
+				ClasspathScanner.ADDITIONAL_METADATA, ADDITIONAL_METADATA
+		));
+
+		assertThat(ClasspathScanner.create(1).scan(jar))
+				.isNotNull()
+				.returns("konfigyr-crypto-tink", ArtifactMetadata::artifactId)
+				.returns(2, it -> it.properties().size());
+	}
+
+	@Test
+	@DisplayName("should scan classpath JAR files in parallel and keep the classpath order")
+	void scanClasspath() throws IOException {
+		final List<Path> classpath = IntStream.range(0, 24)
+				.mapToObj(i -> {
+					try {
+						return jar("artifact-" + i + "-1.0.0.jar", i % 2 == 0, Map.of(
+								"META-INF/maven/com.konfigyr/artifact-" + i + "/pom.properties",
+								pom("artifact-" + i, "1.0.0"),
+								ClasspathScanner.METADATA, METADATA
+						));
+					} catch (IOException ex) {
+						throw new UncheckedIOException(ex);
+					}
+				})
+				.toList();
+
+		final var noMetadata = jar("no-metadata-1.0.0.jar", false, Map.of(
+				"META-INF/maven/com.konfigyr/no-metadata/pom.properties", pom("no-metadata", "1.0.0")
+		));
+		final var noCoordinates = jar("no-coordinates.jar", false, Map.of(ClasspathScanner.METADATA, METADATA));
+
+		final var scanned = ClasspathScanner.create(4).scan(concat(classpath,
+				List.of(noMetadata, noCoordinates, directory, classpath.get(0))));
+
+		assertThat(scanned)
+				.hasSize(24)
+				.extracting(ArtifactMetadata::artifactId)
+				.containsExactlyElementsOf(IntStream.range(0, 24).mapToObj(i -> "artifact-" + i).toList());
+
+		assertThat(scanned)
+				.allSatisfy(it -> assertThat(it.properties()).hasSize(3));
+	}
+
+	@Test
+	@DisplayName("should ignore classpath files that are not JAR files")
+	void scanClasspathWithPlainFiles() throws IOException {
+		final var jar = jar("artifact-1.0.0.jar", false, Map.of(
+				"META-INF/maven/com.konfigyr/artifact/pom.properties", pom("artifact", "1.0.0"),
+				ClasspathScanner.METADATA, METADATA
+		));
+		final var properties = Files.writeString(directory.resolve("application.properties"), "konfigyr=true");
+		final var empty = Files.createFile(directory.resolve("logback.xml"));
+
+		assertThat(ClasspathScanner.create().scan(List.of(properties, jar, empty)))
+				.extracting(ArtifactMetadata::artifactId)
+				.containsExactly("artifact");
+	}
+
+	@Test
+	@DisplayName("should fail to scan files that are not JAR files")
+	void scanInvalidJar() throws IOException {
+		final var file = Files.write(directory.resolve("invalid.jar"), new byte[128]);
+
+		assertThatExceptionOfType(UncheckedIOException.class)
+				.isThrownBy(() -> ClasspathScanner.create().scan(file))
+				.withMessage("Failed to scan JAR file: " + file)
+				.havingCause()
+				.withMessageContaining("Could not find the end of central directory record");
+
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> ClasspathScanner.create(0))
+				.withMessage("Parallelism must be a positive number");
+	}
+
+	@Test
+	@DisplayName("should inflate large JAR entries and reject entries with forged uncompressed sizes")
+	void scanForgedEntrySize() throws IOException {
+		final String properties = IntStream.range(0, 2000)
+				.mapToObj(i -> "{ \"name\": \"konfigyr.generated.property-" + i + "\" }")
+				.collect(Collectors.joining(",", "{ \"properties\": [", "] }"));
+
+		final var jar = jar("konfigyr-generated-1.0.0.jar", false, Map.of(
+				"META-INF/maven/com.konfigyr/konfigyr-generated/pom.properties", pom("konfigyr-generated", "1.0.0"),
+				ClasspathScanner.METADATA, properties
+		));
+
+		assertThat(ClasspathScanner.create(1).scan(jar))
+				.isNotNull()
+				.returns(2000, it -> it.properties().size());
+
+		final byte[] contents = Files.readAllBytes(jar);
+		final ByteBuffer buffer = ByteBuffer.wrap(contents).order(ByteOrder.LITTLE_ENDIAN);
+
+		// declare a huge uncompressed size for every entry in the central directory
+		int offset = contents.length - 22;
+
+		while (buffer.getInt(offset) != 0x06054b50) {
+			offset--;
+		}
+
+		offset = buffer.getInt(offset + 16);
+
+		while (buffer.getInt(offset) == 0x02014b50) {
+			buffer.putInt(offset + 24, Integer.MAX_VALUE - 16);
+			offset += 46 + buffer.getShort(offset + 28) + buffer.getShort(offset + 30) + buffer.getShort(offset + 32);
+		}
+
+		final var forged = Files.write(directory.resolve("forged.jar"), contents);
+
+		assertThatExceptionOfType(UncheckedIOException.class)
+				.isThrownBy(() -> ClasspathScanner.create(1).scan(forged))
+				.withMessage("Failed to scan JAR file: " + forged)
+				.havingCause()
+				.withMessageContaining("Unexpected size of " + ClasspathScanner.METADATA);
+	}
+
+	Path jar(String name, boolean stored, Map<String, String> entries) throws IOException {
+		return jar(directory, name, stored, entries);
+	}
+
+	static Path jar(Path directory, String name, boolean stored, Map<String, String> entries) throws IOException {
+		final Path jar = directory.resolve(name);
+
+		try (var output = new ZipOutputStream(Files.newOutputStream(jar))) {
+			output.setComment("Created by the classpath scanner test");
+
+			for (var entry : entries.entrySet()) {
+				final byte[] contents = entry.getValue().getBytes(StandardCharsets.UTF_8);
+				final var zip = new ZipEntry(entry.getKey());
+
+				if (stored) {
+					final var crc = new CRC32();
+					crc.update(contents);
+
+					zip.setMethod(ZipEntry.STORED);
+					zip.setSize(contents.length);
+					zip.setCrc(crc.getValue());
+				}
+
+				output.putNextEntry(zip);
+				output.write(contents);
+				output.closeEntry();
+			}
+		}
+
+		return jar;
+	}
+
+	static String pom(String artifactId, String version) {
+		return "#Generated by Maven\ngroupId=com.konfigyr\nartifactId=" + artifactId + "\nversion=" + version + "\n";
+	}
+
+	static List<Path> concat(List<Path> first, List<Path> second) {
+		return Stream.concat(first.stream(), second.stream()).toList();
+	}
+
+}
@@ -0,0 +1,185 @@
+package com.konfigyr.artifactory.scan;
+
+import com.konfigyr.artifactory.ArtifactMetadata;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static com.konfigyr.artifactory.scan.ClasspathScannerTest.*;
+import static org.assertj.core.api.Assertions.*;
+
+class ScanCacheTest {
+
+	@TempDir
+	Path directory;
+
+	@TempDir
+	Path cacheDirectory;
+
+	final AtomicInteger scans = new AtomicInteger();
+
+	final Function<Path, ArtifactMetadata> scanner = jar -> {
+		scans.incrementAndGet();
+		return ClasspathScanner.create().scan(jar);
+	};
+
+	@Test
+	@DisplayName("should cache scanned metadata and JAR files without metadata by their contents")
+	void cacheScannedMetadata() throws IOException {
+		final var jar = jar(directory, "konfigyr-crypto-api-1.0.0.jar", false, Map.of(
+				"META-INF/maven/com.konfigyr/konfigyr-crypto-api/pom.properties", pom("konfigyr-crypto-api", "1.0.0"),
+				ClasspathScanner.METADATA, METADATA
+		));
+		final var empty = jar(directory, "no-metadata-1.0.0.jar", false, Map.of(
+				"META-INF/maven/com.konfigyr/no-metadata/pom.properties", pom("no-metadata", "1.0.0")
+		));
+
+		final ArtifactMetadata metadata;
+
+		try (var cache = ScanCache.open(cacheDirectory)) {
+			metadata = cache.get(jar, scanner);
+
+			assertThat(metadata)
+					.isNotNull()
+					.isEqualTo(cache.get(jar, scanner));
+
+			assertThat(cache.get(empty, scanner)).isNull();
+			assertThat(cache.get(empty, scanner)).isNull();
+			assertThat(cache.size()).isPositive();
+		}
+
+		assertThat(scans).hasValue(2);
+
+		// copy has the same contents and is resolved by its digest, the original is resolved by the index
+		final var copy = Files.copy(jar, directory.resolve("copy.jar"));
+
+		try (var cache = ScanCache.open(cacheDirectory)) {
+			assertThat(cache.get(jar, scanner))
+					.isEqualTo(metadata)
+					.returns(metadata.checksum(), ArtifactMetadata::checksum);
+
+			assertThat(cache.get(copy, scanner))
+					.isEqualTo(metadata);
+		}
+
+		assertThat(scans).hasValue(2);
+	}
+
+	@Test
+	@DisplayName("should scan JAR files again when their contents change or cache entries are corrupted")
+	void rescanChangedJarFiles() throws IOException {
+		final var jar = jar(directory, "konfigyr-crypto-api-1.0.0.jar", false, Map.of(
+				"META-INF/maven/com.konfigyr/konfigyr-crypto-api/pom.properties", pom("konfigyr-crypto-api", "1.0.0"),
+				ClasspathScanner.METADATA, METADATA
+		));
+
+		try (var cache = ScanCache.open(cacheDirectory)) {
+			assertThat(cache.get(jar, scanner)).isNotNull();
+		}
+
+		try (Stream<Path> files = Files.list(cacheDirectory)) {
+			for (Path file : files.filter(it -> it.toString().endsWith(".metadata")).toList()) {
+				Files.write(file, new byte[] { 1, 2, 3 });
+			}
+		}
+
+		try (var cache = ScanCache.open(cacheDirectory)) {
+			assertThat(cache.get(jar, scanner)).isNotNull();
+		}
+
+		jar(directory, jar.getFileName().toString(), true, Map.of(
+				"META-INF/maven/com.konfigyr/konfigyr-crypto-api/pom.properties", pom("konfigyr-crypto-api", "1.0.1"),
+				ClasspathScanner.METADATA, METADATA
+		));
+
+		try (var cache = ScanCache.open(cacheDirectory)) {
+			assertThat(cache.get(jar, scanner))
+					.isNotNull()
+					.returns("1.0.1", ArtifactMetadata::version);
+		}
+
+		assertThat(scans).hasValue(3);
+	}
+
+	@Test
+	@DisplayName("should evict least recently used entries when the cache exceeds its maximum size")
+	void evictLeastRecentlyUsedEntries() throws IOException {
+		final var first = jar(directory, "first-1.0.0.jar", false, Map.of(
+				"META-INF/maven/com.konfigyr/first/pom.properties", pom("first", "1.0.0"),
+				ClasspathScanner.METADATA, METADATA
+		));
+		final var second = jar(directory, "second-1.0.0.jar", false, Map.of(
+				"META-INF/maven/com.konfigyr/second/pom.properties", pom("second", "1.0.0"),
+				ClasspathScanner.METADATA, METADATA
+		));
+
+		final long size;
+
+		try (var cache = ScanCache.open(cacheDirectory)) {
+			cache.get(first, scanner);
+			size = cache.size();
+		}
+
+		try (Stream<Path> files = Files.list(cacheDirectory)) {
+			for (Path file : files.toList()) {
+				Files.setLastModifiedTime(file, FileTime.fromMillis(0));
+			}
+		}
+
+		try (var cache = ScanCache.open(cacheDirectory, size + size / 2)) {
+			assertThat(cache.get(second, scanner)).isNotNull();
+			assertThat(cache.size()).isLessThanOrEqualTo(size + size / 2);
+
+			assertThat(cache.get(second, scanner)).isNotNull();
+			assertThat(scans).hasValue(2);
+
+			assertThat(cache.get(first, scanner)).isNotNull();
+			assertThat(scans).hasValue(3);
+		}
+	}
+
+	@Test
+	@DisplayName("should use the scan cache when scanning the classpath")
+	void scanClasspathUsingCache() throws IOException {
+		final var jar = jar(directory, "konfigyr-crypto-api-1.0.0.jar", false, Map.of(
+				"META-INF/maven/com.konfigyr/konfigyr-crypto-api/pom.properties", pom("konfigyr-crypto-api", "1.0.0"),
+				ClasspathScanner.METADATA, METADATA
+		));
+
+		try (var cache = ScanCache.open(cacheDirectory)) {
+			final var scanner = ClasspathScanner.create(2, cache);
+
+			assertThat(scanner.scan(List.of(jar, directory)))
+					.hasSize(1)
+					.isEqualTo(scanner.scan(List.of(jar)));
+		}
+
+		assertThat(cacheDirectory.resolve("index")).exists();
+	}
+
+	@Test
+	@DisplayName("should fail to use a closed or invalid scan cache")
+	void invalidCache() {
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> ScanCache.open(cacheDirectory, 0))
+				.withMessage("Maximum cache size must be a positive number");
+
+		final var cache = ScanCache.open(cacheDirectory);
+		cache.close();
+
+		assertThatIllegalStateException()
+				.isThrownBy(() -> cache.get(directory, scanner))
+				.withMessage("Scan cache is closed");
+	}
+
+}
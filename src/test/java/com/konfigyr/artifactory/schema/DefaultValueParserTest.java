@@ -0,0 +1,168 @@
+package com.konfigyr.artifactory.schema;
+
+import com.konfigyr.artifactory.PropertyDescriptor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+class DefaultValueParserTest {
+
+	final DefaultValueParser parser = DefaultValueParser.create();
+
+	@Test
+	@DisplayName("should parse default values of scalar types")
+	void parseScalars() {
+		assertThat(parser.parse("java.lang.String", "konfigyr")).isEqualTo("konfigyr");
+		assertThat(parser.parse("java.lang.Boolean", "TRUE")).isEqualTo(true);
+		assertThat(parser.parse("boolean", "false")).isEqualTo(false);
+		assertThat(parser.parse("java.lang.Integer", "8080")).isEqualTo(8080);
+		assertThat(parser.parse("long", "-1")).isEqualTo(-1L);
+		assertThat(parser.parse("java.lang.Double", "0.75")).isEqualTo(0.75);
+		assertThat(parser.parse("java.math.BigDecimal", "1.50")).isEqualTo(new BigDecimal("1.50"));
+		assertThat(parser.parse("java.nio.charset.Charset", "UTF-8")).isEqualTo(StandardCharsets.UTF_8);
+		assertThat(parser.parse("java.util.Locale", "en_US")).isEqualTo(Locale.US);
+		assertThat(parser.parse("com.konfigyr.crypto.CacheMode", "always")).isEqualTo("always");
+		assertThat(parser.parse(null, "value")).isEqualTo("value");
+		assertThat(parser.parse("java.lang.Integer", null)).isNull();
+	}
+
+	@ParameterizedTest
+	@CsvSource({
+			"30s, PT30S",
+			"500, PT0.5S",
+			"250ms, PT0.25S",
+			"5m, PT5M",
+			"-2h, PT-2H",
+			"1d, PT24H",
+			"PT1M30S, PT1M30S",
+			"30S, PT30S",
+			"500MS, PT0.5S",
+			"pt1m30s, PT1M30S",
+			"-pt2h, PT-2H"
+	})
+	@DisplayName("should parse duration default values in simple and ISO-8601 formats")
+	void parseDurations(String value, String expected) {
+		assertThat(parser.parse("java.time.Duration", value))
+				.isEqualTo(Duration.parse(expected));
+	}
+
+	@ParameterizedTest
+	@CsvSource({
+			"512, 512",
+			"10B, 10",
+			"8KB, 8192",
+			"10MB, 10485760",
+			"1GB, 1073741824",
+			"2TB, 2199023255552",
+			"10mb, 10485760",
+			"1Kb, 1024",
+			"4b, 4"
+	})
+	@DisplayName("should parse data size default values into number of bytes")
+	void parseDataSizes(String value, long expected) {
+		assertThat(parser.parse("org.springframework.util.unit.DataSize", value))
+				.isEqualTo(expected);
+	}
+
+	@Test
+	@DisplayName("should parse default values of array, collection and map types")
+	void parseContainers() {
+		assertThat(parser.parse("java.lang.String[]", "a, b,c"))
+				.isEqualTo(List.of("a", "b", "c"));
+
+		assertThat(parser.parse("java.util.List<java.time.Duration>", "1s,2m"))
+				.isEqualTo(List.of(Duration.ofSeconds(1), Duration.ofMinutes(2)));
+
+		assertThat(parser.parse("java.util.Set<java.lang.Integer>", "1,2,1"))
+				.isEqualTo(Set.of(1, 2));
+
+		assertThat(parser.parse("java.util.List<java.lang.String>", ""))
+				.isEqualTo(List.of());
+
+		assertThat(parser.parse("java.util.Map<java.lang.String,java.lang.Integer>", "first=1, second=2"))
+				.isEqualTo(Map.of("first", 1, "second", 2));
+
+		assertThat(parser.parse("java.util.Map<java.lang.String,java.util.List<java.lang.String>>",
+				"{\"hosts\": \"localhost,konfigyr.com\"}"))
+				.isEqualTo(Map.of("hosts", List.of("localhost", "konfigyr.com")));
+	}
+
+	@Test
+	@DisplayName("should parse default values only once for the same type name")
+	void cacheParsedValues() {
+		assertThat(parser.parse("java.util.List<java.lang.String>", "a,b"))
+				.isSameAs(parser.parse("java.util.List<java.lang.String>", "a,b"));
+
+		assertThat(parser.parse("java.time.Duration", "30s"))
+				.isSameAs(parser.parse("java.time.Duration", "30s"));
+	}
+
+	@Test
+	@DisplayName("should parse default values of property descriptors with the expected type")
+	void parseDescriptor() {
+		final var descriptor = PropertyDescriptor.builder()
+				.name("konfigyr.crypto.cache-ttl")
+				.schema("{\"type\":\"string\",\"format\":\"duration\"}")
+				.typeName("java.time.Duration")
+				.defaultValue("30s")
+				.build();
+
+		assertThat(parser.parse(descriptor, Duration.class))
+				.isEqualTo(Duration.ofSeconds(30));
+
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> parser.parse(descriptor, Long.class))
+				.withMessage("Default value of 'konfigyr.crypto.cache-ttl' is of type java.time.Duration " +
+						"and not java.lang.Long");
+	}
+
+	@Test
+	@DisplayName("should use registered parsers before the parsers of supported types")
+	void registerParsers() {
+		final var custom = DefaultValueParser.builder()
+				.parser("java.time.Duration", Duration::parse)
+				.parser("com.konfigyr.crypto.CacheMode", value -> value.toUpperCase(Locale.ROOT))
+				.build();
+
+		assertThat(custom.parse("com.konfigyr.crypto.CacheMode", "always"))
+				.isEqualTo("ALWAYS");
+
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> custom.parse("java.time.Duration", "30s"))
+				.withMessageStartingWith("Invalid default value '30s' for type 'java.time.Duration'");
+	}
+
+	@Test
+	@DisplayName("should fail to parse invalid default values")
+	void invalidValues() {
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> parser.parse("java.time.Duration", "30 seconds"))
+				.withMessage("Invalid default value '30 seconds' for type 'java.time.Duration': " +
+						"Expected a duration like '30s' or 'PT30S'");
+
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> parser.parse("org.springframework.util.unit.DataSize", "10PB"))
+				.withMessage("Invalid default value '10PB' for type 'org.springframework.util.unit.DataSize': " +
+						"Unknown data size unit 'PB'");
+
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> parser.parse("java.lang.Boolean", "yes"))
+				.withMessageContaining("Expected either 'true' or 'false'");
+
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> parser.parse("java.util.Map<java.lang.String,java.lang.String>", "key"))
+				.withMessageContaining("Expected a key=value pair but was 'key'");
+	}
+
+}
@@ -0,0 +1,113 @@
+package com.konfigyr.artifactory.schema;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+class JsonSchemaTest {
+
+	@Test
+	@DisplayName("should compile schema only once and share the compiled instance")
+	void cacheCompiledSchemas() {
+		final var schema = JsonSchema.compile("{\"type\":\"string\"}");
+
+		assertThat(schema)
+				.isSameAs(JsonSchema.compile("{\"type\":\"string\"}"))
+				.returns("{\"type\":\"string\"}", JsonSchema::source);
+	}
+
+	@Test
+	@DisplayName("should validate numeric values and ranges")
+	void validateNumbers() {
+		final var schema = JsonSchema.compile("{\"type\":\"integer\",\"minimum\":0,\"maximum\":65535}");
+
+		assertThat(schema.matches("8080")).isTrue();
+		assertThat(schema.matches(8443)).isTrue();
+		assertThat(schema.matches(null)).isTrue();
+
+		assertThat(schema.validate("http"))
+				.hasValue("must be of type integer");
+		assertThat(schema.validate("1.5"))
+				.hasValue("must be of type integer");
+		assertThat(schema.validate("-1"))
+				.hasValue("must be greater than or equal to 0");
+		assertThat(schema.validate(70000))
+				.hasValue("must be less than or equal to 65535");
+	}
+
+	@Test
+	@DisplayName("should validate boolean values")
+	void validateBooleans() {
+		final var schema = JsonSchema.compile("{\"type\":\"boolean\"}");
+
+		assertThat(schema.matches(true)).isTrue();
+		assertThat(schema.matches("false")).isTrue();
+		assertThat(schema.matches("TRUE")).isTrue();
+		assertThat(schema.validate("yes")).hasValue("must be of type boolean");
+	}
+
+	@Test
+	@DisplayName("should validate string values against enums, lengths and patterns")
+	void validateStrings() {
+		final var enumeration = JsonSchema.compile("{\"type\":\"string\",\"enum\":[\"ALWAYS\",\"NEVER\"]}");
+
+		assertThat(enumeration.matches("always")).isTrue();
+		assertThat(enumeration.validate("sometimes")).hasValue("must be one of [ALWAYS, NEVER]");
+
+		final var pattern = JsonSchema.compile("{\"type\":\"string\",\"pattern\":\"^[a-z-]+$\",\"maxLength\":8}");
+
+		assertThat(pattern.matches("konfigyr")).isTrue();
+		assertThat(pattern.validate("Konfigyr")).hasValue("must match the pattern ^[a-z-]+$");
+		assertThat(pattern.validate("konfigyr-artifactory")).hasValue("must be at most 8 characters long");
+	}
+
+	@Test
+	@DisplayName("should validate array items including comma-delimited strings")
+	void validateArrays() {
+		final var schema = JsonSchema.compile("{\"type\":\"array\",\"items\":{\"type\":\"integer\"},\"maxItems\":3}");
+
+		assertThat(schema.matches("1, 2, 3")).isTrue();
+		assertThat(schema.matches(List.of(1, 2))).isTrue();
+		assertThat(schema.validate("1,two")).hasValue("[1] must be of type integer");
+		assertThat(schema.validate(List.of(1, 2, 3, 4))).hasValue("must contain at most 3 elements");
+	}
+
+	@Test
+	@DisplayName("should validate object properties")
+	void validateObjects() {
+		final var schema = JsonSchema.compile("""
+				{
+					"type": "object",
+					"properties": {"name": {"type": "string"}, "age": {"type": "integer"}},
+					"required": ["name"],
+					"additionalProperties": false
+				}
+				""");
+
+		assertThat(schema.matches(Map.of("name", "John", "age", "42"))).isTrue();
+		assertThat(schema.validate(Map.of("age", 42))).hasValue("name: is required");
+		assertThat(schema.validate(Map.of("name", "John", "age", "old"))).hasValue("age: must be of type integer");
+		assertThat(schema.validate(Map.of("name", "John", "email", "j@e.com"))).hasValue("email: value is not allowed");
+		assertThat(schema.validate("John")).hasValue("must be of type object");
+	}
+
+	@Test
+	@DisplayName("should reject invalid schemas")
+	void rejectInvalidSchemas() {
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> JsonSchema.compile("{\"type\":"));
+
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> JsonSchema.compile("{\"type\":\"unknown\"}"))
+				.withMessage("Unsupported JSON Schema type: unknown");
+
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> JsonSchema.compile("{\"pattern\":\"[a-z\"}"))
+				.withMessageStartingWith("Invalid JSON Schema pattern");
+	}
+
+}
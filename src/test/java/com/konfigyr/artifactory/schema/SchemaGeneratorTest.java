@@ -0,0 +1,85 @@
+package com.konfigyr.artifactory.schema;
+
+import com.konfigyr.artifactory.PropertyDescriptor;
+import com.konfigyr.artifactory.json.JsonCanonicalizer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SchemaGeneratorTest {
+
+	@ParameterizedTest
+	@CsvSource(delimiter = '|', value = {
+			"java.lang.String|STRING",
+			"java.lang.Boolean|BOOLEAN",
+			"int|INT32",
+			"java.lang.Long|INT64",
+			"java.math.BigDecimal|NUMBER",
+			"double|DOUBLE",
+			"java.time.Duration|DURATION",
+			"org.springframework.util.unit.DataSize|DATA_SIZE",
+			"java.nio.charset.Charset|CHARSET",
+			"java.net.URI|URI",
+			"java.time.OffsetDateTime|DATE_TIME",
+			"java.lang.String[]|STRING_ARRAY",
+			"java.util.List<java.lang.String>|STRING_ARRAY",
+			"java.util.Map<java.lang.String,java.lang.String>|STRING_MAP",
+			"java.util.Properties|STRING_MAP",
+			"java.util.LinkedHashMap<java.lang.String,java.lang.String>|STRING_MAP",
+			"java.util.TreeSet<java.lang.String>|STRING_ARRAY",
+			"java.util.Collection|ARRAY",
+			"java.util.Optional<java.lang.Boolean>|BOOLEAN",
+			"com.konfigyr.crypto.CacheMode|ANY",
+			"java.util.BitSet|ANY",
+			"com.acme.ColorMap|ANY",
+			"com.acme.ColorSet<java.lang.String>|ANY",
+			"com.acme.ColorList|ANY"
+	})
+	@DisplayName("should generate well-known schemas for common types")
+	void generateWellKnownSchemas(String typeName, WellKnownSchema expected) {
+		assertThat(SchemaGenerator.generate(typeName))
+				.isSameAs(expected.schema());
+	}
+
+	@Test
+	@DisplayName("should generate canonical schemas for nested generic types")
+	void generateGenericSchemas() {
+		final var schema = SchemaGenerator.generate(
+				"java.util.Map<java.lang.String, java.util.List<java.lang.Integer>>");
+
+		assertThat(schema)
+				.isEqualTo("{\"additionalProperties\":{\"items\":{\"format\":\"int32\",\"type\":\"integer\"}," +
+						"\"type\":\"array\"},\"type\":\"object\"}")
+				.isEqualTo(JsonCanonicalizer.canonicalize(schema))
+				.isSameAs(SchemaGenerator.generate(
+						"java.util.Map<java.lang.String, java.util.List<java.lang.Integer>>"));
+
+		assertThat(SchemaGenerator.generate("java.time.Duration[]"))
+				.isEqualTo("{\"items\":{\"format\":\"duration\",\"type\":\"string\"},\"type\":\"array\"}");
+
+		assertThat(JsonSchema.compile(SchemaGenerator.generate("java.util.Set<java.lang.Integer>")))
+				.satisfies(it -> assertThat(it.matches("1,2,3")).isTrue())
+				.satisfies(it -> assertThat(it.matches("1,two")).isFalse());
+	}
+
+	@Test
+	@DisplayName("should generate schemas for property descriptor type names")
+	void generateDescriptorSchema() {
+		final var descriptor = PropertyDescriptor.builder()
+				.name("server.port")
+				.schema(SchemaGenerator.generate("java.lang.Integer"))
+				.typeName("java.lang.Integer")
+				.build();
+
+		assertThat(SchemaGenerator.generate(descriptor))
+				.isEqualTo(descriptor.schema())
+				.isEqualTo(WellKnownSchema.INT32.schema());
+
+		assertThat(SchemaGenerator.generate((String) null))
+				.isEqualTo(WellKnownSchema.ANY.schema());
+	}
+
+}
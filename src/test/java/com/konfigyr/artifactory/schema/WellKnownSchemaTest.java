@@ -0,0 +1,65 @@
+package com.konfigyr.artifactory.schema;
+
+import com.konfigyr.artifactory.json.JsonCanonicalizer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.*;
+
+class WellKnownSchemaTest {
+
+	@ParameterizedTest
+	@EnumSource(WellKnownSchema.class)
+	@DisplayName("should lookup well-known schemas by their canonical text and identifier")
+	void lookupWellKnownSchema(WellKnownSchema schema) {
+		assertThat(WellKnownSchema.lookup(schema.schema()))
+				.isSameAs(schema);
+
+		assertThat(WellKnownSchema.of(schema.id()))
+				.isSameAs(schema);
+
+		assertThat(JsonCanonicalizer.canonicalize(schema.schema()))
+				.isEqualTo(schema.schema());
+
+		assertThat(schema.compile())
+				.returns(schema.schema(), JsonSchema::source);
+	}
+
+	@Test
+	@DisplayName("should assign unique identifiers to well-known schemas")
+	void uniqueIdentifiers() {
+		assertThat(Arrays.stream(WellKnownSchema.values()).mapToInt(WellKnownSchema::id))
+				.doesNotHaveDuplicates()
+				.allMatch(id -> id > 0);
+	}
+
+	@Test
+	@DisplayName("should not match schemas that are not in their canonical form")
+	void lookupUnknownSchema() {
+		assertThat(WellKnownSchema.lookup("{ \"type\": \"string\" }"))
+				.isNull();
+
+		assertThat(WellKnownSchema.lookup("{\"type\":\"string\",\"minLength\":1}"))
+				.isNull();
+
+		assertThat(WellKnownSchema.lookup(null))
+				.isNull();
+	}
+
+	@Test
+	@DisplayName("should fail to resolve unknown well-known schema identifiers")
+	void unknownIdentifier() {
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> WellKnownSchema.of(0))
+				.withMessage("Unknown well-known schema identifier: 0");
+
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> WellKnownSchema.of(1024))
+				.withMessage("Unknown well-known schema identifier: 1024");
+	}
+
+}
@@ -0,0 +1,233 @@
+package com.konfigyr.artifactory.store;
+
+import com.konfigyr.artifactory.Artifact;
+import com.konfigyr.artifactory.ArtifactMetadata;
+import com.konfigyr.artifactory.DefaultArtifact;
+import com.konfigyr.artifactory.DefaultArtifactMetadata;
+import com.konfigyr.artifactory.DefaultManifest;
+import com.konfigyr.artifactory.DefaultPropertyDescriptor;
+import com.konfigyr.artifactory.Deprecation;
+import com.konfigyr.artifactory.Manifest;
+import com.konfigyr.artifactory.PropertyDescriptor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CatalogSnapshotTest {
+
+	final ArtifactMetadata api = ArtifactMetadata.builder()
+			.groupId("com.konfigyr")
+			.artifactId("konfigyr-crypto-api")
+			.version("1.0.0")
+			.name("Konfigyr Crypto API")
+			.website("https://konfigyr.com")
+			.checksum("api-checksum")
+			.property(PropertyDescriptor.builder()
+					.name("konfigyr.crypto.cache")
+					.schema("{\"type\":\"boolean\"}")
+					.typeName("java.lang.Boolean")
+					.defaultValue("true")
+					.build())
+			.property(PropertyDescriptor.builder()
+					.name("konfigyr.crypto.cache-ttl")
+					.schema("{\"type\":\"string\",\"format\":\"duration\",\"default\":\"30s\"}")
+					.typeName("java.time.Duration")
+					.description("Time to live of the cached keysets.")
+					.deprecation(new Deprecation("Renamed", "konfigyr.crypto.cache.ttl"))
+					.build())
+			.build();
+
+	final ArtifactMetadata tink = ArtifactMetadata.of("com.konfigyr", "konfigyr-crypto-tink", "1.0.0",
+			PropertyDescriptor.builder()
+					.name("konfigyr.crypto.tink.enabled")
+					.schema("{\"type\":\"boolean\"}")
+					.typeName("java.lang.Boolean")
+					.build()
+	);
+
+	final ArtifactMetadata next = ArtifactMetadata.of("com.konfigyr", "konfigyr-crypto-api", "1.1.0",
+			PropertyDescriptor.builder()
+					.name("konfigyr.crypto.cache.ttl")
+					.schema("{\"type\":\"string\"}")
+					.typeName("java.time.Duration")
+					.build()
+	);
+
+	final Manifest manifest = Manifest.builder()
+			.id("service-id")
+			.name("konfigyr-service")
+			.createdAt(Instant.ofEpochSecond(1700000000, 42))
+			.artifact(Artifact.of("com.konfigyr", "konfigyr-crypto-tink", "1.0.0"))
+			.artifact(api)
+			.build();
+
+	@TempDir
+	Path directory;
+
+	CatalogSnapshot snapshot;
+
+	@BeforeEach
+	void setup() {
+		final Path file = directory.resolve("catalog.snapshot");
+
+		CatalogSnapshot.write(file, List.of(tink, next, api), List.of(manifest));
+
+		snapshot = CatalogSnapshot.open(file);
+	}
+
+	@Test
+	@DisplayName("should resolve artifact metadata views from the snapshot")
+	void resolveMetadata() {
+		assertThat(snapshot.resolve(Artifact.of("com.konfigyr", "konfigyr-crypto-api", "1.0.0")))
+				.isNotNull()
+				.returns("com.konfigyr", Artifact::groupId)
+				.returns("konfigyr-crypto-api", Artifact::artifactId)
+				.returns("1.0.0", Artifact::version)
+				.returns("Konfigyr Crypto API", Artifact::name)
+				.returns(null, Artifact::description)
+				.returns(URI.create("https://konfigyr.com"), Artifact::website)
+				.returns(null, Artifact::repository)
+				.returns("api-checksum", ArtifactMetadata::checksum)
+				.satisfies(it -> assertThat(it.properties())
+						.hasSize(2)
+						.satisfiesExactly(
+								descriptor -> assertThat(descriptor)
+										.returns("konfigyr.crypto.cache", PropertyDescriptor::name)
+										.returns("{\"type\":\"boolean\"}", PropertyDescriptor::schema)
+										.returns("java.lang.Boolean", PropertyDescriptor::typeName)
+										.returns(null, PropertyDescriptor::description)
+										.returns("true", PropertyDescriptor::defaultValue)
+										.returns(null, PropertyDescriptor::deprecation),
+								descriptor -> assertThat(descriptor)
+										.returns("konfigyr.crypto.cache-ttl", PropertyDescriptor::name)
+										.returns("{\"type\":\"string\",\"format\":\"duration\",\"default\":\"30s\"}",
+												PropertyDescriptor::schema)
+										.returns("Time to live of the cached keysets.", PropertyDescriptor::description)
+										.returns(null, PropertyDescriptor::defaultValue)
+										.returns(new Deprecation("Renamed", "konfigyr.crypto.cache.ttl"),
+												PropertyDescriptor::deprecation)
+						)
+				);
+
+		assertThat(snapshot.resolve(Artifact.of("com.konfigyr", "konfigyr-crypto-api", "2.0.0")))
+				.isNull();
+
+		assertThat(snapshot.resolve(Artifact.of("com.konfigyr", "konfigyr", "1.0.0")))
+				.isNull();
+	}
+
+	@Test
+	@DisplayName("should scan all versions of an artifact in artifact order")
+	void scanVersions() {
+		assertThat(snapshot.versions("com.konfigyr", "konfigyr-crypto-api"))
+				.extracting(Artifact::coordinates)
+				.containsExactly("com.konfigyr:konfigyr-crypto-api:1.0.0", "com.konfigyr:konfigyr-crypto-api:1.1.0");
+
+		assertThat(snapshot.versions("com.konfigyr", "konfigyr-crypto"))
+				.isEmpty();
+
+		assertThat(snapshot.metadata())
+				.extracting(Artifact::coordinates)
+				.containsExactly(
+						"com.konfigyr:konfigyr-crypto-api:1.0.0",
+						"com.konfigyr:konfigyr-crypto-api:1.1.0",
+						"com.konfigyr:konfigyr-crypto-tink:1.0.0"
+				);
+	}
+
+	@Test
+	@DisplayName("should resolve manifest views from the snapshot")
+	void resolveManifest() {
+		assertThat(snapshot.manifest("service-id"))
+				.isNotNull()
+				.returns("service-id", Manifest::id)
+				.returns("konfigyr-service", Manifest::name)
+				.returns(Instant.ofEpochSecond(1700000000, 42), Manifest::createdAt)
+				.satisfies(it -> assertThat(it.artifacts())
+						.extracting(Artifact::coordinates)
+						.containsExactly("com.konfigyr:konfigyr-crypto-api:1.0.0",
+								"com.konfigyr:konfigyr-crypto-tink:1.0.0")
+				)
+				.satisfies(it -> assertThat(it.contains(tink)).isTrue())
+				.isEqualTo(snapshot.manifest("service-id"));
+
+		assertThat(snapshot.manifest("unknown"))
+				.isNull();
+
+		assertThat(snapshot.manifests())
+				.hasSize(1);
+	}
+
+	@Test
+	@DisplayName("should serialize snapshot views as default model implementations")
+	void serializeViews() throws Exception {
+		final var metadata = snapshot.resolve(api);
+
+		assertThat(copy(metadata))
+				.isInstanceOf(DefaultArtifactMetadata.class)
+				.isEqualTo(api);
+
+		assertThat(copy(metadata.properties().get(1)))
+				.isInstanceOf(DefaultPropertyDescriptor.class)
+				.isEqualTo(api.properties().get(1));
+
+		assertThatObject(copy(snapshot.manifest("service-id")))
+				.isInstanceOf(DefaultManifest.class)
+				.returns("service-id", Manifest::id)
+				.returns("konfigyr-service", Manifest::name)
+				.returns(Instant.ofEpochSecond(1700000000, 42), Manifest::createdAt)
+				.satisfies(it -> assertThat(it.artifacts())
+						.hasOnlyElementsOfType(DefaultArtifact.class)
+						.extracting(Artifact::coordinates)
+						.containsExactly("com.konfigyr:konfigyr-crypto-api:1.0.0",
+								"com.konfigyr:konfigyr-crypto-tink:1.0.0")
+				);
+	}
+
+	@Test
+	@DisplayName("should fail to write snapshots with duplicate artifact metadata")
+	void duplicateMetadata() {
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> CatalogSnapshot.write(directory.resolve("duplicate"), List.of(api, tink, api),
+						List.of()))
+				.withMessage("Duplicate artifact metadata: com.konfigyr:konfigyr-crypto-api:1.0.0");
+	}
+
+	@Test
+	@DisplayName("should fail to open files that are not catalog snapshots")
+	void invalidSnapshot() throws Exception {
+		final Path file = Files.writeString(directory.resolve("invalid"), "not a snapshot");
+
+		assertThatExceptionOfType(UncheckedIOException.class)
+				.isThrownBy(() -> CatalogSnapshot.open(file))
+				.withMessageContaining("Failed to open catalog snapshot");
+	}
+
+	@SuppressWarnings("unchecked")
+	static <T> T copy(T object) throws Exception {
+		final var bytes = new ByteArrayOutputStream();
+
+		try (var output = new ObjectOutputStream(bytes)) {
+			output.writeObject(object);
+		}
+
+		try (var input = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+			return (T) input.readObject();
+		}
+	}
+
+}
@@ -0,0 +1,142 @@
+package com.konfigyr.artifactory.store;
+
+import com.konfigyr.artifactory.DefaultPropertyDescriptor;
+import com.konfigyr.artifactory.Deprecation;
+import com.konfigyr.artifactory.PropertyDescriptor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ColumnarPropertyStoreTest {
+
+	final List<PropertyDescriptor> descriptors = IntStream.range(0, 200)
+			.<PropertyDescriptor>mapToObj(i -> PropertyDescriptor.builder()
+					.name("konfigyr.property-" + i)
+					.schema(i % 5 == 0 ? "{\"type\":\"string\",\"minLength\":" + i + "}" : "{\"type\":\"string\"}")
+					.typeName(i % 2 == 0 ? "java.lang.String" : "java.time.Duration")
+					.description(i % 3 == 0 ? null : "Description of property " + i)
+					.defaultValue(i % 4 == 0 ? "30s" : null)
+					.deprecation(i % 10 == 1 ? new Deprecation("Renamed", "konfigyr.renamed-" + i) : null)
+					.build())
+			.toList();
+
+	final ColumnarPropertyStore store = ColumnarPropertyStore.of(descriptors);
+
+	@Test
+	@DisplayName("should read property descriptor attributes using flyweight views")
+	void readDescriptors() {
+		assertThat(store.size())
+				.isEqualTo(200);
+
+		assertThat(store.descriptors())
+				.hasSize(200)
+				.zipSatisfy(descriptors, (view, descriptor) -> assertThat(view)
+						.returns(descriptor.name(), PropertyDescriptor::name)
+						.returns(descriptor.schema(), PropertyDescriptor::schema)
+						.returns(descriptor.typeName(), PropertyDescriptor::typeName)
+						.returns(descriptor.description(), PropertyDescriptor::description)
+						.returns(descriptor.defaultValue(), PropertyDescriptor::defaultValue)
+						.returns(descriptor.deprecation(), PropertyDescriptor::deprecation)
+				);
+
+		assertThat(store.get(42))
+				.isEqualTo(store.get(42))
+				.isNotEqualTo(store.get(43));
+	}
+
+	@Test
+	@DisplayName("should compare flyweight views by their attribute values")
+	void compareDescriptors() {
+		final var other = ColumnarPropertyStore.of(List.of(descriptors.get(43), descriptors.get(42)));
+
+		assertThat(store.get(42))
+				.isEqualTo(other.get(1))
+				.hasSameHashCodeAs(other.get(1))
+				.isNotEqualTo(other.get(0));
+
+		assertThat(ColumnarPropertyStore.of(List.of(descriptors.get(42), descriptors.get(42))))
+				.satisfies(it -> assertThat(it.get(0)).isEqualTo(it.get(1)));
+	}
+
+	@Test
+	@DisplayName("should serialize flyweight views as default property descriptors")
+	void serializeDescriptors() throws Exception {
+		final var bytes = new ByteArrayOutputStream();
+
+		try (var output = new ObjectOutputStream(bytes)) {
+			output.writeObject(store.get(41));
+		}
+
+		try (var input = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+			assertThat(input.readObject())
+					.isInstanceOf(DefaultPropertyDescriptor.class)
+					.isEqualTo(descriptors.get(41));
+		}
+	}
+
+	@Test
+	@DisplayName("should scan the type name column for matching rows")
+	void findByTypeName() {
+		assertThat(store.findByTypeName("java.time.Duration"))
+				.hasSize(100)
+				.allMatch(row -> row % 2 == 1);
+
+		assertThat(store.findByTypeName("java.lang.Boolean"))
+				.isEmpty();
+	}
+
+	@Test
+	@DisplayName("should scan the deprecation bitset for deprecated rows")
+	void findDeprecated() {
+		assertThat(store.findDeprecated())
+				.containsExactly(1, 11, 21, 31, 41, 51, 61, 71, 81, 91, 101, 111, 121, 131, 141, 151, 161, 171, 181,
+						191);
+
+		assertThat(store.findByTypeName("java.time.Duration").filter(store::isDeprecated))
+				.hasSize(20);
+
+		assertThat(store.isDeprecated(0))
+				.isFalse();
+
+		assertThat(ColumnarPropertyStore.of(List.of()).findDeprecated())
+				.isEmpty();
+	}
+
+	@Test
+	@DisplayName("should keep appending to the builder after the store is built")
+	void reuseBuilder() {
+		final var builder = ColumnarPropertyStore.builder().add(descriptors.get(0));
+		final var first = builder.build();
+		final var second = builder.add(descriptors.get(1)).build();
+
+		assertThat(first.size())
+				.isOne();
+
+		assertThat(second.descriptors())
+				.extracting(PropertyDescriptor::name)
+				.containsExactly("konfigyr.property-0", "konfigyr.property-1");
+
+		assertThat(first.findDeprecated())
+				.isEmpty();
+
+		assertThat(second.findDeprecated())
+				.containsExactly(1);
+	}
+
+	@Test
+	@DisplayName("should fail to read rows that are out of range")
+	void invalidRow() {
+		assertThatExceptionOfType(IndexOutOfBoundsException.class)
+				.isThrownBy(() -> store.get(200))
+				.withMessage("Row 200 out of bounds for length 200");
+	}
+
+}
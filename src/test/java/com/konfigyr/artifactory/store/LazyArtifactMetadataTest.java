@@ -0,0 +1,153 @@
+package com.konfigyr.artifactory.store;
+
+import com.konfigyr.artifactory.ArtifactMetadata;
+import com.konfigyr.artifactory.DefaultArtifactMetadata;
+import com.konfigyr.artifactory.Deprecation;
+import com.konfigyr.artifactory.MetadataChecksum;
+import com.konfigyr.artifactory.PropertyDescriptor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LazyArtifactMetadataTest {
+
+	final ArtifactMetadata metadata = ArtifactMetadata.builder()
+			.groupId("com.konfigyr")
+			.artifactId("konfigyr-crypto-api")
+			.version("1.0.0")
+			.description("Konfigyr Crypto API")
+			.website("https://konfigyr.com")
+			.repository("https://github.com/konfigyr/konfigyr-crypto")
+			.checksum("checksum")
+			.property(PropertyDescriptor.builder()
+					.name("konfigyr.crypto.cache")
+					.schema("{\"type\":\"boolean\"}")
+					.typeName("java.lang.Boolean")
+					.defaultValue("true")
+					.build())
+			.property(PropertyDescriptor.builder()
+					.name("konfigyr.crypto.cache-ttl")
+					.schema("{\"type\":\"string\",\"pattern\":\"^[0-9]+[smh]$\"}")
+					.typeName("java.time.Duration")
+					.description("Time to live of the cached keysets.")
+					.deprecation(new Deprecation(null, "konfigyr.crypto.cache.ttl"))
+					.build())
+			.build();
+
+	@Test
+	@DisplayName("should lazily decode artifact metadata attributes and property descriptors")
+	void decodeMetadata() {
+		final var lazy = decode(metadata);
+
+		assertThat(lazy)
+				.returns("com.konfigyr:konfigyr-crypto-api:1.0.0", ArtifactMetadata::coordinates)
+				.returns(null, ArtifactMetadata::name)
+				.returns("Konfigyr Crypto API", ArtifactMetadata::description)
+				.returns(URI.create("https://konfigyr.com"), ArtifactMetadata::website)
+				.returns(URI.create("https://github.com/konfigyr/konfigyr-crypto"), ArtifactMetadata::repository)
+				.returns("checksum", ArtifactMetadata::checksum);
+
+		assertThat(lazy.properties())
+				.hasSize(2)
+				.satisfiesExactly(
+						descriptor -> assertThat(descriptor)
+								.returns("konfigyr.crypto.cache", PropertyDescriptor::name)
+								.returns("{\"type\":\"boolean\"}", PropertyDescriptor::schema)
+								.returns("java.lang.Boolean", PropertyDescriptor::typeName)
+								.returns(null, PropertyDescriptor::description)
+								.returns("true", PropertyDescriptor::defaultValue)
+								.returns(null, PropertyDescriptor::deprecation),
+						descriptor -> assertThat(descriptor)
+								.returns("konfigyr.crypto.cache-ttl", PropertyDescriptor::name)
+								.returns("{\"type\":\"string\",\"pattern\":\"^[0-9]+[smh]$\"}",
+										PropertyDescriptor::schema)
+								.returns("java.time.Duration", PropertyDescriptor::typeName)
+								.returns("Time to live of the cached keysets.", PropertyDescriptor::description)
+								.returns(new Deprecation(null, "konfigyr.crypto.cache.ttl"),
+										PropertyDescriptor::deprecation)
+				);
+
+		assertThat(lazy.website())
+				.isSameAs(lazy.website());
+
+		assertThat(lazy.properties().get(1).name())
+				.isSameAs(lazy.properties().get(1).name());
+	}
+
+	@Test
+	@DisplayName("should compare lazy records by their encoded bytes")
+	void compareMetadata() {
+		final var lazy = decode(metadata);
+
+		assertThat(lazy)
+				.isEqualTo(decode(metadata))
+				.hasSameHashCodeAs(decode(metadata))
+				.isNotEqualTo(decode(ArtifactMetadata.of("com.konfigyr", "konfigyr-crypto-api", "1.0.1",
+						metadata.properties().get(0))));
+
+		assertThat(lazy.properties().get(0))
+				.isEqualTo(decode(metadata).properties().get(0))
+				.isNotEqualTo(lazy.properties().get(1));
+	}
+
+	@Test
+	@DisplayName("should serialize lazy artifact metadata as default artifact metadata")
+	void serializeMetadata() throws Exception {
+		final var bytes = new ByteArrayOutputStream();
+
+		try (var output = new ObjectOutputStream(bytes)) {
+			output.writeObject(decode(metadata));
+		}
+
+		assertThat(new String(bytes.toByteArray(), StandardCharsets.ISO_8859_1))
+				.doesNotContain(LazyPropertyDescriptor.class.getName());
+
+		try (var input = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+			assertThat(input.readObject())
+					.isInstanceOf(DefaultArtifactMetadata.class)
+					.isEqualTo(metadata);
+		}
+	}
+
+	@Test
+	@DisplayName("should compute the checksum of the decoded metadata from its well-known schema text")
+	void computeChecksum() {
+		assertThat(MetadataChecksum.of(decode(metadata)))
+				.isEqualTo(MetadataChecksum.of(metadata))
+				.isEqualTo(MetadataChecksum.of(ArtifactMetadata.builder()
+						.groupId("com.konfigyr")
+						.artifactId("konfigyr-crypto-api")
+						.version("1.0.0")
+						.description("Konfigyr Crypto API")
+						.website("https://konfigyr.com")
+						.repository("https://github.com/konfigyr/konfigyr-crypto")
+						.properties(metadata.properties().stream()
+								.map(descriptor -> PropertyDescriptor.builder()
+										.name(descriptor.name())
+										.schema(new String(descriptor.schema().toCharArray()))
+										.typeName(descriptor.typeName())
+										.description(descriptor.description())
+										.defaultValue(descriptor.defaultValue())
+										.deprecation(descriptor.deprecation())
+										.build())
+								.toList())
+						.build()));
+	}
+
+	static ArtifactMetadata decode(ArtifactMetadata metadata) {
+		final byte[] encoded = MetadataSegment.encode(metadata);
+		final var buffer = ByteBuffer.allocate(encoded.length + 4).putInt(encoded.length).put(encoded);
+
+		return MetadataSegment.decode(buffer, 0);
+	}
+
+}
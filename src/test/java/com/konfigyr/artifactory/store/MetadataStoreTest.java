@@ -0,0 +1,185 @@
+package com.konfigyr.artifactory.store;
+
+import com.konfigyr.artifactory.Artifact;
+import com.konfigyr.artifactory.ArtifactMetadata;
+import com.konfigyr.artifactory.Deprecation;
+import com.konfigyr.artifactory.PropertyDescriptor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+class MetadataStoreTest {
+
+	@TempDir
+	Path directory;
+
+	@Test
+	@DisplayName("should store and resolve artifact metadata from the in-memory buffer")
+	void resolveBufferedMetadata() {
+		final var metadata = metadata("konfigyr-crypto-api", "1.0.0", 3);
+
+		try (var store = MetadataStore.open(directory)) {
+			store.put(metadata);
+
+			assertThat(store.resolve(Artifact.of("com.konfigyr", "konfigyr-crypto-api", "1.0.0")))
+					.isSameAs(metadata);
+
+			assertThat(store.resolve(Artifact.of("com.konfigyr", "konfigyr-crypto-api", "1.0.1")))
+					.isNull();
+		}
+	}
+
+	@Test
+	@DisplayName("should resolve artifact metadata from segments with lazily decoded descriptors")
+	void resolveSegmentMetadata() {
+		final var metadata = metadata("konfigyr-crypto-api", "1.0.0", 40);
+
+		try (var store = MetadataStore.open(directory)) {
+			store.put(metadata);
+			store.put(metadata("konfigyr-crypto-tink", "1.0.0", 2));
+			store.flush();
+
+			assertThat(store.resolve(metadata))
+					.isNotSameAs(metadata)
+					.satisfies(it -> assertMetadata(it, metadata));
+		}
+
+		try (var store = MetadataStore.open(directory)) {
+			assertThat(store.resolve(metadata))
+					.satisfies(it -> assertMetadata(it, metadata));
+		}
+	}
+
+	@Test
+	@DisplayName("should replace metadata stored for the same coordinates with the latest one")
+	void replaceMetadata() {
+		try (var store = MetadataStore.open(directory)) {
+			store.put(metadata("konfigyr-crypto-api", "1.0.0", 3));
+			store.flush();
+			store.put(metadata("konfigyr-crypto-api", "1.0.0", 5));
+			store.flush();
+
+			assertThat(store.resolve(Artifact.of("com.konfigyr", "konfigyr-crypto-api", "1.0.0")))
+					.returns(5, it -> it.properties().size());
+
+			store.merge();
+
+			assertThat(store.resolve(Artifact.of("com.konfigyr", "konfigyr-crypto-api", "1.0.0")))
+					.returns(5, it -> it.properties().size());
+		}
+	}
+
+	@Test
+	@DisplayName("should scan all versions of an artifact across the buffer and segments")
+	void scanVersions() {
+		try (var store = MetadataStore.open(directory, 1024)) {
+			IntStream.range(0, 50).forEach(i -> store.put(metadata("konfigyr-crypto-api", "1." + i, 2)));
+			IntStream.range(0, 50).forEach(i -> store.put(metadata("konfigyr-crypto", "1." + i, 2)));
+			IntStream.range(0, 50).forEach(i -> store.put(metadata("konfigyr-crypto-tink", "1." + i, 2)));
+
+			assertThat(store.versions("com.konfigyr", "konfigyr-crypto-api"))
+					.hasSize(50)
+					.extracting(Artifact::version)
+					.isSorted()
+					.startsWith("1.0", "1.1", "1.10");
+
+			assertThat(store.versions("com.konfigyr", "konfigyr-crypto"))
+					.hasSize(50)
+					.allMatch(it -> it.artifactId().equals("konfigyr-crypto"));
+
+			assertThat(store.versions("com.konfigyr", "konfigyr"))
+					.isEmpty();
+		}
+	}
+
+	@Test
+	@DisplayName("should merge segments into a single segment")
+	void mergeSegments() throws Exception {
+		try (var store = MetadataStore.open(directory)) {
+			for (int i = 0; i < 3; i++) {
+				store.put(metadata("konfigyr-crypto-api", "1." + i, 2));
+				store.put(metadata("konfigyr-crypto-api", "1.0", 3 + i));
+				store.flush();
+			}
+
+			assertThat(segments())
+					.isEqualTo(3);
+
+			store.merge();
+
+			assertThat(segments())
+					.isEqualTo(1);
+
+			assertThat(store.versions("com.konfigyr", "konfigyr-crypto-api"))
+					.extracting(it -> it.properties().size())
+					.containsExactly(5, 2, 2);
+		}
+	}
+
+	@Test
+	@DisplayName("should fail to store metadata once the store is closed")
+	void closedStore() {
+		final var store = MetadataStore.open(directory);
+		store.close();
+
+		assertThatIllegalStateException()
+				.isThrownBy(() -> store.put(metadata("konfigyr-crypto-api", "1.0.0", 1)))
+				.withMessage("Metadata store is closed");
+	}
+
+	long segments() throws Exception {
+		try (Stream<Path> files = Files.list(directory)) {
+			return files.filter(file -> file.toString().endsWith(".seg")).count();
+		}
+	}
+
+	static void assertMetadata(ArtifactMetadata actual, ArtifactMetadata expected) {
+		assertThat(actual)
+				.returns(expected.coordinates(), Artifact::coordinates)
+				.returns(expected.name(), Artifact::name)
+				.returns(expected.description(), Artifact::description)
+				.returns(expected.website(), Artifact::website)
+				.returns(expected.repository(), Artifact::repository)
+				.returns(expected.checksum(), ArtifactMetadata::checksum);
+
+		assertThat(actual.properties())
+				.map(descriptor -> PropertyDescriptor.builder()
+						.name(descriptor.name())
+						.schema(descriptor.schema())
+						.typeName(descriptor.typeName())
+						.description(descriptor.description())
+						.defaultValue(descriptor.defaultValue())
+						.deprecation(descriptor.deprecation())
+						.build())
+				.containsExactlyElementsOf(expected.properties());
+	}
+
+	static ArtifactMetadata metadata(String artifactId, String version, int properties) {
+		final var builder = ArtifactMetadata.builder()
+				.groupId("com.konfigyr")
+				.artifactId(artifactId)
+				.version(version)
+				.website("https://konfigyr.com")
+				.checksum("checksum-" + version);
+
+		for (int i = 0; i < properties; i++) {
+			builder.property(PropertyDescriptor.builder()
+					.name("konfigyr.property-" + i)
+					.schema("{\"type\":\"string\"}")
+					.typeName("java.lang.String")
+					.description("Property " + i)
+					.deprecation(i % 2 == 0 ? null : new Deprecation("Replaced", "konfigyr.property-" + (i + 1)))
+					.build());
+		}
+
+		return builder.build();
+	}
+
+}
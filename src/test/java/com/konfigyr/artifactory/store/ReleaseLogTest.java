@@ -0,0 +1,199 @@
+package com.konfigyr.artifactory.store;
+
+import com.konfigyr.artifactory.Artifact;
+import com.konfigyr.artifactory.Release;
+import com.konfigyr.artifactory.ReleaseState;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ReleaseLogTest {
+
+	@TempDir
+	Path directory;
+
+	@Test
+	@DisplayName("should append release state transitions and keep the latest state")
+	void appendReleases() throws Exception {
+		final var pending = release("1.0.0", ReleaseState.PENDING);
+		final var released = release("1.0.0", ReleaseState.RELEASED);
+		final var other = release("1.1.0", ReleaseState.FAILED);
+
+		try (var log = ReleaseLog.open(directory)) {
+			log.append(pending);
+			log.append(released);
+			log.append(other);
+
+			assertThat(log.get(pending))
+					.isEqualTo(released);
+
+			assertThat(log.get(Artifact.of("com.konfigyr", "konfigyr-crypto-api", "2.0.0")))
+					.isNull();
+
+			assertThat(log.releases())
+					.containsExactlyInAnyOrder(released, other);
+
+			assertThat(log.history(pending))
+					.containsExactly(pending, released);
+		}
+	}
+
+	@Test
+	@DisplayName("should recover the latest release states when the log is reopened")
+	void recoverReleases() throws Exception {
+		final var pending = release("1.0.0", ReleaseState.PENDING);
+		final var released = release("1.0.0", ReleaseState.RELEASED);
+		final var other = release("1.1.0", ReleaseState.PENDING);
+
+		try (var log = ReleaseLog.open(directory, 256)) {
+			log.append(pending);
+			log.checkpoint();
+			log.append(released);
+			log.append(other);
+		}
+
+		try (var log = ReleaseLog.open(directory, 256)) {
+			assertThat(log.releases())
+					.containsExactlyInAnyOrder(released, other);
+
+			assertThat(log.history(pending))
+					.containsExactly(pending, released);
+		}
+	}
+
+	@Test
+	@DisplayName("should truncate partially written records when the log is recovered")
+	void truncateTornRecords() throws Exception {
+		final var release = release("1.0.0", ReleaseState.RELEASED);
+
+		try (var log = ReleaseLog.open(directory)) {
+			log.append(release);
+		}
+
+		final var segment = segments().get(0);
+		final var size = Files.size(segment);
+
+		try (var channel = FileChannel.open(segment, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+			channel.write(ByteBuffer.wrap(new byte[] { 0, 0, 0, 64, 1, 2, 3, 4, 5 }));
+		}
+
+		try (var log = ReleaseLog.open(directory)) {
+			assertThat(log.releases())
+					.containsExactly(release);
+
+			assertThat(segment)
+					.hasSize(size);
+
+			log.append(release("1.1.0", ReleaseState.PENDING));
+
+			assertThat(log.releases())
+					.hasSize(2);
+		}
+	}
+
+	@Test
+	@DisplayName("should durably store releases that are appended concurrently")
+	void concurrentAppends() throws Exception {
+		final var releases = IntStream.range(0, 200)
+				.mapToObj(i -> release("1." + i + ".0", ReleaseState.RELEASED))
+				.toList();
+
+		try (var log = ReleaseLog.open(directory, 1024)) {
+			CompletableFuture.allOf(releases.stream()
+					.map(release -> CompletableFuture.runAsync(() -> log.append(release)))
+					.toArray(CompletableFuture[]::new)
+			).join();
+		}
+
+		assertThat(segments())
+				.hasSizeGreaterThan(1);
+
+		try (var log = ReleaseLog.open(directory, 1024)) {
+			assertThat(log.releases())
+					.containsExactlyInAnyOrderElementsOf(releases);
+		}
+	}
+
+	@Test
+	@DisplayName("should remove segments covered by the checkpoint when compacting the log")
+	void compactLog() throws Exception {
+		final var pending = release("1.0.0", ReleaseState.PENDING);
+		final var released = release("1.0.0", ReleaseState.RELEASED);
+
+		try (var log = ReleaseLog.open(directory, 128)) {
+			for (int i = 0; i < 10; i++) {
+				log.append(pending);
+			}
+			log.append(released);
+
+			log.compact();
+
+			assertThat(segments())
+					.hasSize(1);
+
+			assertThat(log.history(pending))
+					.isEmpty();
+
+			assertThat(log.get(pending))
+					.isEqualTo(released);
+		}
+
+		try (var log = ReleaseLog.open(directory, 128)) {
+			assertThat(log.releases())
+					.containsExactly(released);
+		}
+	}
+
+	@Test
+	@DisplayName("should fail to append releases once the log is closed")
+	void closedLog() throws Exception {
+		final var log = ReleaseLog.open(directory);
+		log.close();
+
+		assertThatIllegalStateException()
+				.isThrownBy(() -> log.append(release("1.0.0", ReleaseState.PENDING)))
+				.withMessage("Release log is closed");
+	}
+
+	@Test
+	@DisplayName("should fail to open a log with an invalid segment size")
+	void invalidSegmentSize() {
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> ReleaseLog.open(directory, 0))
+				.withMessage("Maximum segment size must be a positive number");
+	}
+
+	List<Path> segments() throws Exception {
+		try (Stream<Path> files = Files.list(directory)) {
+			return files.filter(file -> file.toString().endsWith(".log")).sorted().toList();
+		}
+	}
+
+	static Release release(String version, ReleaseState state) {
+		return Release.builder()
+				.groupId("com.konfigyr")
+				.artifactId("konfigyr-crypto-api")
+				.version(version)
+				.name("Konfigyr Crypto API")
+				.website("https://konfigyr.com")
+				.state(state)
+				.error(state == ReleaseState.FAILED ? "Invalid property metadata" : null)
+				.checksum("checksum-" + version)
+				.releaseDate(Instant.ofEpochSecond(1700000000, 1234))
+				.build();
+	}
+
+}
@@ -0,0 +1,86 @@
+package com.konfigyr.artifactory.validation;
+
+import com.konfigyr.artifactory.ArtifactMetadata;
+import com.konfigyr.artifactory.Deprecation;
+import com.konfigyr.artifactory.PropertyDescriptor;
+import com.konfigyr.artifactory.deprecation.DeprecationResolver;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ConfigMigratorTest {
+
+	final ArtifactMetadata metadata = ArtifactMetadata.of("org.springframework.boot", "spring-boot", "3.5.0",
+			descriptor("server.max-http-header-size", "server.max-http-request-header-size"),
+			descriptor("server.max-http-request-header-size", null),
+			descriptor("spring.profiles", "spring.config.activate.on-profile"),
+			descriptor("spring.config.activate.on-profile", null),
+			descriptor("management.metrics.export.prometheus.enabled", "management.prometheus.metrics.export.enabled"),
+			descriptor("management.prometheus.metrics.export.enabled", null)
+	);
+
+	final ConfigMigrator migrator = ConfigMigrator.of(DeprecationResolver.of(metadata));
+
+	@Test
+	@DisplayName("should rename deprecated properties while copying everything else")
+	void migrateProperties() {
+		final var contents = String.join("\n",
+				"# server configuration",
+				"server.max-http-header-size = 16KB",
+				"",
+				"\tspring.profiles:dev",
+				"management.metrics.export.prometheus.enabled=\\",
+				"    true",
+				"spring.application.name=konfigyr"
+		);
+
+		final var writer = new StringWriter();
+
+		assertThat(migrator.migrate(new StringReader(contents), writer))
+				.containsExactly(
+						new PropertyMigration("server.max-http-header-size", "server.max-http-request-header-size", 2),
+						new PropertyMigration("spring.profiles", "spring.config.activate.on-profile", 4),
+						new PropertyMigration("management.metrics.export.prometheus.enabled",
+								"management.prometheus.metrics.export.enabled", 5)
+				);
+
+		assertThat(writer).hasToString(String.join("\n",
+				"# server configuration",
+				"server.max-http-request-header-size = 16KB",
+				"",
+				"\tspring.config.activate.on-profile:dev",
+				"management.prometheus.metrics.export.enabled=\\",
+				"    true",
+				"spring.application.name=konfigyr",
+				""
+		));
+	}
+
+	@Test
+	@DisplayName("should not rename properties that are not deprecated")
+	void skipProperties() {
+		final var contents = "server.max-http-request-header-size=8KB\n! spring.profiles=dev\nspring.profiles\\\n=dev\n";
+		final var writer = new StringWriter();
+
+		assertThat(migrator.migrate(new StringReader(contents), writer)).isEmpty();
+		assertThat(writer).hasToString(contents);
+	}
+
+	static PropertyDescriptor descriptor(String name, String replacement) {
+		final var builder = PropertyDescriptor.builder()
+				.name(name)
+				.typeName("java.lang.String")
+				.schema("{}");
+
+		if (replacement != null) {
+			builder.deprecation(new Deprecation("Property was renamed", replacement));
+		}
+
+		return builder.build();
+	}
+
+}
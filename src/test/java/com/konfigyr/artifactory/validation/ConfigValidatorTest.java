@@ -0,0 +1,218 @@
+package com.konfigyr.artifactory.validation;
+
+import com.konfigyr.artifactory.Artifact;
+import com.konfigyr.artifactory.ArtifactMetadata;
+import com.konfigyr.artifactory.ArtifactMetadataResolver;
+import com.konfigyr.artifactory.Manifest;
+import com.konfigyr.artifactory.PropertyDescriptor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ConfigValidatorTest {
+
+	final ArtifactMetadata web = ArtifactMetadata.of("org.springframework.boot", "spring-boot-web", "3.5.0",
+			PropertyDescriptor.builder()
+					.name("server.port")
+					.typeName("java.lang.Integer")
+					.schema("{\"type\":\"integer\",\"minimum\":0,\"maximum\":65535}")
+					.build(),
+			PropertyDescriptor.builder()
+					.name("server.ssl.enabled")
+					.typeName("java.lang.Boolean")
+					.schema("{\"type\":\"boolean\"}")
+					.build()
+	);
+
+	final ArtifactMetadata core = ArtifactMetadata.of("org.springframework.boot", "spring-boot", "3.5.0",
+			PropertyDescriptor.builder()
+					.name("spring.application.name")
+					.typeName("java.lang.String")
+					.schema("{\"type\":\"string\"}")
+					.build()
+	);
+
+	@Test
+	@DisplayName("should validate configuration properties against artifact metadata")
+	void validateArtifactMetadata() {
+		final var validator = ConfigValidator.of(web);
+
+		final var properties = new LinkedHashMap<String, Object>();
+		properties.put("server.port", "80800");
+		properties.put("server.ssl.enabled", "true");
+		properties.put("server.address", "localhost");
+
+		assertThat(validator.validate(properties))
+				.containsExactly(
+						new ConfigViolation("server.port", ConfigViolation.Type.INVALID_VALUE,
+								"Invalid value for 'server.port': must be less than or equal to 65535"),
+						new ConfigViolation("server.address", ConfigViolation.Type.UNKNOWN_PROPERTY,
+								"Unknown configuration property: server.address")
+				);
+
+		assertThat(validator.validate(Map.of("server.port", 8080, "server.ssl.enabled", false)))
+				.isEmpty();
+
+		assertThat(validator.validate("server.prot", 8080))
+				.isEqualTo(new ConfigViolation("server.prot", ConfigViolation.Type.UNKNOWN_PROPERTY,
+						"Unknown configuration property: server.prot, did you mean 'server.port'?"));
+	}
+
+	@Test
+	@DisplayName("should validate configuration properties against all artifacts of a manifest")
+	void validateManifest() {
+		final var manifest = Manifest.builder()
+				.id("konfigyr-service")
+				.name("Konfigyr service")
+				.artifact(Artifact.of("org.springframework.boot", "spring-boot-web", "3.5.0"))
+				.artifact(Artifact.of("org.springframework.boot", "spring-boot", "3.5.0"))
+				.artifact(Artifact.of("com.konfigyr", "unknown", "1.0.0"))
+				.build();
+
+		final var validator = ConfigValidator.of(manifest, ArtifactMetadataResolver.of(List.of(web, core)));
+
+		assertThat(validator.descriptor("spring.application.name"))
+				.isEqualTo(core.properties().get(0));
+
+		assertThat(validator.validate(Map.of("spring.application.name", "konfigyr", "server.ssl.enabled", "yes")))
+				.extracting(ConfigViolation::property, ConfigViolation::type)
+				.containsExactly(tuple("server.ssl.enabled", ConfigViolation.Type.INVALID_VALUE));
+	}
+
+	@Test
+	@DisplayName("should validate map entries and collection elements against their element schemas")
+	void validateContainerElements() {
+		final var logging = ArtifactMetadata.of("org.springframework.boot", "spring-boot", "3.5.0",
+				PropertyDescriptor.builder()
+						.name("logging.level")
+						.typeName("java.util.Map<java.lang.String,java.lang.String>")
+						.schema("{\"type\":\"object\",\"additionalProperties\":{\"enum\":[\"DEBUG\",\"INFO\"]}}")
+						.build(),
+				PropertyDescriptor.builder()
+						.name("spring.profiles.include")
+						.typeName("java.util.List<java.lang.String>")
+						.schema("{\"type\":\"array\",\"items\":{\"type\":\"string\",\"minLength\":2}}")
+						.build()
+		);
+
+		final var validator = ConfigValidator.of(logging);
+
+		assertThat(validator.descriptor("logging.level.org.hibernate"))
+				.isEqualTo(logging.properties().get(0));
+
+		final var properties = new LinkedHashMap<String, Object>();
+		properties.put("logging.level.org.hibernate.SQL", "debug");
+		properties.put("logging.level.root", "LOUD");
+		properties.put("spring.profiles.include[0]", "dev");
+		properties.put("spring.profiles.include[1]", "x");
+
+		assertThat(validator.validate(properties))
+				.containsExactly(
+						new ConfigViolation("logging.level.root", ConfigViolation.Type.INVALID_VALUE,
+								"Invalid value for 'logging.level.root': must be one of [DEBUG, INFO]"),
+						new ConfigViolation("spring.profiles.include[1]", ConfigViolation.Type.INVALID_VALUE,
+								"Invalid value for 'spring.profiles.include[1]': must be at least 2 characters long")
+				);
+	}
+
+	@Test
+	@DisplayName("should validate properties file while it is being read")
+	void validatePropertiesFile() {
+		final var validator = ConfigValidator.of(List.of(web, core));
+
+		final var contents = String.join("\n",
+				"# server configuration",
+				"server.port = 80x80",
+				"  server.ssl.enabled:true",
+				"spring.application.name=konfigyr \\",
+				"    service",
+				"server.address localhost"
+		);
+
+		assertThat(validator.validate(new StringReader(contents), ConfigFormat.PROPERTIES, 10))
+				.extracting(ConfigViolation::property, ConfigViolation::type, ConfigViolation::line, ConfigViolation::column)
+				.containsExactly(
+						tuple("server.port", ConfigViolation.Type.INVALID_VALUE, 2, 1),
+						tuple("server.address", ConfigViolation.Type.UNKNOWN_PROPERTY, 6, 1)
+				);
+	}
+
+	@Test
+	@DisplayName("should validate YAML file while it is being read")
+	void validateYamlFile() {
+		final var validator = ConfigValidator.of(List.of(web, core));
+
+		final var contents = String.join("\n",
+				"server:",
+				"  port: http # invalid port",
+				"  ssl:",
+				"    enabled: \"true\"",
+				"spring:",
+				"  application:",
+				"    name: 'konfigyr'",
+				"  profiles:",
+				"    - default"
+		);
+
+		assertThat(validator.validate(new StringReader(contents), ConfigFormat.YAML, 10))
+				.extracting(ConfigViolation::property, ConfigViolation::type, ConfigViolation::line, ConfigViolation::column)
+				.containsExactly(
+						tuple("server.port", ConfigViolation.Type.INVALID_VALUE, 2, 3),
+						tuple("spring.profiles[0]", ConfigViolation.Type.UNKNOWN_PROPERTY, 9, 5)
+				);
+	}
+
+	@Test
+	@DisplayName("should stop reading configuration file once maximum number of errors is reached")
+	void stopAfterMaximumErrors(@TempDir Path directory) throws Exception {
+		final var validator = ConfigValidator.of(web);
+		final var file = Files.writeString(directory.resolve("application.properties"),
+				"first=1\nsecond=2\nserver.port=-1\nthird=3\n");
+
+		assertThat(validator.validate(file, 2))
+				.extracting(ConfigViolation::property)
+				.containsExactly("first", "second");
+
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> validator.validate(file, 0))
+				.withMessage("Maximum number of errors must be a positive number");
+	}
+
+	@Test
+	@DisplayName("should report malformed configuration file lines")
+	void reportMalformedLines() {
+		final var validator = ConfigValidator.of(web);
+
+		assertThat(validator.validate(new StringReader("server:\n\tport: 8080\nport\n"), ConfigFormat.YAML, 10))
+				.extracting(ConfigViolation::type, ConfigViolation::line)
+				.containsExactly(
+						tuple(ConfigViolation.Type.MALFORMED_INPUT, 2),
+						tuple(ConfigViolation.Type.MALFORMED_INPUT, 3),
+						tuple(ConfigViolation.Type.UNKNOWN_PROPERTY, 1)
+				);
+	}
+
+	@Test
+	@DisplayName("should report empty mapping keys as malformed configuration file lines")
+	void reportEmptyKeys() {
+		final var validator = ConfigValidator.of(web);
+
+		assertThat(validator.validate(new StringReader("\"\": x\nserver:\n  : x\n  port: 8080\n"),
+				ConfigFormat.YAML, 10))
+				.extracting(ConfigViolation::type, ConfigViolation::line, ConfigViolation::column)
+				.containsExactly(
+						tuple(ConfigViolation.Type.MALFORMED_INPUT, 1, 1),
+						tuple(ConfigViolation.Type.MALFORMED_INPUT, 3, 3)
+				);
+	}
+
+}